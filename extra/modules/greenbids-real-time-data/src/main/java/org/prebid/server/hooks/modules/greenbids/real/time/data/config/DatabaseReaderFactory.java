@@ -18,6 +18,7 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.vertx.Initializable;
 
 import java.io.IOException;
@@ -34,13 +35,19 @@ public class DatabaseReaderFactory implements Initializable {
 
     private final Vertx vertx;
 
+    private final BlockingExecutor blockingExecutor;
+
     private final AtomicReference<DatabaseReader> databaseReaderRef = new AtomicReference<>();
 
     private final FileSystem fileSystem;
 
-    public DatabaseReaderFactory(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
+    public DatabaseReaderFactory(GreenbidsRealTimeDataProperties properties,
+                                 Vertx vertx,
+                                 BlockingExecutor blockingExecutor) {
+
         this.properties = properties;
         this.vertx = vertx;
+        this.blockingExecutor = blockingExecutor;
         this.fileSystem = vertx.fileSystem();
     }
 
@@ -56,7 +63,7 @@ public class DatabaseReaderFactory implements Initializable {
         final String downloadUrl = properties.getGeoLiteCountryPath();
         final String tmpPath = properties.getTmpPath();
         return downloadFile(downloadUrl, tmpPath)
-                .compose(ignored -> vertx.executeBlocking(() -> extractMMDB(tmpPath)))
+                .compose(ignored -> blockingExecutor.execute(() -> extractMMDB(tmpPath)))
                 .onComplete(ar -> removeFile(tmpPath));
     }
 
@@ -5,6 +5,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutorFactory;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
@@ -31,9 +32,15 @@ import java.util.concurrent.TimeUnit;
 @EnableConfigurationProperties(GreenbidsRealTimeDataProperties.class)
 public class GreenbidsRealTimeDataConfiguration {
 
+    private static final String BLOCKING_EXECUTOR_SUBSYSTEM = "greenbids";
+
     @Bean
-    DatabaseReaderFactory databaseReaderFactory(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
-        return new DatabaseReaderFactory(properties, vertx);
+    DatabaseReaderFactory databaseReaderFactory(GreenbidsRealTimeDataProperties properties,
+                                                Vertx vertx,
+                                                BlockingExecutorFactory blockingExecutorFactory) {
+
+        return new DatabaseReaderFactory(
+                properties, vertx, blockingExecutorFactory.forSubsystem(BLOCKING_EXECUTOR_SUBSYSTEM));
     }
 
     @Bean
@@ -84,7 +91,7 @@ public class GreenbidsRealTimeDataConfiguration {
     @Bean
     ModelCache modelCache(
             GreenbidsRealTimeDataProperties properties,
-            Vertx vertx,
+            BlockingExecutorFactory blockingExecutorFactory,
             Storage storage,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
 
@@ -97,14 +104,14 @@ public class GreenbidsRealTimeDataConfiguration {
                 properties.getGcsBucketName(),
                 modelCacheWithExpiration,
                 properties.getOnnxModelCacheKeyPrefix(),
-                vertx,
+                blockingExecutorFactory.forSubsystem(BLOCKING_EXECUTOR_SUBSYSTEM),
                 onnxModelRunnerFactory);
     }
 
     @Bean
     ThresholdCache thresholdCache(
             GreenbidsRealTimeDataProperties properties,
-            Vertx vertx,
+            BlockingExecutorFactory blockingExecutorFactory,
             Storage storage,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
 
@@ -118,7 +125,7 @@ public class GreenbidsRealTimeDataConfiguration {
                 ObjectMapperProvider.mapper(),
                 thresholdsCacheWithExpiration,
                 properties.getThresholdsCacheKeyPrefix(),
-                vertx,
+                blockingExecutorFactory.forSubsystem(BLOCKING_EXECUTOR_SUBSYSTEM),
                 throttlingThresholdsFactory);
     }
 
@@ -6,8 +6,8 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
@@ -29,7 +29,7 @@ public class ModelCache {
 
     private final AtomicBoolean isFetching;
 
-    private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
 
     private final OnnxModelRunnerFactory onnxModelRunnerFactory;
 
@@ -38,14 +38,14 @@ public class ModelCache {
             String gcsBucketName,
             Cache<String, OnnxModelRunner> cache,
             String onnxModelCacheKeyPrefix,
-            Vertx vertx,
+            BlockingExecutor blockingExecutor,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
         this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
         this.cache = Objects.requireNonNull(cache);
         this.storage = Objects.requireNonNull(storage);
         this.onnxModelCacheKeyPrefix = Objects.requireNonNull(onnxModelCacheKeyPrefix);
         this.isFetching = new AtomicBoolean(false);
-        this.vertx = Objects.requireNonNull(vertx);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
         this.onnxModelRunnerFactory = Objects.requireNonNull(onnxModelRunnerFactory);
     }
 
@@ -69,7 +69,7 @@ public class ModelCache {
     }
 
     private Future<OnnxModelRunner> fetchAndCacheModelRunner(String onnxModelPath, String cacheKey) {
-        return vertx.executeBlocking(() -> getBlob(onnxModelPath))
+        return blockingExecutor.execute(() -> getBlob(onnxModelPath))
                 .map(this::loadModelRunner)
                 .onSuccess(onnxModelRunner -> cache.put(cacheKey, onnxModelRunner))
                 .onFailure(error -> logger.error("Failed to fetch ONNX model"));
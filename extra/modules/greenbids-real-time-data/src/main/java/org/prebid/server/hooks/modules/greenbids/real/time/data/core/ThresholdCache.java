@@ -6,8 +6,8 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -33,7 +33,7 @@ public class ThresholdCache {
 
     private final AtomicBoolean isFetching;
 
-    private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
 
     private final ThrottlingThresholdsFactory throttlingThresholdsFactory;
 
@@ -43,7 +43,7 @@ public class ThresholdCache {
             ObjectMapper mapper,
             Cache<String, ThrottlingThresholds> cache,
             String thresholdsCacheKeyPrefix,
-            Vertx vertx,
+            BlockingExecutor blockingExecutor,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
         this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
         this.cache = Objects.requireNonNull(cache);
@@ -51,7 +51,7 @@ public class ThresholdCache {
         this.mapper = Objects.requireNonNull(mapper);
         this.thresholdsCacheKeyPrefix = Objects.requireNonNull(thresholdsCacheKeyPrefix);
         this.isFetching = new AtomicBoolean(false);
-        this.vertx = Objects.requireNonNull(vertx);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
         this.throttlingThresholdsFactory = Objects.requireNonNull(throttlingThresholdsFactory);
     }
 
@@ -75,7 +75,7 @@ public class ThresholdCache {
     }
 
     private Future<ThrottlingThresholds> fetchAndCacheThrottlingThresholds(String thresholdJsonPath, String cacheKey) {
-        return vertx.executeBlocking(() -> getBlob(thresholdJsonPath))
+        return blockingExecutor.execute(() -> getBlob(thresholdJsonPath))
                 .map(this::loadThrottlingThresholds)
                 .onSuccess(thresholds -> cache.put(cacheKey, thresholds))
                 .onFailure(error -> logger.error("Failed to fetch thresholds"));
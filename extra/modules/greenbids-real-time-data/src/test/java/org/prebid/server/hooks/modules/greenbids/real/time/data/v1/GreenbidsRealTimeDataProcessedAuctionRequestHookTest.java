@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.analytics.reporter.greenbids.model.ExplorationResult;
 import org.prebid.server.analytics.reporter.greenbids.model.Ortb2ImpExtResult;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.execution.v1.analytics.ActivityImpl;
 import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
@@ -121,7 +122,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 "test_bucket",
                 modelCacheWithExpiration,
                 "onnxModelRunner_",
-                Vertx.vertx(),
+                new WorkerPoolBlockingExecutor(Vertx.vertx()),
                 onnxModelRunnerFactory);
         final ThresholdCache thresholdCache = new ThresholdCache(
                 storage,
@@ -129,7 +130,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 TestBidRequestProvider.MAPPER,
                 thresholdsCacheWithExpiration,
                 "throttlingThresholds_",
-                Vertx.vertx(),
+                new WorkerPoolBlockingExecutor(Vertx.vertx()),
                 throttlingThresholdsFactory);
         final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds = new OnnxModelRunnerWithThresholds(
                 modelCache,
@@ -0,0 +1,286 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.Future;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.MemoryReservation;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.exception.MemoryBudgetExceededException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidMultiBid;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.StreamUtil;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for auctions based on the estimated heap they are going to hold while in flight.
+ * <p>
+ * Estimated cost of an auction grows with incoming body size, number of imps, number of bidders called (fan-out)
+ * and multibid, and is multiplied by the configured factor for debug requests, since debug keeps all bidder calls
+ * in memory until the response is written. Costs of in-flight auctions are tracked against global and per-account
+ * budgets. When the auction doesn't fit, it is downgraded first by disabling debug, then by capping the number of
+ * bidders and, as the last resort, it is shed with {@link MemoryBudgetExceededException}.
+ */
+public class AuctionMemoryGuard {
+
+    private static final String PREBID_EXT = "prebid";
+    private static final String BIDDER_EXT = "bidder";
+
+    private final boolean enabled;
+    private final long maxInFlightBytes;
+    private final long accountMaxInFlightBytes;
+    private final int requestBodyFactor;
+    private final long impBidderBytes;
+    private final double debugFactor;
+    private final int minBidders;
+    private final Metrics metrics;
+
+    private final AtomicLong inFlightBytes = new AtomicLong();
+    private final Map<String, Long> accountToInFlightBytes = new ConcurrentHashMap<>();
+
+    public AuctionMemoryGuard(boolean enabled,
+                              long maxInFlightBytes,
+                              long accountMaxInFlightBytes,
+                              int requestBodyFactor,
+                              long impBidderBytes,
+                              double debugFactor,
+                              int minBidders,
+                              Metrics metrics) {
+
+        this.enabled = enabled;
+        this.maxInFlightBytes = toLimit(maxInFlightBytes);
+        this.accountMaxInFlightBytes = toLimit(accountMaxInFlightBytes);
+        this.requestBodyFactor = requestBodyFactor;
+        this.impBidderBytes = impBidderBytes;
+        this.debugFactor = Math.max(debugFactor, 1.0);
+        this.minBidders = Math.max(minBidders, 1);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        if (enabled) {
+            metrics.createMemoryGuardInFlightBytesGauge(inFlightBytes::get);
+        }
+    }
+
+    private static long toLimit(long bytes) {
+        return bytes > 0 ? bytes : Long.MAX_VALUE;
+    }
+
+    /**
+     * Reserves memory budget for the given auction.
+     * <p>
+     * Returns context holding {@link MemoryReservation} (possibly with debug disabled or bidders capped),
+     * or failed future if auction can't be admitted at all.
+     */
+    public Future<AuctionContext> admit(AuctionContext auctionContext) {
+        if (!enabled || auctionContext.isRequestRejected()) {
+            return Future.succeededFuture(auctionContext);
+        }
+
+        final String accountId = accountId(auctionContext.getAccount());
+        final Estimate estimate = estimate(auctionContext.getBidRequest(), auctionContext.getHttpRequest());
+        final int bidders = estimate.bidders();
+        final DebugContext debugContext = auctionContext.getDebugContext();
+        final boolean debugEnabled = debugContext != null && debugContext.isDebugEnabled();
+
+        final long cost = estimate.cost(bidders, debugEnabled);
+        if (tryReserve(accountId, cost)) {
+            metrics.updateMemoryGuardMetric(MetricName.admitted);
+            return Future.succeededFuture(auctionContext.with(new MemoryReservation(accountId, cost, null)));
+        }
+
+        final AuctionContext downgradedContext = debugEnabled
+                ? disableDebug(auctionContext, debugContext)
+                : auctionContext;
+
+        final long costWithoutDebug = estimate.cost(bidders, false);
+        if (debugEnabled && tryReserve(accountId, costWithoutDebug)) {
+            metrics.updateMemoryGuardMetric(MetricName.debug_disabled);
+            return Future.succeededFuture(
+                    downgradedContext.with(new MemoryReservation(accountId, costWithoutDebug, null)));
+        }
+
+        final int maxBidders = affordableBidders(accountId, estimate);
+        final long cappedCost = estimate.cost(maxBidders, false);
+        if (maxBidders >= minBidders && maxBidders < bidders && tryReserve(accountId, cappedCost)) {
+            metrics.updateMemoryGuardMetric(MetricName.bidders_capped);
+            downgradedContext.getDebugWarnings().add(
+                    "Number of called bidders was limited to %d because of auction memory budget"
+                            .formatted(maxBidders));
+            return Future.succeededFuture(
+                    downgradedContext.with(new MemoryReservation(accountId, cappedCost, maxBidders)));
+        }
+
+        metrics.updateMemoryGuardMetric(MetricName.shed);
+        if (accountId != null) {
+            metrics.updateAccountRequestRejectedByMemoryBudgetMetrics(accountId);
+        }
+        return Future.failedFuture(new MemoryBudgetExceededException(
+                "Auction memory budget exceeded, estimated cost is %d bytes".formatted(costWithoutDebug)));
+    }
+
+    /**
+     * Returns reserved memory budget of the given auction back, does nothing if it was already released.
+     */
+    public void release(AuctionContext auctionContext) {
+        final MemoryReservation reservation = auctionContext != null ? auctionContext.getMemoryReservation() : null;
+        if (reservation == null || !reservation.release()) {
+            return;
+        }
+
+        final long bytes = reservation.getBytes();
+        inFlightBytes.addAndGet(-bytes);
+
+        final String accountId = reservation.getAccountId();
+        if (accountId != null) {
+            accountToInFlightBytes.computeIfPresent(accountId, (ignored, reserved) -> nonZero(reserved - bytes));
+        }
+    }
+
+    long inFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    int accountsInFlight() {
+        return accountToInFlightBytes.size();
+    }
+
+    private static String accountId(Account account) {
+        final String accountId = account != null ? account.getId() : null;
+        return StringUtils.isNotBlank(accountId) ? accountId : null;
+    }
+
+    private static AuctionContext disableDebug(AuctionContext auctionContext, DebugContext debugContext) {
+        auctionContext.getDebugWarnings().add("Debug was disabled because of auction memory budget");
+        return auctionContext.with(DebugContext.of(false, debugContext.isShouldReturnAllBidStatuses(), null));
+    }
+
+    private Estimate estimate(BidRequest bidRequest, HttpRequestContext httpRequest) {
+        final String body = httpRequest != null ? httpRequest.getBody() : null;
+        final long bodyBytes = body != null ? body.length() : 0;
+        final List<Imp> imps = bidRequest.getImp();
+        final int impsCount = imps != null ? imps.size() : 0;
+
+        final long baseBytes = bodyBytes * requestBodyFactor;
+        final long bidderBytes = bodyBytes + impsCount * impBidderBytes * maxBids(bidRequest);
+
+        return new Estimate(baseBytes, bidderBytes, bidders(imps), debugFactor);
+    }
+
+    private static int bidders(List<Imp> imps) {
+        if (imps == null) {
+            return 0;
+        }
+
+        final Set<String> bidders = new HashSet<>();
+        for (Imp imp : imps) {
+            final JsonNode biddersNode = imp != null && imp.getExt() != null
+                    ? imp.getExt().path(PREBID_EXT).path(BIDDER_EXT)
+                    : null;
+            if (biddersNode != null && biddersNode.isObject()) {
+                StreamUtil.asStream(biddersNode.fieldNames()).forEach(bidders::add);
+            }
+        }
+        return bidders.size();
+    }
+
+    private static int maxBids(BidRequest bidRequest) {
+        final ExtRequest ext = bidRequest.getExt();
+        final ExtRequestPrebid prebid = ext != null ? ext.getPrebid() : null;
+        final List<ExtRequestPrebidMultiBid> multiBids = prebid != null ? prebid.getMultibid() : null;
+        if (multiBids == null) {
+            return 1;
+        }
+
+        final int maxBids = multiBids.stream()
+                .filter(Objects::nonNull)
+                .map(ExtRequestPrebidMultiBid::getMaxBids)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(1);
+        return Math.max(maxBids, 1);
+    }
+
+    private int affordableBidders(String accountId, Estimate estimate) {
+        final long globalAvailable = maxInFlightBytes - inFlightBytes.get();
+        final long accountAvailable = accountId != null
+                ? accountMaxInFlightBytes - accountToInFlightBytes.getOrDefault(accountId, 0L)
+                : Long.MAX_VALUE;
+        final long available = Math.min(globalAvailable, accountAvailable) - estimate.baseBytes();
+
+        return available > 0 && estimate.bidderBytes() > 0
+                ? (int) Math.min(available / estimate.bidderBytes(), Integer.MAX_VALUE)
+                : 0;
+    }
+
+    private boolean tryReserve(String accountId, long bytes) {
+        if (!tryReserve(inFlightBytes, maxInFlightBytes, bytes)) {
+            return false;
+        }
+
+        if (accountId != null && !tryReserveForAccount(accountId, bytes)) {
+            inFlightBytes.addAndGet(-bytes);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Single auction is always admitted when nothing else is in flight, so that requests exceeding budget on their
+     * own are still served when the server is idle.
+     */
+    private static boolean tryReserve(AtomicLong counter, long limit, long bytes) {
+        final long reserved = counter.addAndGet(bytes);
+        if (reserved > limit && reserved != bytes) {
+            counter.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Account entries are updated atomically per key and removed once nothing is in flight for the account,
+     * so the map holds only accounts with running auctions.
+     */
+    private boolean tryReserveForAccount(String accountId, long bytes) {
+        final AtomicBoolean reserved = new AtomicBoolean();
+        accountToInFlightBytes.compute(accountId, (ignored, current) -> {
+            final long inFlight = current != null ? current : 0L;
+            if (inFlight != 0 && inFlight + bytes > accountMaxInFlightBytes) {
+                return current;
+            }
+
+            reserved.set(true);
+            return nonZero(inFlight + bytes);
+        });
+        return reserved.get();
+    }
+
+    private static Long nonZero(long bytes) {
+        return bytes > 0 ? bytes : null;
+    }
+
+    private record Estimate(long baseBytes, long bidderBytes, int bidders, double debugFactor) {
+
+        long cost(int bidders, boolean debugEnabled) {
+            final long cost = baseBytes + bidders * bidderBytes;
+            return debugEnabled ? (long) (cost * debugFactor) : cost;
+        }
+    }
+}
@@ -24,8 +24,10 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
+import org.prebid.server.auction.model.AllocationCounter;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderResponse;
@@ -44,6 +46,7 @@ import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.bidder.model.BidderSeatBidInfo;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.model.CacheContext;
+import org.prebid.server.cache.model.CacheEndpoint;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.CacheTtl;
@@ -85,6 +88,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidResponseFledge;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidResponsePrebid;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidderError;
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugAllocations;
 import org.prebid.server.proto.openrtb.ext.response.ExtDebugTrace;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -591,10 +595,11 @@ public class BidResponseCreator {
     private Future<CategoryMappingResult> createCategoryMapping(AuctionContext auctionContext,
                                                                 List<BidderResponse> bidderResponses) {
 
-        return categoryMappingService.createCategoryMapping(
-                        bidderResponses,
-                        auctionContext.getBidRequest(),
-                        auctionContext.getTimeoutContext().getTimeout())
+        return auctionContext.getStageTimings().measureAsync(AuctionStage.category_mapping,
+                        () -> categoryMappingService.createCategoryMapping(
+                                bidderResponses,
+                                auctionContext.getBidRequest(),
+                                auctionContext.getTimeoutContext().getTimeout()))
 
                 .map(categoryMappingResult -> addCategoryMappingErrors(categoryMappingResult, auctionContext));
     }
@@ -1046,9 +1051,17 @@ public class BidResponseCreator {
 
         final BidRequest bidRequest = debugEnabled ? auctionContext.getBidRequest() : null;
         final ExtDebugTrace extDebugTrace = toExtDebugTrace(auctionContext);
+        final ExtDebugAllocations extDebugAllocations = debugEnabled ? toExtDebugAllocations(auctionContext) : null;
 
-        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace)
+        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace, extDebugAllocations)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace, extDebugAllocations, null)
+                : null;
+    }
+
+    private static ExtDebugAllocations toExtDebugAllocations(AuctionContext auctionContext) {
+        final AllocationCounter allocationCounter = auctionContext.getAllocationCounter();
+        return allocationCounter != null
+                ? ExtDebugAllocations.of(allocationCounter.getBidderRequestsBytes())
                 : null;
     }
 
@@ -1550,6 +1563,7 @@ public class BidResponseCreator {
         final CacheInfo cacheInfo = bidInfo.getCacheInfo();
         final String cacheId = cacheInfo != null ? cacheInfo.getCacheId() : null;
         final String videoCacheId = cacheInfo != null ? cacheInfo.getVideoCacheId() : null;
+        final CacheEndpoint localCacheEndpoint = cacheInfo != null ? cacheInfo.getLocalEndpoint() : null;
 
         final Map<String, String> targetingKeywords;
         if (shouldIncludeTargetingInResponse(targeting, bidInfo.getTargetingInfo())) {
@@ -1560,15 +1574,15 @@ public class BidResponseCreator {
             final String seat = targetingInfo.getSeat();
             final String categoryDuration = bidInfo.getCategory();
             targetingKeywords = keywordsCreator != null
-                    ? keywordsCreator.makeFor(
-                    bid, seat, isWinningBid, cacheId, bidType.getName(), videoCacheId, categoryDuration)
+                    ? keywordsCreator.makeFor(bid, seat, isWinningBid, cacheId, bidType.getName(), videoCacheId,
+                    categoryDuration, localCacheEndpoint)
                     : null;
         } else {
             targetingKeywords = null;
         }
 
-        final CacheAsset bids = cacheId != null ? toCacheAsset(cacheId) : null;
-        final CacheAsset vastXml = videoCacheId != null ? toCacheAsset(videoCacheId) : null;
+        final CacheAsset bids = cacheId != null ? toCacheAsset(cacheId, localCacheEndpoint) : null;
+        final CacheAsset vastXml = videoCacheId != null ? toCacheAsset(videoCacheId, localCacheEndpoint) : null;
         final ExtResponseCache cache = bids != null || vastXml != null ? ExtResponseCache.of(bids, vastXml) : null;
 
         final ObjectNode originalBidExt = bid.getExt();
@@ -1969,10 +1983,11 @@ public class BidResponseCreator {
     }
 
     /**
-     * Creates {@link CacheAsset} for the given cache ID.
+     * Creates {@link CacheAsset} for the given cache ID, served by local endpoint if present or Prebid Cache otherwise.
      */
-    private CacheAsset toCacheAsset(String cacheId) {
-        return CacheAsset.of(cacheAssetUrlTemplate.concat(cacheId), cacheId);
+    private CacheAsset toCacheAsset(String cacheId, CacheEndpoint localEndpoint) {
+        final String template = localEndpoint != null ? localEndpoint.getAssetUrlTemplate() : cacheAssetUrlTemplate;
+        return CacheAsset.of(template.concat(cacheId), cacheId);
     }
 
     private static <T> Set<T> nullIfEmpty(Set<T> set) {
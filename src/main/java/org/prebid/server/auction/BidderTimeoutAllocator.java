@@ -0,0 +1,112 @@
+package org.prebid.server.auction;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.execution.timeout.LatencySketch;
+import org.prebid.server.execution.timeout.Timeout;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Allocates each bidder a deadline within the auction budget based on its observed response times.
+ * <p>
+ * Response times are tracked per bidder and per bidder and region (the country of the user, as bidders usually
+ * serve traffic from the nearest point of presence). The bidder gets the configured percentile of its recent
+ * response times multiplied by headroom factor, preferring the regional distribution if it has enough samples.
+ * So the auction doesn't wait for a bidder beyond the time it is statistically likely to respond in, instead of
+ * every slow bidder holding the whole remaining budget. Bidders without enough samples get the whole budget.
+ * <p>
+ * Timed out calls are tracked apart from response times, since their real response time is unknown. A bidder
+ * timing out more often than the percentile allows gets the whole budget as well.
+ */
+public class BidderTimeoutAllocator {
+
+    private static final String DELIMITER = "|";
+
+    private final double percentile;
+    private final double headroomFactor;
+    private final long minTimeoutMs;
+    private final long minSamples;
+    private final long windowMs;
+    private final Clock clock;
+
+    private final Map<String, LatencySketch> keyToSketch;
+
+    public BidderTimeoutAllocator(double percentile,
+                                  double headroomFactor,
+                                  long minTimeoutMs,
+                                  long minSamples,
+                                  long windowMs,
+                                  int maxSketches,
+                                  Clock clock) {
+
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile should be in (0, 1] range");
+        }
+        if (headroomFactor < 1) {
+            throw new IllegalArgumentException("Headroom factor can't be less than 1");
+        }
+
+        this.percentile = percentile;
+        this.headroomFactor = headroomFactor;
+        this.minTimeoutMs = minTimeoutMs;
+        this.minSamples = minSamples;
+        this.windowMs = windowMs;
+        this.clock = Objects.requireNonNull(clock);
+
+        keyToSketch = Caffeine.newBuilder()
+                .maximumSize(maxSketches)
+                .<String, LatencySketch>build()
+                .asMap();
+    }
+
+    /**
+     * Returns timeout for given bidder, expiring no later than given auction timeout.
+     */
+    public Timeout allocate(Timeout timeout, String bidder, String region) {
+        final long budget = timeout.remaining();
+        final long expectedResponseTime = expectedResponseTime(bidder, region);
+        if (expectedResponseTime < 0) {
+            return timeout;
+        }
+
+        final long allocated = Math.max((long) Math.ceil(expectedResponseTime * headroomFactor), minTimeoutMs);
+        return allocated < budget ? timeout.minus(budget - allocated) : timeout;
+    }
+
+    public void record(String bidder, String region, long responseTimeMs) {
+        sketch(bidder).record(responseTimeMs);
+        if (region != null) {
+            sketch(regionalKey(bidder, region)).record(responseTimeMs);
+        }
+    }
+
+    public void recordTimeout(String bidder, String region) {
+        sketch(bidder).recordTimeout();
+        if (region != null) {
+            sketch(regionalKey(bidder, region)).recordTimeout();
+        }
+    }
+
+    private long expectedResponseTime(String bidder, String region) {
+        final LatencySketch regionalSketch = region != null ? keyToSketch.get(regionalKey(bidder, region)) : null;
+        final long regionalResponseTime = regionalSketch != null
+                ? regionalSketch.quantile(percentile, minSamples)
+                : -1;
+        if (regionalResponseTime >= 0) {
+            return regionalResponseTime;
+        }
+
+        final LatencySketch bidderSketch = keyToSketch.get(bidder);
+        return bidderSketch != null ? bidderSketch.quantile(percentile, minSamples) : -1;
+    }
+
+    private LatencySketch sketch(String key) {
+        return keyToSketch.computeIfAbsent(key, ignored -> new LatencySketch(windowMs, clock));
+    }
+
+    private static String regionalKey(String bidder, String region) {
+        return bidder + DELIMITER + region;
+    }
+}
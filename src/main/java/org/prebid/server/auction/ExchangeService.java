@@ -5,8 +5,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Content;
+import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.Dooh;
 import com.iab.openrtb.request.Eid;
+import com.iab.openrtb.request.Geo;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
@@ -32,14 +34,18 @@ import org.prebid.server.auction.aliases.AlternateBidderCodesConfig;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
+import org.prebid.server.auction.model.AllocationCounter;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.MemoryReservation;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.TimeoutContext;
@@ -62,10 +68,15 @@ import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.floors.PriceFloorAdjuster;
 import org.prebid.server.floors.PriceFloorProcessor;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.GroupExecutionOutcome;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookExecutionOutcome;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SerializationCache;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -111,6 +122,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ExchangeService {
@@ -122,6 +135,7 @@ public class ExchangeService {
     private static final String PREBID_META_EXT = "meta";
     private static final String BIDDER_EXT = "bidder";
     private static final String TID_EXT = "tid";
+    private static final String IMP_EXT = "imp";
     private static final String ALL_BIDDERS_CONFIG = "*";
     private static final Integer DEFAULT_MULTIBID_LIMIT_MIN = 1;
     private static final Integer DEFAULT_MULTIBID_LIMIT_MAX = 9;
@@ -142,6 +156,7 @@ public class ExchangeService {
     private final UidUpdater uidUpdater;
     private final TimeoutResolver timeoutResolver;
     private final TimeoutFactory timeoutFactory;
+    private final BidderTimeoutAllocator bidderTimeoutAllocator;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
     private final HttpBidderRequester httpBidderRequester;
     private final BidResponseCreator bidResponseCreator;
@@ -156,6 +171,10 @@ public class ExchangeService {
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
     private final boolean enabledStrictAppSiteDoohValidation;
+    private final boolean sharedSerializationEnabled;
+    private final boolean structuralSharingEnabled;
+    private final int parallelProcessingMinBidders;
+    private final Set<String> parallelProcessingBidders;
 
     public ExchangeService(double logSamplingRate,
                            BidderCatalog bidderCatalog,
@@ -169,6 +188,7 @@ public class ExchangeService {
                            UidUpdater uidUpdater,
                            TimeoutResolver timeoutResolver,
                            TimeoutFactory timeoutFactory,
+                           BidderTimeoutAllocator bidderTimeoutAllocator,
                            BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
                            HttpBidderRequester httpBidderRequester,
                            BidResponseCreator bidResponseCreator,
@@ -182,7 +202,11 @@ public class ExchangeService {
                            Clock clock,
                            JacksonMapper mapper,
                            CriteriaLogManager criteriaLogManager,
-                           boolean enabledStrictAppSiteDoohValidation) {
+                           boolean enabledStrictAppSiteDoohValidation,
+                           boolean sharedSerializationEnabled,
+                           boolean structuralSharingEnabled,
+                           int parallelProcessingMinBidders,
+                           Set<String> parallelProcessingBidders) {
 
         this.logSamplingRate = logSamplingRate;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -196,6 +220,7 @@ public class ExchangeService {
         this.uidUpdater = Objects.requireNonNull(uidUpdater);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.bidderTimeoutAllocator = bidderTimeoutAllocator;
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
@@ -210,19 +235,31 @@ public class ExchangeService {
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
         this.enabledStrictAppSiteDoohValidation = enabledStrictAppSiteDoohValidation;
+        this.sharedSerializationEnabled = sharedSerializationEnabled;
+        this.structuralSharingEnabled = structuralSharingEnabled;
+        this.parallelProcessingMinBidders = parallelProcessingMinBidders;
+        this.parallelProcessingBidders = Objects.requireNonNull(parallelProcessingBidders);
     }
 
     public Future<AuctionContext> holdAuction(AuctionContext context) {
         return processAuctionRequest(context)
                 .compose(this::invokeResponseHooks)
+                .map(this::updateAuctionStageMetrics)
                 .map(AnalyticsTagsEnricher::enrichWithAnalyticsTags)
-                .map(HookDebugInfoEnricher::enrichWithHooksDebugInfo);
+                .map(HookDebugInfoEnricher::enrichWithHooksDebugInfo)
+                .map(StageTimingsDebugEnricher::enrichWithStageTimings);
     }
 
     private Future<AuctionContext> processAuctionRequest(AuctionContext context) {
         return context.isRequestRejected()
                 ? Future.succeededFuture(context.with(emptyResponse()))
-                : runAuction(context);
+                : runAuction(withAllocationCounter(context));
+    }
+
+    private static AuctionContext withAllocationCounter(AuctionContext context) {
+        return context.getDebugContext().isDebugEnabled()
+                ? context.with(new AllocationCounter())
+                : context;
     }
 
     private static BidResponse emptyResponse() {
@@ -254,17 +291,8 @@ public class ExchangeService {
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> Future.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .toList())
-                        // send all the requests to the bidders and gathers results
-                        .map(CompositeFuture::<AuctionParticipation>list)
+                .map(this::withSerializationCache)
+                .compose(context -> requestAllBids(context, timeout, aliases)
                         .map(storedResponseProcessor::updateStoredBidResponse)
                         .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
                                 auctionParticipations,
@@ -278,7 +306,7 @@ public class ExchangeService {
                         .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
                         .map(context::with))
                 // produce response from bidder results
-                .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
+                .compose(context -> createBidResponse(context, cacheInfo, bidderToMultiBid)
                         .map(bidResponse -> criteriaLogManager.traceResponse(
                                 logger,
                                 bidResponse,
@@ -289,6 +317,39 @@ public class ExchangeService {
                         .map(context::with));
     }
 
+    /**
+     * Sends all the requests to the bidders and gathers results.
+     */
+    private Future<List<AuctionParticipation>> requestAllBids(AuctionContext context,
+                                                              Timeout timeout,
+                                                              BidderAliases aliases) {
+
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        final long start = stageTimings.start();
+
+        return Future.join(context.getAuctionParticipations().stream()
+                        .map(auctionParticipation -> processAndRequestBids(
+                                context,
+                                auctionParticipation.getBidderRequest(),
+                                timeout,
+                                aliases)
+                                .map(auctionParticipation::with))
+                        .toList())
+                .map(CompositeFuture::<AuctionParticipation>list)
+                .onComplete(ignored -> stageTimings.stop(AuctionStage.bidders_wait, start));
+    }
+
+    private Future<BidResponse> createBidResponse(AuctionContext context,
+                                                  BidRequestCacheInfo cacheInfo,
+                                                  Map<String, MultiBidConfig> bidderToMultiBid) {
+
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        final long start = stageTimings.start();
+
+        return bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
+                .onComplete(ignored -> stageTimings.stop(AuctionStage.response_creation, start));
+    }
+
     private BidderAliases aliases(BidRequest bidRequest, Account account) {
         final ExtRequestPrebid prebid = PbsUtil.extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -455,7 +516,7 @@ public class ExchangeService {
         final Map<String, Map<String, String>> impBidderToStoredBidResponse =
                 storedResponseResult.getImpBidderToStoredBidResponse();
         return makeAuctionParticipation(
-                bidders,
+                capBiddersByMemoryBudget(bidders, context),
                 context,
                 aliases,
                 impBidderToStoredBidResponse,
@@ -463,6 +524,25 @@ public class ExchangeService {
                 bidderToMultiBid);
     }
 
+    private static List<String> capBiddersByMemoryBudget(List<String> bidders, AuctionContext context) {
+        final MemoryReservation memoryReservation = context.getMemoryReservation();
+        final Integer maxBidders = memoryReservation != null ? memoryReservation.getMaxBidders() : null;
+        if (maxBidders == null || bidders.size() <= maxBidders) {
+            return bidders;
+        }
+
+        final List<String> skippedBidders = bidders.subList(maxBidders, bidders.size());
+        final Map<String, BidRejectionTracker> bidRejectionTrackers = context.getBidRejectionTrackers();
+        skippedBidders.stream()
+                .map(bidRejectionTrackers::get)
+                .filter(Objects::nonNull)
+                .forEach(tracker -> tracker.rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_GENERAL));
+        context.getDebugWarnings().add("Bidders %s were not called because of auction memory budget"
+                .formatted(String.join(", ", skippedBidders)));
+
+        return bidders.subList(0, maxBidders);
+    }
+
     private Set<String> bidderNamesFromImpExt(Imp imp, BidderAliases aliases) {
         return Optional.ofNullable(bidderParamsFromImpExt(imp.getExt())).stream()
                 .flatMap(paramsNode -> StreamUtil.asStream(paramsNode.fieldNames()))
@@ -502,11 +582,15 @@ public class ExchangeService {
         final ExtRequestPrebid prebid = requestExt == null ? null : requestExt.getPrebid();
         final Map<String, ExtBidderConfigOrtb> biddersToConfigs = getBiddersToConfigs(prebid);
         final Map<String, List<String>> eidPermissions = getEidPermissions(prebid);
-        final Map<String, User> bidderToUser =
-                prepareUsers(bidders, context, aliases, biddersToConfigs, eidPermissions);
+        final Map<String, User> bidderToUser = measureBidderRequests(context,
+                () -> prepareUsers(bidders, context, aliases, biddersToConfigs, eidPermissions));
+
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        final long privacyEnforcementStart = stageTimings.start();
 
         return privacyEnforcementService.mask(context, bidderToUser, aliases)
-                .map(bidderToPrivacyResult -> getAuctionParticipation(
+                .onComplete(ignored -> stageTimings.stop(AuctionStage.privacy_enforcement, privacyEnforcementStart))
+                .map(bidderToPrivacyResult -> measureBidderRequests(context, () -> getAuctionParticipation(
                         bidderToPrivacyResult,
                         bidRequest,
                         impBidderToStoredResponse,
@@ -514,7 +598,15 @@ public class ExchangeService {
                         bidderToMultiBid,
                         biddersToConfigs,
                         aliases,
-                        context));
+                        context)));
+    }
+
+    private static <T> T measureBidderRequests(AuctionContext context, Supplier<T> action) {
+        final AllocationCounter allocationCounter = context.getAllocationCounter();
+        final Supplier<T> measuredAction = allocationCounter != null
+                ? () -> allocationCounter.measureBidderRequests(action)
+                : action;
+        return context.getStageTimings().measure(AuctionStage.bidder_requests, measuredAction);
     }
 
     private Map<String, ExtBidderConfigOrtb> getBiddersToConfigs(ExtRequestPrebid prebid) {
@@ -763,12 +855,15 @@ public class ExchangeService {
                                          AuctionContext context) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        final long floorsStart = stageTimings.start();
         final BidRequest bidRequest = priceFloorProcessor.enrichWithPriceFloors(
                 context.getBidRequest().toBuilder().imp(imps).build(),
                 context.getAccount(),
                 bidder,
                 context.getPrebidErrors(),
                 context.getDebugWarnings());
+        stageTimings.stop(AuctionStage.floors, floorsStart);
         final boolean transmitTid = transmitTransactionId(bidder, context);
         final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
         final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
@@ -863,12 +958,43 @@ public class ExchangeService {
 
         return bidRequest.getImp().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
-                .map(imp -> imp.toBuilder().ext(imp.getExt().deepCopy()).build())
+                .map(imp -> imp.toBuilder().ext(copyImpExt(imp.getExt())).build())
                 .map(imp -> impAdjuster.adjust(imp, bidder, bidderAliases, debugWarnings))
                 .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
                 .toList();
     }
 
+    /**
+     * Returns copy of imp.ext that is safe to be modified for a particular bidder.
+     * <p>
+     * In structural sharing mode imp.ext.prebid.bidder (params of all bidders, which is never passed to bidders)
+     * is shared with the original request, while all other sub-trees are still copied, since adapters may modify
+     * them in place.
+     */
+    private ObjectNode copyImpExt(ObjectNode impExt) {
+        if (!structuralSharingEnabled) {
+            return impExt.deepCopy();
+        }
+
+        final ObjectNode copiedImpExt = impExt.objectNode();
+        impExt.fields().forEachRemaining(field -> copiedImpExt.set(
+                field.getKey(),
+                PREBID_EXT.equals(field.getKey()) && field.getValue() instanceof ObjectNode impExtPrebid
+                        ? copyImpExtPrebid(impExtPrebid)
+                        : field.getValue().deepCopy()));
+
+        return copiedImpExt;
+    }
+
+    private static ObjectNode copyImpExtPrebid(ObjectNode impExtPrebid) {
+        final ObjectNode copiedImpExtPrebid = impExtPrebid.objectNode();
+        impExtPrebid.fields().forEachRemaining(field -> copiedImpExtPrebid.set(
+                field.getKey(),
+                BIDDER_EXT.equals(field.getKey()) ? field.getValue() : field.getValue().deepCopy()));
+
+        return copiedImpExtPrebid;
+    }
+
     private Imp prepareImp(Imp imp,
                            String bidder,
                            BidRequest bidRequest,
@@ -903,7 +1029,8 @@ public class ExchangeService {
         Optional.ofNullable(impExtPrebid).ifPresentOrElse(
                 ext -> impExt.set(PREBID_EXT, ext),
                 () -> impExt.remove(PREBID_EXT));
-        impExt.set(BIDDER_EXT, bidderNode);
+        // bidder params node is still shared with the original request in structural sharing mode
+        impExt.set(BIDDER_EXT, structuralSharingEnabled ? bidderNode.deepCopy() : bidderNode);
         if (!transmitTid) {
             impExt.remove(TID_EXT);
         }
@@ -916,13 +1043,14 @@ public class ExchangeService {
             return null;
         }
 
-        final Iterator<String> fieldsIterator = extImpPrebid.fieldNames();
-        final ObjectNode modifiedExtImpPrebid = extImpPrebid.deepCopy();
+        // pick only fields passed to bidder, imp.ext is already copied for this bidder
+        final Iterator<Map.Entry<String, JsonNode>> fieldsIterator = extImpPrebid.fields();
+        final ObjectNode modifiedExtImpPrebid = mapper.mapper().createObjectNode();
 
         while (fieldsIterator.hasNext()) {
-            final String fieldName = fieldsIterator.next();
-            if (!BIDDER_FIELDS_EXCEPTION_LIST.contains(fieldName)) {
-                modifiedExtImpPrebid.remove(fieldName);
+            final Map.Entry<String, JsonNode> field = fieldsIterator.next();
+            if (BIDDER_FIELDS_EXCEPTION_LIST.contains(field.getKey())) {
+                modifiedExtImpPrebid.set(field.getKey(), field.getValue());
             }
         }
 
@@ -1100,6 +1228,16 @@ public class ExchangeService {
         return context;
     }
 
+    /**
+     * Bidder requests of the same auction share unchanged sections by reference,
+     * so they are encoded once for all bidders while the cache is active, see {@link SerializationCache}.
+     */
+    private AuctionContext withSerializationCache(AuctionContext context) {
+        return sharedSerializationEnabled && context.getAuctionParticipations().size() > 1
+                ? context.with(new SerializationCache())
+                : context;
+    }
+
     private Future<BidderResponse> processAndRequestBids(AuctionContext auctionContext,
                                                          BidderRequest bidderRequest,
                                                          Timeout timeout,
@@ -1223,23 +1361,93 @@ public class ExchangeService {
         final long auctionStartTime = timeoutContext.getStartTime();
         final int adjustmentFactor = timeoutContext.getAdjustmentFactor();
         final long bidderRequestStartTime = clock.millis();
+        final String region = bidderTimeoutAllocator != null ? region(auctionContext.getBidRequest()) : null;
 
         return Future.succeededFuture(bidderRequest.getBidRequest())
                 .map(bidRequest -> adjustTmax(
                         bidRequest, auctionStartTime, adjustmentFactor, bidderRequestStartTime, bidderTmaxDeductionMs))
                 .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
-                        bidRequest, bidderRequest.getOrtbVersion()))
+                        bidRequest, bidderRequest.getOrtbVersion(), auctionContext.getOrtbConversionCache()))
                 .map(bidderRequest::with)
-                .compose(convertedBidderRequest -> httpBidderRequester.requestBids(
-                        bidder,
-                        convertedBidderRequest,
-                        bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
-                        requestHeaders,
-                        aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
+                .map(convertedBidderRequest -> withParallelProcessing(
+                        convertedBidderRequest, resolvedBidderName, auctionContext))
+                .compose(convertedBidderRequest -> withinSerializationCache(
+                        auctionContext.getSerializationCache(),
+                        () -> httpBidderRequester.requestBids(
+                                bidder,
+                                convertedBidderRequest,
+                                bidRejectionTracker,
+                                bidderTimeout(
+                                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                                        bidderName,
+                                        region),
+                                requestHeaders,
+                                aliases,
+                                debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName))))
                 .map(seatBid -> populateBidderCode(seatBid, bidderName, resolvedBidderName))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)))
+                .onSuccess(bidderResponse -> recordResponseTime(bidderResponse, region));
+    }
+
+    /**
+     * Auctions with large fan-out let bidders build requests and decode responses in parallel,
+     * see {@link HttpBidderRequester}.
+     * <p>
+     * Bidders still share request nodes (like request.ext or user.ext), so only bidders known not to modify them
+     * in place are processed in parallel.
+     */
+    private BidderRequest withParallelProcessing(BidderRequest bidderRequest,
+                                                 String resolvedBidderName,
+                                                 AuctionContext auctionContext) {
+
+        return parallelProcessingMinBidders > 0
+                && parallelProcessingBidders.contains(resolvedBidderName)
+                && auctionContext.getAuctionParticipations().size() >= parallelProcessingMinBidders
+                ? bidderRequest.toBuilder().parallelProcessing(true).build()
+                : bidderRequest;
+    }
+
+    private static String region(BidRequest bidRequest) {
+        final Device device = bidRequest.getDevice();
+        final Geo geo = device != null ? device.getGeo() : null;
+        return geo != null ? geo.getCountry() : null;
+    }
+
+    private Timeout bidderTimeout(Timeout timeout, String bidderName, String region) {
+        return bidderTimeoutAllocator != null
+                ? bidderTimeoutAllocator.allocate(timeout, bidderName, region)
+                : timeout;
+    }
+
+    /**
+     * Bidders which answered no HTTP request (stored responses, no requests made) don't reflect bidder latency,
+     * so their response times are not recorded either.
+     */
+    private void recordResponseTime(BidderResponse bidderResponse, String region) {
+        if (bidderTimeoutAllocator == null) {
+            return;
+        }
+
+        final String bidder = bidderResponse.getBidder();
+        final BidderSeatBid seatBid = bidderResponse.getSeatBid();
+        if (hasTimedOut(seatBid)) {
+            bidderTimeoutAllocator.recordTimeout(bidder, region);
+        } else if (seatBid != null && seatBid.isHttpResponded()) {
+            bidderTimeoutAllocator.record(bidder, region, bidderResponse.getResponseTime());
+        }
+    }
+
+    /**
+     * Response time of timed out bidder is just its deadline, so it is not recorded as a sample.
+     */
+    private static boolean hasTimedOut(BidderSeatBid seatBid) {
+        final List<BidderError> errors = seatBid != null ? seatBid.getErrors() : null;
+        return errors != null && errors.stream()
+                .anyMatch(error -> error.getType() == BidderError.Type.timeout);
+    }
+
+    private static <T> T withinSerializationCache(SerializationCache serializationCache, Supplier<T> action) {
+        return serializationCache != null ? serializationCache.within(action) : action.get();
     }
 
     private BidderSeatBid populateBidderCode(BidderSeatBid seatBid, String bidderName, String resolvedBidderName) {
@@ -1394,6 +1602,49 @@ public class ExchangeService {
         return auctionParticipations;
     }
 
+    private AuctionContext updateAuctionStageMetrics(AuctionContext context) {
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        recordHooksStageTimings(context.getHookExecutionContext(), stageTimings);
+        metrics.updateAuctionStageMetrics(context.getAccount(), stageTimings);
+        return context;
+    }
+
+    /**
+     * Records time spent in hooks for each stage the same way as it is reported in modules trace:
+     * groups are executed sequentially, hooks of a group and stage outcomes (e.g. per bidder) in parallel.
+     */
+    private static void recordHooksStageTimings(HookExecutionContext hookExecutionContext,
+                                                AuctionStageTimings stageTimings) {
+
+        if (hookExecutionContext == null) {
+            return;
+        }
+
+        hookExecutionContext.getStageOutcomes().forEach((stage, stageOutcomes) -> {
+            final AuctionStage auctionStage = AuctionStage.hooks(stage);
+            if (auctionStage != null) {
+                stageTimings.record(auctionStage, TimeUnit.MILLISECONDS.toNanos(hooksExecutionTime(stageOutcomes)));
+            }
+        });
+    }
+
+    private static long hooksExecutionTime(List<StageExecutionOutcome> stageOutcomes) {
+        long executionTime = 0L;
+        for (StageExecutionOutcome stageOutcome : stageOutcomes) {
+            long stageOutcomeExecutionTime = 0L;
+            for (GroupExecutionOutcome group : stageOutcome.getGroups()) {
+                stageOutcomeExecutionTime += group.getHooks().stream()
+                        .map(HookExecutionOutcome::getExecutionTime)
+                        .filter(Objects::nonNull)
+                        .mapToLong(Long::longValue)
+                        .max()
+                        .orElse(0L);
+            }
+            executionTime = Math.max(executionTime, stageOutcomeExecutionTime);
+        }
+        return executionTime;
+    }
+
     private Future<AuctionContext> invokeResponseHooks(AuctionContext auctionContext) {
         final BidResponse bidResponse = auctionContext.getBidResponse();
         return hookStageExecutor.executeAuctionResponseStage(bidResponse, auctionContext)
@@ -1,11 +1,11 @@
 package org.prebid.server.auction;
 
-import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import io.vertx.core.MultiMap;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.publicsuffix.PublicSuffixListService;
 import org.prebid.server.util.HttpUtil;
 
 import java.util.ArrayList;
@@ -19,10 +19,10 @@ import java.util.function.Function;
  */
 public class ImplicitParametersExtractor {
 
-    private final PublicSuffixList psl;
+    private final PublicSuffixListService publicSuffixListService;
 
-    public ImplicitParametersExtractor(PublicSuffixList psl) {
-        this.psl = Objects.requireNonNull(psl);
+    public ImplicitParametersExtractor(PublicSuffixListService publicSuffixListService) {
+        this.publicSuffixListService = Objects.requireNonNull(publicSuffixListService);
     }
 
     /**
@@ -49,7 +49,7 @@ public class ImplicitParametersExtractor {
             throw new PreBidException("Host is not defined or can not be derived from request");
         }
 
-        final String domain = psl.getRegistrableDomain(host);
+        final String domain = publicSuffixListService.registrableDomain(host);
 
         if (domain == null) {
             // null means effective top level domain plus one couldn't be derived
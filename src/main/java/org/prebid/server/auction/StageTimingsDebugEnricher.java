@@ -0,0 +1,53 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.BidResponse;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
+import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
+import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StageTimingsDebugEnricher {
+
+    private StageTimingsDebugEnricher() {
+    }
+
+    /**
+     * Adds time spent in each executed {@link AuctionStage} (in milliseconds) to bidresponse.ext.debug,
+     * if debug info is present in the response.
+     */
+    public static AuctionContext enrichWithStageTimings(AuctionContext context) {
+        final BidResponse bidResponse = context.getBidResponse();
+        final ExtBidResponse ext = bidResponse != null ? bidResponse.getExt() : null;
+        final ExtResponseDebug debug = ext != null ? ext.getDebug() : null;
+        if (debug == null || !context.getDebugContext().isDebugEnabled()) {
+            return context;
+        }
+
+        final ExtResponseDebug updatedDebug = ExtResponseDebug.of(
+                debug.getHttpcalls(),
+                debug.getResolvedrequest(),
+                debug.getTrace(),
+                debug.getAllocations(),
+                toStageTimes(context.getStageTimings()));
+
+        final BidResponse updatedBidResponse = bidResponse.toBuilder()
+                .ext(ext.toBuilder().debug(updatedDebug).build())
+                .build();
+        return context.with(updatedBidResponse);
+    }
+
+    private static Map<String, Double> toStageTimes(AuctionStageTimings stageTimings) {
+        final Map<String, Double> stageTimes = new LinkedHashMap<>();
+        for (AuctionStage stage : AuctionStage.values()) {
+            final long nanos = stageTimings.nanos(stage);
+            if (nanos > 0) {
+                stageTimes.put(stage.name(), Math.round(nanos / 1_000.0) / 1_000.0);
+            }
+        }
+        return stageTimes;
+    }
+}
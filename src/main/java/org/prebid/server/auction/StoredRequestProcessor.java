@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -47,7 +48,7 @@ public class StoredRequestProcessor {
     private static final String OVERRIDE_BID_REQUEST_ID_TEMPLATE = "{{UUID}}";
 
     private final long defaultTimeout;
-    private final BidRequest defaultBidRequest;
+    private final JsonNode defaultBidRequestNode;
     private final boolean generateBidRequestId;
     private final ApplicationSettings applicationSettings;
     private final IdGenerator idGenerator;
@@ -68,7 +69,7 @@ public class StoredRequestProcessor {
                                   JsonMerger jsonMerger) {
 
         this.defaultTimeout = defaultTimeout;
-        this.defaultBidRequest = readBidRequest(
+        this.defaultBidRequestNode = readBidRequest(
                 defaultBidRequestPath, Objects.requireNonNull(fileSystem), Objects.requireNonNull(mapper));
         this.generateBidRequestId = generateBidRequestId;
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
@@ -183,13 +184,20 @@ public class StoredRequestProcessor {
                 id -> metrics.updateStoredImpsMetric(storedDataResult.getStoredIdToImp().containsKey(id)));
     }
 
-    private static BidRequest readBidRequest(String defaultBidRequestPath,
-                                             FileSystem fileSystem,
-                                             JacksonMapper mapper) {
+    /**
+     * Returns default request converted to json tree once, since it is merged into every request.
+     */
+    private static JsonNode readBidRequest(String defaultBidRequestPath,
+                                           FileSystem fileSystem,
+                                           JacksonMapper mapper) {
+
+        if (StringUtils.isBlank(defaultBidRequestPath)) {
+            return null;
+        }
 
-        return StringUtils.isNotBlank(defaultBidRequestPath)
-                ? mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class)
-                : null;
+        final BidRequest defaultBidRequest = mapper.decodeValue(
+                fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class);
+        return mapper.mapper().valueToTree(defaultBidRequest);
     }
 
     private VideoStoredDataResult makeVideoStoredDataResult(StoredDataResult storedDataResult,
@@ -263,7 +271,9 @@ public class StoredRequestProcessor {
     }
 
     private BidRequest mergeDefaultRequest(BidRequest bidRequest) {
-        return jsonMerger.merge(bidRequest, defaultBidRequest, BidRequest.class);
+        return defaultBidRequestNode != null
+                ? jsonMerger.mergeWithTree(bidRequest, defaultBidRequestNode, BidRequest.class)
+                : bidRequest;
     }
 
     /**
@@ -3,6 +3,7 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
@@ -59,12 +60,23 @@ public class StoredResponseProcessor {
 
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
+    private final Map<String, List<SeatBid>> storedResponseToSeatBids;
 
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
+        this(applicationSettings, mapper, 0);
+    }
+
+    public StoredResponseProcessor(ApplicationSettings applicationSettings,
+                                   JacksonMapper mapper,
+                                   int storedResponsesCacheSize) {
+
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+        this.storedResponseToSeatBids = storedResponsesCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(storedResponsesCacheSize).<String, List<SeatBid>>build().asMap()
+                : null;
     }
 
     Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -239,12 +251,44 @@ public class StoredResponseProcessor {
         return parseSeatBid(storedResponseId, rowSeatBid);
     }
 
+    /**
+     * Parsed seat bids are cached (when enabled) and shared between requests, so each request gets its own copy of
+     * extensions, which are modified in place down the auction.
+     */
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
+        final List<SeatBid> cached = storedResponseToSeatBids != null ? storedResponseToSeatBids.get(rowSeatBid) : null;
+        if (cached != null) {
+            return copySeatBids(cached);
+        }
+
+        final List<SeatBid> seatBids;
         try {
-            return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
+            seatBids = mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored response with id " + id);
         }
+
+        if (storedResponseToSeatBids == null) {
+            return seatBids;
+        }
+
+        storedResponseToSeatBids.put(rowSeatBid, seatBids);
+        return copySeatBids(seatBids);
+    }
+
+    private static List<SeatBid> copySeatBids(List<SeatBid> seatBids) {
+        return seatBids.stream()
+                .map(seatBid -> seatBid.toBuilder()
+                        .bid(seatBid.getBid() != null
+                                ? seatBid.getBid().stream().map(StoredResponseProcessor::copyBid).toList()
+                                : null)
+                        .ext(seatBid.getExt() != null ? seatBid.getExt().deepCopy() : null)
+                        .build())
+                .toList();
+    }
+
+    private static Bid copyBid(Bid bid) {
+        return bid != null && bid.getExt() != null ? bid.toBuilder().ext(bid.getExt().deepCopy()).build() : bid;
     }
 
     private void validateStoredSeatBid(List<SeatBid> seatBids) {
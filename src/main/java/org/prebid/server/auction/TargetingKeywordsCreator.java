@@ -2,6 +2,7 @@ package org.prebid.server.auction;
 
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.model.CacheEndpoint;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
 import java.math.BigDecimal;
@@ -154,6 +155,22 @@ public class TargetingKeywordsCreator {
                                 String vastCacheId,
                                 String categoryDuration) {
 
+        return makeFor(bid, bidder, winningBid, cacheId, format, vastCacheId, categoryDuration, null);
+    }
+
+    /**
+     * Creates map of keywords for the given {@link Bid}, pointing cache host and path to the given endpoint if it
+     * differs from Prebid Cache.
+     */
+    Map<String, String> makeFor(Bid bid,
+                                String bidder,
+                                boolean winningBid,
+                                String cacheId,
+                                String format,
+                                String vastCacheId,
+                                String categoryDuration,
+                                CacheEndpoint cacheEndpoint) {
+
         final Map<String, String> keywords = makeFor(
                 bidder,
                 winningBid,
@@ -164,7 +181,8 @@ public class TargetingKeywordsCreator {
                 vastCacheId,
                 categoryDuration,
                 format,
-                bid.getDealid());
+                bid.getDealid(),
+                cacheEndpoint);
 
         if (resolver == null) {
             return truncateKeys(keywords);
@@ -188,7 +206,8 @@ public class TargetingKeywordsCreator {
                                         String vastCacheId,
                                         String categoryDuration,
                                         String format,
-                                        String dealId) {
+                                        String dealId,
+                                        CacheEndpoint cacheEndpoint) {
 
         final boolean includeDealBid = alwaysIncludeDeals && StringUtils.isNotEmpty(dealId);
         final KeywordMap keywordMap = new KeywordMap(
@@ -213,10 +232,12 @@ public class TargetingKeywordsCreator {
         if (StringUtils.isNotBlank(vastCacheId)) {
             keywordMap.put(this.keyPrefix + VAST_ID_KEY, vastCacheId);
         }
+        final String host = cacheEndpoint != null ? cacheEndpoint.getHost() : cacheHost;
+        final String path = cacheEndpoint != null ? cacheEndpoint.getPath() : cachePath;
         if ((StringUtils.isNotBlank(vastCacheId) || StringUtils.isNotBlank(cacheId))
-                && cacheHost != null && cachePath != null) {
-            keywordMap.put(this.keyPrefix + CACHE_HOST_KEY, cacheHost);
-            keywordMap.put(this.keyPrefix + CACHE_PATH_KEY, cachePath);
+                && host != null && path != null) {
+            keywordMap.put(this.keyPrefix + CACHE_HOST_KEY, host);
+            keywordMap.put(this.keyPrefix + CACHE_PATH_KEY, path);
         }
         if (StringUtils.isNotBlank(format) && includeFormat) {
             keywordMap.put(this.keyPrefix + FORMAT_KEY, format);
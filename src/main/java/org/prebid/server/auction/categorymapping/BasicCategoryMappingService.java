@@ -17,7 +17,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.CpmRange;
 import org.prebid.server.auction.PriceGranularity;
@@ -48,12 +47,12 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,10 +66,19 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     private static final String DFP_AD_SERVER = "dfp";
 
     private final ApplicationSettings applicationSettings;
+    private final PreloadedCategories preloadedCategories;
     private final JacksonMapper jacksonMapper;
 
     public BasicCategoryMappingService(ApplicationSettings applicationSettings, JacksonMapper jacksonMapper) {
+        this(applicationSettings, null, jacksonMapper);
+    }
+
+    public BasicCategoryMappingService(ApplicationSettings applicationSettings,
+                                       PreloadedCategories preloadedCategories,
+                                       JacksonMapper jacksonMapper) {
+
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
+        this.preloadedCategories = preloadedCategories;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
     }
 
@@ -108,9 +116,9 @@ public class BasicCategoryMappingService implements CategoryMappingService {
                 : null;
 
         final List<RejectedBid> rejectedBids = new ArrayList<>();
+        final CategoryIndex categoryIndex = new CategoryIndex(primaryAdServer, publisher, timeout);
 
-        return makeBidderToBidCategory(
-                bidderResponses, withCategory, translateCategories, primaryAdServer, publisher, rejectedBids, timeout)
+        return makeBidderToBidCategory(bidderResponses, withCategory, translateCategories, categoryIndex, rejectedBids)
                 .map(categoryBidContexts -> resolveBidsCategoriesDurations(
                         bidderResponses, categoryBidContexts, bidRequest, targeting, withCategory, rejectedBids));
     }
@@ -143,16 +151,14 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     private Future<List<CategoryBidContext>> makeBidderToBidCategory(List<BidderResponse> bidderResponses,
                                                                      boolean withCategory,
                                                                      boolean translateCategories,
-                                                                     String primaryAdServer,
-                                                                     String publisher,
-                                                                     List<RejectedBid> rejectedBids,
-                                                                     Timeout timeout) {
+                                                                     CategoryIndex categoryIndex,
+                                                                     List<RejectedBid> rejectedBids) {
 
         final Promise<List<CategoryBidContext>> categoryBidContextsPromise = Promise.promise();
 
         final CompositeFuture compositeFuture = Future.join(bidderResponses.stream()
                 .flatMap(bidderResponse -> makeFetchCategoryFutures(
-                        bidderResponse, primaryAdServer, publisher, timeout, withCategory, translateCategories))
+                        bidderResponse, categoryIndex, withCategory, translateCategories))
                 .collect(Collectors.toList()));
 
         compositeFuture.onComplete(ignored ->
@@ -165,9 +171,7 @@ public class BasicCategoryMappingService implements CategoryMappingService {
      * Creates stream of futures to query category for each bid in {@link BidderResponse}.
      */
     private Stream<Future<CategoryBidContext>> makeFetchCategoryFutures(BidderResponse bidderResponse,
-                                                                        String primaryAdServer,
-                                                                        String publisher,
-                                                                        Timeout timeout,
+                                                                        CategoryIndex categoryIndex,
                                                                         boolean withCategory,
                                                                         boolean translateCategories) {
 
@@ -175,17 +179,15 @@ public class BasicCategoryMappingService implements CategoryMappingService {
         final String bidder = bidderResponse.getBidder();
         return bidderBids.stream()
                 .map(bidderBid -> resolveCategory(
-                        primaryAdServer, publisher, bidderBid, bidder, timeout, withCategory, translateCategories));
+                        categoryIndex, bidderBid, bidder, withCategory, translateCategories));
     }
 
     /**
      * Fetches category from external source or from bid.cat.
      */
-    private Future<CategoryBidContext> resolveCategory(String primaryAdServer,
-                                                       String publisher,
+    private Future<CategoryBidContext> resolveCategory(CategoryIndex categoryIndex,
                                                        BidderBid bidderBid,
                                                        String bidder,
-                                                       Timeout timeout,
                                                        boolean withCategory,
                                                        boolean translateCategories) {
 
@@ -212,7 +214,7 @@ public class BasicCategoryMappingService implements CategoryMappingService {
         }
 
         return translateCategories
-                ? fetchCategory(bidderBid, bidder, primaryAdServer, publisher, category, timeout)
+                ? fetchCategory(bidderBid, bidder, categoryIndex, category)
                 : Future.succeededFuture(CategoryBidContext.of(bidderBid, bidder, category));
     }
 
@@ -239,20 +241,23 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     }
 
     /**
-     * Queries external source for bid's category.
+     * Looks up bid's category in category table of the auction.
      */
     private Future<CategoryBidContext> fetchCategory(BidderBid bidderBid,
                                                      String bidder,
-                                                     String primaryAdServer,
-                                                     String publisher,
-                                                     String category,
-                                                     Timeout timeout) {
+                                                     CategoryIndex categoryIndex,
+                                                     String category) {
 
         final String bidId = bidderBid.getBid().getId();
 
-        return applicationSettings.getCategories(primaryAdServer, publisher, timeout)
+        return categoryIndex.categories()
                 .map(fetchedCategories -> findAndValidateCategory(
-                        fetchedCategories, category, bidId, bidder, primaryAdServer, publisher))
+                        fetchedCategories,
+                        category,
+                        bidId,
+                        bidder,
+                        categoryIndex.getPrimaryAdServer(),
+                        categoryIndex.getPublisher()))
 
                 .recover(throwable -> wrapWithRejectedBidException(bidId, bidder, throwable))
 
@@ -341,23 +346,58 @@ public class BasicCategoryMappingService implements CategoryMappingService {
                 : Collections.emptyMap();
 
         final boolean appendBidderNames = BooleanUtils.toBooleanDefaultIfNull(targeting.getAppendbiddernames(), false);
-        final Map<String, Set<CategoryBidContext>> uniqueCatKeysToCategoryBids = categoryBidContexts.stream()
-                .map(categoryBidContext -> enrichCategoryBidContext(categoryBidContext, durations, priceGranularity,
-                        withCategory, appendBidderNames, impIdToBiddersDealTear, rejectedBids))
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(CategoryBidContext::getCategoryUniqueKey,
-                        Collectors.mapping(Function.identity(), Collectors.toSet())));
-
-        rejectedBids.addAll(collectRejectedDuplicatedBids(uniqueCatKeysToCategoryBids));
+
+        // resolves durations and drops duplicates in a single pass, keeping the highest price bid for each key
+        final Map<String, CategoryBidContext> uniqueCatKeyToCategoryBid = new LinkedHashMap<>();
+        final Map<Bid, Boolean> bidsSatisfiedPriority = new HashMap<>();
+        for (CategoryBidContext categoryBidContext : categoryBidContexts) {
+            final CategoryBidContext enrichedCategoryBidContext = enrichCategoryBidContext(categoryBidContext,
+                    durations, priceGranularity, withCategory, appendBidderNames, impIdToBiddersDealTear, rejectedBids);
+            if (enrichedCategoryBidContext == null) {
+                continue;
+            }
+
+            bidsSatisfiedPriority.put(
+                    enrichedCategoryBidContext.getBidderBid().getBid(),
+                    enrichedCategoryBidContext.isSatisfiedPriority());
+
+            final CategoryBidContext duplicated = deduplicate(uniqueCatKeyToCategoryBid, enrichedCategoryBidContext);
+            if (duplicated != null) {
+                rejectedBids.add(RejectedBid.of(
+                        extractBidId(duplicated), duplicated.getBidder(), "Bid was deduplicated"));
+            }
+        }
+
         errors.addAll(rejectedBids.stream().map(RejectedBid::getErrorMessage).toList());
 
         return CategoryMappingResult.of(
-                makeBidderToBidCategoryDuration(uniqueCatKeysToCategoryBids, rejectedBids),
-                makeBidsSatisfiedPriority(uniqueCatKeysToCategoryBids),
+                makeBidderToBidCategoryDuration(uniqueCatKeyToCategoryBid.values()),
+                bidsSatisfiedPriority,
                 removeRejectedBids(bidderResponses, rejectedBids),
                 errors);
     }
 
+    /**
+     * Puts given bid to the map if there is no bid with the same category key or its price is higher.
+     * Returns the bid which lost, if any.
+     */
+    private static CategoryBidContext deduplicate(Map<String, CategoryBidContext> uniqueCatKeyToCategoryBid,
+                                                  CategoryBidContext categoryBidContext) {
+
+        final String categoryUniqueKey = categoryBidContext.getCategoryUniqueKey();
+        final CategoryBidContext existing = uniqueCatKeyToCategoryBid.putIfAbsent(
+                categoryUniqueKey, categoryBidContext);
+        if (existing == null) {
+            return null;
+        }
+
+        if (categoryBidContext.getPrice().compareTo(existing.getPrice()) > 0) {
+            uniqueCatKeyToCategoryBid.put(categoryUniqueKey, categoryBidContext);
+            return existing;
+        }
+        return categoryBidContext;
+    }
+
     /**
      * Returns video price granularity if exists, otherwise common price granularity.
      */
@@ -490,15 +530,6 @@ public class BasicCategoryMappingService implements CategoryMappingService {
         return true;
     }
 
-    /**
-     * Returns true if there is no bid with bidId and bidder in rejected list.
-     */
-    private static boolean isNotRejected(String bidId, String bidder, List<RejectedBid> rejectedBids) {
-        return rejectedBids.stream()
-                .noneMatch(rejectedBid -> rejectedBid.getBidId().equals(bidId)
-                        && rejectedBid.getBidder().equals(bidder));
-    }
-
     /**
      * Resolves necessary information to resolve category duration and decide which bid should be dropped as duplicated
      * and creates {@link CategoryBidContext} which is holder for bid category related information.
@@ -595,47 +626,16 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     }
 
     /**
-     * Collects all bids defined as duplicated to collection and creates {@link RejectedBid} with reason.
+     * Creates mapping between bid and its category duration.
      */
-    private static Set<RejectedBid> collectRejectedDuplicatedBids(
-            Map<String, Set<CategoryBidContext>> categoryToDuplicatedCategoryBids) {
-
-        return categoryToDuplicatedCategoryBids.values().stream()
-                .filter(categoryBids -> categoryBids.size() > 1)
-                .flatMap(BasicCategoryMappingService::getDuplicatedForCategory)
-                .map(categoryBidContext -> RejectedBid.of(
-                        extractBidId(categoryBidContext),
-                        categoryBidContext.getBidder(),
-                        "Bid was deduplicated"))
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Creates mapping between bidder and its map of bidId to category duration.
-     */
-    private static Map<Bid, String> makeBidderToBidCategoryDuration(
-            Map<String, Set<CategoryBidContext>> categoryToBidsWithBidder,
-            List<RejectedBid> rejectedBids) {
-
-        return categoryToBidsWithBidder.values().stream()
-                .flatMap(Collection::stream)
-                .filter(categoryBidContext -> isNotRejected(
-                        extractBidId(categoryBidContext),
-                        categoryBidContext.getBidder(),
-                        rejectedBids))
-                .collect(Collectors.toMap(
-                        categoryBidContext -> categoryBidContext.getBidderBid().getBid(),
-                        CategoryBidContext::getCategoryDuration));
-    }
-
-    private Map<Bid, Boolean> makeBidsSatisfiedPriority(
-            Map<String, Set<CategoryBidContext>> uniqueCatKeysToCategoryBids) {
-
-        return uniqueCatKeysToCategoryBids.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toMap(
-                        categoryBidContext -> categoryBidContext.getBidderBid().getBid(),
-                        CategoryBidContext::isSatisfiedPriority));
+    private static Map<Bid, String> makeBidderToBidCategoryDuration(Collection<CategoryBidContext> categoryBids) {
+        final Map<Bid, String> bidToCategoryDuration = new HashMap<>(categoryBids.size());
+        for (CategoryBidContext categoryBidContext : categoryBids) {
+            bidToCategoryDuration.put(
+                    categoryBidContext.getBidderBid().getBid(),
+                    categoryBidContext.getCategoryDuration());
+        }
+        return bidToCategoryDuration;
     }
 
     /**
@@ -644,9 +644,9 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     private static List<BidderResponse> removeRejectedBids(List<BidderResponse> bidderResponses,
                                                            List<RejectedBid> rejectedBids) {
 
-        final Map<String, List<String>> bidderToRejectedBidIds = rejectedBids.stream()
+        final Map<String, Set<String>> bidderToRejectedBidIds = rejectedBids.stream()
                 .collect(Collectors.groupingBy(RejectedBid::getBidder,
-                        Collectors.mapping(RejectedBid::getBidId, Collectors.toList())));
+                        Collectors.mapping(RejectedBid::getBidId, Collectors.toSet())));
 
         return bidderResponses.stream()
                 .map(bidderResponse -> bidderToRejectedBidIds.containsKey(bidderResponse.getBidder())
@@ -658,7 +658,7 @@ public class BasicCategoryMappingService implements CategoryMappingService {
     /**
      * Remove rejected bids from {@link BidderResponse}.
      */
-    private static BidderResponse removeRejectedBids(BidderResponse bidderResponse, List<String> rejectedBidIds) {
+    private static BidderResponse removeRejectedBids(BidderResponse bidderResponse, Set<String> rejectedBidIds) {
         final String bidder = bidderResponse.getBidder();
         final BidderSeatBid bidderSeatBid = bidderResponse.getSeatBid();
 
@@ -671,19 +671,6 @@ public class BasicCategoryMappingService implements CategoryMappingService {
                 bidderResponse.getResponseTime());
     }
 
-    /**
-     * Creates {@link Stream<CategoryBidContext>} of duplicated bids,
-     * adding bids with price lower than bid with max price.
-     */
-    private static Stream<CategoryBidContext> getDuplicatedForCategory(Set<CategoryBidContext> categoryBidContexts) {
-        final CategoryBidContext highestPriceBid = categoryBidContexts.stream()
-                .max(Comparator.comparing(CategoryBidContext::getPrice))
-                .orElseThrow(() -> new PreBidException("Can't find bid with highest price."));
-
-        return categoryBidContexts.stream()
-                .filter(categoryBidContext -> ObjectUtils.notEqual(highestPriceBid, categoryBidContext));
-    }
-
     private static String extractBidId(CategoryBidContext categoryBidContext) {
         return categoryBidContext.getBidderBid().getBid().getId();
     }
@@ -752,6 +739,44 @@ public class BasicCategoryMappingService implements CategoryMappingService {
         }
     }
 
+    /**
+     * Category table of the auction fetched at most once, no matter how many bids should be translated.
+     */
+    private class CategoryIndex {
+
+        private final String primaryAdServer;
+        private final String publisher;
+        private final Timeout timeout;
+
+        private Future<Map<String, String>> categories;
+
+        CategoryIndex(String primaryAdServer, String publisher, Timeout timeout) {
+            this.primaryAdServer = primaryAdServer;
+            this.publisher = publisher;
+            this.timeout = timeout;
+        }
+
+        String getPrimaryAdServer() {
+            return primaryAdServer;
+        }
+
+        String getPublisher() {
+            return publisher;
+        }
+
+        Future<Map<String, String>> categories() {
+            if (categories == null) {
+                final Map<String, String> preloaded = preloadedCategories != null
+                        ? preloadedCategories.get(primaryAdServer, publisher)
+                        : null;
+                categories = preloaded != null
+                        ? Future.succeededFuture(preloaded)
+                        : applicationSettings.getCategories(primaryAdServer, publisher, timeout);
+            }
+            return categories;
+        }
+    }
+
     @Value(staticConstructor = "of")
     private static class DealTierContainer {
 
@@ -0,0 +1,111 @@
+package org.prebid.server.auction.categorymapping;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.vertx.Initializable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps configured category tables in memory, so category mapping doesn't query {@link ApplicationSettings} for them
+ * at request time.
+ * <p>
+ * Each table is defined as primary ad server name optionally followed by publisher, e.g. "freewheel" or
+ * "dfp:publisher". Tables are loaded on startup and refreshed periodically in background, a table failed to refresh
+ * keeps its previously loaded content.
+ */
+public class PreloadedCategories implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PreloadedCategories.class);
+
+    private static final String PUBLISHER_DELIMITER = ":";
+
+    private final ApplicationSettings applicationSettings;
+    private final List<String> tables;
+    private final long refreshPeriodMs;
+    private final long timeoutMs;
+    private final TimeoutFactory timeoutFactory;
+    private final Vertx vertx;
+
+    private volatile Map<String, Map<String, String>> categories;
+
+    public PreloadedCategories(ApplicationSettings applicationSettings,
+                               List<String> tables,
+                               long refreshPeriodMs,
+                               long timeoutMs,
+                               TimeoutFactory timeoutFactory,
+                               Vertx vertx) {
+
+        this.applicationSettings = Objects.requireNonNull(applicationSettings);
+        this.tables = Objects.requireNonNull(tables);
+        this.refreshPeriodMs = refreshPeriodMs;
+        this.timeoutMs = timeoutMs;
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.vertx = Objects.requireNonNull(vertx);
+
+        categories = Collections.emptyMap();
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        if (tables.isEmpty()) {
+            initializePromise.tryComplete();
+            return;
+        }
+
+        if (refreshPeriodMs > 0) {
+            vertx.setPeriodic(refreshPeriodMs, ignored -> refresh());
+        }
+        refresh().onComplete(ignored -> initializePromise.tryComplete());
+    }
+
+    /**
+     * Returns preloaded category table or null if table was not configured or loaded yet.
+     */
+    public Map<String, String> get(String primaryAdServer, String publisher) {
+        return categories.get(key(primaryAdServer, publisher));
+    }
+
+    private Future<Void> refresh() {
+        final List<Future<Void>> tableFutures = tables.stream().map(this::refresh).toList();
+        return Future.join(tableFutures).mapEmpty();
+    }
+
+    private Future<Void> refresh(String table) {
+        final String primaryAdServer = StringUtils.substringBefore(table, PUBLISHER_DELIMITER);
+        final String publisher = StringUtils.stripToNull(StringUtils.substringAfter(table, PUBLISHER_DELIMITER));
+
+        return applicationSettings.getCategories(primaryAdServer, publisher, timeoutFactory.create(timeoutMs))
+                .<Void>map(fetchedCategories -> {
+                    update(key(primaryAdServer, publisher), fetchedCategories);
+                    return null;
+                })
+                .onFailure(throwable -> logger.warn(
+                        "Error occurred while preloading categories for table: {}", throwable, table));
+    }
+
+    private void update(String key, Map<String, String> fetchedCategories) {
+        if (MapUtils.isEmpty(fetchedCategories)) {
+            return;
+        }
+
+        final Map<String, Map<String, String>> updatedCategories = new HashMap<>(categories);
+        updatedCategories.put(key, Collections.unmodifiableMap(new HashMap<>(fetchedCategories)));
+        categories = Collections.unmodifiableMap(updatedCategories);
+    }
+
+    private static String key(String primaryAdServer, String publisher) {
+        return StringUtils.isNotBlank(publisher) ? primaryAdServer + PUBLISHER_DELIMITER + publisher : primaryAdServer;
+    }
+}
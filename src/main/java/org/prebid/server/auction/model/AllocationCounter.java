@@ -0,0 +1,43 @@
+package org.prebid.server.auction.model;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates heap bytes allocated by the current thread while executing synchronous parts of the auction,
+ * e.g. preparing requests for each bidder.
+ * <p>
+ * Relies on {@link ThreadMXBean}, if JVM doesn't support thread allocation measurement
+ * nothing is accumulated.
+ */
+public class AllocationCounter {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+
+    private long bidderRequestsBytes;
+
+    private static ThreadMXBean threadMxBean() {
+        return ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMxBean
+                && threadMxBean.isThreadAllocatedMemorySupported()
+                && threadMxBean.isThreadAllocatedMemoryEnabled()
+                ? threadMxBean
+                : null;
+    }
+
+    public <T> T measureBidderRequests(Supplier<T> action) {
+        if (THREAD_MX_BEAN == null) {
+            return action.get();
+        }
+
+        final long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        final T result = action.get();
+        bidderRequestsBytes += THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return result;
+    }
+
+    public long getBidderRequestsBytes() {
+        return bidderRequestsBytes;
+    }
+}
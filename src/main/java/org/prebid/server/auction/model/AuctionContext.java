@@ -4,15 +4,18 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.versionconverter.OrtbConversionCache;
 import org.prebid.server.bidadjustments.model.BidAdjustments;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.SerializationCache;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -77,6 +80,25 @@ public class AuctionContext {
     @Builder.Default
     BidAdjustments bidAdjustments = BidAdjustments.of(Collections.emptyMap());
 
+    @JsonIgnore
+    SerializationCache serializationCache;
+
+    @JsonIgnore
+    AllocationCounter allocationCounter;
+
+    @JsonIgnore
+    MemoryReservation memoryReservation;
+
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    AuctionStageTimings stageTimings = new AuctionStageTimings();
+
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    OrtbConversionCache ortbConversionCache = new OrtbConversionCache();
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -136,6 +158,24 @@ public class AuctionContext {
                 .build();
     }
 
+    public AuctionContext with(SerializationCache serializationCache) {
+        return this.toBuilder()
+                .serializationCache(serializationCache)
+                .build();
+    }
+
+    public AuctionContext with(AllocationCounter allocationCounter) {
+        return this.toBuilder()
+                .allocationCounter(allocationCounter)
+                .build();
+    }
+
+    public AuctionContext with(MemoryReservation memoryReservation) {
+        return this.toBuilder()
+                .memoryReservation(memoryReservation)
+                .build();
+    }
+
     public AuctionContext withRequestRejected() {
         return this.toBuilder()
                 .requestRejected(true)
@@ -0,0 +1,44 @@
+package org.prebid.server.auction.model;
+
+import org.prebid.server.hooks.execution.model.Stage;
+
+/**
+ * Parts of the auction measured by {@link AuctionStageTimings}.
+ * <p>
+ * Stages may be nested, e.g. floors are resolved while bidder requests are built and category mapping
+ * with cache write are parts of response creation.
+ */
+public enum AuctionStage {
+
+    stored_request,
+    privacy_enforcement,
+    floors,
+    bidder_requests,
+    bidders_wait,
+    response_creation,
+    category_mapping,
+    cache_write,
+
+    hooks_entrypoint,
+    hooks_raw_auction_request,
+    hooks_processed_auction_request,
+    hooks_bidder_request,
+    hooks_raw_bidder_response,
+    hooks_processed_bidder_response,
+    hooks_all_processed_bid_responses,
+    hooks_auction_response;
+
+    public static AuctionStage hooks(Stage stage) {
+        return switch (stage) {
+            case entrypoint -> hooks_entrypoint;
+            case raw_auction_request -> hooks_raw_auction_request;
+            case processed_auction_request -> hooks_processed_auction_request;
+            case bidder_request -> hooks_bidder_request;
+            case raw_bidder_response -> hooks_raw_bidder_response;
+            case processed_bidder_response -> hooks_processed_bidder_response;
+            case all_processed_bid_responses -> hooks_all_processed_bid_responses;
+            case auction_response -> hooks_auction_response;
+            case exitpoint -> null;
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates time spent by the auction in each {@link AuctionStage}.
+ * <p>
+ * Uses monotonic clock and keeps durations in a preallocated array, so measuring a stage doesn't allocate.
+ * Stage executed several times within the auction (e.g. once per bidder) accumulates its durations.
+ */
+public class AuctionStageTimings {
+
+    private static final AuctionStage[] STAGES = AuctionStage.values();
+
+    private final AtomicLongArray stageNanos = new AtomicLongArray(STAGES.length);
+
+    /**
+     * Returns start mark to be passed to {@link #stop(AuctionStage, long)} when the stage completes.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void stop(AuctionStage stage, long start) {
+        record(stage, System.nanoTime() - start);
+    }
+
+    public void record(AuctionStage stage, long nanos) {
+        stageNanos.addAndGet(stage.ordinal(), nanos);
+    }
+
+    public <T> T measure(AuctionStage stage, Supplier<T> action) {
+        final long start = start();
+        try {
+            return action.get();
+        } finally {
+            stop(stage, start);
+        }
+    }
+
+    /**
+     * Measures the stage until the future returned by the action completes.
+     */
+    public <T> Future<T> measureAsync(AuctionStage stage, Supplier<Future<T>> action) {
+        final long start = start();
+        return action.get().onComplete(ignored -> stop(stage, start));
+    }
+
+    /**
+     * Returns accumulated duration of the stage in nanoseconds, zero means stage was not executed.
+     */
+    public long nanos(AuctionStage stage) {
+        return stageNanos.get(stage.ordinal());
+    }
+}
@@ -17,6 +17,12 @@ public class BidderRequest {
 
     BidRequest bidRequest;
 
+    /**
+     * Whether bidder request building and response decoding may run off the event loop, in parallel with
+     * other bidders of the auction.
+     */
+    boolean parallelProcessing;
+
     public BidderRequest with(BidRequest bidRequest) {
         return toBuilder().bidRequest(bidRequest).build();
     }
@@ -0,0 +1,47 @@
+package org.prebid.server.auction.model;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Heap budget reserved for a single auction by {@link org.prebid.server.auction.AuctionMemoryGuard}.
+ * <p>
+ * Reservation can be released only once, so it is safe to release it from several completion paths.
+ */
+public class MemoryReservation {
+
+    private final String accountId;
+
+    private final long bytes;
+
+    private final Integer maxBidders;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public MemoryReservation(String accountId, long bytes, Integer maxBidders) {
+        this.accountId = accountId;
+        this.bytes = bytes;
+        this.maxBidders = maxBidders;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns max number of bidders auction is allowed to call or null if bidders are not capped.
+     */
+    public Integer getMaxBidders() {
+        return maxBidders;
+    }
+
+    /**
+     * Marks reservation as released and returns true if it was not released before.
+     */
+    public boolean release() {
+        return released.compareAndSet(false, true);
+    }
+}
@@ -35,11 +35,16 @@ public class ActivityEnforcement implements PrivacyEnforcement {
                                                      BidderAliases aliases,
                                                      List<BidderPrivacyResult> results) {
 
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
+        final MaskingMemo<Device> maskedDevices = new MaskingMemo<>();
+
         final List<BidderPrivacyResult> enforcedResults = results.stream()
                 .map(bidderPrivacyResult -> applyActivityRestrictions(
                         bidderPrivacyResult,
                         auctionContext.getActivityInfrastructure(),
-                        auctionContext.getBidRequest()))
+                        auctionContext.getBidRequest(),
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
 
         return Future.succeededFuture(enforcedResults);
@@ -47,7 +52,9 @@ public class ActivityEnforcement implements PrivacyEnforcement {
 
     private BidderPrivacyResult applyActivityRestrictions(BidderPrivacyResult bidderPrivacyResult,
                                                           ActivityInfrastructure infrastructure,
-                                                          BidRequest bidRequest) {
+                                                          BidRequest bidRequest,
+                                                          MaskingMemo<User> maskedUsers,
+                                                          MaskingMemo<Device> maskedDevices) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         final User user = bidderPrivacyResult.getUser();
@@ -60,8 +67,14 @@ public class ActivityEnforcement implements PrivacyEnforcement {
         final boolean disallowTransmitEids = !infrastructure.isAllowed(Activity.TRANSMIT_EIDS, payload);
         final boolean disallowTransmitGeo = !infrastructure.isAllowed(Activity.TRANSMIT_GEO, payload);
 
-        final User resolvedUser = userFpdActivityMask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids);
-        final Device resolvedDevice = userFpdActivityMask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo);
+        final User resolvedUser = maskedUsers.masked(
+                user,
+                MaskingMemo.flags(disallowTransmitUfpd, disallowTransmitEids),
+                () -> userFpdActivityMask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids));
+        final Device resolvedDevice = maskedDevices.masked(
+                device,
+                MaskingMemo.flags(disallowTransmitUfpd, disallowTransmitGeo),
+                () -> userFpdActivityMask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo));
 
         return bidderPrivacyResult.toBuilder()
                 .user(resolvedUser)
@@ -1,5 +1,7 @@
 package org.prebid.server.auction.privacy.enforcement;
 
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
@@ -40,15 +42,28 @@ public class CoppaEnforcement implements PrivacyEnforcement {
     }
 
     private List<BidderPrivacyResult> enforce(List<BidderPrivacyResult> results) {
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
+        final MaskingMemo<Device> maskedDevices = new MaskingMemo<>();
+
         return results.stream()
-                .map(result -> BidderPrivacyResult.builder()
-                        .requestBidder(result.getRequestBidder())
-                        .user(userFpdCoppaMask.maskUser(result.getUser()))
-                        .device(userFpdCoppaMask.maskDevice(result.getDevice()))
-                        .build())
+                .map(result -> mask(result, maskedUsers, maskedDevices))
                 .toList();
     }
 
+    private BidderPrivacyResult mask(BidderPrivacyResult result,
+                                     MaskingMemo<User> maskedUsers,
+                                     MaskingMemo<Device> maskedDevices) {
+
+        final User user = result.getUser();
+        final Device device = result.getDevice();
+
+        return BidderPrivacyResult.builder()
+                .requestBidder(result.getRequestBidder())
+                .user(maskedUsers.masked(user, 0, () -> userFpdCoppaMask.maskUser(user)))
+                .device(maskedDevices.masked(device, 0, () -> userFpdCoppaMask.maskDevice(device)))
+                .build();
+    }
+
     private static boolean isApplicable(AuctionContext auctionContext) {
         return auctionContext.getPrivacyContext().getPrivacy().getCoppa() == 1;
     }
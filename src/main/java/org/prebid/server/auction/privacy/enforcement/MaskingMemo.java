@@ -0,0 +1,63 @@
+package org.prebid.server.auction.privacy.enforcement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes masked copies of users or devices within one enforcement pass over the bidders of an auction.
+ * <p>
+ * Bidders having the same input instance and the same effective masking flags form an equivalence class:
+ * masking is done once per class and its result is shared between all bidders of the class, so request
+ * encoding can reuse serialized bytes of the shared instance as well.
+ */
+class MaskingMemo<T> {
+
+    private final Map<Key, T> keyToMasked = new HashMap<>();
+
+    T masked(T value, int flags, Object parameter, Supplier<T> masking) {
+        final Key key = new Key(value, flags, parameter);
+        final T cached = keyToMasked.get(key);
+        if (cached != null || keyToMasked.containsKey(key)) {
+            return cached;
+        }
+
+        final T masked = masking.get();
+        keyToMasked.put(key, masked);
+        return masked;
+    }
+
+    T masked(T value, int flags, Supplier<T> masking) {
+        return masked(value, flags, null, masking);
+    }
+
+    static int flags(boolean... values) {
+        int flags = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Compares values by identity, since different instances of equal values are encoded separately anyway.
+     */
+    private record Key(Object value, int flags, Object parameter) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key
+                    && value == key.value
+                    && flags == key.flags
+                    && Objects.equals(parameter, key.parameter);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(value) + flags) + Objects.hashCode(parameter);
+        }
+    }
+}
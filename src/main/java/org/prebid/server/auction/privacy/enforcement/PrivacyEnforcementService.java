@@ -6,9 +6,11 @@ import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Service provides masking for OpenRTB client sensitive information.
@@ -25,10 +27,12 @@ public class PrivacyEnforcementService {
                                                   Map<String, User> bidderToUser,
                                                   BidderAliases aliases) {
 
+        // equal users share one instance, so that enforcements mask them once per equivalence class
+        final Map<User, User> canonicalUsers = new HashMap<>();
         final List<BidderPrivacyResult> initialResults = bidderToUser.entrySet().stream()
                 .map(entry -> BidderPrivacyResult.builder()
                         .requestBidder(entry.getKey())
-                        .user(entry.getValue())
+                        .user(canonicalUser(entry.getValue(), canonicalUsers))
                         .device(auctionContext.getBidRequest().getDevice())
                         .build())
                 .toList();
@@ -42,4 +46,8 @@ public class PrivacyEnforcementService {
 
         return composedResult;
     }
+
+    private static User canonicalUser(User user, Map<User, User> canonicalUsers) {
+        return user != null ? canonicalUsers.computeIfAbsent(user, Function.identity()) : null;
+    }
 }
@@ -175,12 +175,20 @@ public class TcfEnforcement implements PrivacyEnforcement {
     private List<BidderPrivacyResult> applyEnforcements(Map<String, PrivacyEnforcementAction> enforcements,
                                                         List<BidderPrivacyResult> results) {
 
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
+        final MaskingMemo<Device> maskedDevices = new MaskingMemo<>();
+
         return results.stream()
-                .map(result -> applyEnforcement(enforcements.get(result.getRequestBidder()), result))
+                .map(result -> applyEnforcement(
+                        enforcements.get(result.getRequestBidder()), result, maskedUsers, maskedDevices))
                 .toList();
     }
 
-    private BidderPrivacyResult applyEnforcement(PrivacyEnforcementAction enforcement, BidderPrivacyResult result) {
+    private BidderPrivacyResult applyEnforcement(PrivacyEnforcementAction enforcement,
+                                                 BidderPrivacyResult result,
+                                                 MaskingMemo<User> maskedUsers,
+                                                 MaskingMemo<Device> maskedDevices) {
+
         final String bidder = result.getRequestBidder();
 
         final boolean blockBidderRequest = enforcement.isBlockBidderRequest();
@@ -202,11 +210,18 @@ public class TcfEnforcement implements PrivacyEnforcement {
         final boolean maskUserIds = enforcement.isRemoveUserIds() || isLmtEnabled;
         final boolean maskGeo = enforcement.isMaskGeo() || isLmtEnabled;
         final Set<String> eidExceptions = enforcement.getEidExceptions();
-        final User maskedUser = userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, eidExceptions);
+        final User maskedUser = maskedUsers.masked(
+                user,
+                MaskingMemo.flags(maskUserFpd, maskUserIds),
+                eidExceptions,
+                () -> userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, eidExceptions));
 
         final boolean maskIp = enforcement.isMaskDeviceIp() || isLmtEnabled;
         final boolean maskDeviceInfo = enforcement.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo);
+        final Device maskedDevice = maskedDevices.masked(
+                device,
+                MaskingMemo.flags(maskIp, maskGeo, maskDeviceInfo),
+                () -> userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -26,6 +26,8 @@ import org.prebid.server.auction.PriceGranularity;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.ConsentType;
 import org.prebid.server.auction.privacy.contextfactory.AmpPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -405,8 +407,11 @@ public class AmpRequestFactory {
         final String accountId = account != null ? account.getId() : null;
 
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
+        final AuctionStageTimings stageTimings = auctionContext.getStageTimings();
+        final long storedRequestStart = stageTimings.start();
 
         return storedRequestProcessor.processAmpRequest(accountId, storedRequestId, receivedBidRequest)
+                .onComplete(ignored -> stageTimings.stop(AuctionStage.stored_request, storedRequestStart))
                 .map(ortbVersionConversionManager::convertToAuctionSupportedVersion)
                 .map(bidRequest -> gppService.updateBidRequest(bidRequest, auctionContext))
                 .map(bidRequest -> validateStoredBidRequest(storedRequestId, bidRequest))
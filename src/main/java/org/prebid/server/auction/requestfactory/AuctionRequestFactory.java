@@ -14,6 +14,8 @@ import org.prebid.server.auction.OrtbTypesResolver;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.privacy.contextfactory.AuctionPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -238,8 +240,11 @@ public class AuctionRequestFactory {
         final Account account = auctionContext.getAccount();
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
         final List<String> debugWarnings = auctionContext.getDebugWarnings();
+        final AuctionStageTimings stageTimings = auctionContext.getStageTimings();
+        final long storedRequestStart = stageTimings.start();
 
         return storedRequestProcessor.processAuctionRequest(account.getId(), auctionContext.getBidRequest())
+                .onComplete(ignored -> stageTimings.stop(AuctionStage.stored_request, storedRequestStart))
                 .compose(auctionStoredResult -> updateBidRequest(auctionStoredResult, auctionContext))
                 .compose(bidRequest -> ortb2RequestFactory.validateRequest(
                         account, bidRequest, httpRequest, auctionContext.getDebugContext(), debugWarnings))
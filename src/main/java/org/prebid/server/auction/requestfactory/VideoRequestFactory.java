@@ -19,6 +19,8 @@ import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.WithPodErrors;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -108,7 +110,7 @@ public class VideoRequestFactory {
                 Endpoint.openrtb2_video, MetricName.video);
 
         return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> createBidRequest(httpRequest)
+                .compose(httpRequest -> createBidRequest(httpRequest, initialAuctionContext.getStageTimings())
                         .map(bidRequest -> removeEmptyEids(bidRequest, initialAuctionContext.getDebugWarnings()))
 
                         .map(bidRequestWithErrors -> populatePodErrors(
@@ -178,7 +180,9 @@ public class VideoRequestFactory {
         return body;
     }
 
-    private Future<WithPodErrors<BidRequest>> createBidRequest(HttpRequestContext httpRequest) {
+    private Future<WithPodErrors<BidRequest>> createBidRequest(HttpRequestContext httpRequest,
+                                                               AuctionStageTimings stageTimings) {
+
         final boolean debugEnabled = isDebugEnabled(httpRequest);
 
         final BidRequestVideo bidRequestVideo;
@@ -196,7 +200,9 @@ public class VideoRequestFactory {
         final Set<String> podConfigIds = podConfigIds(bidRequestVideo);
         final String accountId = accountIdFrom(bidRequestVideo);
 
+        final long storedRequestStart = stageTimings.start();
         return storedRequestProcessor.processVideoRequest(accountId, storedRequestId, podConfigIds, bidRequestVideo)
+                .onComplete(ignored -> stageTimings.stop(AuctionStage.stored_request, storedRequestStart))
 
                 .map(bidRequestToErrors -> WithPodErrors.of(
                         ortbVersionConversionManager.convertToAuctionSupportedVersion(bidRequestToErrors.getData()),
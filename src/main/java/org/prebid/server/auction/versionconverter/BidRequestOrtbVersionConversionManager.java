@@ -26,4 +26,13 @@ public class BidRequestOrtbVersionConversionManager {
                 .getConverter(AUCTION_VERSION, ortbVersion)
                 .convert(bidRequest);
     }
+
+    public BidRequest convertFromAuctionSupportedVersion(BidRequest bidRequest,
+                                                         OrtbVersion ortbVersion,
+                                                         OrtbConversionCache conversionCache) {
+
+        return ortbVersionConverterFactory
+                .getConverter(AUCTION_VERSION, ortbVersion)
+                .convert(bidRequest, conversionCache);
+    }
 }
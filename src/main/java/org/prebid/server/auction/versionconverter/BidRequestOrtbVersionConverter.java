@@ -8,9 +8,29 @@ public interface BidRequestOrtbVersionConverter {
 
     BidRequest convert(BidRequest bidRequest);
 
+    /**
+     * Converts request reusing conversions of sections shared with other requests of the same auction.
+     */
+    default BidRequest convert(BidRequest bidRequest, OrtbConversionCache conversionCache) {
+        return convert(bidRequest);
+    }
+
     default BidRequestOrtbVersionConverter andThen(BidRequestOrtbVersionConverter after) {
         Objects.requireNonNull(after);
-        return bidRequest -> after.convert(this.convert(bidRequest));
+        final BidRequestOrtbVersionConverter before = this;
+
+        return new BidRequestOrtbVersionConverter() {
+
+            @Override
+            public BidRequest convert(BidRequest bidRequest) {
+                return after.convert(before.convert(bidRequest));
+            }
+
+            @Override
+            public BidRequest convert(BidRequest bidRequest, OrtbConversionCache conversionCache) {
+                return after.convert(before.convert(bidRequest, conversionCache), conversionCache);
+            }
+        };
     }
 
     static BidRequestOrtbVersionConverter identity() {
@@ -0,0 +1,49 @@
+package org.prebid.server.auction.versionconverter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps results of OpenRTB version conversions of request sections within one auction.
+ * <p>
+ * Bidder requests of the same auction usually share instances of sections like user, source or regs, so each
+ * shared instance is converted once and the result is reused for all bidders requiring the same version.
+ * Instances are compared by identity and conversions are expected to be stateless.
+ */
+public class OrtbConversionCache {
+
+    private final Map<Key, Object> keyToConverted = new HashMap<>();
+
+    /**
+     * Returns result of the given conversion of the value, converting it only if it wasn't converted before.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T converted(T value, UnaryOperator<T> conversion) {
+        if (value == null) {
+            return conversion.apply(null);
+        }
+
+        final Key key = new Key(conversion, value);
+        if (keyToConverted.containsKey(key)) {
+            return (T) keyToConverted.get(key);
+        }
+
+        final T converted = conversion.apply(value);
+        keyToConverted.put(key, converted);
+        return converted;
+    }
+
+    private record Key(Object conversion, Object value) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && conversion == key.conversion && value == key.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(conversion) + System.identityHashCode(value);
+        }
+    }
+}
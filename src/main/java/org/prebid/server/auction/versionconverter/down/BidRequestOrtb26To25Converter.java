@@ -13,6 +13,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverter;
+import org.prebid.server.auction.versionconverter.OrtbConversionCache;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
@@ -23,6 +24,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 
 public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConverter {
@@ -30,6 +32,10 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
     private static final String PREBID_FIELD = "prebid";
     private static final String IS_REWARDED_INVENTORY_FIELD = "is_rewarded_inventory";
 
+    private static final UnaryOperator<User> USER_CONVERSION = BidRequestOrtb26To25Converter::modifyUser;
+    private static final UnaryOperator<Source> SOURCE_CONVERSION = BidRequestOrtb26To25Converter::modifySource;
+    private static final UnaryOperator<Regs> REGS_CONVERSION = BidRequestOrtb26To25Converter::modifyRegs;
+
     private final JacksonMapper mapper;
 
     public BidRequestOrtb26To25Converter(JacksonMapper mapper) {
@@ -38,17 +44,25 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
 
     @Override
     public BidRequest convert(BidRequest bidRequest) {
+        return convert(bidRequest, null);
+    }
+
+    /**
+     * Converts imps of each request separately, while user, source and regs are converted once per instance.
+     */
+    @Override
+    public BidRequest convert(BidRequest bidRequest, OrtbConversionCache conversionCache) {
         final List<Imp> imps = bidRequest.getImp();
         final List<Imp> modifiedImps = modifyImps(imps);
 
         final User user = bidRequest.getUser();
-        final User modifiedUser = modifyUser(user);
+        final User modifiedUser = convertShared(user, USER_CONVERSION, conversionCache);
 
         final Source source = bidRequest.getSource();
-        final Source modifiedSource = modifySource(source);
+        final Source modifiedSource = convertShared(source, SOURCE_CONVERSION, conversionCache);
 
         final Regs regs = bidRequest.getRegs();
-        final Regs modifiedRegs = modifyRegs(regs);
+        final Regs modifiedRegs = convertShared(regs, REGS_CONVERSION, conversionCache);
 
         return ObjectUtils.anyNotNull(
                 modifiedImps,
@@ -66,6 +80,10 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
                 : bidRequest;
     }
 
+    private static <T> T convertShared(T value, UnaryOperator<T> conversion, OrtbConversionCache conversionCache) {
+        return conversionCache != null ? conversionCache.converted(value, conversion) : conversion.apply(value);
+    }
+
     private List<Imp> modifyImps(List<Imp> imps) {
         final List<Imp> modifiedImps = imps.stream()
                 .map(this::modifyImp)
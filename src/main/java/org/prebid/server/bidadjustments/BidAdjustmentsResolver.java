@@ -9,19 +9,9 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.util.BidderUtil;
-import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
-import org.prebid.server.util.dsl.config.PrebidConfigParameter;
-import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
-import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
-import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
-import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 public class BidAdjustmentsResolver {
@@ -29,12 +19,10 @@ public class BidAdjustmentsResolver {
     public static final String WILDCARD = "*";
     public static final String DELIMITER = "|";
 
-    private final PrebidConfigMatchingStrategy matchingStrategy;
     private final CurrencyConversionService currencyService;
 
     public BidAdjustmentsResolver(CurrencyConversionService currencyService) {
         this.currencyService = Objects.requireNonNull(currencyService);
-        this.matchingStrategy = new MostAccurateCombinationStrategy();
     }
 
     public Price resolve(Price initialPrice,
@@ -44,37 +32,14 @@ public class BidAdjustmentsResolver {
                          String targetBidder,
                          String targetDealId) {
 
-        final List<ExtRequestBidAdjustmentsRule> adjustmentsRules = findRules(
-                bidAdjustments,
-                targetMediaType,
+        final List<ExtRequestBidAdjustmentsRule> adjustmentsRules = bidAdjustments.findRules(
+                targetMediaType.toString(),
                 targetBidder,
-                targetDealId);
+                StringUtils.isNotBlank(targetDealId) ? targetDealId : null);
 
         return adjustPrice(initialPrice, adjustmentsRules, bidRequest);
     }
 
-    private List<ExtRequestBidAdjustmentsRule> findRules(BidAdjustments bidAdjustments,
-                                                         ImpMediaType targetMediaType,
-                                                         String targetBidder,
-                                                         String targetDealId) {
-
-        final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = bidAdjustments.getRules();
-        final PrebidConfigSource source = SimpleSource.of(WILDCARD, DELIMITER, rules.keySet());
-        final PrebidConfigParameters parameters = createParameters(targetMediaType, targetBidder, targetDealId);
-
-        final String rule = matchingStrategy.match(source, parameters);
-        return rule == null ? Collections.emptyList() : rules.get(rule);
-    }
-
-    private PrebidConfigParameters createParameters(ImpMediaType mediaType, String bidder, String dealId) {
-        final List<PrebidConfigParameter> conditionsMatchers = List.of(
-                SimpleDirectParameter.of(mediaType.toString()),
-                SimpleDirectParameter.of(bidder),
-                StringUtils.isNotBlank(dealId) ? SimpleDirectParameter.of(dealId) : PrebidConfigParameter.wildcard());
-
-        return SimpleParameters.of(conditionsMatchers);
-    }
-
     private Price adjustPrice(Price price,
                               List<ExtRequestBidAdjustmentsRule> bidAdjustmentRules,
                               BidRequest bidRequest) {
@@ -2,7 +2,9 @@ package org.prebid.server.bidadjustments;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.bidadjustments.model.BidAdjustments;
 import org.prebid.server.json.JacksonMapper;
@@ -19,24 +21,42 @@ import org.prebid.server.validation.ValidationException;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * Resolves bid adjustments of the auction from request and account ones, request rules taking precedence.
+ * <p>
+ * Account adjustments are converted and validated once per account revision (i.e. per instance of its
+ * bid adjustments node) and request rules are layered on top of them. Invalid adjustments fall back to
+ * merging both as json to report the same warnings.
+ */
 public class BidAdjustmentsRetriever {
 
     private static final Logger logger = LoggerFactory.getLogger(BidAdjustmentsRetriever.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
+    private static final String MEDIATYPE_FIELD = "mediatype";
+    private static final BidAdjustments EMPTY = BidAdjustments.of(Collections.emptyMap());
+
     private final ObjectMapper mapper;
     private final JsonMerger jsonMerger;
     private final double samplingRate;
 
+    private final Map<JsonNode, Optional<BidAdjustments>> compiledAccountAdjustments;
+
     public BidAdjustmentsRetriever(JacksonMapper mapper,
                                    JsonMerger jsonMerger,
                                    double samplingRate) {
         this.mapper = Objects.requireNonNull(mapper).mapper();
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
         this.samplingRate = samplingRate;
+
+        compiledAccountAdjustments = Caffeine.newBuilder()
+                .weakKeys()
+                .<JsonNode, Optional<BidAdjustments>>build()
+                .asMap();
     }
 
     public BidAdjustments retrieve(AuctionContext auctionContext) {
@@ -47,33 +67,82 @@ public class BidAdjustmentsRetriever {
                 .map(BidRequest::getExt)
                 .map(ExtRequest::getPrebid)
                 .map(ExtRequestPrebid::getBidadjustments)
-                .orElseGet(mapper::createObjectNode);
+                .orElse(null);
 
         final JsonNode accountBidAdjustmentsNode = Optional.ofNullable(auctionContext.getAccount())
                 .map(Account::getAuction)
                 .map(AccountAuctionConfig::getBidAdjustments)
-                .orElseGet(mapper::createObjectNode);
+                .orElse(null);
+
+        final BidAdjustments accountBidAdjustments = compiledAccountBidAdjustments(accountBidAdjustmentsNode);
+
+        if (accountBidAdjustments != null) {
+            if (isEmpty(requestBidAdjustmentsNode)) {
+                return accountBidAdjustments;
+            }
+
+            final BidAdjustments requestBidAdjustments = isLayerable(requestBidAdjustmentsNode)
+                    ? convertAndValidate(requestBidAdjustmentsNode).orElse(null)
+                    : null;
+            if (requestBidAdjustments != null) {
+                return accountBidAdjustments.overriddenBy(requestBidAdjustments);
+            }
+        }
+
+        return mergeAndRetrieve(
+                ObjectUtils.defaultIfNull(requestBidAdjustmentsNode, mapper.createObjectNode()),
+                ObjectUtils.defaultIfNull(accountBidAdjustmentsNode, mapper.createObjectNode()),
+                debugEnabled ? debugWarnings : null);
+    }
+
+    private BidAdjustments compiledAccountBidAdjustments(JsonNode accountBidAdjustmentsNode) {
+        if (accountBidAdjustmentsNode == null) {
+            return EMPTY;
+        }
+
+        final Optional<BidAdjustments> bidAdjustments = compiledAccountAdjustments.computeIfAbsent(
+                accountBidAdjustmentsNode, this::convertAndValidate);
+        return bidAdjustments.orElse(null);
+    }
+
+    private static boolean isEmpty(JsonNode bidAdjustmentsNode) {
+        return bidAdjustmentsNode == null || (bidAdjustmentsNode.isObject() && bidAdjustmentsNode.isEmpty());
+    }
+
+    /**
+     * Tells if rules of given request node can simply replace account ones. Explicit null media types
+     * remove account rules on json merge, so they are left to it.
+     */
+    private static boolean isLayerable(JsonNode bidAdjustmentsNode) {
+        return bidAdjustmentsNode.isObject() && !bidAdjustmentsNode.path(MEDIATYPE_FIELD).isNull();
+    }
+
+    private BidAdjustments mergeAndRetrieve(JsonNode requestBidAdjustmentsNode,
+                                            JsonNode accountBidAdjustmentsNode,
+                                            List<String> debugWarnings) {
 
         final JsonNode mergedBidAdjustmentsNode = jsonMerger.merge(
                 requestBidAdjustmentsNode,
                 accountBidAdjustmentsNode);
 
-        final List<String> resolvedWarnings = debugEnabled ? debugWarnings : null;
-        return convertAndValidate(mergedBidAdjustmentsNode, resolvedWarnings, "request")
-                .or(() -> convertAndValidate(accountBidAdjustmentsNode, resolvedWarnings, "account"))
-                .orElse(BidAdjustments.of(Collections.emptyMap()));
+        return convertAndValidate(mergedBidAdjustmentsNode, debugWarnings, "request")
+                .or(() -> convertAndValidate(accountBidAdjustmentsNode, debugWarnings, "account"))
+                .orElse(EMPTY);
+    }
+
+    private Optional<BidAdjustments> convertAndValidate(JsonNode bidAdjustmentsNode) {
+        try {
+            return Optional.of(convert(bidAdjustmentsNode));
+        } catch (IllegalArgumentException | ValidationException e) {
+            return Optional.empty();
+        }
     }
 
     private Optional<BidAdjustments> convertAndValidate(JsonNode bidAdjustmentsNode,
                                                         List<String> debugWarnings,
                                                         String errorLocation) {
         try {
-            final ExtRequestBidAdjustments accountBidAdjustments = mapper.convertValue(
-                    bidAdjustmentsNode,
-                    ExtRequestBidAdjustments.class);
-
-            BidAdjustmentRulesValidator.validate(accountBidAdjustments);
-            return Optional.of(BidAdjustments.of(accountBidAdjustments));
+            return Optional.of(convert(bidAdjustmentsNode));
         } catch (IllegalArgumentException | ValidationException e) {
             final String message = "bid adjustment from " + errorLocation + " was invalid: " + e.getMessage();
             if (debugWarnings != null) {
@@ -83,4 +152,13 @@ public class BidAdjustmentsRetriever {
             return Optional.empty();
         }
     }
+
+    private BidAdjustments convert(JsonNode bidAdjustmentsNode) throws ValidationException {
+        final ExtRequestBidAdjustments bidAdjustments = mapper.convertValue(
+                bidAdjustmentsNode,
+                ExtRequestBidAdjustments.class);
+
+        BidAdjustmentRulesValidator.validate(bidAdjustments);
+        return BidAdjustments.of(bidAdjustments);
+    }
 }
@@ -1,7 +1,12 @@
 package org.prebid.server.bidadjustments.model;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidadjustments.BidAdjustmentRulesValidator;
 import org.prebid.server.bidadjustments.BidAdjustmentsResolver;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustments;
@@ -12,14 +17,46 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-@Value(staticConstructor = "of")
+@Value
 public class BidAdjustments {
 
     private static final String RULE_SCHEME =
             "%s" + BidAdjustmentsResolver.DELIMITER + "%s" + BidAdjustmentsResolver.DELIMITER + "%s";
 
+    private static final int MEDIA_TYPE_WILDCARD = 4;
+    private static final int BIDDER_WILDCARD = 2;
+    private static final int DEAL_WILDCARD = 1;
+
+    /**
+     * Wildcard combinations in order of precedence, the same as for three column rule sets of
+     * {@link org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy}.
+     */
+    private static final int[] WILDCARD_COMBINATIONS = {
+            0,
+            DEAL_WILDCARD,
+            BIDDER_WILDCARD,
+            MEDIA_TYPE_WILDCARD,
+            BIDDER_WILDCARD | DEAL_WILDCARD,
+            MEDIA_TYPE_WILDCARD | DEAL_WILDCARD,
+            MEDIA_TYPE_WILDCARD | BIDDER_WILDCARD,
+            MEDIA_TYPE_WILDCARD | BIDDER_WILDCARD | DEAL_WILDCARD};
+
     Map<String, List<ExtRequestBidAdjustmentsRule>> rules;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> index;
+
+    private BidAdjustments(Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+        this.rules = rules;
+        this.index = index(rules);
+    }
+
+    public static BidAdjustments of(Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+        return new BidAdjustments(rules);
+    }
+
     public static BidAdjustments of(ExtRequestBidAdjustments bidAdjustments) {
         if (bidAdjustments == null) {
             return BidAdjustments.of(Collections.emptyMap());
@@ -49,4 +86,75 @@ public class BidAdjustments {
         return BidAdjustments.of(MapUtils.unmodifiableMap(rules));
     }
 
+    /**
+     * Returns adjustments with rules of given overrides replacing rules of this adjustments with the same key.
+     */
+    public BidAdjustments overriddenBy(BidAdjustments overrides) {
+        if (overrides.rules.isEmpty()) {
+            return this;
+        }
+        if (rules.isEmpty()) {
+            return overrides;
+        }
+
+        final Map<String, List<ExtRequestBidAdjustmentsRule>> mergedRules = new HashMap<>(rules);
+        mergedRules.putAll(overrides.rules);
+        return BidAdjustments.of(MapUtils.unmodifiableMap(mergedRules));
+    }
+
+    /**
+     * Returns the most accurate rules for given media type, bidder and deal id (wildcard, if null),
+     * or empty list if no rule matches.
+     */
+    public List<ExtRequestBidAdjustmentsRule> findRules(String mediaType, String bidder, String dealId) {
+        if (index.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String wildcard = BidAdjustmentsResolver.WILDCARD;
+        for (int combination : WILDCARD_COMBINATIONS) {
+            if (dealId == null && (combination & DEAL_WILDCARD) == 0) {
+                continue;
+            }
+
+            final List<ExtRequestBidAdjustmentsRule> found = lookup(
+                    (combination & MEDIA_TYPE_WILDCARD) != 0 ? wildcard : mediaType,
+                    (combination & BIDDER_WILDCARD) != 0 ? wildcard : bidder,
+                    (combination & DEAL_WILDCARD) != 0 ? wildcard : dealId);
+
+            if (found != null) {
+                return found;
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    private List<ExtRequestBidAdjustmentsRule> lookup(String mediaType, String bidder, String dealId) {
+        final Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>> bidders = index.get(mediaType);
+        final Map<String, List<ExtRequestBidAdjustmentsRule>> deals = bidders != null ? bidders.get(bidder) : null;
+        return deals != null ? deals.get(dealId) : null;
+    }
+
+    private static Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> index(
+            Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+
+        if (MapUtils.isEmpty(rules)) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> index = new HashMap<>();
+        for (Map.Entry<String, List<ExtRequestBidAdjustmentsRule>> entry : rules.entrySet()) {
+            final String[] conditions = StringUtils.splitPreserveAllTokens(
+                    entry.getKey(), BidAdjustmentsResolver.DELIMITER);
+
+            if (conditions.length == 3 && entry.getValue() != null) {
+                index.computeIfAbsent(conditions[0], key -> new HashMap<>())
+                        .computeIfAbsent(conditions[1], key -> new HashMap<>())
+                        .put(conditions[2], entry.getValue());
+            }
+        }
+
+        return index;
+    }
 }
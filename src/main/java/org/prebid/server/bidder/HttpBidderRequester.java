@@ -1,11 +1,19 @@
 package org.prebid.server.bidder;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.aliases.BidderAliases;
@@ -23,8 +31,10 @@ import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SerializationCache;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -36,7 +46,6 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -48,6 +57,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
 
@@ -71,6 +81,8 @@ public class HttpBidderRequester {
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
     private final double logSamplingRate;
+    private final Map<StoredBidsKey, List<BidderBid>> storedResponseToBids;
+    private final BlockingExecutor processingExecutor;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
@@ -79,12 +91,51 @@ public class HttpBidderRequester {
                                JacksonMapper mapper,
                                double logSamplingRate) {
 
+        this(httpClient, completionTrackerFactory, bidderErrorNotifier, requestEnricher, mapper, logSamplingRate, 0);
+    }
+
+    public HttpBidderRequester(HttpClient httpClient,
+                               BidderRequestCompletionTrackerFactory completionTrackerFactory,
+                               BidderErrorNotifier bidderErrorNotifier,
+                               HttpBidderRequestEnricher requestEnricher,
+                               JacksonMapper mapper,
+                               double logSamplingRate,
+                               int storedResponseBidsCacheSize) {
+
+        this(httpClient,
+                completionTrackerFactory,
+                bidderErrorNotifier,
+                requestEnricher,
+                mapper,
+                logSamplingRate,
+                storedResponseBidsCacheSize,
+                null);
+    }
+
+    /**
+     * Processing executor (if any) runs bidder request building and response decoding of bidder requests allowed
+     * to be processed in parallel, see {@link BidderRequest#isParallelProcessing()}.
+     */
+    public HttpBidderRequester(HttpClient httpClient,
+                               BidderRequestCompletionTrackerFactory completionTrackerFactory,
+                               BidderErrorNotifier bidderErrorNotifier,
+                               HttpBidderRequestEnricher requestEnricher,
+                               JacksonMapper mapper,
+                               double logSamplingRate,
+                               int storedResponseBidsCacheSize,
+                               BlockingExecutor processingExecutor) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
         this.mapper = Objects.requireNonNull(mapper);
         this.logSamplingRate = logSamplingRate;
+        this.storedResponseToBids = storedResponseBidsCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(storedResponseBidsCacheSize)
+                .<StoredBidsKey, List<BidderBid>>build().asMap()
+                : null;
+        this.processingExecutor = processingExecutor;
     }
 
     /**
@@ -100,8 +151,45 @@ public class HttpBidderRequester {
 
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final String storedResponse = bidderRequest.getStoredResponse();
+
+        // debug output needs bidder calls, so it is always built the regular way
+        final List<BidderBid> storedBids = debugEnabled
+                ? null
+                : cachedStoredBids(bidderName, storedResponse, bidRequest);
+        if (storedBids != null) {
+            bidRejectionTracker.restoreFromRejection(storedBids);
+            return Future.succeededFuture(BidderSeatBid.of(storedBids));
+        }
+
+        final boolean parallelProcessing = processingExecutor != null && bidderRequest.isParallelProcessing();
+        return process(parallelProcessing, () -> bidder.makeHttpRequests(bidRequest))
+                .compose(httpRequestsWithErrors -> requestBids(
+                        bidder,
+                        bidderRequest,
+                        httpRequestsWithErrors,
+                        bidRejectionTracker,
+                        timeout,
+                        requestHeaders,
+                        aliases,
+                        debugEnabled,
+                        parallelProcessing));
+    }
+
+    private <T> Future<BidderSeatBid> requestBids(Bidder<T> bidder,
+                                                  BidderRequest bidderRequest,
+                                                  Result<List<HttpRequest<T>>> httpRequestsWithErrors,
+                                                  BidRejectionTracker bidRejectionTracker,
+                                                  Timeout timeout,
+                                                  CaseInsensitiveMultiMap requestHeaders,
+                                                  BidderAliases aliases,
+                                                  boolean debugEnabled,
+                                                  boolean parallelProcessing) {
+
+        final String bidderName = bidderRequest.getBidder();
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final String storedResponse = bidderRequest.getStoredResponse();
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
         final List<BidderError> errors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = enrichRequests(
                 bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
@@ -112,10 +200,9 @@ public class HttpBidderRequester {
             return emptyBidderSeatBidWithErrors(errors);
         }
 
-        final String storedResponse = bidderRequest.getStoredResponse();
-
         // stored response available only for single request interaction for the moment.
-        final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
+        final boolean isStoredResponse = isStoredResponse(httpRequests, storedResponse, bidderName);
+        final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
                 : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
 
@@ -127,14 +214,78 @@ public class HttpBidderRequester {
         final List<Future<Void>> httpRequestFutures = httpCalls
                 .map(httpCallFuture -> httpCallFuture
                         .map(httpCall -> bidderErrorNotifier.processTimeout(httpCall, bidder))
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                        .compose(httpCall -> process(parallelProcessing, () -> makeBids(bidder, httpCall, bidRequest))
+                                .map(bidderResponse -> resultBuilder.addHttpCall(httpCall, bidderResponse))))
                 .toList();
 
         return Future.any(
                         Future.join(httpRequestFutures),
                         completionTracker.future())
                 .map(ignored -> resultBuilder.toBidderSeatBid(debugEnabled))
-                .onSuccess(seatBid -> bidRejectionTracker.restoreFromRejection(seatBid.getBids()));
+                .onSuccess(seatBid -> bidRejectionTracker.restoreFromRejection(seatBid.getBids()))
+                .onSuccess(seatBid -> cacheStoredBids(
+                        isStoredResponse, bidderName, storedResponse, bidRequest, seatBid));
+    }
+
+    /**
+     * Runs given bidder code on the processing executor, with the auction serialization cache (if any) carried over,
+     * or in place otherwise. Either way, the result is handled on the caller's Vert.x context, so the rest of
+     * the auction stays single-threaded.
+     */
+    private <R> Future<R> process(boolean parallelProcessing, Supplier<R> action) {
+        if (!parallelProcessing) {
+            return Future.succeededFuture(action.get());
+        }
+
+        final Supplier<R> boundAction = SerializationCache.bindCurrent(action);
+        return processingExecutor.execute(boundAction::get);
+    }
+
+    /**
+     * Returns copies of cached bids, since auction processing modifies bid extensions in place.
+     */
+    private List<BidderBid> cachedStoredBids(String bidder, String storedResponse, BidRequest bidRequest) {
+        final List<BidderBid> cachedBids = storedResponseToBids != null && StringUtils.isNotBlank(storedResponse)
+                ? storedResponseToBids.get(StoredBidsKey.of(bidder, storedResponse, bidRequest))
+                : null;
+
+        return cachedBids != null ? copyBids(cachedBids) : null;
+    }
+
+    /**
+     * Keeps bids made from stored response, so next auctions with the same stored response and bidder request skip
+     * bidder request building and response decoding. Bidders may make bids from request as well as from response,
+     * so request fields bids depend on are a part of the key, see {@link StoredBidsKey}. Seat bids with anything
+     * besides bids are not cached, since only bids would be restored from cache.
+     */
+    private void cacheStoredBids(boolean isStoredResponse,
+                                 String bidder,
+                                 String storedResponse,
+                                 BidRequest bidRequest,
+                                 BidderSeatBid seatBid) {
+
+        if (storedResponseToBids == null || !isStoredResponse
+                || CollectionUtils.isNotEmpty(seatBid.getErrors())
+                || CollectionUtils.isNotEmpty(seatBid.getWarnings())
+                || CollectionUtils.isNotEmpty(seatBid.getIgi())
+                || CollectionUtils.isNotEmpty(seatBid.getFledgeAuctionConfigs())) {
+
+            return;
+        }
+
+        storedResponseToBids.put(StoredBidsKey.of(bidder, storedResponse, bidRequest), copyBids(seatBid.getBids()));
+    }
+
+    private static List<BidderBid> copyBids(List<BidderBid> bidderBids) {
+        final List<BidderBid> copies = new ArrayList<>(bidderBids.size());
+        for (BidderBid bidderBid : bidderBids) {
+            final Bid bid = bidderBid.getBid();
+            final ObjectNode ext = bid.getExt();
+            copies.add(ext != null
+                    ? bidderBid.toBuilder().bid(bid.toBuilder().ext(ext.deepCopy()).build()).build()
+                    : bidderBid);
+        }
+        return copies;
     }
 
     private <T> List<HttpRequest<T>> enrichRequests(String bidderName,
@@ -212,7 +363,7 @@ public class HttpBidderRequester {
 
     private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
         final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+        final Buffer preparedBody = toBuffer(httpRequest.getBody(), requestHeaders);
 
         return httpClient.request(
                 httpRequest.getMethod(),
@@ -222,25 +373,33 @@ public class HttpBidderRequester {
                 remainingTimeout);
     }
 
-    private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
+    /**
+     * Wraps request body into {@link Buffer} sent to the bidder, compressing it if required.
+     * <p>
+     * Body is wrapped as is and compressed body is written right into the buffer, so no extra copies of the body
+     * are made on the way to the socket.
+     */
+    private static Buffer toBuffer(byte[] body, MultiMap headers) {
+        if (body == null) {
+            return null;
+        }
+
         final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
         return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
                 ? gzip(body)
-                : body;
+                : Buffer.buffer(Unpooled.wrappedBuffer(body));
     }
 
-    private static byte[] gzip(byte[] value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
+    private static Buffer gzip(byte[] value) {
+        final ByteBuf buffer = Unpooled.buffer(value.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(new ByteBufOutputStream(buffer))) {
             gzip.write(value);
             gzip.finish();
-
-            return obj.toByteArray();
         } catch (IOException e) {
             throw new PreBidException("Failed to compress request : " + e.getMessage());
         }
+
+        return Buffer.buffer(buffer);
     }
 
     /**
@@ -287,15 +446,6 @@ public class HttpBidderRequester {
         return null;
     }
 
-    private <T> Void processHttpCall(Bidder<T> bidder,
-                                     BidRequest bidRequest,
-                                     ResultBuilder<T> seatBidBuilder,
-                                     BidderCall<T> httpCall) {
-
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
-        return null;
-    }
-
     /**
      * Returns result based on response status code, list of {@link BidderBid}s and other data from bidder.
      */
@@ -362,13 +512,14 @@ public class HttpBidderRequester {
             this.mapper = mapper;
         }
 
-        void addHttpCall(BidderCall<T> bidderCall, CompositeBidderResponse bidderResponse) {
+        Void addHttpCall(BidderCall<T> bidderCall, CompositeBidderResponse bidderResponse) {
             bidderCallsRecorded.put(bidderCall.getRequest(), bidderCall);
             handleBids(bidderResponse);
             handleBidderErrors(bidderResponse);
             handleBidderCallError(bidderCall);
             handleIgis(bidderResponse);
             handleFledgeAuctionConfigs(bidderResponse);
+            return null;
         }
 
         private void handleBids(CompositeBidderResponse bidderResponse) {
@@ -456,9 +607,14 @@ public class HttpBidderRequester {
                     .errors(errors)
                     .igi(igiRecorded)
                     .fledgeAuctionConfigs(fledgeRecorded)
+                    .httpResponded(httpCalls.stream().anyMatch(ResultBuilder::isHttpResponse))
                     .build();
         }
 
+        private static boolean isHttpResponse(BidderCall<?> httpCall) {
+            return httpCall.getCallType() == BidderCallType.HTTP && httpCall.getResponse() != null;
+        }
+
         /**
          * Constructs {@link ExtHttpCall} filled with HTTP call information.
          */
@@ -516,4 +672,33 @@ public class HttpBidderRequester {
             // no need to process bids for no operation tracker
         }
     }
+
+    /**
+     * Keeps only request fields bidders make bids from (imp ids with their media types and request currencies),
+     * so auctions differing only in ids, tmax and other per-auction fields share the key, and the key doesn't
+     * hold the whole request in memory.
+     */
+    private record StoredBidsKey(String bidder, String storedResponse, List<StoredBidsImpKey> imps, List<String> cur) {
+
+        static StoredBidsKey of(String bidder, String storedResponse, BidRequest bidRequest) {
+            final List<Imp> imps = bidRequest.getImp();
+            return new StoredBidsKey(
+                    bidder,
+                    storedResponse,
+                    imps != null ? imps.stream().map(StoredBidsImpKey::of).toList() : null,
+                    bidRequest.getCur());
+        }
+    }
+
+    private record StoredBidsImpKey(String id, boolean banner, boolean video, boolean audio, boolean xNative) {
+
+        static StoredBidsImpKey of(Imp imp) {
+            return new StoredBidsImpKey(
+                    imp.getId(),
+                    imp.getBanner() != null,
+                    imp.getVideo() != null,
+                    imp.getAudio() != null,
+                    imp.getXNative() != null);
+        }
+    }
 }
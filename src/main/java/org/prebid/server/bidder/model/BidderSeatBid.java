@@ -61,6 +61,11 @@ public class BidderSeatBid {
     @Builder.Default
     List<ExtIgi> igi = Collections.emptyList();
 
+    /**
+     * Whether bidder answered at least one HTTP request, as opposed to stored responses or no request being made.
+     */
+    boolean httpResponded;
+
     public BidderSeatBid with(List<BidderBid> bids) {
         return toBuilder().bids(bids).build();
     }
@@ -0,0 +1,353 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.model.CacheWriteResult;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces cache writes of concurrent auctions into bulk requests to Prebid Cache.
+ * <p>
+ * Writes are queued for the batch window (or until the current event loop task completes, if the window is zero)
+ * and sent together, unless the queue reaches max batch size earlier. Each write times out at its own deadline, while
+ * batch request runs until the latest one, so a short auction timeout doesn't fail other writes of the batch.
+ * Number of writes in flight is limited per account. Writes which Prebid Cache failed to accept can be saved
+ * to {@link LocalCacheStore}, if configured, while writes rejected by the limit always fail.
+ */
+public class CacheWritePipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWritePipeline.class);
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String endpointUrl;
+    private final long batchWindowMs;
+    private final int maxBatchSize;
+    private final int accountMaxInFlight;
+    private final LocalCacheStore localCacheStore;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private final MultiMap cacheHeaders;
+    private final Map<String, Integer> accountToInFlight;
+
+    private List<PendingWrite> pendingWrites;
+    private int pendingPuts;
+    private boolean flushScheduled;
+
+    public CacheWritePipeline(Vertx vertx,
+                              HttpClient httpClient,
+                              URL endpointUrl,
+                              String apiKey,
+                              boolean isApiKeySecured,
+                              long batchWindowMs,
+                              int maxBatchSize,
+                              int accountMaxInFlight,
+                              LocalCacheStore localCacheStore,
+                              Metrics metrics,
+                              Clock clock,
+                              JacksonMapper mapper) {
+
+        if (batchWindowMs < 0) {
+            throw new IllegalArgumentException("Batch window can't be negative");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl).toString();
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.accountMaxInFlight = accountMaxInFlight;
+        this.localCacheStore = localCacheStore;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        cacheHeaders = isApiKeySecured
+                ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
+                : HttpUtil.headers();
+        accountToInFlight = new ConcurrentHashMap<>();
+
+        pendingWrites = new ArrayList<>();
+    }
+
+    /**
+     * Queues given puts for the next batch and returns {@link CacheObject}s for them in the same order.
+     */
+    public Future<BidCacheResponse> write(List<BidPutObject> bidPutObjects, String accountId, long timeout) {
+        return doWrite(bidPutObjects, accountId, timeout, false).map(CacheWriteResult::getResponse);
+    }
+
+    /**
+     * Same as {@link #write}, but saves puts to {@link LocalCacheStore} if Prebid Cache failed to accept them.
+     * Result holds local endpoint in this case, since returned {@link CacheObject}s are resolvable on this node only.
+     */
+    public Future<CacheWriteResult> writeWithLocalFallback(List<BidPutObject> bidPutObjects,
+                                                           String accountId,
+                                                           long timeout) {
+
+        return doWrite(bidPutObjects, accountId, timeout, localCacheStore != null);
+    }
+
+    private Future<CacheWriteResult> doWrite(List<BidPutObject> bidPutObjects,
+                                             String accountId,
+                                             long timeout,
+                                             boolean localFallback) {
+
+        if (bidPutObjects.isEmpty()) {
+            return Future.succeededFuture(CacheWriteResult.of(BidCacheResponse.of(Collections.emptyList()), null));
+        }
+        if (timeout <= 0) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        final String account = StringUtils.defaultString(accountId);
+        if (!acquire(account)) {
+            metrics.updateCacheInFlightLimitedMetric(account);
+            return Future.failedFuture(
+                    new PreBidException("Cache writes in flight limit exceeded for account: " + account));
+        }
+
+        final long now = clock.millis();
+        final Promise<BidCacheResponse> promise = Promise.promise();
+        final long timerId = vertx.setTimer(timeout, ignored ->
+                promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+        enqueue(new PendingWrite(bidPutObjects, now, now + timeout, Vertx.currentContext(), promise));
+
+        final Future<CacheWriteResult> result = promise.future()
+                .onComplete(ignored -> {
+                    vertx.cancelTimer(timerId);
+                    release(account);
+                })
+                .map(response -> CacheWriteResult.of(response, null));
+
+        return localFallback
+                ? result.recover(exception -> saveLocally(bidPutObjects, account, exception))
+                : result;
+    }
+
+    /**
+     * Account entries are updated atomically per key and removed once nothing is in flight for the account,
+     * so the map holds only accounts with pending writes.
+     */
+    private boolean acquire(String accountId) {
+        if (accountMaxInFlight <= 0) {
+            return true;
+        }
+
+        final AtomicBoolean acquired = new AtomicBoolean();
+        accountToInFlight.compute(accountId, (ignored, current) -> {
+            final int inFlight = current != null ? current : 0;
+            if (inFlight >= accountMaxInFlight) {
+                return current;
+            }
+
+            acquired.set(true);
+            return inFlight + 1;
+        });
+        return acquired.get();
+    }
+
+    private void release(String accountId) {
+        if (accountMaxInFlight > 0) {
+            accountToInFlight.computeIfPresent(accountId, (ignored, inFlight) -> inFlight > 1 ? inFlight - 1 : null);
+        }
+    }
+
+    int accountsInFlight() {
+        return accountToInFlight.size();
+    }
+
+    private Future<CacheWriteResult> saveLocally(List<BidPutObject> bidPutObjects,
+                                                 String accountId,
+                                                 Throwable exception) {
+
+        logger.warn("Saving cache puts locally, reason: {}", exception.getMessage());
+        metrics.updateCacheLocalFallbackMetric(accountId, bidPutObjects.size());
+
+        final BidCacheResponse response = BidCacheResponse.of(localCacheStore.save(bidPutObjects));
+        return Future.succeededFuture(CacheWriteResult.of(response, localCacheStore.getEndpoint()));
+    }
+
+    private void enqueue(PendingWrite pendingWrite) {
+        final List<PendingWrite> batch;
+        final boolean scheduleFlush;
+        synchronized (this) {
+            pendingWrites.add(pendingWrite);
+            pendingPuts += pendingWrite.bidPutObjects().size();
+
+            batch = pendingPuts >= maxBatchSize ? drain() : null;
+            scheduleFlush = batch == null && !flushScheduled;
+            flushScheduled |= scheduleFlush;
+        }
+
+        if (batch != null) {
+            send(batch);
+        } else if (scheduleFlush) {
+            if (batchWindowMs > 0) {
+                vertx.setTimer(batchWindowMs, ignored -> flush());
+            } else {
+                vertx.runOnContext(ignored -> flush());
+            }
+        }
+    }
+
+    private void flush() {
+        final List<PendingWrite> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<PendingWrite> drain() {
+        final List<PendingWrite> batch = pendingWrites;
+        pendingWrites = new ArrayList<>();
+        pendingPuts = 0;
+        flushScheduled = false;
+        return batch;
+    }
+
+    private void send(List<PendingWrite> batch) {
+        final long now = clock.millis();
+
+        final List<PendingWrite> liveWrites = new ArrayList<>(batch.size());
+        final List<BidPutObject> bidPutObjects = new ArrayList<>();
+        long deadline = 0L;
+        for (PendingWrite pendingWrite : batch) {
+            metrics.updateCacheQueueTime(now - pendingWrite.enqueuedAt());
+
+            if (pendingWrite.promise().future().isComplete()) {
+                continue;
+            }
+            if (pendingWrite.deadline() <= now) {
+                pendingWrite.complete(Future.failedFuture(new TimeoutException("Timeout has been exceeded")));
+                continue;
+            }
+
+            liveWrites.add(pendingWrite);
+            bidPutObjects.addAll(pendingWrite.bidPutObjects());
+            deadline = Math.max(deadline, pendingWrite.deadline());
+        }
+
+        if (liveWrites.isEmpty()) {
+            return;
+        }
+
+        metrics.updateCacheBatchSize(bidPutObjects.size());
+
+        final String body;
+        try {
+            body = mapper.encodeToString(BidCacheRequest.of(bidPutObjects));
+        } catch (EncodeException e) {
+            complete(liveWrites, Future.failedFuture(e));
+            return;
+        }
+
+        httpClient.post(endpointUrl, cacheHeaders, body, deadline - now)
+                .map(response -> toCacheObjects(response, bidPutObjects.size()))
+                .onComplete(result -> complete(liveWrites, result));
+    }
+
+    private List<CacheObject> toCacheObjects(HttpClientResponse response, int putCount) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != 200) {
+            throw new PreBidException("HTTP status code " + statusCode);
+        }
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = mapper.decodeValue(response.getBody(), BidCacheResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + response.getBody(), e);
+        }
+
+        final List<CacheObject> cacheObjects = bidCacheResponse.getResponses();
+        if (cacheObjects == null || cacheObjects.size() != putCount) {
+            throw new PreBidException("The number of response cache objects doesn't match with bids");
+        }
+
+        return cacheObjects;
+    }
+
+    private static void complete(List<PendingWrite> writes, AsyncResult<List<CacheObject>> result) {
+        if (result.failed()) {
+            for (PendingWrite write : writes) {
+                write.complete(Future.failedFuture(result.cause()));
+            }
+            return;
+        }
+
+        final List<CacheObject> cacheObjects = result.result();
+        int offset = 0;
+        for (PendingWrite write : writes) {
+            final int putCount = write.bidPutObjects().size();
+            final List<CacheObject> writeCacheObjects = cacheObjects.subList(offset, offset + putCount);
+            write.complete(Future.succeededFuture(BidCacheResponse.of(new ArrayList<>(writeCacheObjects))));
+            offset += putCount;
+        }
+    }
+
+    private record PendingWrite(List<BidPutObject> bidPutObjects,
+                                long enqueuedAt,
+                                long deadline,
+                                Context context,
+                                Promise<BidCacheResponse> promise) {
+
+        /**
+         * Completes write on the context it was issued from, so callers never continue on another event loop.
+         * Write could be already timed out by its own timer, the result is dropped then.
+         */
+        void complete(AsyncResult<BidCacheResponse> result) {
+            if (context == null) {
+                tryComplete(result);
+            } else {
+                context.runOnContext(ignored -> tryComplete(result));
+            }
+        }
+
+        private void tryComplete(AsyncResult<BidCacheResponse> result) {
+            if (result.succeeded()) {
+                promise.tryComplete(result.result());
+            } else {
+                promise.tryFail(result.cause());
+            }
+        }
+    }
+}
@@ -10,14 +10,17 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
+import org.prebid.server.cache.model.CacheEndpoint;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheHttpResponse;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
+import org.prebid.server.cache.model.CacheWriteResult;
 import org.prebid.server.cache.model.CachedCreative;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
@@ -77,6 +80,7 @@ public class CoreCacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final CacheWritePipeline cacheWritePipeline;
 
     private final MultiMap cacheHeaders;
     private final Map<String, List<String>> debugHeaders;
@@ -100,6 +104,41 @@ public class CoreCacheService {
             UUIDIdGenerator idGenerator,
             JacksonMapper mapper) {
 
+        this(
+                httpClient,
+                endpointUrl,
+                cachedAssetUrlTemplate,
+                expectedCacheTimeMs,
+                apiKey,
+                isApiKeySecured,
+                appendTraceInfoToCacheId,
+                datacenterRegion,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                mapper,
+                null);
+    }
+
+    public CoreCacheService(
+            HttpClient httpClient,
+            URL endpointUrl,
+            String cachedAssetUrlTemplate,
+            long expectedCacheTimeMs,
+            String apiKey,
+            boolean isApiKeySecured,
+            boolean appendTraceInfoToCacheId,
+            String datacenterRegion,
+            VastModifier vastModifier,
+            EventsService eventsService,
+            Metrics metrics,
+            Clock clock,
+            UUIDIdGenerator idGenerator,
+            JacksonMapper mapper,
+            CacheWritePipeline cacheWritePipeline) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
@@ -110,6 +149,7 @@ public class CoreCacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.cacheWritePipeline = cacheWritePipeline;
 
         cacheHeaders = isApiKeySecured
                 ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
@@ -178,6 +218,12 @@ public class CoreCacheService {
         }
 
         final long startTime = clock.millis();
+        if (cacheWritePipeline != null) {
+            return cacheWritePipeline.write(bidCacheRequest.getPuts(), accountId, remainingTimeout)
+                    .map(bidCacheResponse -> updateSuccessTime(bidCacheResponse, accountId, startTime))
+                    .recover(exception -> failResponse(exception, accountId, startTime));
+        }
+
         return httpClient.post(
                         endpointUrl.toString(),
                         cacheHeaders,
@@ -188,6 +234,11 @@ public class CoreCacheService {
                 .recover(exception -> failResponse(exception, accountId, startTime));
     }
 
+    private BidCacheResponse updateSuccessTime(BidCacheResponse bidCacheResponse, String accountId, long startTime) {
+        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+        return bidCacheResponse;
+    }
+
     private Future<BidCacheResponse> failResponse(Throwable exception, String accountId, long startTime) {
         metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
 
@@ -252,7 +303,8 @@ public class CoreCacheService {
                 ? getVideoCacheBids(bidsToCache)
                 : Collections.emptyList();
 
-        return doCacheOpenrtb(cacheBids, videoCacheBids, auctionContext, eventsContext);
+        return auctionContext.getStageTimings().measureAsync(AuctionStage.cache_write,
+                () -> doCacheOpenrtb(cacheBids, videoCacheBids, auctionContext, eventsContext));
     }
 
     private List<CacheBid> getCacheBids(List<BidInfo> bidInfos) {
@@ -313,6 +365,18 @@ public class CoreCacheService {
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
 
         final long startTime = clock.millis();
+        if (cacheWritePipeline != null) {
+            return cacheWritePipeline.writeWithLocalFallback(bidCacheRequest.getPuts(), accountId, remainingTimeout)
+                    .map(cacheWriteResult -> processPipelineResponseOpenrtb(cacheWriteResult,
+                            httpRequest,
+                            bids,
+                            videoBids,
+                            hbCacheId,
+                            accountId,
+                            startTime))
+                    .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
+        }
+
         return httpClient.post(url, cacheHeaders, body, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
@@ -346,7 +410,36 @@ public class CoreCacheService {
         }
 
         final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
-        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId, null));
+    }
+
+    /**
+     * Makes debug call out of the response for the own puts, since batched request is shared with other auctions.
+     * If puts were saved locally, Prebid Cache request is reported as failed and debug call holds no response.
+     */
+    private CacheServiceResult processPipelineResponseOpenrtb(CacheWriteResult cacheWriteResult,
+                                                              CacheHttpRequest httpRequest,
+                                                              List<CacheBid> bids,
+                                                              List<CacheBid> videoBids,
+                                                              String hbCacheId,
+                                                              String accountId,
+                                                              long startTime) {
+
+        final BidCacheResponse bidCacheResponse = cacheWriteResult.getResponse();
+        final CacheEndpoint localEndpoint = cacheWriteResult.getLocalEndpoint();
+
+        final CacheHttpResponse httpResponse;
+        if (localEndpoint != null) {
+            metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
+            httpResponse = null;
+        } else {
+            updateSuccessTime(bidCacheResponse, accountId, startTime);
+            httpResponse = CacheHttpResponse.of(200, mapper.encodeToString(bidCacheResponse));
+        }
+        final DebugHttpCall httpCall = makeDebugHttpCall(endpointUrl.toString(), httpRequest, httpResponse, startTime);
+
+        final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId, localEndpoint));
     }
 
     private CacheServiceResult failResponseOpenrtb(Throwable exception,
@@ -491,7 +584,8 @@ public class CoreCacheService {
     private static Map<Bid, CacheInfo> toResultMap(List<CacheBid> cacheBids,
                                                    List<CacheBid> cacheVideoBids,
                                                    List<String> uuids,
-                                                   String hbCacheId) {
+                                                   String hbCacheId,
+                                                   CacheEndpoint localEndpoint) {
 
         final Map<Bid, CacheInfo> result = new HashMap<>(uuids.size());
 
@@ -516,14 +610,14 @@ public class CoreCacheService {
                 final Integer videoTtl = indexOfVideoBid != -1 ? cacheVideoBids.get(indexOfVideoBid).getTtl() : null;
 
                 result.put(bid, CacheInfo.of(uuids.get(i), resolveVideoBidUuid(videoBidUuid, hbCacheId), ttl,
-                        videoTtl));
+                        videoTtl, localEndpoint));
             }
         } else {
             for (int i = 0; i < cacheVideoBids.size(); i++) {
                 final CacheBid cacheBid = cacheVideoBids.get(i);
                 final BidInfo bidInfo = cacheBid.getBidInfo();
                 result.put(bidInfo.getBid(), CacheInfo.of(null, resolveVideoBidUuid(uuids.get(i), hbCacheId), null,
-                        cacheBid.getTtl()));
+                        cacheBid.getTtl(), localEndpoint));
             }
         }
 
@@ -0,0 +1,61 @@
+package org.prebid.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.cache.model.CacheEndpoint;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.identity.UUIDIdGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process store keeping cache puts which couldn't be written to Prebid Cache.
+ * <p>
+ * Stored objects are served by this node only, from its {@link CacheEndpoint}, so they are resolvable as long as
+ * the client is routed back to it.
+ */
+public class LocalCacheStore {
+
+    private final CacheEndpoint endpoint;
+    private final UUIDIdGenerator idGenerator;
+
+    private final Cache<String, BidPutObject> cache;
+
+    public LocalCacheStore(CacheEndpoint endpoint, int ttlSeconds, long size, UUIDIdGenerator idGenerator) {
+        this.endpoint = Objects.requireNonNull(endpoint);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(size)
+                .build();
+    }
+
+    public CacheEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Saves given puts and returns {@link CacheObject}s in the same order, using put key as uuid if present.
+     */
+    public List<CacheObject> save(List<BidPutObject> bidPutObjects) {
+        final List<CacheObject> cacheObjects = new ArrayList<>(bidPutObjects.size());
+        for (BidPutObject bidPutObject : bidPutObjects) {
+            final String uuid = bidPutObject.getKey() != null ? bidPutObject.getKey() : idGenerator.generateId();
+            cache.put(uuid, bidPutObject);
+            cacheObjects.add(CacheObject.of(uuid));
+        }
+        return cacheObjects;
+    }
+
+    /**
+     * Returns previously saved put or null if it is missing or expired.
+     */
+    public BidPutObject get(String uuid) {
+        return cache.getIfPresent(uuid);
+    }
+}
@@ -0,0 +1,22 @@
+package org.prebid.server.cache.model;
+
+import lombok.Value;
+
+/**
+ * Location cached objects are served from, as it is exposed to clients in targeting keywords and cache assets.
+ */
+@Value(staticConstructor = "of")
+public class CacheEndpoint {
+
+    /**
+     * Host with optional port
+     */
+    String host;
+
+    String path;
+
+    /**
+     * URL of cached object without its ID at the end
+     */
+    String assetUrlTemplate;
+}
@@ -30,6 +30,15 @@ public class CacheInfo {
      */
     Integer videoTtl;
 
+    /**
+     * Endpoint serving cached objects if they were saved locally on this node, null for Prebid Cache
+     */
+    CacheEndpoint localEndpoint;
+
+    public static CacheInfo of(String cacheId, String videoCacheId, Integer ttl, Integer videoTtl) {
+        return of(cacheId, videoCacheId, ttl, videoTtl, null);
+    }
+
     public static CacheInfo empty() {
         return EMPTY;
     }
@@ -0,0 +1,15 @@
+package org.prebid.server.cache.model;
+
+import lombok.Value;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+
+@Value(staticConstructor = "of")
+public class CacheWriteResult {
+
+    BidCacheResponse response;
+
+    /**
+     * Endpoint serving written objects if they were saved locally instead of Prebid Cache, null otherwise
+     */
+    CacheEndpoint localEndpoint;
+}
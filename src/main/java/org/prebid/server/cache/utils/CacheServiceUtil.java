@@ -1,6 +1,7 @@
 package org.prebid.server.cache.utils;
 
 import io.vertx.core.MultiMap;
+import org.prebid.server.cache.model.CacheEndpoint;
 import org.prebid.server.util.HttpUtil;
 
 import java.net.MalformedURLException;
@@ -41,4 +42,19 @@ public class CacheServiceUtil {
         }
     }
 
+    public static CacheEndpoint getCacheEndpoint(String baseUrl, String path, String cacheQuery) {
+        try {
+            final URL endpointUrl = new URL(new URL(baseUrl), path);
+            final String host = endpointUrl.getHost();
+            final int port = endpointUrl.getPort();
+
+            return CacheEndpoint.of(
+                    port != -1 ? "%s:%d".formatted(host, port) : host,
+                    endpointUrl.getPath(),
+                    endpointUrl + "?" + cacheQuery);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Could not get cache endpoint for " + baseUrl, e);
+        }
+    }
+
 }
@@ -0,0 +1,8 @@
+package org.prebid.server.exception;
+
+public class MemoryBudgetExceededException extends RuntimeException {
+
+    public MemoryBudgetExceededException(String message) {
+        super(message);
+    }
+}
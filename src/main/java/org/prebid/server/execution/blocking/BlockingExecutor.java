@@ -0,0 +1,15 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs blocking code off the event loop.
+ * <p>
+ * The result is delivered on the Vert.x context of the caller, as {@link io.vertx.core.Vertx#executeBlocking} does.
+ */
+public interface BlockingExecutor {
+
+    <T> Future<T> execute(Callable<T> task);
+}
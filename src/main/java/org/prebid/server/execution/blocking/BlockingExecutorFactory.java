@@ -0,0 +1,55 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Vertx;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides {@link BlockingExecutor} per subsystem doing blocking work, e.g. file syncing or circuit breaker updates.
+ * <p>
+ * With virtual threads enabled, each subsystem gets its own concurrency limit, so a slow one can't starve the others.
+ * Otherwise, all subsystems share the Vert.x worker pool.
+ */
+public class BlockingExecutorFactory {
+
+    public static final String CIRCUIT_BREAKER = "circuit-breaker";
+    public static final String FILE_SYNCER = "file-syncer";
+    public static final String BIDDER_PROCESSING = "bidder-processing";
+
+    private final Vertx vertx;
+    private final int defaultMaxConcurrency;
+    private final Map<String, Integer> subsystemToMaxConcurrency;
+
+    private final ExecutorService virtualThreadExecutor;
+    private final BlockingExecutor workerPoolExecutor;
+    private final Map<String, BlockingExecutor> subsystemToExecutor;
+
+    public BlockingExecutorFactory(Vertx vertx,
+                                   boolean virtualThreadsEnabled,
+                                   int defaultMaxConcurrency,
+                                   Map<String, Integer> subsystemToMaxConcurrency) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.defaultMaxConcurrency = defaultMaxConcurrency;
+        this.subsystemToMaxConcurrency = Objects.requireNonNull(subsystemToMaxConcurrency);
+
+        virtualThreadExecutor = virtualThreadsEnabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        workerPoolExecutor = new WorkerPoolBlockingExecutor(vertx);
+        subsystemToExecutor = new ConcurrentHashMap<>();
+    }
+
+    public BlockingExecutor forSubsystem(String subsystem) {
+        return virtualThreadExecutor != null
+                ? subsystemToExecutor.computeIfAbsent(subsystem, this::createVirtualThreadExecutor)
+                : workerPoolExecutor;
+    }
+
+    private BlockingExecutor createVirtualThreadExecutor(String subsystem) {
+        final int maxConcurrency = subsystemToMaxConcurrency.getOrDefault(subsystem, defaultMaxConcurrency);
+        return new VirtualThreadBlockingExecutor(vertx, virtualThreadExecutor, maxConcurrency);
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link BlockingExecutor} running each task on its own virtual thread.
+ * <p>
+ * At most max concurrency tasks run at the same time, the rest wait for a permit parked on their virtual threads,
+ * so a burst of slow tasks doesn't occupy platform threads shared with other subsystems.
+ */
+public class VirtualThreadBlockingExecutor implements BlockingExecutor {
+
+    private final Vertx vertx;
+    private final Executor executor;
+    private final Semaphore permits;
+
+    public VirtualThreadBlockingExecutor(Vertx vertx, Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.executor = Objects.requireNonNull(executor);
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public <T> Future<T> execute(Callable<T> task) {
+        final Context context = vertx.getOrCreateContext();
+        final Promise<T> promise = Promise.promise();
+
+        executor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                context.runOnContext(ignored -> promise.fail(e));
+                return;
+            }
+
+            try {
+                final T result = task.call();
+                context.runOnContext(ignored -> promise.complete(result));
+            } catch (Throwable e) {
+                context.runOnContext(ignored -> promise.fail(e));
+            } finally {
+                permits.release();
+            }
+        });
+
+        return promise.future();
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+}
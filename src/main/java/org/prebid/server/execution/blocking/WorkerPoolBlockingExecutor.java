@@ -0,0 +1,24 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link BlockingExecutor} running tasks on the shared Vert.x worker pool.
+ */
+public class WorkerPoolBlockingExecutor implements BlockingExecutor {
+
+    private final Vertx vertx;
+
+    public WorkerPoolBlockingExecutor(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx);
+    }
+
+    @Override
+    public <T> Future<T> execute(Callable<T> task) {
+        return vertx.executeBlocking(task, false);
+    }
+}
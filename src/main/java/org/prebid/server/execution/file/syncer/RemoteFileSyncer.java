@@ -15,6 +15,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.file.FileUtil;
 import org.prebid.server.execution.retry.RetryPolicy;
@@ -39,6 +40,7 @@ public class RemoteFileSyncer {
     private final long updatePeriod;
     private final HttpClient httpClient;
     private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
     private final FileSystem fileSystem;
     private final RequestOptions getFileRequestOptions;
     private final RequestOptions isUpdateRequiredRequestOptions;
@@ -51,7 +53,8 @@ public class RemoteFileSyncer {
                             long timeout,
                             long updatePeriod,
                             HttpClient httpClient,
-                            Vertx vertx) {
+                            Vertx vertx,
+                            BlockingExecutor blockingExecutor) {
 
         this.processor = Objects.requireNonNull(processor);
         this.downloadUrl = HttpUtil.validateUrl(downloadUrl);
@@ -61,6 +64,7 @@ public class RemoteFileSyncer {
         this.updatePeriod = updatePeriod;
         this.httpClient = Objects.requireNonNull(httpClient);
         this.vertx = Objects.requireNonNull(vertx);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
         this.fileSystem = vertx.fileSystem();
 
         FileUtil.createAndCheckWritePermissionsFor(fileSystem, saveFilePath);
@@ -86,7 +90,7 @@ public class RemoteFileSyncer {
     }
 
     private Future<Void> processSavedFile() {
-        return vertx.executeBlocking(() -> processor.setDataPath(saveFilePath))
+        return blockingExecutor.execute(() -> processor.setDataPath(saveFilePath))
                 .compose(Function.identity())
                 .onFailure(error -> logger.error("Can't process saved file: " + saveFilePath))
                 .recover(ignored -> deleteFile(saveFilePath).mapEmpty())
@@ -0,0 +1,129 @@
+package org.prebid.server.execution.timeout;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Streaming latency distribution with bounded memory, answering quantile queries over recent observations.
+ * <p>
+ * Latencies are counted in buckets growing by 20%, from 1 ms to about a minute, so quantiles are estimated
+ * by the upper bound of their bucket, i.e. never underestimated by more than the bucket width. Observations
+ * are kept in two windows of configured length: the current one and the previous one, older ones are dropped.
+ * <p>
+ * Calls cut by timeout have no known latency, so they are counted apart from latency buckets: they take part
+ * in ranking of quantiles, but never contribute latency values to them.
+ */
+public class LatencySketch {
+
+    private static final double BUCKET_GROWTH = 1.2;
+    private static final long MAX_LATENCY = 60_000L;
+    private static final long[] BUCKET_UPPER_BOUNDS = bucketUpperBounds();
+
+    private final long windowMs;
+    private final Clock clock;
+
+    private volatile Window current;
+    private volatile Window previous;
+
+    public LatencySketch(long windowMs, Clock clock) {
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Window should be positive");
+        }
+
+        this.windowMs = windowMs;
+        this.clock = Objects.requireNonNull(clock);
+
+        current = new Window(clock.millis());
+        previous = new Window(current.start - windowMs);
+    }
+
+    public void record(long latencyMs) {
+        rotateIfNeeded(clock.millis()).counts.incrementAndGet(bucketIndex(latencyMs));
+    }
+
+    public void recordTimeout() {
+        rotateIfNeeded(clock.millis()).timeouts.incrementAndGet();
+    }
+
+    /**
+     * Returns estimated latency of given quantile, or -1 if there are less than minimum number of observations
+     * or the quantile falls among timed out calls, i.e. it is beyond any observed latency.
+     */
+    public long quantile(double quantile, long minSamples) {
+        final Window currentWindow = rotateIfNeeded(clock.millis());
+        final Window previousWindow = previous;
+
+        final long[] counts = new long[BUCKET_UPPER_BOUNDS.length];
+        long completed = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = currentWindow.counts.get(i) + previousWindow.counts.get(i);
+            completed += counts[i];
+        }
+
+        final long total = completed + currentWindow.timeouts.get() + previousWindow.timeouts.get();
+        if (total == 0 || total < minSamples) {
+            return -1;
+        }
+
+        final long rank = (long) Math.ceil(quantile * total);
+        if (rank > completed) {
+            return -1;
+        }
+
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return BUCKET_UPPER_BOUNDS[i];
+            }
+        }
+        return BUCKET_UPPER_BOUNDS[BUCKET_UPPER_BOUNDS.length - 1];
+    }
+
+    private Window rotateIfNeeded(long now) {
+        final Window currentWindow = current;
+        if (now - currentWindow.start < windowMs) {
+            return currentWindow;
+        }
+
+        synchronized (this) {
+            if (now - current.start >= windowMs) {
+                final boolean adjacent = now - current.start < 2 * windowMs;
+                previous = adjacent ? current : new Window(now - windowMs);
+                current = new Window(now);
+            }
+            return current;
+        }
+    }
+
+    private static int bucketIndex(long latencyMs) {
+        if (latencyMs <= 1) {
+            return 0;
+        }
+
+        final int index = (int) Math.ceil(Math.log(latencyMs) / Math.log(BUCKET_GROWTH));
+        return Math.min(index, BUCKET_UPPER_BOUNDS.length - 1);
+    }
+
+    private static long[] bucketUpperBounds() {
+        final int size = (int) Math.ceil(Math.log(MAX_LATENCY) / Math.log(BUCKET_GROWTH)) + 1;
+        final long[] upperBounds = new long[size];
+        for (int i = 0; i < size; i++) {
+            upperBounds[i] = (long) Math.ceil(Math.pow(BUCKET_GROWTH, i));
+        }
+        return upperBounds;
+    }
+
+    private static class Window {
+
+        private final long start;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_UPPER_BOUNDS.length);
+        private final AtomicLong timeouts = new AtomicLong();
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.prebid.server.geolocation;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.log.ConditionalLogger;
@@ -27,6 +28,7 @@ public class CircuitBreakerSecuredGeoLocationService implements GeoLocationServi
     private final CircuitBreaker breaker;
 
     public CircuitBreakerSecuredGeoLocationService(Vertx vertx,
+                                                   BlockingExecutor blockingExecutor,
                                                    GeoLocationService geoLocationService,
                                                    Metrics metrics,
                                                    int openingThreshold,
@@ -36,7 +38,7 @@ public class CircuitBreakerSecuredGeoLocationService implements GeoLocationServi
 
         this.geoLocationService = Objects.requireNonNull(geoLocationService);
 
-        breaker = new CircuitBreaker("geo_cb", Objects.requireNonNull(vertx),
+        breaker = new CircuitBreaker("geo_cb", Objects.requireNonNull(vertx), blockingExecutor,
                 openingThreshold, openingIntervalMs, closingIntervalMs, Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
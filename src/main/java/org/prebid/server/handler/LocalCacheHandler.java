@@ -0,0 +1,79 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.LocalCacheStore;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves cache puts saved to {@link LocalCacheStore} when Prebid Cache was unavailable.
+ */
+public class LocalCacheHandler implements ApplicationResource {
+
+    private static final String UUID_PARAMETER = "uuid";
+    private static final String APPLICATION_XML = "application/xml";
+
+    private final LocalCacheStore localCacheStore;
+    private final JacksonMapper mapper;
+
+    public LocalCacheHandler(LocalCacheStore localCacheStore, JacksonMapper mapper) {
+        this.localCacheStore = Objects.requireNonNull(localCacheStore);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public List<HttpEndpoint> endpoints() {
+        return Collections.singletonList(HttpEndpoint.of(HttpMethod.GET, Endpoint.cache.value()));
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAMETER);
+        if (StringUtils.isEmpty(uuid)) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, HttpHeaderValues.TEXT_PLAIN,
+                    "'%s' is required query parameter and can't be empty".formatted(UUID_PARAMETER));
+            return;
+        }
+
+        final BidPutObject bidPutObject = localCacheStore.get(uuid);
+        final JsonNode value = bidPutObject != null ? bidPutObject.getValue() : null;
+        if (value == null) {
+            respondWith(routingContext, HttpResponseStatus.NOT_FOUND, HttpHeaderValues.TEXT_PLAIN,
+                    "No content stored for uuid: " + uuid);
+            return;
+        }
+
+        if (Objects.equals(bidPutObject.getType(), CacheServiceUtil.XML_CREATIVE_TYPE)) {
+            respondWith(routingContext, HttpResponseStatus.OK, APPLICATION_XML, value.asText());
+        } else {
+            respondWith(routingContext, HttpResponseStatus.OK, HttpHeaderValues.APPLICATION_JSON,
+                    mapper.encodeToString(value));
+        }
+    }
+
+    private static void respondWith(RoutingContext routingContext,
+                                    HttpResponseStatus status,
+                                    CharSequence contentType,
+                                    String body) {
+
+        HttpUtil.executeSafely(routingContext, Endpoint.cache,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType)
+                        .setStatusCode(status.code())
+                        .end(body));
+    }
+}
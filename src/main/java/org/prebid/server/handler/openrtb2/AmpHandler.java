@@ -13,6 +13,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -23,6 +24,7 @@ import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.AnalyticsTagsEnricher;
+import org.prebid.server.auction.AuctionMemoryGuard;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.HookDebugInfoEnricher;
 import org.prebid.server.auction.HooksMetricsService;
@@ -35,10 +37,12 @@ import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.MemoryBudgetExceededException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.exitpoint.BufferExitpointPayload;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -84,6 +88,7 @@ public class AmpHandler implements ApplicationResource {
 
     private final AmpRequestFactory ampRequestFactory;
     private final ExchangeService exchangeService;
+    private final AuctionMemoryGuard auctionMemoryGuard;
     private final AnalyticsReporterDelegator analyticsDelegator;
     private final Metrics metrics;
     private final HooksMetricsService hooksMetricsService;
@@ -99,6 +104,7 @@ public class AmpHandler implements ApplicationResource {
 
     public AmpHandler(AmpRequestFactory ampRequestFactory,
                       ExchangeService exchangeService,
+                      AuctionMemoryGuard auctionMemoryGuard,
                       AnalyticsReporterDelegator analyticsDelegator,
                       Metrics metrics,
                       HooksMetricsService hooksMetricsService,
@@ -114,6 +120,7 @@ public class AmpHandler implements ApplicationResource {
 
         this.ampRequestFactory = Objects.requireNonNull(ampRequestFactory);
         this.exchangeService = Objects.requireNonNull(exchangeService);
+        this.auctionMemoryGuard = Objects.requireNonNull(auctionMemoryGuard);
         this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
         this.metrics = Objects.requireNonNull(metrics);
         this.hooksMetricsService = Objects.requireNonNull(hooksMetricsService);
@@ -147,6 +154,8 @@ public class AmpHandler implements ApplicationResource {
         ampRequestFactory.fromRequest(routingContext, startTime)
                 .map(context -> addToEvent(context, ampEventBuilder::auctionContext, context))
                 .map(this::updateAppAndNoCookieAndImpsMetrics)
+                .compose(auctionMemoryGuard::admit)
+                .map(context -> releaseMemoryOnEnd(context, routingContext))
                 .compose(exchangeService::holdAuction)
                 .map(context -> addContextAndBidResponseToEvent(context, ampEventBuilder, context))
                 .compose(context -> prepareSuccessfulResponse(context, routingContext, ampEventBuilder))
@@ -184,6 +193,13 @@ public class AmpHandler implements ApplicationResource {
         return context;
     }
 
+    private AuctionContext releaseMemoryOnEnd(AuctionContext context, RoutingContext routingContext) {
+        if (context.getMemoryReservation() != null) {
+            routingContext.addEndHandler(ignored -> auctionMemoryGuard.release(context));
+        }
+        return context;
+    }
+
     private Future<RawResponseContext> prepareSuccessfulResponse(AuctionContext auctionContext,
                                                                  RoutingContext routingContext,
                                                                  AmpEvent.AmpEventBuilder ampEventBuilder) {
@@ -195,7 +211,7 @@ public class AmpHandler implements ApplicationResource {
         return prepareAmpResponse(auctionContext, routingContext)
                 .map(result -> addToEvent(result.getLeft().getTargeting(), ampEventBuilder::targeting, result))
                 .map(result -> RawResponseContext.builder()
-                        .responseBody(mapper.encodeToString(result.getLeft()))
+                        .responseBody(mapper.encodeToBuffer(result.getLeft()))
                         .responseHeaders(responseHeaders)
                         .auctionContext(auctionContext)
                         .build());
@@ -215,7 +231,7 @@ public class AmpHandler implements ApplicationResource {
                         .map(context -> RawResponseContext.builder()
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
-                                .responseBody(payload.responseBody())
+                                .responseBody(BufferExitpointPayload.responseBodyBuffer(payload))
                                 .build()));
     }
 
@@ -336,7 +352,7 @@ public class AmpHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final String origin = originFrom(routingContext);
         ampEventBuilder.origin(origin);
@@ -373,7 +389,7 @@ public class AmpHandler implements ApplicationResource {
                         100);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -382,7 +398,7 @@ public class AmpHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -393,7 +409,7 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -401,7 +417,15 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = "Invalid account configuration: " + message;
+                body = Buffer.buffer("Invalid account configuration: " + message);
+            } else if (exception instanceof MemoryBudgetExceededException) {
+                metricRequestStatus = MetricName.shed;
+                final String message = exception.getMessage();
+                conditionalLogger.warn(message, logSamplingRate);
+
+                errorMessages = Collections.singletonList(message);
+                status = HttpResponseStatus.SERVICE_UNAVAILABLE;
+                body = Buffer.buffer(message);
             } else {
                 final String message = exception.getMessage();
 
@@ -410,7 +434,7 @@ public class AmpHandler implements ApplicationResource {
                 logger.error("Critical error while running the auction", exception);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -440,7 +464,7 @@ public class AmpHandler implements ApplicationResource {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             Buffer body,
                              long startTime,
                              MetricName metricRequestStatus,
                              AmpEvent event,
@@ -7,12 +7,14 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AnalyticsTagsEnricher;
+import org.prebid.server.auction.AuctionMemoryGuard;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.HookDebugInfoEnricher;
 import org.prebid.server.auction.HooksMetricsService;
@@ -24,9 +26,11 @@ import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.MemoryBudgetExceededException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.exitpoint.BufferExitpointPayload;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -57,6 +61,7 @@ public class AuctionHandler implements ApplicationResource {
     private final double logSamplingRate;
     private final AuctionRequestFactory auctionRequestFactory;
     private final ExchangeService exchangeService;
+    private final AuctionMemoryGuard auctionMemoryGuard;
     private final SkippedAuctionService skippedAuctionService;
     private final AnalyticsReporterDelegator analyticsDelegator;
     private final Metrics metrics;
@@ -70,6 +75,7 @@ public class AuctionHandler implements ApplicationResource {
     public AuctionHandler(double logSamplingRate,
                           AuctionRequestFactory auctionRequestFactory,
                           ExchangeService exchangeService,
+                          AuctionMemoryGuard auctionMemoryGuard,
                           SkippedAuctionService skippedAuctionService,
                           AnalyticsReporterDelegator analyticsDelegator,
                           Metrics metrics,
@@ -83,6 +89,7 @@ public class AuctionHandler implements ApplicationResource {
         this.logSamplingRate = logSamplingRate;
         this.auctionRequestFactory = Objects.requireNonNull(auctionRequestFactory);
         this.exchangeService = Objects.requireNonNull(exchangeService);
+        this.auctionMemoryGuard = Objects.requireNonNull(auctionMemoryGuard);
         this.skippedAuctionService = Objects.requireNonNull(skippedAuctionService);
         this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
         this.metrics = Objects.requireNonNull(metrics);
@@ -112,7 +119,7 @@ public class AuctionHandler implements ApplicationResource {
 
         auctionRequestFactory.parseRequest(routingContext, startTime)
                 .compose(auctionContext -> skippedAuctionService.skipAuction(auctionContext)
-                        .recover(throwable -> holdAuction(auctionEventBuilder, auctionContext)))
+                        .recover(throwable -> holdAuction(auctionEventBuilder, auctionContext, routingContext)))
                 .map(context -> addContextAndBidResponseToEvent(context, auctionEventBuilder, context))
                 .map(context -> prepareSuccessfulResponse(context, routingContext))
                 .compose(this::invokeExitpointHooks)
@@ -131,15 +138,25 @@ public class AuctionHandler implements ApplicationResource {
     }
 
     private Future<AuctionContext> holdAuction(AuctionEvent.AuctionEventBuilder auctionEventBuilder,
-                                               AuctionContext auctionContext) {
+                                               AuctionContext auctionContext,
+                                               RoutingContext routingContext) {
 
         return auctionRequestFactory.enrichAuctionContext(auctionContext)
                 .map(this::updateAppAndNoCookieAndImpsMetrics)
                 // In case of holdAuction Exception and auctionContext is not present below
                 .map(context -> addToEvent(context, auctionEventBuilder::auctionContext, context))
+                .compose(auctionMemoryGuard::admit)
+                .map(context -> releaseMemoryOnEnd(context, routingContext))
                 .compose(exchangeService::holdAuction);
     }
 
+    private AuctionContext releaseMemoryOnEnd(AuctionContext context, RoutingContext routingContext) {
+        if (context.getMemoryReservation() != null) {
+            routingContext.addEndHandler(ignored -> auctionMemoryGuard.release(context));
+        }
+        return context;
+    }
+
     private static <T, R> R addToEvent(T field, Consumer<T> consumer, R result) {
         consumer.accept(field);
         return result;
@@ -167,7 +184,7 @@ public class AuctionHandler implements ApplicationResource {
                 .add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
 
         return RawResponseContext.builder()
-                .responseBody(mapper.encodeToString(auctionContext.getBidResponse()))
+                .responseBody(mapper.encodeToBuffer(auctionContext.getBidResponse()))
                 .responseHeaders(responseHeaders)
                 .auctionContext(auctionContext)
                 .build();
@@ -194,7 +211,7 @@ public class AuctionHandler implements ApplicationResource {
                         .map(context -> RawResponseContext.builder()
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
-                                .responseBody(payload.responseBody())
+                                .responseBody(BufferExitpointPayload.responseBodyBuffer(payload))
                                 .build()));
     }
 
@@ -217,7 +234,7 @@ public class AuctionHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final HttpServerResponse response = routingContext.response();
         final MultiMap responseHeaders = response.headers();
@@ -248,7 +265,7 @@ public class AuctionHandler implements ApplicationResource {
                 conditionalLogger.info("%s, Referer: %s".formatted(message, referer), logSamplingRate);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -257,7 +274,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 status = HttpResponseStatus.UNAUTHORIZED;
 
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -268,7 +285,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -276,7 +293,15 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
+            } else if (exception instanceof MemoryBudgetExceededException) {
+                metricRequestStatus = MetricName.shed;
+                final String message = exception.getMessage();
+                conditionalLogger.warn(message, logSamplingRate);
+
+                errorMessages = Collections.singletonList(message);
+                status = HttpResponseStatus.SERVICE_UNAVAILABLE;
+                body = Buffer.buffer(message);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -285,7 +310,7 @@ public class AuctionHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -310,7 +335,7 @@ public class AuctionHandler implements ApplicationResource {
 
     private boolean respondWith(RoutingContext routingContext,
                                 HttpResponseStatus status,
-                                String body,
+                                Buffer body,
                                 MetricName requestType) {
 
         return HttpUtil.executeSafely(
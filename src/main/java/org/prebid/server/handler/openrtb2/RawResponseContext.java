@@ -1,6 +1,7 @@
 package org.prebid.server.handler.openrtb2;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import lombok.Builder;
 import lombok.Value;
 import org.prebid.server.auction.model.AuctionContext;
@@ -11,7 +12,7 @@ public class RawResponseContext {
 
     AuctionContext auctionContext;
 
-    String responseBody;
+    Buffer responseBody;
 
     MultiMap responseHeaders;
 }
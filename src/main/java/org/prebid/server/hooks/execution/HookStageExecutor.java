@@ -7,6 +7,7 @@ import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -40,7 +41,7 @@ import org.prebid.server.hooks.execution.v1.bidder.BidderInvocationContextImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
 import org.prebid.server.hooks.execution.v1.entrypoint.EntrypointPayloadImpl;
-import org.prebid.server.hooks.execution.v1.exitpoint.ExitpointPayloadImpl;
+import org.prebid.server.hooks.execution.v1.exitpoint.BufferExitpointPayload;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
@@ -324,7 +325,7 @@ public class HookStageExecutor {
     }
 
     public Future<HookStageExecutionResult<ExitpointPayload>> executeExitpointStage(MultiMap responseHeaders,
-                                                                                    String responseBody,
+                                                                                    Buffer responseBody,
                                                                                     AuctionContext auctionContext) {
 
         final Account account = ObjectUtils.defaultIfNull(auctionContext.getAccount(), EMPTY_ACCOUNT);
@@ -333,7 +334,7 @@ public class HookStageExecutor {
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.EXITPOINT, ENTITY_HTTP_RESPONSE, context, account, endpoint)
-                .withInitialPayload(ExitpointPayloadImpl.of(responseHeaders, responseBody))
+                .withInitialPayload(BufferExitpointPayload.of(responseHeaders, responseBody))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
                 .execute();
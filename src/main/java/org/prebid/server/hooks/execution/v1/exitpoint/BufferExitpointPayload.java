@@ -0,0 +1,55 @@
+package org.prebid.server.hooks.execution.v1.exitpoint;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link ExitpointPayload} holding response body as encoded {@link Buffer}.
+ * <p>
+ * Body is decoded into {@link String} only if some hook asks for it, so the buffer can be written to the response
+ * as is when exitpoint hooks don't touch the body.
+ */
+public class BufferExitpointPayload implements ExitpointPayload {
+
+    private final MultiMap responseHeaders;
+    private final Buffer responseBodyBuffer;
+    private String responseBody;
+
+    private BufferExitpointPayload(MultiMap responseHeaders, Buffer responseBodyBuffer) {
+        this.responseHeaders = responseHeaders;
+        this.responseBodyBuffer = Objects.requireNonNull(responseBodyBuffer);
+    }
+
+    public static BufferExitpointPayload of(MultiMap responseHeaders, Buffer responseBody) {
+        return new BufferExitpointPayload(responseHeaders, responseBody);
+    }
+
+    /**
+     * Returns body of the given payload as {@link Buffer}, encoding it only if it was replaced by a hook.
+     */
+    public static Buffer responseBodyBuffer(ExitpointPayload payload) {
+        if (payload instanceof BufferExitpointPayload bufferPayload) {
+            return bufferPayload.responseBodyBuffer;
+        }
+
+        final String responseBody = payload.responseBody();
+        return responseBody != null ? Buffer.buffer(responseBody) : Buffer.buffer();
+    }
+
+    @Override
+    public MultiMap responseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public String responseBody() {
+        if (responseBody == null) {
+            responseBody = responseBodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return responseBody;
+    }
+}
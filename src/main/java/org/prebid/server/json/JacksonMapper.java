@@ -3,12 +3,16 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 public class JacksonMapper {
@@ -26,7 +30,10 @@ public class JacksonMapper {
 
     public <T> String encodeToString(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsString(obj);
+            final SerializationCache cache = SerializationCache.current();
+            return cache != null
+                    ? mapper.writer().withAttribute(SerializationCache.class, cache).writeValueAsString(obj)
+                    : mapper.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
         }
@@ -34,12 +41,34 @@ public class JacksonMapper {
 
     public <T> byte[] encodeToBytes(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsBytes(obj);
+            final SerializationCache cache = SerializationCache.current();
+            return cache != null
+                    ? mapper.writer().withAttribute(SerializationCache.class, cache).writeValueAsBytes(obj)
+                    : mapper.writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
         }
     }
 
+    /**
+     * Encodes object as JSON right into the UTF-8 bytes of {@link Buffer}, which can be written to the response
+     * as is, without intermediate {@link String}.
+     */
+    public <T> Buffer encodeToBuffer(T obj) throws EncodeException {
+        final ByteBuf byteBuf = Unpooled.buffer();
+        try (OutputStream outputStream = new ByteBufOutputStream(byteBuf)) {
+            final SerializationCache cache = SerializationCache.current();
+            if (cache != null) {
+                mapper.writer().withAttribute(SerializationCache.class, cache).writeValue(outputStream, obj);
+            } else {
+                mapper.writeValue(outputStream, obj);
+            }
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as buffer: " + e.getMessage());
+        }
+        return Buffer.buffer(byteBuf);
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -2,32 +2,45 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.fge.jsonpatch.JsonPatchException;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.merge.JsonMergePatch;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 public class JsonMerger {
 
     private final JacksonMapper mapper;
+    private final Map<String, JsonNode> storedDataToTree;
 
     public JsonMerger(JacksonMapper mapper) {
+        this(mapper, 0);
+    }
+
+    public JsonMerger(JacksonMapper mapper, int storedDataTreeCacheSize) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.storedDataToTree = storedDataTreeCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(storedDataTreeCacheSize).<String, JsonNode>build().asMap()
+                : null;
     }
 
     /**
      * Merges passed object with json retrieved from stored data map by id
      * and cast it to appropriate class. In case of any exception during merging, throws {@link InvalidRequestException}
      * with reason message.
+     * <p>
+     * Parsed stored data is cached (when enabled) and shared between requests, so it is never modified:
+     * merge patch is applied to the deep copy of it.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
-            storedRequestJsonNode = mapper.mapper().readTree(storedData);
+            storedRequestJsonNode = readStoredData(storedData);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
         }
@@ -50,17 +63,7 @@ public class JsonMerger {
             return ObjectUtils.defaultIfNull(originalObject, mergingObject);
         }
 
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
-        final JsonNode mergingObjectJsonNode = mapper.mapper().valueToTree(mergingObject);
-        try {
-            final JsonNode mergedNode = JsonMergePatch.fromJson(originJsonNode).apply(mergingObjectJsonNode);
-            return mapper.mapper().treeToValue(mergedNode, classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(
-                    "Couldn't create merge patch for objects with class " + classToCast.getName());
-        } catch (JsonProcessingException e) {
-            throw new InvalidRequestException("Can't convert merging result class " + classToCast.getName());
-        }
+        return mergeWithTree(originalObject, mapper.mapper().valueToTree(mergingObject), classToCast);
     }
 
     /**
@@ -75,4 +78,36 @@ public class JsonMerger {
             throw new InvalidRequestException("Couldn't create merge patch for json nodes");
         }
     }
+
+    /**
+     * Merges passed object with already prepared json node, e.g. one converted from constant default object once,
+     * and cast it to appropriate class. The node itself is left unchanged.
+     */
+    public <T> T mergeWithTree(T originalObject, JsonNode mergingObjectJsonNode, Class<T> classToCast) {
+        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
+        try {
+            final JsonNode mergedNode = JsonMergePatch.fromJson(originJsonNode).apply(mergingObjectJsonNode);
+            return mapper.mapper().treeToValue(mergedNode, classToCast);
+        } catch (JsonPatchException e) {
+            throw new InvalidRequestException(
+                    "Couldn't create merge patch for objects with class " + classToCast.getName());
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Can't convert merging result class " + classToCast.getName());
+        }
+    }
+
+    private JsonNode readStoredData(String storedData) throws IOException {
+        if (storedDataToTree == null || storedData == null) {
+            return mapper.mapper().readTree(storedData);
+        }
+
+        final JsonNode cached = storedDataToTree.get(storedData);
+        if (cached != null) {
+            return cached;
+        }
+
+        final JsonNode storedDataTree = mapper.mapper().readTree(storedData);
+        storedDataToTree.put(storedData, storedDataTree);
+        return storedDataTree;
+    }
 }
@@ -0,0 +1,80 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Auction-scoped cache of already encoded request sections.
+ * <p>
+ * Bidder requests of the same auction share a lot of sub-objects by reference (device, user eids, regs, etc.).
+ * While the cache is active for the current thread, {@link JacksonMapper} passes it to the serializers registered by
+ * {@link SerializationCacheModule}, so each shared instance is encoded once and its bytes are spliced into
+ * every payload it appears in.
+ * <p>
+ * Cached entries are looked up by identity. Sections are immutable POJOs, but their ext nodes are not and could
+ * be changed in place (e.g. by bidder adapters) after the section was encoded, so sections holding any ext node
+ * are never reused: they are remembered as {@link #MUTABLE} and encoded on every write.
+ * <p>
+ * The cache may be used by several threads at once, see {@link #bindCurrent(Supplier)}.
+ */
+public class SerializationCache {
+
+    /**
+     * Marker of the section which can't be reused, since it holds mutable nodes.
+     */
+    static final SerializableString MUTABLE = new SerializedString("");
+
+    private static final ThreadLocal<SerializationCache> CURRENT = new ThreadLocal<>();
+
+    private final Map<Object, SerializableString> valueToEncoded = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Runs given action with this cache being available for encoding on the current thread.
+     */
+    public <T> T within(Supplier<T> action) {
+        final SerializationCache previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns given action bound to the cache active for the current thread (if any), so it could be run on
+     * another thread with the same cache.
+     */
+    public static <T> Supplier<T> bindCurrent(Supplier<T> action) {
+        final SerializationCache cache = current();
+        return cache != null ? () -> cache.within(action) : action;
+    }
+
+    static SerializationCache current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns encoded section, {@link #MUTABLE} if the section can't be reused or null if it wasn't encoded yet.
+     */
+    SerializableString get(Object value) {
+        return valueToEncoded.get(value);
+    }
+
+    void put(Object value, SerializableString encoded) {
+        valueToEncoded.put(value, encoded);
+    }
+
+    public int size() {
+        return valueToEncoded.size();
+    }
+}
@@ -0,0 +1,250 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Content;
+import com.iab.openrtb.request.Data;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Eid;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
+import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+
+/**
+ * Wraps serializers of request sections that are commonly shared between bidder requests,
+ * so they could be taken from {@link SerializationCache} when it is passed as serialization attribute.
+ */
+class SerializationCacheModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_SECTIONS = Set.of(
+            Device.class,
+            User.class,
+            Eid.class,
+            Data.class,
+            Site.class,
+            App.class,
+            Dooh.class,
+            Content.class,
+            Regs.class,
+            Source.class);
+
+    SerializationCacheModule() {
+        setSerializerModifier(new SharedSectionSerializerModifier());
+    }
+
+    private static class SharedSectionSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                  BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+
+            return SHARED_SECTIONS.contains(beanDesc.getBeanClass())
+                    ? new SharedSectionSerializer((JsonSerializer<Object>) serializer)
+                    : serializer;
+        }
+    }
+
+    private static class SharedSectionSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        SharedSectionSerializer(JsonSerializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final Object cache = provider.getAttribute(SerializationCache.class);
+            if (!(cache instanceof SerializationCache serializationCache)) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            final SerializableString cached = serializationCache.get(value);
+            if (cached == SerializationCache.MUTABLE) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+            if (cached != null) {
+                generator.writeRawValue(cached);
+                return;
+            }
+
+            final SectionGenerator sectionGenerator = encode(value, generator, provider);
+            final SerializableString encoded = new SerializedString(sectionGenerator.encoded());
+            if (sectionGenerator.isMutable()) {
+                serializationCache.put(value, SerializationCache.MUTABLE);
+                if (generator instanceof SectionGenerator enclosingGenerator) {
+                    enclosingGenerator.markMutable();
+                }
+            } else {
+                serializationCache.put(value, encoded);
+            }
+            generator.writeRawValue(encoded);
+        }
+
+        private SectionGenerator encode(Object value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            final ObjectCodec codec = generator.getCodec();
+            final JsonFactory factory = codec != null ? codec.getFactory() : new JsonFactory();
+            final StringWriter writer = new StringWriter();
+            final SectionGenerator sectionGenerator = new SectionGenerator(factory.createGenerator(writer), writer);
+            try (sectionGenerator) {
+                sectionGenerator.overrideStdFeatures(generator.getFeatureMask(), ~0);
+                delegate.serialize(value, sectionGenerator, provider);
+            }
+            return sectionGenerator;
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            if (!(delegate instanceof ContextualSerializer contextualSerializer)) {
+                return this;
+            }
+
+            final JsonSerializer<?> contextual = contextualSerializer.createContextual(provider, property);
+            return contextual == delegate ? this : wrap(contextual);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static JsonSerializer<?> wrap(JsonSerializer<?> serializer) {
+            return new SharedSectionSerializer((JsonSerializer<Object>) serializer);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+                resolvableSerializer.resolve(provider);
+            }
+        }
+
+        @Override
+        public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+            return delegate.unwrappingSerializer(unwrapper);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public boolean usesObjectId() {
+            return delegate.usesObjectId();
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public JsonSerializer<?> getDelegatee() {
+            return delegate;
+        }
+
+        @Override
+        public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type)
+                throws JsonMappingException {
+
+            delegate.acceptJsonFormatVisitor(visitor, type);
+        }
+    }
+
+    /**
+     * Encodes a section and tracks whether it holds any mutable node: JSON container or {@link FlexibleExtension}.
+     * Nested sections are written through the same generator, so they are tracked as well.
+     */
+    private static class SectionGenerator extends JsonGeneratorDelegate {
+
+        private final StringWriter writer;
+        private boolean mutable;
+
+        SectionGenerator(JsonGenerator delegate, StringWriter writer) {
+            super(delegate, false);
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeStartObject(Object forValue) throws IOException {
+            track(forValue);
+            super.writeStartObject(forValue);
+        }
+
+        @Override
+        public void writeStartObject(Object forValue, int size) throws IOException {
+            track(forValue);
+            super.writeStartObject(forValue, size);
+        }
+
+        @Override
+        public void writeStartArray(Object forValue) throws IOException {
+            track(forValue);
+            super.writeStartArray(forValue);
+        }
+
+        @Override
+        public void writeStartArray(Object forValue, int size) throws IOException {
+            track(forValue);
+            super.writeStartArray(forValue, size);
+        }
+
+        private void track(Object value) {
+            mutable |= value instanceof ContainerNode || value instanceof FlexibleExtension;
+        }
+
+        void markMutable() {
+            mutable = true;
+        }
+
+        boolean isMutable() {
+            return mutable;
+        }
+
+        String encoded() {
+            return writer.toString();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.auction.model.AuctionStage;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auction stage timers support.
+ * <p>
+ * Metric names are prepared upfront, so updating a timer doesn't build strings.
+ */
+class AuctionStageMetrics {
+
+    private final MetricRegistry metricRegistry;
+    private final String[] stageMetricNames;
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, String prefix) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+        Objects.requireNonNull(prefix);
+
+        stageMetricNames = Arrays.stream(AuctionStage.values())
+                .map(stage -> "%s.%s".formatted(prefix, stage))
+                .toArray(String[]::new);
+    }
+
+    void updateTimer(AuctionStage stage, long nanos) {
+        metricRegistry.timer(stageMetricNames[stage.ordinal()]).update(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Auction memory guard metrics support.
+ */
+class MemoryGuardMetrics extends UpdatableMetrics {
+
+    MemoryGuardMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "memory_guard." + metricName);
+    }
+}
@@ -121,15 +121,38 @@ public enum MetricName {
     json,
     xml,
 
+    // cache write pipeline
+    batch_size,
+    queue_time,
+    in_flight_limited,
+    local_fallback,
+
     // account.*.requests.
     rejected_by_invalid_account("rejected.invalid-account"),
     rejected_by_invalid_stored_impr("rejected.invalid-stored-impr"),
     rejected_by_invalid_stored_request("rejected.invalid-stored-request"),
     rejected_by_account_fetch_failed("rejected.account-fetch-failed"),
+    rejected_by_memory_budget("rejected.memory-budget"),
 
     // currency rates
     stale,
 
+    // memory guard
+    admitted,
+    debug_disabled("debug-disabled"),
+    bidders_capped("bidders-capped"),
+    shed,
+    in_flight_bytes("in-flight-bytes"),
+
+    // startup
+    context,
+    initialization,
+    verticles,
+    total,
+
+    // prometheus
+    rejected_series("rejected-series"),
+
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
@@ -138,6 +161,9 @@ public enum MetricName {
     update,
     hit,
     miss,
+    snapshot_version("snapshot-version"),
+    snapshot_items("snapshot-items"),
+    compaction,
 
     // hooks
     call,
@@ -2,14 +2,18 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 import com.iab.openrtb.request.Imp;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountMetricsConfig;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,6 +33,9 @@ import java.util.stream.Collectors;
 public class Metrics extends UpdatableMetrics {
 
     private static final String ALL_REQUEST_BIDDERS = "all";
+    private static final String AUCTION_STAGE_PREFIX = "auction_stage";
+    private static final String DEFAULT_ACCOUNT_TIER = "default";
+    private static final AuctionStage[] AUCTION_STAGES = AuctionStage.values();
 
     private final AccountMetricsVerbosityResolver accountMetricsVerbosityResolver;
     private final Function<MetricName, RequestStatusMetrics> requestMetricsCreator;
@@ -39,6 +46,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, AuctionStageMetrics> auctionStageTierMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -57,6 +65,11 @@ public class Metrics extends UpdatableMetrics {
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
+    private final MemoryGuardMetrics memoryGuardMetrics;
+    private final StartupMetrics startupMetrics;
+    private final PrometheusMetrics prometheusMetrics;
+    private final AuctionStageMetrics auctionStageMetrics;
+    private final Map<String, AuctionStageMetrics> auctionStageTierMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
 
@@ -79,6 +92,8 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        auctionStageTierMetricsCreator = tier -> new AuctionStageMetrics(
+                metricRegistry, "%s.tier.%s".formatted(AUCTION_STAGE_PREFIX, tier));
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
@@ -95,6 +110,11 @@ public class Metrics extends UpdatableMetrics {
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
+        memoryGuardMetrics = new MemoryGuardMetrics(metricRegistry, counterType);
+        startupMetrics = new StartupMetrics(metricRegistry, counterType);
+        prometheusMetrics = new PrometheusMetrics(metricRegistry, counterType);
+        auctionStageMetrics = new AuctionStageMetrics(metricRegistry, AUCTION_STAGE_PREFIX);
+        auctionStageTierMetrics = new HashMap<>();
         settingsCacheMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
     }
@@ -159,6 +179,22 @@ public class Metrics extends UpdatableMetrics {
         return currencyRatesMetrics;
     }
 
+    MemoryGuardMetrics memoryGuard() {
+        return memoryGuardMetrics;
+    }
+
+    StartupMetrics startup() {
+        return startupMetrics;
+    }
+
+    PrometheusMetrics prometheus() {
+        return prometheusMetrics;
+    }
+
+    AuctionStageMetrics forAuctionStageTier(String tier) {
+        return auctionStageTierMetrics.computeIfAbsent(tier, auctionStageTierMetricsCreator);
+    }
+
     SettingsCacheMetrics forSettingsCacheType(MetricName type) {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
@@ -271,6 +307,10 @@ public class Metrics extends UpdatableMetrics {
         updateAccountRequestsMetrics(accountId, MetricName.rejected_by_account_fetch_failed);
     }
 
+    public void updateAccountRequestRejectedByMemoryBudgetMetrics(String accountId) {
+        updateAccountRequestsMetrics(accountId, MetricName.rejected_by_memory_budget);
+    }
+
     private void updateAccountRequestsMetrics(String accountId, MetricName metricName) {
         forAccount(accountId).requests().incCounter(metricName);
     }
@@ -616,6 +656,24 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().requests().updateTimer(MetricName.err, timeElapsed);
     }
 
+    public void updateCacheBatchSize(int batchSize) {
+        cache().updateHistogram(MetricName.batch_size, batchSize);
+    }
+
+    public void updateCacheQueueTime(long queueTime) {
+        cache().updateTimer(MetricName.queue_time, queueTime);
+    }
+
+    public void updateCacheInFlightLimitedMetric(String accountId) {
+        cache().incCounter(MetricName.in_flight_limited);
+        forAccount(accountId).cache().incCounter(MetricName.in_flight_limited);
+    }
+
+    public void updateCacheLocalFallbackMetric(String accountId, int putCount) {
+        cache().incCounter(MetricName.local_fallback, putCount);
+        forAccount(accountId).cache().incCounter(MetricName.local_fallback, putCount);
+    }
+
     public void updateCacheCreativeSize(String accountId, int creativeSize, MetricName creativeType) {
         cache().creativeSize().updateHistogram(creativeType, creativeSize);
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
@@ -633,6 +691,42 @@ public class Metrics extends UpdatableMetrics {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
 
+    public void updateMemoryGuardMetric(MetricName metricName) {
+        memoryGuard().incCounter(metricName);
+    }
+
+    public void createMemoryGuardInFlightBytesGauge(LongSupplier inFlightBytesSupplier) {
+        memoryGuard().createGauge(MetricName.in_flight_bytes, inFlightBytesSupplier);
+    }
+
+    /**
+     * Startup phases happen once per process, so their duration is exposed as a constant gauge.
+     */
+    public void updateStartupPhaseMetric(MetricName phase, long millis) {
+        startup().createGauge(phase, () -> millis);
+    }
+
+    public void createPrometheusRejectedSeriesGauge(LongSupplier rejectedSeriesSupplier) {
+        prometheus().createGauge(MetricName.rejected_series, rejectedSeriesSupplier);
+    }
+
+    public void updateAuctionStageMetrics(Account account, AuctionStageTimings stageTimings) {
+        final AuctionStageMetrics tierMetrics = forAuctionStageTier(accountTier(account));
+        for (AuctionStage stage : AUCTION_STAGES) {
+            final long nanos = stageTimings.nanos(stage);
+            if (nanos > 0) {
+                auctionStageMetrics.updateTimer(stage, nanos);
+                tierMetrics.updateTimer(stage, nanos);
+            }
+        }
+    }
+
+    private static String accountTier(Account account) {
+        final AccountMetricsConfig metricsConfig = account != null ? account.getMetrics() : null;
+        final String tier = metricsConfig != null ? metricsConfig.getTier() : null;
+        return StringUtils.defaultIfBlank(tier, DEFAULT_ACCOUNT_TIER);
+    }
+
     public void updateSettingsCacheRefreshTime(MetricName cacheType, MetricName refreshType, long timeElapsed) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
@@ -645,6 +739,15 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void createSettingsCacheSnapshotGauges(MetricName cacheType,
+                                                  LongSupplier versionSupplier,
+                                                  LongSupplier itemsSupplier) {
+
+        final SettingsCacheMetrics settingsCacheMetrics = forSettingsCacheType(cacheType);
+        settingsCacheMetrics.createGauge(MetricName.snapshot_version, versionSupplier);
+        settingsCacheMetrics.createGauge(MetricName.snapshot_items, itemsSupplier);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Prometheus exporter metrics support.
+ */
+class PrometheusMetrics extends UpdatableMetrics {
+
+    PrometheusMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "prometheus." + metricName);
+    }
+}
@@ -0,0 +1,319 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exposes Dropwizard metrics in Prometheus text or OpenMetrics format.
+ * <p>
+ * Unlike {@link io.prometheus.client.dropwizard.DropwizardExports}, names and labels of each series are resolved
+ * once, when metric is added to the registry, and scrape writes samples straight to the output. Samples are the same
+ * as produced by {@code DropwizardExports}: counters and gauges are exposed as gauges, meters as counters, histograms
+ * and timers (in seconds) as summaries.
+ * <p>
+ * Number of series having {@code account} label is limited per account, series over the limit are not exposed.
+ */
+public class PrometheusExporter extends MetricRegistryListener.Base {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusExporter.class);
+
+    private static final String ACCOUNT_LABEL = "account";
+    private static final String TOTAL_SUFFIX = "_total";
+    private static final String COUNT_SUFFIX = "_count";
+    private static final String[] QUANTILES = {"0.5", "0.75", "0.95", "0.98", "0.99", "0.999"};
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final PrometheusSeriesMapper seriesMapper;
+    private final int maxSeriesPerAccount;
+
+    private final Map<String, Family> families;
+    private final Map<String, Registration> registrations;
+    private final Map<String, Integer> accountToSeriesCount;
+    private final Set<String> limitedAccounts;
+    private final AtomicLong rejectedSeries;
+
+    public PrometheusExporter(PrometheusSeriesMapper seriesMapper, int maxSeriesPerAccount) {
+        this.seriesMapper = Objects.requireNonNull(seriesMapper);
+        this.maxSeriesPerAccount = maxSeriesPerAccount;
+
+        families = new ConcurrentSkipListMap<>();
+        registrations = new HashMap<>();
+        accountToSeriesCount = new HashMap<>();
+        limitedAccounts = new HashSet<>();
+        rejectedSeries = new AtomicLong();
+    }
+
+    @Override
+    public void onGaugeAdded(String name, Gauge<?> gauge) {
+        add(name, gauge, Type.GAUGE);
+    }
+
+    @Override
+    public void onGaugeRemoved(String name) {
+        remove(name);
+    }
+
+    @Override
+    public void onCounterAdded(String name, Counter counter) {
+        add(name, counter, Type.GAUGE);
+    }
+
+    @Override
+    public void onCounterRemoved(String name) {
+        remove(name);
+    }
+
+    @Override
+    public void onHistogramAdded(String name, Histogram histogram) {
+        add(name, histogram, Type.SUMMARY);
+    }
+
+    @Override
+    public void onHistogramRemoved(String name) {
+        remove(name);
+    }
+
+    @Override
+    public void onMeterAdded(String name, Meter meter) {
+        add(name, meter, Type.COUNTER);
+    }
+
+    @Override
+    public void onMeterRemoved(String name) {
+        remove(name);
+    }
+
+    @Override
+    public void onTimerAdded(String name, Timer timer) {
+        add(name, timer, Type.SUMMARY);
+    }
+
+    @Override
+    public void onTimerRemoved(String name) {
+        remove(name);
+    }
+
+    /**
+     * Returns number of series rejected by per-account limit.
+     */
+    public long rejectedSeries() {
+        return rejectedSeries.get();
+    }
+
+    private synchronized void add(String dropwizardName, Metric metric, Type type) {
+        final PrometheusSeriesMapper.Series series = seriesMapper.map(dropwizardName);
+
+        final String account = series.labelValue(ACCOUNT_LABEL);
+        if (account != null && !acquireAccountSeries(account)) {
+            rejectedSeries.incrementAndGet();
+            return;
+        }
+
+        final String familyName = type == Type.COUNTER ? series.name() + TOTAL_SUFFIX : series.name();
+        final Family family = families.computeIfAbsent(familyName, name -> new Family(
+                name,
+                type,
+                "Generated from Dropwizard metric import (metric=%s, type=%s)"
+                        .formatted(dropwizardName, metric.getClass().getName())));
+
+        final Sampler sampler = new Sampler(metric, labels(series.labelNames(), series.labelValues()));
+        family.samplers().put(dropwizardName, sampler);
+        registrations.put(dropwizardName, new Registration(family, account));
+    }
+
+    private boolean acquireAccountSeries(String account) {
+        final int count = accountToSeriesCount.getOrDefault(account, 0);
+        if (maxSeriesPerAccount > 0 && count >= maxSeriesPerAccount) {
+            if (limitedAccounts.add(account)) {
+                logger.warn("Prometheus series limit {} reached for account: {}", maxSeriesPerAccount, account);
+            }
+            return false;
+        }
+
+        accountToSeriesCount.put(account, count + 1);
+        return true;
+    }
+
+    private synchronized void remove(String dropwizardName) {
+        final Registration registration = registrations.remove(dropwizardName);
+        if (registration == null) {
+            return;
+        }
+
+        final Family family = registration.family();
+        family.samplers().remove(dropwizardName);
+        if (family.samplers().isEmpty()) {
+            families.remove(family.name());
+        }
+
+        final String account = registration.account();
+        if (account != null) {
+            accountToSeriesCount.computeIfPresent(account, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private static String labels(List<String> labelNames, List<String> labelValues) {
+        final StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < labelNames.size(); i++) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(labelNames.get(i)).append("=\"");
+            appendEscaped(labels, labelValues.get(i), true);
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+
+    /**
+     * Writes families with given names (or all, if names are empty) to the output.
+     */
+    public void write(StringBuilder out, boolean openMetrics, Set<String> names) {
+        for (Family family : families.values()) {
+            if (names.isEmpty() || names.contains(family.name())) {
+                family.write(out, openMetrics);
+            }
+        }
+
+        if (openMetrics) {
+            out.append("# EOF\n");
+        }
+    }
+
+    private static void appendEscaped(StringBuilder out, String value, boolean escapeQuotes) {
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch (character) {
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '"' -> out.append(escapeQuotes ? "\\\"" : "\"");
+                default -> out.append(character);
+            }
+        }
+    }
+
+    private static void appendValue(StringBuilder out, double value) {
+        if (value == Double.POSITIVE_INFINITY) {
+            out.append("+Inf");
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            out.append("-Inf");
+        } else if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else {
+            out.append(value);
+        }
+    }
+
+    private enum Type {
+
+        GAUGE("gauge"), COUNTER("counter"), SUMMARY("summary");
+
+        private final String value;
+
+        Type(String value) {
+            this.value = value;
+        }
+    }
+
+    private record Registration(Family family, String account) {
+    }
+
+    private record Family(String name, Type type, String help, Map<String, Sampler> samplers) {
+
+        Family(String name, Type type, String help) {
+            this(name, type, help, new ConcurrentHashMap<>());
+        }
+
+        void write(StringBuilder out, boolean openMetrics) {
+            // OpenMetrics counter family name doesn't include the suffix of its sample
+            final String familyName = openMetrics && type == Type.COUNTER
+                    ? StringUtils.removeEnd(name, TOTAL_SUFFIX)
+                    : name;
+
+            out.append("# HELP ").append(familyName).append(' ');
+            appendEscaped(out, help, false);
+            out.append('\n');
+            out.append("# TYPE ").append(familyName).append(' ').append(type.value).append('\n');
+
+            for (Sampler sampler : samplers.values()) {
+                sampler.write(out, name);
+            }
+        }
+    }
+
+    private record Sampler(Metric metric, String labels) {
+
+        void write(StringBuilder out, String name) {
+            switch (metric) {
+                case Gauge<?> gauge -> writeGauge(out, name, gauge.getValue());
+                case Counter counter -> writeSample(out, name, null, counter.getCount());
+                case Meter meter -> writeSample(out, name, null, meter.getCount());
+                case Timer timer -> writeSummary(out, name, timer.getSnapshot(), timer.getCount(), NANOS_PER_SECOND);
+                case Histogram histogram -> writeSummary(out, name, histogram.getSnapshot(), histogram.getCount(), 1);
+                default -> {
+                }
+            }
+        }
+
+        private void writeGauge(StringBuilder out, String name, Object value) {
+            if (value instanceof Number number) {
+                writeSample(out, name, null, number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                writeSample(out, name, null, bool ? 1 : 0);
+            }
+        }
+
+        private void writeSummary(StringBuilder out, String name, Snapshot snapshot, long count, double divisor) {
+            writeSample(out, name, QUANTILES[0], snapshot.getMedian() / divisor);
+            writeSample(out, name, QUANTILES[1], snapshot.get75thPercentile() / divisor);
+            writeSample(out, name, QUANTILES[2], snapshot.get95thPercentile() / divisor);
+            writeSample(out, name, QUANTILES[3], snapshot.get98thPercentile() / divisor);
+            writeSample(out, name, QUANTILES[4], snapshot.get99thPercentile() / divisor);
+            writeSample(out, name, QUANTILES[5], snapshot.get999thPercentile() / divisor);
+            writeSample(out, name + COUNT_SUFFIX, null, count);
+        }
+
+        private void writeSample(StringBuilder out, String name, String quantile, long value) {
+            writeName(out, name, quantile);
+            out.append(value).append('\n');
+        }
+
+        private void writeSample(StringBuilder out, String name, String quantile, double value) {
+            writeName(out, name, quantile);
+            appendValue(out, value);
+            out.append('\n');
+        }
+
+        private void writeName(StringBuilder out, String name, String quantile) {
+            out.append(name);
+            if (!labels.isEmpty() || quantile != null) {
+                out.append('{').append(labels);
+                if (quantile != null) {
+                    out.append(labels.isEmpty() ? "" : ",").append("quantile=\"").append(quantile).append('"');
+                }
+                out.append('}');
+            }
+            out.append(' ');
+        }
+    }
+}
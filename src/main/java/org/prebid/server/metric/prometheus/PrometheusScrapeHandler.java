@@ -0,0 +1,46 @@
+package org.prebid.server.metric.prometheus;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Serves Prometheus scrapes from {@link PrometheusExporter}, negotiating OpenMetrics format by Accept header.
+ */
+public class PrometheusScrapeHandler implements Handler<RoutingContext> {
+
+    private static final String NAME_PARAMETER = "name[]";
+    private static final String OPEN_METRICS_MEDIA_TYPE = "application/openmetrics-text";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String OPEN_METRICS_CONTENT_TYPE = OPEN_METRICS_MEDIA_TYPE + "; version=1.0.0; charset=utf-8";
+
+    private final PrometheusExporter prometheusExporter;
+
+    // sizes output buffer up front, so that scrape doesn't grow it over and over again
+    private int lastScrapeLength = 1024;
+
+    public PrometheusScrapeHandler(PrometheusExporter prometheusExporter) {
+        this.prometheusExporter = Objects.requireNonNull(prometheusExporter);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final boolean openMetrics = StringUtils.contains(
+                routingContext.request().getHeader(HttpHeaders.ACCEPT), OPEN_METRICS_MEDIA_TYPE);
+        final Set<String> names = new HashSet<>(routingContext.queryParam(NAME_PARAMETER));
+
+        final StringBuilder out = new StringBuilder(lastScrapeLength);
+        prometheusExporter.write(out, openMetrics, names);
+        lastScrapeLength = out.length();
+
+        routingContext.response()
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, openMetrics ? OPEN_METRICS_CONTENT_TYPE : TEXT_CONTENT_TYPE)
+                .end(out.toString());
+    }
+}
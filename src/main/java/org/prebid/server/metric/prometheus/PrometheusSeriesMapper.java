@@ -0,0 +1,110 @@
+package org.prebid.server.metric.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps dotted Dropwizard metric names to Prometheus metric names and labels.
+ * <p>
+ * Follows the rules of {@link io.prometheus.client.dropwizard.samplebuilder.CustomMappingSampleBuilder}: the first
+ * mapper matching the whole name wins, {@code *} matches single name segment and {@code ${n}} in mapper name and
+ * label values refers to the n-th matched segment. Names not matched by any mapper are sanitized and have no labels.
+ */
+public class PrometheusSeriesMapper {
+
+    private static final String VALID_PREFIX_REGEX = "[a-zA-Z_]?[a-zA-Z0-9_]*";
+
+    private final String prefix;
+    private final List<CompiledMapper> mappers;
+
+    public PrometheusSeriesMapper(String namespace, String subsystem, List<MapperConfig> mapperConfigs) {
+        prefix = toPrefix(namespace) + toPrefix(subsystem);
+
+        final Pattern prefixPattern = Pattern.compile(VALID_PREFIX_REGEX);
+        if (!prefixPattern.matcher(prefix).matches()) {
+            throw new IllegalArgumentException("Invalid prefix: %s, namespace and subsystem should match regex: %s"
+                    .formatted(prefix, VALID_PREFIX_REGEX));
+        }
+
+        mappers = mapperConfigs.stream().map(CompiledMapper::of).toList();
+    }
+
+    private static String toPrefix(String value) {
+        return StringUtils.isNotEmpty(value) ? value + "_" : "";
+    }
+
+    /**
+     * Resolves Prometheus series for the given Dropwizard metric name.
+     */
+    public Series map(String dropwizardName) {
+        for (CompiledMapper mapper : mappers) {
+            final Matcher matcher = mapper.pattern().matcher(dropwizardName);
+            if (matcher.matches()) {
+                return mapper.toSeries(prefix, matcher);
+            }
+        }
+
+        return new Series(
+                Collector.sanitizeMetricName(prefix + dropwizardName),
+                Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    public record Series(String name, List<String> labelNames, List<String> labelValues) {
+
+        public String labelValue(String labelName) {
+            final int index = labelNames.indexOf(labelName);
+            return index >= 0 ? labelValues.get(index) : null;
+        }
+    }
+
+    private record CompiledMapper(Pattern pattern, String name, List<String> labelNames, List<String> labelValues) {
+
+        static CompiledMapper of(MapperConfig mapperConfig) {
+            final Map<String, String> labels = mapperConfig.getLabels();
+            final List<String> labelNames = new ArrayList<>(labels != null ? labels.keySet() : Collections.emptySet());
+            final List<String> labelValues = labelNames.stream().map(labels::get).toList();
+
+            return new CompiledMapper(
+                    toPattern(mapperConfig.getMatch()),
+                    mapperConfig.getName(),
+                    labelNames,
+                    labelValues);
+        }
+
+        private static Pattern toPattern(String match) {
+            final String[] segments = StringUtils.splitPreserveAllTokens(match, '*');
+            final StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < segments.length; i++) {
+                if (i > 0) {
+                    regex.append("([^.]*)");
+                }
+                regex.append(Pattern.quote(segments[i]));
+            }
+            return Pattern.compile(regex.toString());
+        }
+
+        Series toSeries(String prefix, Matcher matcher) {
+            return new Series(
+                    Collector.sanitizeMetricName(prefix + substitute(name, matcher)),
+                    labelNames,
+                    labelValues.stream().map(value -> substitute(value, matcher)).toList());
+        }
+
+        private static String substitute(String template, Matcher matcher) {
+            String result = template;
+            for (int i = 0; i < matcher.groupCount(); i++) {
+                result = StringUtils.replace(result, "${" + i + "}", matcher.group(i + 1));
+            }
+            return result;
+        }
+    }
+}
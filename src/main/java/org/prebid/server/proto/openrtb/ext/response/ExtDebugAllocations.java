@@ -0,0 +1,15 @@
+package org.prebid.server.proto.openrtb.ext.response;
+
+import lombok.Value;
+
+/**
+ * Defines the contract for bidresponse.ext.debug.allocations
+ */
+@Value(staticConstructor = "of")
+public class ExtDebugAllocations {
+
+    /**
+     * Bytes allocated while preparing requests for all bidders of the auction
+     */
+    Long bidderrequests;
+}
@@ -26,4 +26,14 @@ public class ExtResponseDebug {
      * Defines the contract for bidresponse.ext.debug.trace
      */
     ExtDebugTrace trace;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.allocations
+     */
+    ExtDebugAllocations allocations;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.stagetimes
+     */
+    Map<String, Double> stagetimes;
 }
@@ -0,0 +1,72 @@
+package org.prebid.server.publicsuffix;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import org.prebid.server.execution.file.FileProcessor;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Resolves registrable domains of hosts by {@link PublicSuffixTrie}, caching results per host.
+ * <p>
+ * The trie can be replaced at runtime by syncing public suffix list file, which also clears the cache.
+ */
+public class PublicSuffixListService implements FileProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicSuffixListService.class);
+
+    // caffeine doesn't allow null values, so hosts without registrable domain are cached with this marker
+    private static final String NO_DOMAIN = "";
+
+    private final Cache<String, String> hostToDomain;
+
+    private volatile PublicSuffixTrie trie;
+
+    public PublicSuffixListService(PublicSuffixTrie trie, long cacheSize) {
+        this.trie = Objects.requireNonNull(trie);
+
+        hostToDomain = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Returns registrable domain of the given host or null if it can't be derived.
+     */
+    public String registrableDomain(String host) {
+        final String domain = hostToDomain.get(host, this::resolveDomain);
+        return NO_DOMAIN.equals(domain) ? null : domain;
+    }
+
+    private String resolveDomain(String host) {
+        final String domain = trie.registrableDomain(host);
+        return domain != null ? domain : NO_DOMAIN;
+    }
+
+    @Override
+    public Future<?> setDataPath(String dataFilePath) {
+        final PublicSuffixTrie updatedTrie;
+        try {
+            updatedTrie = PublicSuffixTrie.of(Files.readAllLines(Path.of(dataFilePath), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return Future.failedFuture("Cannot read public suffix list file: " + e.getMessage());
+        }
+
+        if (updatedTrie.size() == 0) {
+            return Future.failedFuture("Public suffix list file has no rules: " + dataFilePath);
+        }
+
+        trie = updatedTrie;
+        hostToDomain.invalidateAll();
+        logger.info("Public suffix list updated with {} rules", updatedTrie.size());
+
+        return Future.succeededFuture();
+    }
+}
@@ -0,0 +1,151 @@
+package org.prebid.server.publicsuffix;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.IDN;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable trie of <a href="https://publicsuffix.org/list/">public suffix list</a> rules keyed by labels
+ * in reversed order, so that host is matched from its top level domain without splitting it.
+ * <p>
+ * Internationalized rules are stored both in Unicode and Punycode forms, so hosts are matched as is.
+ */
+public class PublicSuffixTrie {
+
+    private static final String COMMENT_PREFIX = "//";
+    private static final String WILDCARD = "*";
+    private static final String EXCEPTION_PREFIX = "!";
+
+    private final Node root;
+    private final int size;
+
+    private PublicSuffixTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Builds trie from lines of public suffix list file, skipping blank lines and comments.
+     */
+    public static PublicSuffixTrie of(List<String> lines) {
+        final Node root = new Node();
+        int size = 0;
+        for (String line : lines) {
+            final String rule = StringUtils.substringBefore(StringUtils.trimToEmpty(line), " ");
+            if (rule.isEmpty() || rule.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            final String normalizedRule = rule.toLowerCase(Locale.ROOT);
+            add(root, normalizedRule);
+            final String asciiRule = toAscii(normalizedRule);
+            if (asciiRule != null && !asciiRule.equals(normalizedRule)) {
+                add(root, asciiRule);
+            }
+            size++;
+        }
+
+        return new PublicSuffixTrie(root, size);
+    }
+
+    private static String toAscii(String rule) {
+        try {
+            return IDN.toASCII(rule, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void add(Node root, String rule) {
+        final boolean exception = rule.startsWith(EXCEPTION_PREFIX);
+        final String[] labels = StringUtils.split(exception ? rule.substring(1) : rule, '.');
+
+        Node node = root;
+        for (int i = labels.length - 1; i >= 0; i--) {
+            node = node.childOrCreate(labels[i]);
+        }
+
+        if (exception) {
+            node.exception = true;
+        } else {
+            node.rule = true;
+        }
+    }
+
+    /**
+     * Returns number of rules in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns registrable domain (public suffix plus one label) of the given host
+     * or null if host is a public suffix itself or is not a valid domain name.
+     * <p>
+     * Follows the public suffix list algorithm: exception rules take priority over other rules,
+     * the longest matching rule wins and unlisted top level domains are treated as public suffixes.
+     */
+    public String registrableDomain(String host) {
+        if (StringUtils.isEmpty(host)) {
+            return null;
+        }
+
+        final String domain = host.toLowerCase(Locale.ROOT);
+        Node node = root;
+        int suffixStart = -1;
+        int labelEnd = domain.length();
+        while (true) {
+            final int dot = domain.lastIndexOf('.', labelEnd - 1);
+            final int labelStart = dot + 1;
+            if (labelStart == labelEnd) {
+                return null;
+            }
+
+            final Node child = node != null ? node.child(domain.substring(labelStart, labelEnd)) : null;
+            if (child != null && child.exception) {
+                suffixStart = labelEnd + 1;
+                break;
+            }
+            if (suffixStart < 0 || (node != null && node.child(WILDCARD) != null) || (child != null && child.rule)) {
+                suffixStart = labelStart;
+            }
+            if (dot < 0) {
+                break;
+            }
+
+            node = child;
+            labelEnd = dot;
+        }
+
+        if (suffixStart == 0) {
+            return null;
+        }
+
+        return domain.substring(domain.lastIndexOf('.', suffixStart - 2) + 1);
+    }
+
+    private static class Node {
+
+        private Map<String, Node> children;
+
+        private boolean rule;
+
+        private boolean exception;
+
+        Node child(String label) {
+            return children != null ? children.get(label) : null;
+        }
+
+        Node childOrCreate(String label) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            return children.computeIfAbsent(label, key -> new Node());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.helper.DatabaseStoredDataResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredResponseResultMapper;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
+import org.prebid.server.settings.helper.StoredDataQueryBatcher;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
@@ -36,12 +37,15 @@ import java.util.stream.IntStream;
  * <p>
  * In order to enable caching and reduce latency for read operations {@link DatabaseApplicationSettings}
  * can be decorated by {@link CachingApplicationSettings}.
+ * <p>
+ * Stored data queries of concurrent auctions can be merged by {@link StoredDataQueryBatcher}, if configured.
  */
 public class DatabaseApplicationSettings implements ApplicationSettings {
 
     private final DatabaseClient databaseClient;
     private final JacksonMapper mapper;
     private final ParametrizedQueryHelper parametrizedQueryHelper;
+    private final StoredDataQueryBatcher storedDataQueryBatcher;
 
     /**
      * Query to select account by ids.
@@ -88,7 +92,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                        String selectAccountQuery,
                                        String selectStoredRequestsQuery,
                                        String selectAmpStoredRequestsQuery,
-                                       String selectStoredResponsesQuery) {
+                                       String selectStoredResponsesQuery,
+                                       StoredDataQueryBatcher storedDataQueryBatcher) {
 
         this.databaseClient = Objects.requireNonNull(databaseClient);
         this.mapper = Objects.requireNonNull(mapper);
@@ -98,6 +103,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         this.selectStoredRequestsQuery = Objects.requireNonNull(selectStoredRequestsQuery);
         this.selectAmpStoredRequestsQuery = Objects.requireNonNull(selectAmpStoredRequestsQuery);
         this.selectStoredResponsesQuery = Objects.requireNonNull(selectStoredResponsesQuery);
+        this.storedDataQueryBatcher = storedDataQueryBatcher;
     }
 
     /**
@@ -187,16 +193,17 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        final List<String> paddedResponseIds = ParametrizedQueryHelper.padIds(responseIds);
         final String queryResolvedWithParameters = parametrizedQueryHelper.replaceStoredResponseIdPlaceholders(
                 selectStoredResponsesQuery,
-                responseIds.size());
+                paddedResponseIds.size());
 
         final List<Object> idsQueryParameters = new ArrayList<>();
         final int responseIdPlaceholderCount = StringUtils.countMatches(
                 selectStoredResponsesQuery,
                 ParametrizedQueryHelper.RESPONSE_ID_PLACEHOLDER);
         IntStream.rangeClosed(1, responseIdPlaceholderCount)
-                .forEach(i -> idsQueryParameters.addAll(responseIds));
+                .forEach(i -> idsQueryParameters.addAll(paddedResponseIds));
 
         return databaseClient.executeQuery(queryResolvedWithParameters, idsQueryParameters,
                 result -> DatabaseStoredResponseResultMapper.map(result, responseIds), timeout);
@@ -212,17 +219,23 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         if (CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds)) {
             future = Future.succeededFuture(
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
+        } else if (storedDataQueryBatcher != null) {
+            future = storedDataQueryBatcher.fetch(query, requestIds, impIds, timeout)
+                    .map(rows -> DatabaseStoredDataResultMapper.map(rows, accountId, requestIds, impIds));
         } else {
+            final List<String> paddedRequestIds = ParametrizedQueryHelper.padIds(requestIds);
+            final List<String> paddedImpIds = ParametrizedQueryHelper.padIds(impIds);
+
             final List<Object> idsQueryParameters = new ArrayList<>();
             IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(requestIds));
+                    .forEach(i -> idsQueryParameters.addAll(paddedRequestIds));
             IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.IMP_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(impIds));
+                    .forEach(i -> idsQueryParameters.addAll(paddedImpIds));
 
             final String parametrizedQuery = parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(
                     query,
-                    requestIds.size(),
-                    impIds.size());
+                    paddedRequestIds.size(),
+                    paddedImpIds.size());
 
             future = databaseClient.executeQuery(parametrizedQuery, idsQueryParameters,
                     result -> DatabaseStoredDataResultMapper.map(result, accountId, requestIds, impIds),
@@ -0,0 +1,79 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredResponseDataResult;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Serves stored requests and imps from {@link StoredDataReplica}s without any I/O at request time.
+ * <p>
+ * Lookups are delegated to original fetcher only until replica receives its first snapshot. Data not delivered by
+ * periodic refresh services (accounts, stored responses, video stored data and categories) is always delegated.
+ */
+public class ReplicaApplicationSettings implements ApplicationSettings {
+
+    private final ApplicationSettings delegate;
+    private final StoredDataReplica replica;
+    private final StoredDataReplica ampReplica;
+
+    public ReplicaApplicationSettings(ApplicationSettings delegate,
+                                      StoredDataReplica replica,
+                                      StoredDataReplica ampReplica) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.replica = Objects.requireNonNull(replica);
+        this.ampReplica = Objects.requireNonNull(ampReplica);
+    }
+
+    @Override
+    public Future<Account> getAccountById(String accountId, Timeout timeout) {
+        return delegate.getAccountById(accountId, timeout);
+    }
+
+    @Override
+    public Future<StoredDataResult> getStoredData(String accountId,
+                                                  Set<String> requestIds,
+                                                  Set<String> impIds,
+                                                  Timeout timeout) {
+
+        return replica.isInitialized()
+                ? Future.succeededFuture(replica.resolve(requestIds, impIds))
+                : delegate.getStoredData(accountId, requestIds, impIds, timeout);
+    }
+
+    @Override
+    public Future<StoredDataResult> getAmpStoredData(String accountId,
+                                                     Set<String> requestIds,
+                                                     Set<String> impIds,
+                                                     Timeout timeout) {
+
+        return ampReplica.isInitialized()
+                ? Future.succeededFuture(ampReplica.resolve(requestIds, impIds))
+                : delegate.getAmpStoredData(accountId, requestIds, impIds, timeout);
+    }
+
+    @Override
+    public Future<StoredDataResult> getVideoStoredData(String accountId,
+                                                       Set<String> requestIds,
+                                                       Set<String> impIds,
+                                                       Timeout timeout) {
+
+        return delegate.getVideoStoredData(accountId, requestIds, impIds, timeout);
+    }
+
+    @Override
+    public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        return delegate.getStoredResponses(responseIds, timeout);
+    }
+
+    @Override
+    public Future<Map<String, String>> getCategories(String primaryAdServer, String publisher, Timeout timeout) {
+        return delegate.getCategories(primaryAdServer, publisher, timeout);
+    }
+}
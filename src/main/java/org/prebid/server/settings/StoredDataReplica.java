@@ -0,0 +1,195 @@
+package org.prebid.server.settings;
+
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Complete in-memory replica of stored requests and imps populated by periodic refresh services.
+ * <p>
+ * Readers always see an immutable versioned snapshot which is replaced with a single atomic reference swap on every
+ * refresh. To keep refreshes proportional to the number of changes, each snapshot consists of a base shared between
+ * versions and a small delta holding changes made since the last compaction. Delta is merged into a new base once it
+ * outgrows the compaction threshold.
+ */
+public class StoredDataReplica implements CacheNotificationListener {
+
+    private final MetricName cacheType;
+    private final int compactionThreshold;
+    private final Metrics metrics;
+
+    private final AtomicReference<Snapshot> snapshot;
+
+    public StoredDataReplica(MetricName cacheType, int compactionThreshold, Metrics metrics) {
+        if (compactionThreshold < 0) {
+            throw new IllegalArgumentException("compactionThreshold must be non-negative");
+        }
+
+        this.cacheType = Objects.requireNonNull(cacheType);
+        this.compactionThreshold = compactionThreshold;
+        this.metrics = Objects.requireNonNull(metrics);
+
+        snapshot = new AtomicReference<>(Snapshot.EMPTY);
+        metrics.createSettingsCacheSnapshotGauges(cacheType, this::version, this::size);
+    }
+
+    /**
+     * Returns true if at least one refresh was applied to replica, so it can be used to serve lookups.
+     */
+    public boolean isInitialized() {
+        return snapshot.get().version() > 0;
+    }
+
+    public long version() {
+        return snapshot.get().version();
+    }
+
+    public long size() {
+        final Snapshot current = snapshot.get();
+        return current.requests().size() + current.imps().size();
+    }
+
+    /**
+     * Looks up given ids in the current snapshot. Stored data is account agnostic in replica, as refresh services
+     * don't deliver account of stored items.
+     */
+    public StoredDataResult resolve(Set<String> requestIds, Set<String> impIds) {
+        final Snapshot current = snapshot.get();
+        final List<String> errors = new ArrayList<>();
+
+        final Map<String, String> storedIdToRequest =
+                resolve(current.requests(), requestIds, "No stored request found for id: %s", errors);
+        final Map<String, String> storedIdToImp =
+                resolve(current.imps(), impIds, "No stored impression found for id: %s", errors);
+
+        return StoredDataResult.of(storedIdToRequest, storedIdToImp, errors);
+    }
+
+    private static Map<String, String> resolve(Layer layer, Set<String> ids, String errorFormat, List<String> errors) {
+        final Map<String, String> idToData = new HashMap<>(ids.size());
+        for (String id : ids) {
+            final String data = layer.get(id);
+            if (data != null) {
+                idToData.put(id, data);
+            } else {
+                errors.add(errorFormat.formatted(id));
+            }
+        }
+        return idToData;
+    }
+
+    @Override
+    public void save(Map<String, String> requests, Map<String, String> imps) {
+        apply(requests, imps);
+    }
+
+    @Override
+    public void invalidate(List<String> requests, List<String> imps) {
+        apply(removals(requests), removals(imps));
+    }
+
+    private static Map<String, String> removals(List<String> ids) {
+        final Map<String, String> removals = new HashMap<>();
+        for (String id : ids) {
+            removals.put(id, null);
+        }
+        return removals;
+    }
+
+    private synchronized void apply(Map<String, String> requestChanges, Map<String, String> impChanges) {
+        final Snapshot current = snapshot.get();
+
+        Layer requests = current.requests().apply(requestChanges);
+        Layer imps = current.imps().apply(impChanges);
+        if (current.version() > 0 && requests == current.requests() && imps == current.imps()) {
+            return;
+        }
+
+        if (requests.delta().size() + imps.delta().size() > compactionThreshold) {
+            requests = requests.compact();
+            imps = imps.compact();
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.compaction);
+        }
+
+        snapshot.set(new Snapshot(current.version() + 1, requests, imps));
+    }
+
+    private record Snapshot(long version, Layer requests, Layer imps) {
+
+        private static final Snapshot EMPTY = new Snapshot(0, Layer.EMPTY, Layer.EMPTY);
+    }
+
+    /**
+     * Base map overlaid by delta, where null value in delta marks item removed from base.
+     * <p>
+     * Changes which don't differ from the current data are skipped, so periodic refreshes of unchanged items
+     * neither grow delta nor produce a new layer.
+     */
+    private record Layer(Map<String, String> base, Map<String, String> delta, int size) {
+
+        private static final Layer EMPTY = new Layer(Collections.emptyMap(), Collections.emptyMap(), 0);
+
+        String get(String id) {
+            return delta.containsKey(id) ? delta.get(id) : base.get(id);
+        }
+
+        Layer apply(Map<String, String> changes) {
+            if (changes == null || changes.isEmpty()) {
+                return this;
+            }
+
+            Map<String, String> newDelta = null;
+            int newSize = size;
+            for (Map.Entry<String, String> change : changes.entrySet()) {
+                final String id = change.getKey();
+                final String value = change.getValue();
+                final String existing = get(id);
+                if (Objects.equals(existing, value)) {
+                    continue;
+                }
+
+                newDelta = newDelta != null ? newDelta : new HashMap<>(delta);
+                final boolean exists = existing != null;
+                if (value != null) {
+                    newDelta.put(id, value);
+                    newSize += exists ? 0 : 1;
+                } else if (exists) {
+                    newSize--;
+                    if (base.containsKey(id)) {
+                        newDelta.put(id, null);
+                    } else {
+                        newDelta.remove(id);
+                    }
+                }
+            }
+
+            return newDelta != null ? new Layer(base, Collections.unmodifiableMap(newDelta), newSize) : this;
+        }
+
+        Layer compact() {
+            if (delta.isEmpty()) {
+                return this;
+            }
+
+            final Map<String, String> newBase = new HashMap<>(base);
+            delta.forEach((id, value) -> {
+                if (value != null) {
+                    newBase.put(id, value);
+                } else {
+                    newBase.remove(id);
+                }
+            });
+
+            return new Layer(Collections.unmodifiableMap(newBase), Collections.emptyMap(), size);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package org.prebid.server.settings.helper;
 
 import io.vertx.sqlclient.Row;
-import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.Logger;
@@ -16,12 +15,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * Utility class for mapping {@link RowSet<Row>} to {@link StoredDataResult}.
+ * Utility class for mapping {@link RowSet<Row>} (or any other rows) to {@link StoredDataResult}.
  */
 public class DatabaseStoredDataResultMapper {
 
@@ -42,7 +42,7 @@ public class DatabaseStoredDataResultMapper {
      * Note: mapper should never throw exception in case of using
      * {@link CircuitBreakerSecuredDatabaseClient}.
      */
-    public static StoredDataResult map(RowSet<Row> rowSet,
+    public static StoredDataResult map(Iterable<Row> rowSet,
                                        String accountId,
                                        Set<String> requestIds,
                                        Set<String> impIds) {
@@ -50,7 +50,7 @@ public class DatabaseStoredDataResultMapper {
         final Map<String, String> storedIdToImp;
         final List<String> errors = new ArrayList<>();
 
-        final RowIterator<Row> rowIterator = rowSet != null ? rowSet.iterator() : null;
+        final Iterator<Row> rowIterator = rowSet != null ? rowSet.iterator() : null;
 
         if (rowIterator == null || !rowIterator.hasNext()) {
             storedIdToRequest = Collections.emptyMap();
@@ -125,7 +125,7 @@ public class DatabaseStoredDataResultMapper {
      * @param resultSet - incoming {@link RowSet<Row>} representing a result of SQL query.
      * @return - a {@link StoredDataResult} object.
      */
-    public static StoredDataResult map(RowSet<Row> resultSet) {
+    public static StoredDataResult map(Iterable<Row> resultSet) {
         return map(resultSet, null, Collections.emptySet(), Collections.emptySet());
     }
 
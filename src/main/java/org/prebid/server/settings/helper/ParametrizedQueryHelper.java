@@ -1,5 +1,9 @@
 package org.prebid.server.settings.helper;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 public interface ParametrizedQueryHelper {
 
     String ACCOUNT_ID_PLACEHOLDER = "%ACCOUNT_ID%";
@@ -13,4 +17,20 @@ public interface ParametrizedQueryHelper {
 
     String replaceRequestAndImpIdPlaceholders(String query, int requestIdNumber, int impIdNumber);
 
+    /**
+     * Pads given ids to the nearest power of two by repeating the first one, which doesn't change query result,
+     * so that queries for the similar number of ids have the same text and reuse prepared statement.
+     */
+    static List<String> padIds(Collection<String> ids) {
+        final List<String> paddedIds = new ArrayList<>(ids);
+        final int size = paddedIds.size();
+        if (size > 1) {
+            final int paddedSize = Integer.highestOneBit(size - 1) << 1;
+            final String padding = paddedIds.getFirst();
+            while (paddedIds.size() < paddedSize) {
+                paddedIds.add(padding);
+            }
+        }
+        return paddedIds;
+    }
 }
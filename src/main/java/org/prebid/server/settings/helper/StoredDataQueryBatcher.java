@@ -0,0 +1,245 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.settings.model.StoredDataType;
+import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.vertx.database.DatabaseClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges stored data queries of concurrent auctions into a single database query.
+ * <p>
+ * Ids requested with the same query are collected for the batch window (or until the current event loop task
+ * completes, if the window is zero) and fetched together, unless their number reaches max batch size earlier.
+ * Id lists are padded as described in {@link ParametrizedQueryHelper#padIds(Collection)}, so batches of similar
+ * size share prepared statement. Each caller gets only rows of the ids it requested and fails at its own deadline,
+ * while the shared query runs until the latest deadline of the batch.
+ */
+public class StoredDataQueryBatcher {
+
+    private final Vertx vertx;
+    private final DatabaseClient databaseClient;
+    private final ParametrizedQueryHelper parametrizedQueryHelper;
+    private final long batchWindowMs;
+    private final int maxBatchSize;
+
+    private final Map<String, Batch> queryToBatch;
+
+    public StoredDataQueryBatcher(Vertx vertx,
+                                  DatabaseClient databaseClient,
+                                  ParametrizedQueryHelper parametrizedQueryHelper,
+                                  long batchWindowMs,
+                                  int maxBatchSize) {
+
+        if (batchWindowMs < 0) {
+            throw new IllegalArgumentException("Batch window can't be negative");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.databaseClient = Objects.requireNonNull(databaseClient);
+        this.parametrizedQueryHelper = Objects.requireNonNull(parametrizedQueryHelper);
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+
+        queryToBatch = new HashMap<>();
+    }
+
+    /**
+     * Queues given ids for the next batch of given query and returns rows found for them.
+     */
+    public Future<List<Row>> fetch(String query, Set<String> requestIds, Set<String> impIds, Timeout timeout) {
+        if (timeout.remaining() <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+
+        final Promise<List<Row>> promise = Promise.promise();
+        final long timerId = vertx.setTimer(timeout.remaining(), ignored -> promise.tryFail(timeoutException()));
+        final PendingFetch pendingFetch = new PendingFetch(
+                requestIds, impIds, timeout, Vertx.currentContext(), promise);
+
+        final Batch readyBatch;
+        final boolean scheduleFlush;
+        synchronized (this) {
+            Batch batch = queryToBatch.get(query);
+            scheduleFlush = batch == null;
+            if (batch == null) {
+                batch = new Batch();
+                queryToBatch.put(query, batch);
+            }
+
+            batch.add(pendingFetch);
+            readyBatch = batch.size() >= maxBatchSize ? queryToBatch.remove(query) : null;
+        }
+
+        if (readyBatch != null) {
+            send(query, readyBatch);
+        } else if (scheduleFlush) {
+            if (batchWindowMs > 0) {
+                vertx.setTimer(batchWindowMs, ignored -> flush(query));
+            } else {
+                vertx.runOnContext(ignored -> flush(query));
+            }
+        }
+
+        return promise.future().onComplete(ignored -> vertx.cancelTimer(timerId));
+    }
+
+    private void flush(String query) {
+        final Batch batch;
+        synchronized (this) {
+            batch = queryToBatch.remove(query);
+        }
+
+        if (batch != null) {
+            send(query, batch);
+        }
+    }
+
+    private void send(String query, Batch batch) {
+        final List<String> requestIds = ParametrizedQueryHelper.padIds(batch.requestIds);
+        final List<String> impIds = ParametrizedQueryHelper.padIds(batch.impIds);
+
+        final List<Object> idsQueryParameters = new ArrayList<>();
+        for (int i = 0; i < StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER); i++) {
+            idsQueryParameters.addAll(requestIds);
+        }
+        for (int i = 0; i < StringUtils.countMatches(query, ParametrizedQueryHelper.IMP_ID_PLACEHOLDER); i++) {
+            idsQueryParameters.addAll(impIds);
+        }
+
+        final String parametrizedQuery = parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(
+                query,
+                requestIds.size(),
+                impIds.size());
+
+        databaseClient.executeQuery(parametrizedQuery, idsQueryParameters, StoredDataQueryBatcher::toRows,
+                        batch.latestTimeout())
+                .onComplete(batch::complete);
+    }
+
+    private static List<Row> toRows(RowSet<Row> rowSet) {
+        if (rowSet == null) {
+            return Collections.emptyList();
+        }
+
+        final List<Row> rows = new ArrayList<>();
+        for (Row row : rowSet) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timed out while executing SQL query");
+    }
+
+    private static class Batch {
+
+        private final Set<String> requestIds = new LinkedHashSet<>();
+        private final Set<String> impIds = new LinkedHashSet<>();
+        private final List<PendingFetch> pendingFetches = new ArrayList<>();
+
+        void add(PendingFetch pendingFetch) {
+            requestIds.addAll(pendingFetch.requestIds());
+            impIds.addAll(pendingFetch.impIds());
+            pendingFetches.add(pendingFetch);
+        }
+
+        int size() {
+            return requestIds.size() + impIds.size();
+        }
+
+        /**
+         * Query is limited by the latest deadline of the batch, callers with earlier ones are failed by their timers.
+         */
+        Timeout latestTimeout() {
+            Timeout latest = pendingFetches.getFirst().timeout();
+            for (PendingFetch pendingFetch : pendingFetches) {
+                if (pendingFetch.timeout().getDeadline() > latest.getDeadline()) {
+                    latest = pendingFetch.timeout();
+                }
+            }
+            return latest;
+        }
+
+        void complete(AsyncResult<List<Row>> result) {
+            for (PendingFetch pendingFetch : pendingFetches) {
+                if (result.failed()) {
+                    pendingFetch.complete(Future.failedFuture(result.cause()));
+                } else if (pendingFetch.timeout().remaining() <= 0) {
+                    pendingFetch.complete(Future.failedFuture(timeoutException()));
+                } else {
+                    pendingFetch.complete(Future.succeededFuture(pendingFetch.filter(result.result())));
+                }
+            }
+        }
+    }
+
+    private record PendingFetch(Set<String> requestIds,
+                                Set<String> impIds,
+                                Timeout timeout,
+                                Context context,
+                                Promise<List<Row>> promise) {
+
+        /**
+         * Leaves rows of the requested ids only. Rows without id and type columns are left for the result mapper
+         * to report.
+         */
+        List<Row> filter(List<Row> rows) {
+            final List<Row> filteredRows = new ArrayList<>();
+            for (Row row : rows) {
+                if (row.size() < 4 || isRequested(row)) {
+                    filteredRows.add(row);
+                }
+            }
+            return filteredRows;
+        }
+
+        private boolean isRequested(Row row) {
+            final String id = ObjectUtil.getIfNotNull(row.getValue(1), Object::toString);
+            final String type = ObjectUtil.getIfNotNull(row.getValue(3), Object::toString);
+            return StoredDataType.request.name().equals(type) ? requestIds.contains(id) : impIds.contains(id);
+        }
+
+        /**
+         * Completes fetch on the context it was issued from, so callers never continue on another event loop.
+         * Fetch could be already timed out by its own timer, the result is dropped then.
+         */
+        void complete(AsyncResult<List<Row>> result) {
+            if (context == null) {
+                tryComplete(result);
+            } else {
+                context.runOnContext(ignored -> tryComplete(result));
+            }
+        }
+
+        private void tryComplete(AsyncResult<List<Row>> result) {
+            if (result.succeeded()) {
+                promise.tryComplete(result.result());
+            } else {
+                promise.tryFail(result.cause());
+            }
+        }
+    }
+}
@@ -9,4 +9,6 @@ public class AccountMetricsConfig {
 
     @JsonAlias("verbosity-level")
     AccountMetricsVerbosityLevel verbosityLevel;
+
+    String tier;
 }
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +32,9 @@ import java.util.stream.Collectors;
  * If refreshRate is negative, then the data will never be refreshed.
  * <p>
  * Fetches all files from the specified folders/prefixes in s3 and downloads all files.
+ * <p>
+ * Every refresh delivers the complete set of stored data, so ids delivered by the previous refresh and missing
+ * in the current one were deleted from s3 and are invalidated before the new data is saved.
  */
 public class S3PeriodicRefreshService implements Initializable {
 
@@ -49,6 +53,9 @@ public class S3PeriodicRefreshService implements Initializable {
     private final Metrics metrics;
     private final Vertx vertx;
 
+    private volatile Set<String> requestIds = Collections.emptySet();
+    private volatile Set<String> impIds = Collections.emptySet();
+
     public S3PeriodicRefreshService(S3AsyncClient asyncClient,
                                     String bucket,
                                     String storedRequestsDirectory,
@@ -133,10 +140,28 @@ public class S3PeriodicRefreshService implements Initializable {
     }
 
     private void handleResult(StoredDataResult storedDataResult, long startTime, MetricName refreshType) {
-        cacheNotificationListener.save(storedDataResult.getStoredIdToRequest(), storedDataResult.getStoredIdToImp());
+        final Map<String, String> requests = storedDataResult.getStoredIdToRequest();
+        final Map<String, String> imps = storedDataResult.getStoredIdToImp();
+
+        final List<String> removedRequests = removedIds(requestIds, requests);
+        final List<String> removedImps = removedIds(impIds, imps);
+        if (!removedRequests.isEmpty() || !removedImps.isEmpty()) {
+            cacheNotificationListener.invalidate(removedRequests, removedImps);
+        }
+        cacheNotificationListener.save(requests, imps);
+
+        requestIds = Set.copyOf(requests.keySet());
+        impIds = Set.copyOf(imps.keySet());
+
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
     }
 
+    private static List<String> removedIds(Set<String> previousIds, Map<String, String> current) {
+        return previousIds.stream()
+                .filter(id -> !current.containsKey(id))
+                .toList();
+    }
+
     private void handleFailure(Throwable exception, long startTime, MetricName refreshType) {
         logger.warn("Error occurred while request to s3 refresh service", exception);
 
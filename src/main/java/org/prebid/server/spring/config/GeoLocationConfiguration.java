@@ -5,6 +5,7 @@ import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
+import org.prebid.server.execution.blocking.BlockingExecutorFactory;
 import org.prebid.server.execution.file.FileUtil;
 import org.prebid.server.execution.file.syncer.FileSyncer;
 import org.prebid.server.geolocation.CircuitBreakerSecuredGeoLocationService;
@@ -59,29 +60,36 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   Vertx vertx,
+                                                   BlockingExecutorFactory blockingExecutorFactory) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, vertx, blockingExecutorFactory);
         }
 
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
         CircuitBreakerSecuredGeoLocationService circuitBreakerSecuredGeoLocationService(
                 Vertx vertx,
+                BlockingExecutorFactory blockingExecutorFactory,
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    blockingExecutorFactory.forSubsystem(BlockingExecutorFactory.CIRCUIT_BREAKER),
+                    createGeoLocationService(fileSyncerProperties, vertx, blockingExecutorFactory), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            Vertx vertx,
+                                                            BlockingExecutorFactory blockingExecutorFactory) {
+
             final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
-            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
+            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx,
+                    blockingExecutorFactory.forSubsystem(BlockingExecutorFactory.FILE_SYNCER));
             fileSyncer.sync();
             return maxMindGeoLocationService;
         }
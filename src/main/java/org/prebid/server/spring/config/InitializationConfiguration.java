@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
 import java.util.List;
 
 /**
@@ -30,8 +31,10 @@ public class InitializationConfiguration {
 
     @Bean
     VerticleDefinition daemonVerticleDefinition(@Autowired(required = false) List<Initializable> initializables,
-                                                @Autowired(required = false) List<ScheduledReporter> reporters) {
+                                                @Autowired(required = false) List<ScheduledReporter> reporters,
+                                                Metrics metrics,
+                                                Clock clock) {
 
-        return VerticleDefinition.ofSingleInstance(() -> new DaemonVerticle(initializables, reporters));
+        return VerticleDefinition.ofSingleInstance(() -> new DaemonVerticle(initializables, reporters, metrics, clock));
     }
 }
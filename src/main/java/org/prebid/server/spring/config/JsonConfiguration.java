@@ -5,6 +5,7 @@ import org.prebid.server.json.JsonLogic;
 import org.prebid.server.json.JsonLogicProvider;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,8 +18,10 @@ public class JsonConfiguration {
     }
 
     @Bean
-    JsonMerger jsonMerger(JacksonMapper mapper) {
-        return new JsonMerger(mapper);
+    JsonMerger jsonMerger(JacksonMapper mapper,
+                          @Value("${auction.stored-requests-tree-cache-size:0}") int storedRequestsTreeCacheSize) {
+
+        return new JsonMerger(mapper, storedRequestsTreeCacheSize);
     }
 
     @Bean
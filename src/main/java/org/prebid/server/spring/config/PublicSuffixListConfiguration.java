@@ -0,0 +1,50 @@
+package org.prebid.server.spring.config;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutorFactory;
+import org.prebid.server.execution.file.FileUtil;
+import org.prebid.server.publicsuffix.PublicSuffixListService;
+import org.prebid.server.publicsuffix.PublicSuffixTrie;
+import org.prebid.server.spring.config.model.FileSyncerProperties;
+import org.prebid.server.spring.config.model.PublicSuffixListProperties;
+import org.prebid.server.util.ResourceUtil;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class PublicSuffixListConfiguration {
+
+    @Bean
+    @ConfigurationProperties(prefix = "public-suffix-list")
+    PublicSuffixListProperties publicSuffixListProperties() {
+        return new PublicSuffixListProperties();
+    }
+
+    @Bean
+    PublicSuffixListService publicSuffixListService(PublicSuffixListProperties properties,
+                                                    Vertx vertx,
+                                                    BlockingExecutorFactory blockingExecutorFactory) {
+
+        final PublicSuffixListService publicSuffixListService = new PublicSuffixListService(
+                bundledTrie(properties.getClasspathFile()), properties.getCacheSize());
+
+        final FileSyncerProperties fileSyncerProperties = properties.getRemoteFileSyncer();
+        if (fileSyncerProperties != null) {
+            FileUtil.fileSyncerFor(publicSuffixListService, fileSyncerProperties, vertx,
+                    blockingExecutorFactory.forSubsystem(BlockingExecutorFactory.FILE_SYNCER)).sync();
+        }
+
+        return publicSuffixListService;
+    }
+
+    private static PublicSuffixTrie bundledTrie(String classpathFile) {
+        try {
+            return PublicSuffixTrie.of(ResourceUtil.readFromClasspath(classpathFile).lines().toList());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not initialize public suffix list", e);
+        }
+    }
+}
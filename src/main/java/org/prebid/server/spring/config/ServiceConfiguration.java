@@ -1,7 +1,5 @@
 package org.prebid.server.spring.config;
 
-import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
-import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
@@ -11,8 +9,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
+import org.prebid.server.auction.AuctionMemoryGuard;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderTimeoutAllocator;
 import org.prebid.server.auction.BidsAdjuster;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.DsaEnforcer;
@@ -38,6 +38,7 @@ import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
 import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
 import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
+import org.prebid.server.auction.categorymapping.PreloadedCategories;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.gpp.CookieSyncGppService;
@@ -74,7 +75,9 @@ import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
+import org.prebid.server.cache.CacheWritePipeline;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.LocalCacheStore;
 import org.prebid.server.cache.PbcStorageService;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
@@ -85,6 +88,7 @@ import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.blocking.BlockingExecutorFactory;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.floors.PriceFloorAdjuster;
 import org.prebid.server.floors.PriceFloorEnforcer;
@@ -102,10 +106,12 @@ import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
+import org.prebid.server.publicsuffix.PublicSuffixListService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
@@ -135,14 +141,12 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 
 import jakarta.validation.constraints.Min;
-import java.io.IOException;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -171,7 +175,8 @@ public class ServiceConfiguration {
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) CacheWritePipeline cacheWritePipeline) {
 
         return new CoreCacheService(
                 httpClient,
@@ -187,9 +192,56 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
+                mapper,
+                cacheWritePipeline);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.pipeline", name = "enabled", havingValue = "true")
+    CacheWritePipeline cacheWritePipeline(
+            @Value("${cache.scheme}") String scheme,
+            @Value("${cache.host}") String host,
+            @Value("${cache.path}") String path,
+            @Value("${pbc.api.key:#{null}}") String apiKey,
+            @Value("${cache.api-key-secured:false}") boolean apiKeySecured,
+            @Value("${cache.pipeline.batch-window-ms}") long batchWindowMs,
+            @Value("${cache.pipeline.max-batch-size}") int maxBatchSize,
+            @Value("${cache.pipeline.account-max-in-flight}") int accountMaxInFlight,
+            @Autowired(required = false) LocalCacheStore localCacheStore,
+            Vertx vertx,
+            HttpClient httpClient,
+            Metrics metrics,
+            Clock clock,
+            JacksonMapper mapper) {
+
+        return new CacheWritePipeline(
+                vertx,
+                httpClient,
+                CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
+                apiKey,
+                apiKeySecured,
+                batchWindowMs,
+                maxBatchSize,
+                accountMaxInFlight,
+                localCacheStore,
+                metrics,
+                clock,
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.pipeline.local-fallback", name = "enabled", havingValue = "true")
+    LocalCacheStore localCacheStore(@Value("${external-url}") String externalUrl,
+                                    @Value("${cache.pipeline.local-fallback.ttl-seconds}") int ttlSeconds,
+                                    @Value("${cache.pipeline.local-fallback.size}") long size) {
+
+        return new LocalCacheStore(
+                CacheServiceUtil.getCacheEndpoint(externalUrl, Endpoint.cache.value(), "uuid="),
+                ttlSeconds,
+                size,
+                new UUIDIdGenerator());
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "cache.module", name = "enabled", havingValue = "false", matchIfMissing = true)
     PbcStorageService noOpModuleCacheService() {
@@ -220,12 +272,27 @@ public class ServiceConfiguration {
         return new VastModifier(bidderCatalog, eventsService, metrics);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction", name = "category-mapping-enabled", havingValue = "true")
+    PreloadedCategories preloadedCategories(
+            ApplicationSettings applicationSettings,
+            @Value("${auction.category-mapping.preload.tables:#{null}}") String tables,
+            @Value("${auction.category-mapping.preload.refresh-period-ms}") long refreshPeriodMs,
+            @Value("${auction.category-mapping.preload.timeout-ms}") long timeoutMs,
+            TimeoutFactory timeoutFactory,
+            Vertx vertx) {
+
+        return new PreloadedCategories(
+                applicationSettings, splitToList(tables), refreshPeriodMs, timeoutMs, timeoutFactory, vertx);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "auction", name = "category-mapping-enabled", havingValue = "true")
     CategoryMappingService basicCategoryMappingService(ApplicationSettings applicationSettings,
+                                                       PreloadedCategories preloadedCategories,
                                                        JacksonMapper jacksonMapper) {
 
-        return new BasicCategoryMappingService(applicationSettings, jacksonMapper);
+        return new BasicCategoryMappingService(applicationSettings, preloadedCategories, jacksonMapper);
     }
 
     @Bean
@@ -239,8 +306,8 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixList psl) {
-        return new ImplicitParametersExtractor(psl);
+    ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixListService publicSuffixListService) {
+        return new ImplicitParametersExtractor(publicSuffixListService);
     }
 
     @Bean
@@ -285,6 +352,21 @@ public class ServiceConfiguration {
         return new TimeoutResolver(minTimeout, maxTimeout, upstreamResponseTime);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.adaptive-bidder-timeout", name = "enabled", havingValue = "true")
+    BidderTimeoutAllocator bidderTimeoutAllocator(
+            @Value("${auction.adaptive-bidder-timeout.percentile}") double percentile,
+            @Value("${auction.adaptive-bidder-timeout.headroom-factor}") double headroomFactor,
+            @Value("${auction.biddertmax.min}") long minTimeout,
+            @Value("${auction.adaptive-bidder-timeout.min-samples}") long minSamples,
+            @Value("${auction.adaptive-bidder-timeout.window-ms}") long windowMs,
+            @Value("${auction.adaptive-bidder-timeout.max-sketches}") int maxSketches,
+            Clock clock) {
+
+        return new BidderTimeoutAllocator(
+                percentile, headroomFactor, minTimeout, minSamples, windowMs, maxSketches, clock);
+    }
+
     @Bean
     DebugResolver debugResolver(@Value("${debug.override-token:#{null}}") String debugOverrideToken,
                                 BidderCatalog bidderCatalog) {
@@ -601,6 +683,7 @@ public class ServiceConfiguration {
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
+            BlockingExecutorFactory blockingExecutorFactory,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
@@ -611,6 +694,7 @@ public class ServiceConfiguration {
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
+                blockingExecutorFactory.forSubsystem(BlockingExecutorFactory.CIRCUIT_BREAKER),
                 httpClient,
                 metrics,
                 circuitBreakerProperties.getOpeningThreshold(),
@@ -760,7 +844,10 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            BlockingExecutorFactory blockingExecutorFactory,
+            @Value("${auction.stored-responses-cache-size:0}") int storedResponsesCacheSize,
+            @Value("${auction.parallel-bidder-processing.enabled:false}") boolean parallelBidderProcessingEnabled) {
 
         return new HttpBidderRequester(
                 httpClient,
@@ -768,7 +855,11 @@ public class ServiceConfiguration {
                 bidderErrorNotifier,
                 requestEnricher,
                 mapper,
-                logSamplingRate);
+                logSamplingRate,
+                storedResponsesCacheSize,
+                parallelBidderProcessingEnabled
+                        ? blockingExecutorFactory.forSubsystem(BlockingExecutorFactory.BIDDER_PROCESSING)
+                        : null);
     }
 
     @Bean
@@ -867,6 +958,7 @@ public class ServiceConfiguration {
             UidUpdater uidUpdater,
             TimeoutResolver timeoutResolver,
             TimeoutFactory timeoutFactory,
+            @Autowired(required = false) BidderTimeoutAllocator bidderTimeoutAllocator,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
             HttpBidderRequester httpBidderRequester,
             BidResponseCreator bidResponseCreator,
@@ -880,7 +972,11 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper,
             CriteriaLogManager criteriaLogManager,
-            @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation) {
+            @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation,
+            @Value("${auction.shared-serialization-enabled:false}") boolean sharedSerializationEnabled,
+            @Value("${auction.structural-sharing-enabled:false}") boolean structuralSharingEnabled,
+            @Value("${auction.parallel-bidder-processing.min-bidders:0}") int parallelBidderProcessingMinBidders,
+            @Value("${auction.parallel-bidder-processing.bidders:#{null}}") String parallelBidderProcessingBidders) {
 
         return new ExchangeService(
                 logSamplingRate,
@@ -895,6 +991,7 @@ public class ServiceConfiguration {
                 uidUpdater,
                 timeoutResolver,
                 timeoutFactory,
+                bidderTimeoutAllocator,
                 bidRequestOrtbVersionConversionManager,
                 httpBidderRequester,
                 bidResponseCreator,
@@ -907,7 +1004,34 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 mapper,
-                criteriaLogManager, enabledStrictAppSiteDoohValidation);
+                criteriaLogManager,
+                enabledStrictAppSiteDoohValidation,
+                sharedSerializationEnabled,
+                structuralSharingEnabled,
+                parallelBidderProcessingMinBidders,
+                splitToSet(parallelBidderProcessingBidders));
+    }
+
+    @Bean
+    AuctionMemoryGuard auctionMemoryGuard(
+            @Value("${auction.memory-guard.enabled:false}") boolean enabled,
+            @Value("${auction.memory-guard.max-in-flight-bytes:0}") long maxInFlightBytes,
+            @Value("${auction.memory-guard.account-max-in-flight-bytes:0}") long accountMaxInFlightBytes,
+            @Value("${auction.memory-guard.request-body-factor:4}") int requestBodyFactor,
+            @Value("${auction.memory-guard.imp-bidder-bytes:8192}") long impBidderBytes,
+            @Value("${auction.memory-guard.debug-factor:3.0}") double debugFactor,
+            @Value("${auction.memory-guard.min-bidders:1}") int minBidders,
+            Metrics metrics) {
+
+        return new AuctionMemoryGuard(
+                enabled,
+                maxInFlightBytes,
+                accountMaxInFlightBytes,
+                requestBodyFactor,
+                impBidderBytes,
+                debugFactor,
+                minBidders,
+                metrics);
     }
 
     @Bean
@@ -950,10 +1074,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    StoredResponseProcessor storedResponseProcessor(ApplicationSettings applicationSettings,
-                                                    JacksonMapper mapper) {
+    StoredResponseProcessor storedResponseProcessor(
+            ApplicationSettings applicationSettings,
+            JacksonMapper mapper,
+            @Value("${auction.stored-responses-cache-size:0}") int storedResponsesCacheSize) {
 
-        return new StoredResponseProcessor(applicationSettings, mapper);
+        return new StoredResponseProcessor(applicationSettings, mapper, storedResponsesCacheSize);
     }
 
     @Bean
@@ -1066,8 +1192,14 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            @Value("${auction.bidder-params-validation.cache-size:10000}") int resultsCacheSize,
+            @Value("${auction.bidder-params-validation.lazy-compilation:false}") boolean lazyCompilation,
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", resultsCacheSize, lazyCompilation, mapper);
     }
 
     @Bean
@@ -1093,19 +1225,6 @@ public class ServiceConfiguration {
         return new CriteriaManager(criteriaLogManager, vertx);
     }
 
-    @Bean
-    PublicSuffixList psl() {
-        final PublicSuffixListFactory factory = new PublicSuffixListFactory();
-
-        final Properties properties = factory.getDefaults();
-        properties.setProperty(PublicSuffixListFactory.PROPERTY_LIST_FILE, "/effective_tld_names.dat");
-        try {
-            return factory.build(properties);
-        } catch (IOException | ClassNotFoundException e) {
-            throw new IllegalArgumentException("Could not initialize public suffix list", e);
-        }
-    }
-
     @Bean
     Clock clock() {
         return Clock.systemUTC();
@@ -17,15 +17,19 @@ import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.CacheNotificationListener;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.CompositeApplicationSettings;
 import org.prebid.server.settings.DatabaseApplicationSettings;
 import org.prebid.server.settings.EnrichingApplicationSettings;
 import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
+import org.prebid.server.settings.ReplicaApplicationSettings;
 import org.prebid.server.settings.S3ApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.StoredDataReplica;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
+import org.prebid.server.settings.helper.StoredDataQueryBatcher;
 import org.prebid.server.settings.service.DatabasePeriodicRefreshService;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.S3PeriodicRefreshService;
@@ -98,7 +102,8 @@ public class SettingsConfiguration {
                 @Value("${settings.database.stored-responses-query}") String storedResponsesQuery,
                 ParametrizedQueryHelper parametrizedQueryHelper,
                 DatabaseClient databaseClient,
-                JacksonMapper jacksonMapper) {
+                JacksonMapper jacksonMapper,
+                @Autowired(required = false) StoredDataQueryBatcher storedDataQueryBatcher) {
 
             return new DatabaseApplicationSettings(
                     databaseClient,
@@ -107,7 +112,25 @@ public class SettingsConfiguration {
                     accountQuery,
                     storedRequestsQuery,
                     ampStoredRequestsQuery,
-                    storedResponsesQuery);
+                    storedResponsesQuery,
+                    storedDataQueryBatcher);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "settings.database.batching", name = "enabled", havingValue = "true")
+        StoredDataQueryBatcher storedDataQueryBatcher(
+                @Value("${settings.database.batching.batch-window-ms}") long batchWindowMs,
+                @Value("${settings.database.batching.max-batch-size}") int maxBatchSize,
+                Vertx vertx,
+                DatabaseClient databaseClient,
+                ParametrizedQueryHelper parametrizedQueryHelper) {
+
+            return new StoredDataQueryBatcher(
+                    vertx,
+                    databaseClient,
+                    parametrizedQueryHelper,
+                    batchWindowMs,
+                    maxBatchSize);
         }
     }
 
@@ -150,20 +173,34 @@ public class SettingsConfiguration {
         public HttpPeriodicRefreshService httpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.endpoint}") String endpoint,
                 SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("storedDataReplica") StoredDataReplica storedDataReplica,
                 JacksonMapper mapper) {
 
             return new HttpPeriodicRefreshService(
-                    endpoint, refreshPeriod, timeout, settingsCache, vertx, httpClient, mapper);
+                    endpoint,
+                    refreshPeriod,
+                    timeout,
+                    cacheNotificationListener(storedDataReplica, settingsCache),
+                    vertx,
+                    httpClient,
+                    mapper);
         }
 
         @Bean
         public HttpPeriodicRefreshService ampHttpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.amp-endpoint}") String ampEndpoint,
                 SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampStoredDataReplica") StoredDataReplica ampStoredDataReplica,
                 JacksonMapper mapper) {
 
             return new HttpPeriodicRefreshService(
-                    ampEndpoint, refreshPeriod, timeout, ampSettingsCache, vertx, httpClient, mapper);
+                    ampEndpoint,
+                    refreshPeriod,
+                    timeout,
+                    cacheNotificationListener(ampStoredDataReplica, ampSettingsCache),
+                    vertx,
+                    httpClient,
+                    mapper);
         }
     }
 
@@ -197,6 +234,7 @@ public class SettingsConfiguration {
         @Bean
         public DatabasePeriodicRefreshService databasePeriodicRefreshService(
                 @Qualifier("settingsCache") SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("storedDataReplica") StoredDataReplica storedDataReplica,
                 @Value("${settings.in-memory-cache.database-update.init-query}") String initQuery,
                 @Value("${settings.in-memory-cache.database-update.update-query}") String updateQuery) {
 
@@ -206,7 +244,7 @@ public class SettingsConfiguration {
                     refreshPeriod,
                     timeout,
                     MetricName.stored_request,
-                    settingsCache,
+                    cacheNotificationListener(storedDataReplica, settingsCache),
                     vertx,
                     databaseClient,
                     timeoutFactory,
@@ -217,6 +255,7 @@ public class SettingsConfiguration {
         @Bean
         public DatabasePeriodicRefreshService ampDatabasePeriodicRefreshService(
                 @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampStoredDataReplica") StoredDataReplica ampStoredDataReplica,
                 @Value("${settings.in-memory-cache.database-update.amp-init-query}") String ampInitQuery,
                 @Value("${settings.in-memory-cache.database-update.amp-update-query}") String ampUpdateQuery) {
 
@@ -226,7 +265,7 @@ public class SettingsConfiguration {
                     refreshPeriod,
                     timeout,
                     MetricName.amp_stored_request,
-                    ampSettingsCache,
+                    cacheNotificationListener(ampStoredDataReplica, ampSettingsCache),
                     vertx,
                     databaseClient,
                     timeoutFactory,
@@ -349,6 +388,7 @@ public class SettingsConfiguration {
                 S3SettingsConfiguration.S3ConfigurationProperties s3ConfigurationProperties,
                 @Value("${settings.in-memory-cache.s3-update.refresh-rate}") long refreshPeriod,
                 SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("storedDataReplica") StoredDataReplica storedDataReplica,
                 Clock clock,
                 Metrics metrics,
                 Vertx vertx) {
@@ -359,7 +399,7 @@ public class SettingsConfiguration {
                     s3ConfigurationProperties.getStoredRequestsDir(),
                     s3ConfigurationProperties.getStoredImpsDir(),
                     refreshPeriod,
-                    settingsCache,
+                    cacheNotificationListener(storedDataReplica, settingsCache),
                     MetricName.stored_request,
                     clock,
                     metrics,
@@ -447,8 +487,39 @@ public class SettingsConfiguration {
         @Bean
         ApplicationSettings applicationSettings(
                 @Autowired(required = false) CachingApplicationSettings cachingApplicationSettings,
-                EnrichingApplicationSettings enrichingApplicationSettings) {
-            return ObjectUtils.defaultIfNull(cachingApplicationSettings, enrichingApplicationSettings);
+                EnrichingApplicationSettings enrichingApplicationSettings,
+                @Autowired(required = false) @Qualifier("storedDataReplica") StoredDataReplica replica,
+                @Autowired(required = false) @Qualifier("ampStoredDataReplica") StoredDataReplica ampReplica) {
+
+            final ApplicationSettings applicationSettings =
+                    ObjectUtils.defaultIfNull(cachingApplicationSettings, enrichingApplicationSettings);
+
+            return replica != null && ampReplica != null
+                    ? new ReplicaApplicationSettings(applicationSettings, replica, ampReplica)
+                    : applicationSettings;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.in-memory-cache.replica", name = "enabled", havingValue = "true")
+    static class ReplicaConfiguration {
+
+        @Bean
+        @Qualifier("storedDataReplica")
+        StoredDataReplica storedDataReplica(
+                @Value("${settings.in-memory-cache.replica.compaction-threshold}") int compactionThreshold,
+                Metrics metrics) {
+
+            return new StoredDataReplica(MetricName.stored_request, compactionThreshold, metrics);
+        }
+
+        @Bean
+        @Qualifier("ampStoredDataReplica")
+        StoredDataReplica ampStoredDataReplica(
+                @Value("${settings.in-memory-cache.replica.compaction-threshold}") int compactionThreshold,
+                Metrics metrics) {
+
+            return new StoredDataReplica(MetricName.amp_stored_request, compactionThreshold, metrics);
         }
     }
 
@@ -501,4 +572,10 @@ public class SettingsConfiguration {
         @Min(0)
         private int jitterSeconds;
     }
+
+    private static CacheNotificationListener cacheNotificationListener(StoredDataReplica replica,
+                                                                       SettingsCache cache) {
+
+        return replica != null ? replica : cache;
+    }
 }
@@ -2,6 +2,8 @@ package org.prebid.server.spring.config;
 
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +11,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
 import java.util.List;
 
 @Configuration
@@ -23,8 +27,21 @@ public class VerticleStarter {
     @Autowired
     private List<VerticleDefinition> definitions;
 
+    @Autowired
+    private Metrics metrics;
+
+    @Autowired
+    private Clock clock;
+
+    /**
+     * Deploys verticles and reports startup phases durations, counting from the JVM start.
+     */
     @EventListener(ContextRefreshedEvent.class)
     public void start() {
+        final long jvmStartTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+        final long contextRefreshTime = clock.millis();
+        metrics.updateStartupPhaseMetric(MetricName.context, contextRefreshTime - jvmStartTime);
+
         for (VerticleDefinition definition : definitions) {
             if (definition.getAmount() <= 0) {
                 continue;
@@ -36,5 +53,9 @@ public class VerticleStarter {
                             new DeploymentOptions().setInstances(definition.getAmount()),
                             promise));
         }
+
+        final long verticlesDeployedTime = clock.millis();
+        metrics.updateStartupPhaseMetric(MetricName.verticles, verticlesDeployedTime - contextRefreshTime);
+        metrics.updateStartupPhaseMetric(MetricName.total, verticlesDeployedTime - jvmStartTime);
     }
 }
@@ -7,11 +7,14 @@ import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.execution.blocking.BlockingExecutorFactory;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
+import org.prebid.server.spring.config.model.BlockingExecutorProperties;
 import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -56,4 +59,19 @@ public class VertxConfiguration {
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
     }
+
+    @Bean
+    @ConfigurationProperties(prefix = "vertx.blocking-executor")
+    BlockingExecutorProperties blockingExecutorProperties() {
+        return new BlockingExecutorProperties();
+    }
+
+    @Bean
+    BlockingExecutorFactory blockingExecutorFactory(Vertx vertx, BlockingExecutorProperties properties) {
+        return new BlockingExecutorFactory(
+                vertx,
+                properties.getVirtualThreadsEnabled(),
+                properties.getDefaultMaxConcurrency(),
+                properties.getMaxConcurrency());
+    }
 }
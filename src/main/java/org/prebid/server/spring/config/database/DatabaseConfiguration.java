@@ -7,6 +7,7 @@ import io.vertx.pgclient.PgBuilder;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
+import org.prebid.server.execution.blocking.BlockingExecutorFactory;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.helper.ParametrizedQueryMySqlHelper;
@@ -151,6 +152,7 @@ public class DatabaseConfiguration {
     @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredDatabaseClient circuitBreakerSecuredAsyncDatabaseClient(
             Vertx vertx,
+            BlockingExecutorFactory blockingExecutorFactory,
             Pool pool,
             Metrics metrics,
             Clock clock,
@@ -160,6 +162,7 @@ public class DatabaseConfiguration {
         final BasicDatabaseClient databaseClient = createBasicDatabaseClient(pool, metrics, clock, contextRunner);
         return new CircuitBreakerSecuredDatabaseClient(
                 vertx,
+                blockingExecutorFactory.forSubsystem(BlockingExecutorFactory.CIRCUIT_BREAKER),
                 databaseClient,
                 metrics,
                 circuitBreakerProperties.getOpeningThreshold(),
@@ -1,11 +1,7 @@
 package org.prebid.server.spring.config.metrics;
 
 import com.codahale.metrics.MetricRegistry;
-import io.prometheus.client.CollectorRegistry;
-import io.prometheus.client.dropwizard.DropwizardExports;
 import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
-import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
-import io.prometheus.client.vertx.MetricsHandler;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.web.Router;
@@ -15,7 +11,9 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
-import org.prebid.server.metric.prometheus.NamespaceSubsystemSampleBuilder;
+import org.prebid.server.metric.prometheus.PrometheusExporter;
+import org.prebid.server.metric.prometheus.PrometheusScrapeHandler;
+import org.prebid.server.metric.prometheus.PrometheusSeriesMapper;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,10 +36,7 @@ public class PrometheusConfiguration {
     @Bean
     public VerticleDefinition prometheusHttpServerVerticleDefinition(
             PrometheusConfigurationProperties prometheusConfigurationProperties,
-            Router prometheusRouter,
-            DropwizardExports dropwizardExports) {
-
-        CollectorRegistry.defaultRegistry.register(dropwizardExports);
+            Router prometheusRouter) {
 
         return VerticleDefinition.ofSingleInstance(
                 () -> new ServerVerticle(
@@ -51,28 +46,38 @@ public class PrometheusConfiguration {
     }
 
     @Bean
-    public SampleBuilder sampleBuilder(PrometheusConfigurationProperties prometheusConfigurationProperties,
-                                       List<MapperConfig> mapperConfigs) {
+    public PrometheusSeriesMapper prometheusSeriesMapper(
+            PrometheusConfigurationProperties prometheusConfigurationProperties,
+            List<MapperConfig> mapperConfigs) {
 
-        return new NamespaceSubsystemSampleBuilder(
+        return new PrometheusSeriesMapper(
                 prometheusConfigurationProperties.getNamespace(),
                 prometheusConfigurationProperties.getSubsystem(),
                 mapperConfigs);
     }
 
     @Bean
-    DropwizardExports dropwizardExports(Metrics metrics, MetricRegistry metricRegistry, SampleBuilder sampleBuilder) {
+    PrometheusExporter prometheusExporter(PrometheusConfigurationProperties prometheusConfigurationProperties,
+                                          PrometheusSeriesMapper prometheusSeriesMapper,
+                                          Metrics metrics,
+                                          MetricRegistry metricRegistry) {
+
         if (metrics.getCounterType() == CounterType.flushingCounter) {
             logger.warn("Prometheus metric system: Metric type is flushingCounter.");
         }
 
-        return new DropwizardExports(metricRegistry, sampleBuilder);
+        final PrometheusExporter prometheusExporter = new PrometheusExporter(
+                prometheusSeriesMapper, prometheusConfigurationProperties.getMaxSeriesPerAccount());
+        metricRegistry.addListener(prometheusExporter);
+        metrics.createPrometheusRejectedSeriesGauge(prometheusExporter::rejectedSeries);
+
+        return prometheusExporter;
     }
 
     @Bean
-    Router prometheusRouter(Vertx vertx) {
+    Router prometheusRouter(Vertx vertx, PrometheusExporter prometheusExporter) {
         final Router router = Router.router(vertx);
-        router.route("/metrics").handler(new MetricsHandler());
+        router.route("/metrics").handler(new PrometheusScrapeHandler(prometheusExporter));
         return router;
     }
 
@@ -90,5 +95,7 @@ public class PrometheusConfiguration {
         String namespace;
 
         String subsystem;
+
+        int maxSeriesPerAccount;
     }
 }
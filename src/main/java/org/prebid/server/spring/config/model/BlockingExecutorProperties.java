@@ -0,0 +1,25 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BlockingExecutorProperties {
+
+    @NotNull
+    private Boolean virtualThreadsEnabled;
+
+    @NotNull
+    @Min(1)
+    private Integer defaultMaxConcurrency;
+
+    private Map<String, Integer> maxConcurrency = new HashMap<>();
+}
@@ -0,0 +1,26 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class PublicSuffixListProperties {
+
+    @NotBlank
+    private String classpathFile;
+
+    @NotNull
+    @Min(1)
+    private Long cacheSize;
+
+    @Valid
+    private FileSyncerProperties remoteFileSyncer;
+}
@@ -14,6 +14,7 @@ import lombok.NoArgsConstructor;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
+import org.prebid.server.auction.AuctionMemoryGuard;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.HooksMetricsService;
 import org.prebid.server.auction.SkippedAuctionService;
@@ -27,6 +28,7 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.LocalCacheStore;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
@@ -35,6 +37,7 @@ import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
+import org.prebid.server.handler.LocalCacheHandler;
 import org.prebid.server.handler.NoCacheHandler;
 import org.prebid.server.handler.NotificationEventHandler;
 import org.prebid.server.handler.OptoutHandler;
@@ -210,6 +213,7 @@ public class ApplicationServerConfiguration {
     @Bean
     AuctionHandler openrtbAuctionHandler(
             ExchangeService exchangeService,
+            AuctionMemoryGuard auctionMemoryGuard,
             SkippedAuctionService skippedAuctionService,
             AuctionRequestFactory auctionRequestFactory,
             AnalyticsReporterDelegator analyticsReporter,
@@ -225,6 +229,7 @@ public class ApplicationServerConfiguration {
                 logSamplingRate,
                 auctionRequestFactory,
                 exchangeService,
+                auctionMemoryGuard,
                 skippedAuctionService,
                 analyticsReporter,
                 metrics,
@@ -240,6 +245,7 @@ public class ApplicationServerConfiguration {
     AmpHandler openrtbAmpHandler(
             AmpRequestFactory ampRequestFactory,
             ExchangeService exchangeService,
+            AuctionMemoryGuard auctionMemoryGuard,
             AnalyticsReporterDelegator analyticsReporter,
             Metrics metrics,
             HooksMetricsService hooksMetricsService,
@@ -255,6 +261,7 @@ public class ApplicationServerConfiguration {
         return new AmpHandler(
                 ampRequestFactory,
                 exchangeService,
+                auctionMemoryGuard,
                 analyticsReporter,
                 metrics,
                 hooksMetricsService,
@@ -369,6 +376,12 @@ public class ApplicationServerConfiguration {
         return new GetuidsHandler(uidsCookieService, mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.pipeline.local-fallback", name = "enabled", havingValue = "true")
+    LocalCacheHandler localCacheHandler(LocalCacheStore localCacheStore, JacksonMapper mapper) {
+        return new LocalCacheHandler(localCacheStore, mapper);
+    }
+
     @Bean
     VtrackHandler vtrackHandler(
             @Value("${vtrack.default-timeout-ms}") int defaultTimeoutMs,
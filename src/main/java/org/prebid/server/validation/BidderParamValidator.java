@@ -1,9 +1,11 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
@@ -14,6 +16,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -27,24 +30,60 @@ import java.util.stream.Collectors;
 public class BidderParamValidator {
 
     private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+    private static final String META_SCHEMA_LOCATION = "http://json-schema.org/draft-04/schema#";
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
 
-    private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, LazyBidderSchema> bidderSchemas;
     private final String schemas;
+    private final Map<ValidationKey, Set<String>> validationResults;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, LazyBidderSchema> bidderSchemas, String schemas, int resultsCacheSize) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.validationResults = resultsCacheSize > 0 ? createValidationResultsCache(resultsCacheSize) : null;
+    }
+
+    private static Map<ValidationKey, Set<String>> createValidationResultsCache(int size) {
+        return Caffeine.newBuilder()
+                .maximumSize(size)
+                .<ValidationKey, Set<String>>build()
+                .asMap();
     }
 
     /**
-     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema.
+     * <p>
+     * Params accepted by compiled validator are considered valid right away, otherwise general-purpose validator
+     * is used and its result is memoized for identical params, e.g. coming from stored requests.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        final BidderSchema bidderSchema = bidderSchemas.get(bidder).get();
+
+        final CompiledBidderParamSchema compiledSchema = bidderSchema.compiledSchema();
+        if (compiledSchema != null && compiledSchema.check(jsonNode) == CompiledBidderParamSchema.Verdict.VALID) {
+            return Collections.emptySet();
+        }
+
+        if (validationResults == null) {
+            return validate(bidderSchema.schema(), jsonNode);
+        }
+
+        final Set<String> cachedResult = validationResults.get(new ValidationKey(bidderSchema, jsonNode));
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final Set<String> result = validate(bidderSchema.schema(), jsonNode);
+        // params node could be modified later on, so it is copied to keep the key intact
+        validationResults.put(new ValidationKey(bidderSchema, jsonNode.deepCopy()), result);
+        return result;
+    }
+
+    private static Set<String> validate(JsonSchema schema, JsonNode jsonNode) {
+        return schema.validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
@@ -80,6 +119,33 @@ public class BidderParamValidator {
                                               String schemaDirectory,
                                               JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, 0, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} memoizing up to given number of validation results
+     * produced by general-purpose validator.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int resultsCacheSize,
+                                              JacksonMapper mapper) {
+
+        return create(bidderCatalog, schemaDirectory, resultsCacheSize, false, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} which, if lazy compilation is enabled, compiles bidder
+     * schema on its first use instead of compiling schemas of all bidders (including disabled ones) at startup.
+     * Schema files are still read, parsed and checked against JSON schema draft 4 at startup, so missing, malformed
+     * or invalid schemas fail it anyway instead of failing the first request to the bidder.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int resultsCacheSize,
+                                              boolean lazyCompilation,
+                                              JacksonMapper mapper) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
@@ -89,18 +155,55 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(bidderCatalog, schemaDirectory, bidder, mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas, lazyCompilation),
+                toSchemas(bidderRawSchemas, mapper),
+                resultsCacheSize);
     }
 
-    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+    private static Map<String, LazyBidderSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas,
+                                                                 boolean lazyCompilation) {
+
+        if (lazyCompilation) {
+            final JsonSchema metaSchema = SCHEMA_FACTORY.getSchema(SchemaLocation.of(META_SCHEMA_LOCATION));
+            bidderRawSchemas.forEach((bidder, schema) -> checkSchema(metaSchema, schema, bidder));
+        }
+
         return bidderRawSchemas.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        e -> toBidderSchema(e.getValue(), e.getKey()),
+                        e -> toLazyBidderSchema(e.getValue(), e.getKey(), lazyCompilation),
                         (first, second) -> second,
                         CaseInsensitiveMap::new));
     }
 
+    private static void checkSchema(JsonSchema metaSchema, JsonNode schema, String bidder) {
+        final Set<String> errors = metaSchema.validate(schema).stream()
+                .filter(message -> !isEmptyRequired(message))
+                .map(ValidationMessage::getMessage)
+                .collect(Collectors.toSet());
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid %s bidder schema: %s".formatted(bidder, errors));
+        }
+    }
+
+    /**
+     * Draft 4 meta-schema doesn't allow empty required list, but validators accept it and bidder schemas use it.
+     */
+    private static boolean isEmptyRequired(ValidationMessage message) {
+        return "minItems".equals(message.getType())
+                && message.getInstanceNode().isEmpty()
+                && "required".equals(message.getInstanceLocation().getName(-1));
+    }
+
+    private static LazyBidderSchema toLazyBidderSchema(JsonNode schema, String bidder, boolean lazyCompilation) {
+        final LazyBidderSchema lazyBidderSchema = new LazyBidderSchema(schema, bidder);
+        if (!lazyCompilation) {
+            lazyBidderSchema.get();
+        }
+        return lazyBidderSchema;
+    }
+
     private static String toSchemas(Map<String, JsonNode> bidderRawSchemas, JacksonMapper mapper) {
         try {
             return mapper.encodeToString(bidderRawSchemas);
@@ -109,14 +212,14 @@ public class BidderParamValidator {
         }
     }
 
-    private static JsonSchema toBidderSchema(JsonNode schema, String bidder) {
+    private static BidderSchema toBidderSchema(JsonNode schema, String bidder) {
         final JsonSchema result;
         try {
             result = SCHEMA_FACTORY.getSchema(schema);
         } catch (JsonSchemaException e) {
             throw new IllegalArgumentException("Couldn't parse %s bidder schema".formatted(bidder), e);
         }
-        return result;
+        return new BidderSchema(result, CompiledBidderParamSchema.compile(schema));
     }
 
     private static JsonNode createSchemaNode(BidderCatalog bidderCatalog,
@@ -163,4 +266,48 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    private record BidderSchema(JsonSchema schema, CompiledBidderParamSchema compiledSchema) {
+
+        // schemas are compared by identity to keep validation cache lookups cheap
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    private static class LazyBidderSchema {
+
+        private final JsonNode rawSchema;
+        private final String bidder;
+
+        private volatile BidderSchema bidderSchema;
+
+        LazyBidderSchema(JsonNode rawSchema, String bidder) {
+            this.rawSchema = rawSchema;
+            this.bidder = bidder;
+        }
+
+        BidderSchema get() {
+            BidderSchema result = bidderSchema;
+            if (result == null) {
+                synchronized (this) {
+                    result = bidderSchema;
+                    if (result == null) {
+                        result = toBidderSchema(rawSchema, bidder);
+                        bidderSchema = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private record ValidationKey(BidderSchema bidderSchema, JsonNode params) {
+    }
 }
@@ -0,0 +1,367 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.prebid.server.util.StreamUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Specialized validator compiled once from a bidder params JSON schema (draft-04).
+ * <p>
+ * Only the subset of keywords used by bidder params schemas is supported: type checks, properties, required,
+ * enum, string/number/array constraints and schema composition. Each check answers whether the value is valid,
+ * invalid or if it can't tell for sure (e.g. for number representations treated differently by validator
+ * implementations), so callers are expected to fall back to the general-purpose validator for anything but
+ * {@link Verdict#VALID} to produce error messages.
+ */
+class CompiledBidderParamSchema {
+
+    private static final Set<String> ANNOTATIONS = Set.of(
+            "$schema", "id", "title", "description", "default", "examples", "definitions");
+
+    // applied along with the related keyword
+    private static final Set<String> MODIFIERS = Set.of(
+            "exclusiveMinimum", "exclusiveMaximum", "additionalProperties");
+
+    private final Check check;
+
+    private CompiledBidderParamSchema(Check check) {
+        this.check = check;
+    }
+
+    /**
+     * Returns compiled schema or null if schema contains keywords not supported by compiler.
+     */
+    static CompiledBidderParamSchema compile(JsonNode schema) {
+        try {
+            return new CompiledBidderParamSchema(compileNode(schema));
+        } catch (UnsupportedSchemaException e) {
+            return null;
+        }
+    }
+
+    Verdict check(JsonNode value) {
+        return check.check(value);
+    }
+
+    private static Check compileNode(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Check> checks = new ArrayList<>();
+        final Map<String, Check> properties = new HashMap<>();
+        final JsonNode additionalProperties = schema.get("additionalProperties");
+
+        for (String keyword : StreamUtil.asStream(schema.fieldNames()).toList()) {
+            final JsonNode value = schema.get(keyword);
+            switch (keyword) {
+                case "type" -> checks.add(typeCheck(value));
+                case "properties" -> value.fields().forEachRemaining(property ->
+                        properties.put(property.getKey(), compileNode(property.getValue())));
+                case "required" -> checks.add(requiredCheck(value));
+                case "enum" -> checks.add(enumCheck(value));
+                case "minLength" -> checks.add(lengthCheck(intValue(value), Integer.MAX_VALUE));
+                case "maxLength" -> checks.add(lengthCheck(0, intValue(value)));
+                case "pattern" -> checks.add(patternCheck(value));
+                case "minimum" -> checks.add(minimumCheck(value, schema.path("exclusiveMinimum").asBoolean()));
+                case "maximum" -> checks.add(maximumCheck(value, schema.path("exclusiveMaximum").asBoolean()));
+                case "minItems" -> checks.add(itemsCountCheck(intValue(value), Integer.MAX_VALUE));
+                case "maxItems" -> checks.add(itemsCountCheck(0, intValue(value)));
+                case "items" -> checks.add(itemsCheck(compileNode(value)));
+                case "anyOf" -> checks.add(anyOfCheck(compileNodes(value)));
+                case "allOf" -> checks.add(allOf(compileNodes(value)));
+                case "oneOf" -> checks.add(oneOfCheck(compileNodes(value)));
+                case "not" -> checks.add(notCheck(compileNode(value)));
+                default -> {
+                    if (!ANNOTATIONS.contains(keyword) && !MODIFIERS.contains(keyword)) {
+                        throw new UnsupportedSchemaException();
+                    }
+                }
+            }
+        }
+
+        if (!properties.isEmpty() || additionalProperties != null) {
+            checks.add(propertiesCheck(properties, additionalProperties));
+        }
+
+        return allOf(checks);
+    }
+
+    private static List<Check> compileNodes(JsonNode schemas) {
+        if (!schemas.isArray() || schemas.isEmpty()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Check> checks = new ArrayList<>();
+        schemas.forEach(schema -> checks.add(compileNode(schema)));
+        return checks;
+    }
+
+    private static int intValue(JsonNode value) {
+        if (!value.canConvertToExactIntegral() || !value.canConvertToInt()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.intValue();
+    }
+
+    private static Check typeCheck(JsonNode type) {
+        if (type.isTextual()) {
+            return typeCheck(type.textValue());
+        }
+        if (type.isArray()) {
+            final List<Check> checks = new ArrayList<>();
+            type.forEach(element -> checks.add(typeCheck(element.asText())));
+            return anyOfCheck(checks);
+        }
+        throw new UnsupportedSchemaException();
+    }
+
+    private static Check typeCheck(String type) {
+        return switch (type) {
+            case "object" -> value -> Verdict.of(value.isObject());
+            case "array" -> value -> Verdict.of(value.isArray());
+            case "string" -> value -> Verdict.of(value.isTextual());
+            case "boolean" -> value -> Verdict.of(value.isBoolean());
+            case "null" -> value -> Verdict.of(value.isNull());
+            case "number" -> value -> Verdict.of(value.isNumber());
+            // validators disagree whether floating point number without fraction is integer
+            case "integer" -> value -> value.isIntegralNumber()
+                    ? Verdict.VALID
+                    : value.isNumber() && value.canConvertToExactIntegral() ? Verdict.UNKNOWN : Verdict.INVALID;
+            default -> throw new UnsupportedSchemaException();
+        };
+    }
+
+    private static Check requiredCheck(JsonNode required) {
+        if (!required.isArray()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<String> names = new ArrayList<>();
+        required.forEach(name -> names.add(name.asText()));
+        return value -> {
+            if (!value.isObject()) {
+                return Verdict.VALID;
+            }
+            for (String name : names) {
+                if (!value.has(name)) {
+                    return Verdict.INVALID;
+                }
+            }
+            return Verdict.VALID;
+        };
+    }
+
+    private static Check enumCheck(JsonNode values) {
+        if (!values.isArray()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final Set<JsonNode> allowed = new HashSet<>();
+        values.forEach(allowed::add);
+        // numbers are compared by value by validators, while nodes of different numeric types are never equal
+        return value -> allowed.contains(value)
+                ? Verdict.VALID
+                : value.isNumber() ? Verdict.UNKNOWN : Verdict.INVALID;
+    }
+
+    private static Check lengthCheck(int min, int max) {
+        return value -> {
+            if (!value.isTextual()) {
+                return Verdict.VALID;
+            }
+            final String text = value.textValue();
+            final int length = text.codePointCount(0, text.length());
+            return Verdict.of(length >= min && length <= max);
+        };
+    }
+
+    private static Check patternCheck(JsonNode pattern) {
+        final Pattern compiled;
+        try {
+            compiled = Pattern.compile(pattern.asText());
+        } catch (PatternSyntaxException e) {
+            throw new UnsupportedSchemaException();
+        }
+        return value -> !value.isTextual() || compiled.matcher(value.textValue()).find()
+                ? Verdict.VALID
+                : Verdict.INVALID;
+    }
+
+    private static Check minimumCheck(JsonNode minimum, boolean exclusive) {
+        final BigDecimal limit = decimalValue(minimum);
+        return value -> {
+            if (!value.isNumber()) {
+                return Verdict.VALID;
+            }
+            final int comparison = value.decimalValue().compareTo(limit);
+            return Verdict.of(exclusive ? comparison > 0 : comparison >= 0);
+        };
+    }
+
+    private static Check maximumCheck(JsonNode maximum, boolean exclusive) {
+        final BigDecimal limit = decimalValue(maximum);
+        return value -> {
+            if (!value.isNumber()) {
+                return Verdict.VALID;
+            }
+            final int comparison = value.decimalValue().compareTo(limit);
+            return Verdict.of(exclusive ? comparison < 0 : comparison <= 0);
+        };
+    }
+
+    private static BigDecimal decimalValue(JsonNode number) {
+        if (!number.isNumber()) {
+            throw new UnsupportedSchemaException();
+        }
+        return number.decimalValue();
+    }
+
+    private static Check itemsCountCheck(int min, int max) {
+        return value -> !value.isArray() || (value.size() >= min && value.size() <= max)
+                ? Verdict.VALID
+                : Verdict.INVALID;
+    }
+
+    private static Check itemsCheck(Check itemCheck) {
+        return value -> {
+            if (!value.isArray()) {
+                return Verdict.VALID;
+            }
+            Verdict result = Verdict.VALID;
+            for (JsonNode item : value) {
+                result = result.and(itemCheck.check(item));
+                if (result == Verdict.INVALID) {
+                    break;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check propertiesCheck(Map<String, Check> properties, JsonNode additionalProperties) {
+        final Check additionalCheck;
+        if (additionalProperties == null || additionalProperties.isBoolean() && additionalProperties.booleanValue()) {
+            additionalCheck = null;
+        } else if (additionalProperties.isBoolean()) {
+            additionalCheck = value -> Verdict.INVALID;
+        } else {
+            additionalCheck = compileNode(additionalProperties);
+        }
+
+        return value -> {
+            if (!value.isObject()) {
+                return Verdict.VALID;
+            }
+            Verdict result = Verdict.VALID;
+            final Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+            while (fields.hasNext() && result != Verdict.INVALID) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                final Check propertyCheck = properties.getOrDefault(field.getKey(), additionalCheck);
+                if (propertyCheck != null) {
+                    result = result.and(propertyCheck.check(field.getValue()));
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check allOf(List<Check> checks) {
+        if (checks.size() == 1) {
+            return checks.getFirst();
+        }
+        return value -> {
+            Verdict result = Verdict.VALID;
+            for (Check check : checks) {
+                result = result.and(check.check(value));
+                if (result == Verdict.INVALID) {
+                    break;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check anyOfCheck(List<Check> checks) {
+        return value -> {
+            Verdict result = Verdict.INVALID;
+            for (Check check : checks) {
+                result = result.or(check.check(value));
+                if (result == Verdict.VALID) {
+                    break;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check oneOfCheck(List<Check> checks) {
+        return value -> {
+            int validCount = 0;
+            for (Check check : checks) {
+                final Verdict verdict = check.check(value);
+                if (verdict == Verdict.UNKNOWN) {
+                    return Verdict.UNKNOWN;
+                }
+                if (verdict == Verdict.VALID) {
+                    validCount++;
+                }
+            }
+            return Verdict.of(validCount == 1);
+        };
+    }
+
+    private static Check notCheck(Check check) {
+        return value -> switch (check.check(value)) {
+            case VALID -> Verdict.INVALID;
+            case INVALID -> Verdict.VALID;
+            case UNKNOWN -> Verdict.UNKNOWN;
+        };
+    }
+
+    enum Verdict {
+
+        VALID, INVALID, UNKNOWN;
+
+        static Verdict of(boolean valid) {
+            return valid ? VALID : INVALID;
+        }
+
+        Verdict and(Verdict other) {
+            if (this == INVALID || other == INVALID) {
+                return INVALID;
+            }
+            return this == UNKNOWN || other == UNKNOWN ? UNKNOWN : VALID;
+        }
+
+        Verdict or(Verdict other) {
+            if (this == VALID || other == VALID) {
+                return VALID;
+            }
+            return this == UNKNOWN || other == UNKNOWN ? UNKNOWN : INVALID;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+
+        Verdict check(JsonNode value);
+    }
+
+    private static class UnsupportedSchemaException extends RuntimeException {
+
+        UnsupportedSchemaException() {
+            super(null, null, false, false);
+        }
+    }
+}
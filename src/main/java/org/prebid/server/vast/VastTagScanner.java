@@ -0,0 +1,143 @@
+package org.prebid.server.vast;
+
+import java.util.List;
+
+/**
+ * Single-pass scanner locating the place for impression tracking in VAST XML without regular expressions.
+ * <p>
+ * Tags are matched case-insensitively and may contain whitespaces around the slash, e.g. {@code < / InLine >}.
+ * CDATA sections and comments are skipped, so tag-like text inside them is never taken for markup.
+ */
+final class VastTagScanner {
+
+    /**
+     * Returned when VAST XML contains neither InLine nor Wrapper element.
+     */
+    static final int NO_AD_ELEMENT = -1;
+
+    /**
+     * Returned when InLine or Wrapper element is found, but has neither Impression nor closing tag.
+     */
+    static final int NO_INSERTION_POINT = -2;
+
+    private static final String INLINE = "inline";
+    private static final String WRAPPER = "wrapper";
+    private static final String IMPRESSION = "impression";
+
+    private static final String CDATA_START = "<![CDATA[";
+    private static final String CDATA_END = "]]>";
+    private static final String COMMENT_START = "<!--";
+    private static final String COMMENT_END = "-->";
+
+    private static final String IMPRESSION_TAG_START = "<Impression><![CDATA[";
+    private static final String IMPRESSION_TAG_END = "]]></Impression>";
+
+    private VastTagScanner() {
+    }
+
+    /**
+     * Returns index to insert impression tracking at: right after the last Impression element following the InLine
+     * (or Wrapper, if there is no InLine) opening tag, or right before its closing tag if there are no impressions.
+     */
+    static int impressionInsertionIndex(String vastXml) {
+        final int length = vastXml.length();
+
+        int inlineOpenEnd = -1;
+        int inlineCloseStart = -1;
+        int wrapperOpenEnd = -1;
+        int wrapperCloseStart = -1;
+        int lastImpressionCloseEnd = -1;
+
+        int tagStart = vastXml.indexOf('<');
+        while (tagStart >= 0) {
+            if (vastXml.startsWith(CDATA_START, tagStart) || vastXml.startsWith(COMMENT_START, tagStart)) {
+                final String sectionEnd = vastXml.startsWith(CDATA_START, tagStart) ? CDATA_END : COMMENT_END;
+                final int sectionEndIndex = vastXml.indexOf(sectionEnd, tagStart);
+                if (sectionEndIndex < 0) {
+                    break;
+                }
+                tagStart = vastXml.indexOf('<', sectionEndIndex + sectionEnd.length());
+                continue;
+            }
+
+            int nameStart = skipWhitespaces(vastXml, tagStart + 1);
+            final boolean closing = nameStart < length && vastXml.charAt(nameStart) == '/';
+            if (closing) {
+                nameStart = skipWhitespaces(vastXml, nameStart + 1);
+            }
+
+            final int tagEnd = vastXml.indexOf('>', nameStart);
+            if (tagEnd < 0) {
+                break;
+            }
+
+            if (isTag(vastXml, nameStart, INLINE)) {
+                if (!closing && inlineOpenEnd < 0) {
+                    inlineOpenEnd = tagEnd + 1;
+                } else if (closing && inlineOpenEnd >= 0 && inlineCloseStart < 0) {
+                    inlineCloseStart = tagStart;
+                }
+            } else if (isTag(vastXml, nameStart, WRAPPER)) {
+                if (!closing && wrapperOpenEnd < 0) {
+                    wrapperOpenEnd = tagEnd + 1;
+                } else if (closing && wrapperOpenEnd >= 0 && wrapperCloseStart < 0) {
+                    wrapperCloseStart = tagStart;
+                }
+            } else if (closing && isTag(vastXml, nameStart, IMPRESSION)) {
+                lastImpressionCloseEnd = tagEnd + 1;
+            }
+
+            tagStart = vastXml.indexOf('<', tagEnd + 1);
+        }
+
+        final boolean inline = inlineOpenEnd >= 0;
+        final int openEnd = inline ? inlineOpenEnd : wrapperOpenEnd;
+        final int closeStart = inline ? inlineCloseStart : wrapperCloseStart;
+
+        if (openEnd < 0) {
+            return NO_AD_ELEMENT;
+        }
+        if (lastImpressionCloseEnd > openEnd) {
+            return lastImpressionCloseEnd;
+        }
+        return closeStart >= 0 ? closeStart : NO_INSERTION_POINT;
+    }
+
+    /**
+     * Inserts Impression element for each of given tracking URLs at the given index, copying VAST XML into a buffer
+     * sized for the result upfront.
+     */
+    static String insertImpressions(String vastXml, int index, List<String> trackingUrls) {
+        int capacity = vastXml.length();
+        for (String trackingUrl : trackingUrls) {
+            capacity += IMPRESSION_TAG_START.length() + trackingUrl.length() + IMPRESSION_TAG_END.length();
+        }
+
+        final StringBuilder result = new StringBuilder(capacity).append(vastXml, 0, index);
+        for (String trackingUrl : trackingUrls) {
+            result.append(IMPRESSION_TAG_START).append(trackingUrl).append(IMPRESSION_TAG_END);
+        }
+        return result.append(vastXml, index, vastXml.length()).toString();
+    }
+
+    private static int skipWhitespaces(String value, int index) {
+        int current = index;
+        while (current < value.length() && Character.isWhitespace(value.charAt(current))) {
+            current++;
+        }
+        return current;
+    }
+
+    /**
+     * Checks tag name at the given position is followed by either the end of tag or whitespace.
+     */
+    private static boolean isTag(String value, int nameStart, String name) {
+        final int nameEnd = nameStart + name.length();
+        if (nameEnd >= value.length() || !value.regionMatches(true, nameStart, name, 0, name.length())) {
+            return false;
+        }
+
+        final char next = value.charAt(nameEnd);
+        return next == '>' || Character.isWhitespace(next);
+    }
+}
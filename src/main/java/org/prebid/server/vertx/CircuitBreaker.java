@@ -6,6 +6,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
@@ -21,7 +22,7 @@ public class CircuitBreaker {
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
 
     private final io.vertx.circuitbreaker.CircuitBreaker breaker;
-    private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
     private final long openingIntervalMs;
     private final Clock clock;
 
@@ -29,6 +30,7 @@ public class CircuitBreaker {
 
     public CircuitBreaker(String name,
                           Vertx vertx,
+                          BlockingExecutor blockingExecutor,
                           int openingThreshold,
                           long openingIntervalMs,
                           long closingIntervalMs,
@@ -42,7 +44,7 @@ public class CircuitBreaker {
                         .setMaxFailures(openingThreshold)
                         .setResetTimeout(closingIntervalMs));
 
-        this.vertx = vertx;
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
         this.openingIntervalMs = openingIntervalMs;
         this.clock = Objects.requireNonNull(clock);
     }
@@ -78,14 +80,11 @@ public class CircuitBreaker {
      * Fails given {@link Promise} and returns corresponding {@link Future}.
      */
     private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
+        return blockingExecutor.execute(this::ensureState)
                 .recover(throwable -> {
                     logger.warn("Resetting circuit breaker state failed", throwable);
                     promise.fail(throwable);
-                    return promise.future();
+                    return Future.failedFuture(throwable);
                 })
                 .compose(ignored -> { // ensuring state succeeded, propagate real error
                     promise.fail(exception);
@@ -98,9 +97,9 @@ public class CircuitBreaker {
      * <p>
      * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
      * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
+     * so it is better to perform them off the event loop.
      */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
+    private Void ensureState() {
         final long currentTime = clock.millis();
         if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
                 && currentTime - lastFailureTime > openingIntervalMs) {
@@ -108,7 +107,7 @@ public class CircuitBreaker {
         }
 
         lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+        return null;
     }
 
     /**
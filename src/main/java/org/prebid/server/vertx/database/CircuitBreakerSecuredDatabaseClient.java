@@ -4,6 +4,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
@@ -30,6 +31,7 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
     private final CircuitBreaker breaker;
 
     public CircuitBreakerSecuredDatabaseClient(Vertx vertx,
+                                               BlockingExecutor blockingExecutor,
                                                DatabaseClient databaseClient,
                                                Metrics metrics,
                                                int openingThreshold,
@@ -42,6 +44,7 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
         breaker = new CircuitBreaker(
                 "db_cb",
                 Objects.requireNonNull(vertx),
+                blockingExecutor,
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
@@ -1,5 +1,8 @@
 package org.prebid.server.vertx.httpclient;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -35,18 +38,37 @@ public class BasicHttpClient implements HttpClient {
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                               String body, long timeoutMs, long maxResponseSize) {
 
-        return request(method, url, headers, timeoutMs, maxResponseSize, body != null ? body.getBytes() : null);
+        return doRequest(method, url, headers, body != null ? utf8Buffer(body) : null, timeoutMs, maxResponseSize);
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                               byte[] body, long timeoutMs, long maxResponseSize) {
 
-        return request(method, url, headers, timeoutMs, maxResponseSize, body);
+        // wrapped instead of copied, callers don't modify body after passing it
+        final Buffer bodyBuffer = body != null ? Buffer.buffer(Unpooled.wrappedBuffer(body)) : null;
+        return doRequest(method, url, headers, bodyBuffer, timeoutMs, maxResponseSize);
     }
 
-    private Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
-                                               long timeoutMs, long maxResponseSize, byte[] body) {
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              Buffer body, long timeoutMs, long maxResponseSize) {
+
+        return doRequest(method, url, headers, body, timeoutMs, maxResponseSize);
+    }
+
+    /**
+     * Encodes body right into exactly sized buffer, unlike {@link Buffer#buffer(String)} which encodes into
+     * intermediate byte array first and then copies it.
+     */
+    private static Buffer utf8Buffer(String body) {
+        final ByteBuf byteBuf = Unpooled.buffer(ByteBufUtil.utf8Bytes(body));
+        ByteBufUtil.writeUtf8(byteBuf, body);
+        return Buffer.buffer(byteBuf);
+    }
+
+    private Future<HttpClientResponse> doRequest(HttpMethod method, String url, MultiMap headers,
+                                                 Buffer body, long timeoutMs, long maxResponseSize) {
 
         if (timeoutMs <= 0) {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
@@ -74,7 +96,7 @@ public class BasicHttpClient implements HttpClient {
         final Future<HttpClientRequest> requestFuture = makeRequest(options);
 
         requestFuture
-                .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
+                .compose(request -> body != null ? request.send(body) : request.send())
                 .compose(response -> toInternalResponse(response, maxResponseSize))
                 .onSuccess(responsePromise::tryComplete)
                 .onFailure(responsePromise::tryFail);
@@ -4,8 +4,10 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -36,6 +38,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private final HttpClient httpClient;
 
     public CircuitBreakerSecuredHttpClient(Vertx vertx,
+                                           BlockingExecutor blockingExecutor,
                                            HttpClient httpClient,
                                            Metrics metrics,
                                            int openingThreshold,
@@ -47,7 +50,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         this.httpClient = Objects.requireNonNull(httpClient);
 
         circuitBreakerCreator = name -> createCircuitBreaker(
-                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
+                name, vertx, blockingExecutor, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
 
         circuitBreakerByName = Caffeine.newBuilder()
                 .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
@@ -87,8 +90,23 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                 .onComplete(promise));
     }
 
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              Buffer body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+                .execute(promise ->
+                        httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
+                                .onComplete(promise));
+    }
+
     private CircuitBreaker createCircuitBreaker(String name,
                                                 Vertx vertx,
+                                                BlockingExecutor blockingExecutor,
                                                 int openingThreshold,
                                                 long openingIntervalMs,
                                                 long closingIntervalMs,
@@ -98,6 +116,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         final CircuitBreaker circuitBreaker = new CircuitBreaker(
                 "http_cb_" + name,
                 Objects.requireNonNull(vertx),
+                blockingExecutor,
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
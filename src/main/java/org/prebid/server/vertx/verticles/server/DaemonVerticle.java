@@ -8,32 +8,68 @@ import io.vertx.core.Promise;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.CloseableAdapter;
 import org.prebid.server.vertx.Initializable;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+/**
+ * Initializes services once the application context is ready.
+ * <p>
+ * Initializations are independent, so all of them are started at once and awaited together, i.e. the daemon is
+ * started as soon as the slowest of them is completed. Time taken by each of them is logged to spot the one
+ * holding up the startup.
+ */
 public class DaemonVerticle extends AbstractVerticle {
 
     private static final Logger logger = LoggerFactory.getLogger(DaemonVerticle.class);
 
     private final List<Initializable> initializables;
     private final List<Closeable> closeables;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public DaemonVerticle(List<Initializable> initializables,
+                          List<ScheduledReporter> reporters,
+                          Metrics metrics,
+                          Clock clock) {
 
-    public DaemonVerticle(List<Initializable> initializables, List<ScheduledReporter> reporters) {
         this.initializables = ListUtils.emptyIfNull(initializables);
         this.closeables = ListUtils.emptyIfNull(reporters).stream()
                 .<Closeable>map(CloseableAdapter::new)
                 .toList();
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
     }
 
     @Override
     public void start(Promise<Void> startPromise) {
-        all(initializables, initializable -> initializable::initialize).onComplete(startPromise);
+        final long startTime = clock.millis();
+
+        all(initializables, this::timedInitialization)
+                .onSuccess(ignored -> metrics.updateStartupPhaseMetric(
+                        MetricName.initialization, clock.millis() - startTime))
+                .onComplete(startPromise);
+    }
+
+    private Consumer<Promise<Void>> timedInitialization(Initializable initializable) {
+        return promise -> {
+            final long startTime = clock.millis();
+            promise.future().onSuccess(ignored -> logger.info(
+                    "{} initialized in {} ms",
+                    initializable.getClass().getSimpleName(),
+                    clock.millis() - startTime));
+
+            initializable.initialize(promise);
+        };
     }
 
     @Override
@@ -0,0 +1,219 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.MemoryReservation;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.exception.MemoryBudgetExceededException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidMultiBid;
+import org.prebid.server.settings.model.Account;
+
+import java.util.ArrayList;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionMemoryGuardTest extends VertxTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void admitShouldReturnSameContextWhenDisabled() {
+        // given
+        final AuctionMemoryGuard target = new AuctionMemoryGuard(false, 1L, 1L, 0, 100L, 2.0, 1, metrics);
+        final AuctionContext auctionContext = givenAuctionContext("accountId", false, "bidder1", "bidder2");
+
+        // when
+        final Future<AuctionContext> result = target.admit(auctionContext);
+
+        // then
+        assertThat(result.result()).isSameAs(auctionContext);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void admitShouldReserveEstimatedCostAndReleaseShouldReturnIt() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(1000L, 0L);
+        final AuctionContext auctionContext = givenAuctionContext("accountId", false, "bidder1", "bidder2");
+
+        // when
+        final AuctionContext result = target.admit(auctionContext).result();
+
+        // then
+        assertThat(result.getMemoryReservation())
+                .extracting(MemoryReservation::getBytes, MemoryReservation::getMaxBidders)
+                .containsExactly(200L, null);
+        assertThat(target.inFlightBytes()).isEqualTo(200L);
+        verify(metrics).updateMemoryGuardMetric(MetricName.admitted);
+
+        target.release(result);
+        target.release(result);
+        assertThat(target.inFlightBytes()).isZero();
+    }
+
+    @Test
+    public void admitShouldAdmitAuctionExceedingBudgetWhenNothingElseIsInFlight() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(50L, 0L);
+
+        // when
+        final Future<AuctionContext> result = target.admit(givenAuctionContext("accountId", true, "bidder1"));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result().getDebugContext().isDebugEnabled()).isTrue();
+        assertThat(target.inFlightBytes()).isEqualTo(200L);
+    }
+
+    @Test
+    public void admitShouldDisableDebugWhenOverBudget() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(500L, 0L);
+        target.admit(givenAuctionContext("accountId", false, "bidder1"));
+
+        // when
+        final AuctionContext result = target.admit(
+                givenAuctionContext("accountId", true, "bidder1", "bidder2", "bidder3")).result();
+
+        // then
+        assertThat(result.getDebugContext().isDebugEnabled()).isFalse();
+        assertThat(result.getMemoryReservation().getBytes()).isEqualTo(300L);
+        assertThat(result.getDebugWarnings()).containsExactly("Debug was disabled because of auction memory budget");
+        assertThat(target.inFlightBytes()).isEqualTo(400L);
+        verify(metrics).updateMemoryGuardMetric(MetricName.debug_disabled);
+    }
+
+    @Test
+    public void admitShouldCapBiddersWhenOverBudget() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(300L, 0L);
+        target.admit(givenAuctionContext("accountId", false, "bidder1"));
+
+        // when
+        final AuctionContext result = target.admit(
+                givenAuctionContext("accountId", false, "bidder1", "bidder2", "bidder3")).result();
+
+        // then
+        assertThat(result.getMemoryReservation())
+                .extracting(MemoryReservation::getBytes, MemoryReservation::getMaxBidders)
+                .containsExactly(200L, 2);
+        assertThat(result.getDebugWarnings())
+                .containsExactly("Number of called bidders was limited to 2 because of auction memory budget");
+        assertThat(target.inFlightBytes()).isEqualTo(300L);
+        verify(metrics).updateMemoryGuardMetric(MetricName.bidders_capped);
+    }
+
+    @Test
+    public void admitShouldShedAuctionWhenEvenMinBiddersDoNotFitIntoBudget() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(150L, 0L);
+        target.admit(givenAuctionContext("accountId", false, "bidder1"));
+
+        // when
+        final Future<AuctionContext> result = target.admit(
+                givenAuctionContext("accountId", false, "bidder1", "bidder2"));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(MemoryBudgetExceededException.class);
+        assertThat(target.inFlightBytes()).isEqualTo(100L);
+        verify(metrics).updateMemoryGuardMetric(MetricName.shed);
+        verify(metrics).updateAccountRequestRejectedByMemoryBudgetMetrics("accountId");
+    }
+
+    @Test
+    public void admitShouldEnforceBudgetPerAccount() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(0L, 150L);
+        target.admit(givenAuctionContext("account1", false, "bidder1"));
+
+        // when
+        final Future<AuctionContext> otherAccountResult = target.admit(
+                givenAuctionContext("account2", false, "bidder1", "bidder2"));
+        final Future<AuctionContext> sameAccountResult = target.admit(
+                givenAuctionContext("account1", false, "bidder1", "bidder2"));
+
+        // then
+        assertThat(otherAccountResult.succeeded()).isTrue();
+        assertThat(sameAccountResult.failed()).isTrue();
+        assertThat(target.inFlightBytes()).isEqualTo(300L);
+    }
+
+    @Test
+    public void releaseShouldForgetAccountWhenNothingIsInFlightForIt() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(0L, 1000L);
+        final AuctionContext first = target.admit(givenAuctionContext("account1", false, "bidder1")).result();
+        final AuctionContext second = target.admit(givenAuctionContext("account1", false, "bidder1")).result();
+        final AuctionContext other = target.admit(givenAuctionContext("account2", false, "bidder1")).result();
+
+        // when
+        target.release(first);
+        target.release(other);
+
+        // then
+        assertThat(target.accountsInFlight()).isEqualTo(1);
+
+        target.release(second);
+        assertThat(target.accountsInFlight()).isZero();
+        assertThat(target.inFlightBytes()).isZero();
+    }
+
+    @Test
+    public void admitShouldMultiplyImpCostByMaxBidsWhenMultibidRequested() {
+        // given
+        final AuctionMemoryGuard target = givenTarget(0L, 0L);
+        final AuctionContext auctionContext = givenAuctionContext("accountId", false, "bidder1");
+        final BidRequest bidRequest = auctionContext.getBidRequest().toBuilder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .multibid(singletonList(ExtRequestPrebidMultiBid.of("bidder1", null, 3, null)))
+                        .build()))
+                .build();
+
+        // when
+        final AuctionContext result = target.admit(auctionContext.with(bidRequest)).result();
+
+        // then
+        assertThat(result.getMemoryReservation().getBytes()).isEqualTo(300L);
+        verify(metrics).updateMemoryGuardMetric(MetricName.admitted);
+    }
+
+    private AuctionMemoryGuard givenTarget(long maxInFlightBytes, long accountMaxInFlightBytes) {
+        return new AuctionMemoryGuard(true, maxInFlightBytes, accountMaxInFlightBytes, 0, 100L, 2.0, 1, metrics);
+    }
+
+    private static AuctionContext givenAuctionContext(String accountId, boolean debugEnabled, String... bidders) {
+        final ObjectNode biddersNode = mapper.createObjectNode();
+        for (String bidder : bidders) {
+            biddersNode.set(bidder, mapper.createObjectNode());
+        }
+        final ObjectNode impExt = mapper.createObjectNode();
+        impExt.set("prebid", mapper.createObjectNode().set("bidder", biddersNode));
+
+        return AuctionContext.builder()
+                .account(Account.builder().id(accountId).build())
+                .bidRequest(BidRequest.builder()
+                        .imp(singletonList(Imp.builder().id("impId").ext(impExt).build()))
+                        .build())
+                .debugContext(DebugContext.of(debugEnabled, false, null))
+                .debugWarnings(new ArrayList<>())
+                .build();
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
+import org.prebid.server.auction.categorymapping.PreloadedCategories;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.CategoryMappingResult;
 import org.prebid.server.bidder.model.BidderBid;
@@ -53,6 +54,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -91,13 +93,13 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
 
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
-        // first and third fetch will have conflict, so one bid should be filtered in result
+        // id for cat3 is the same as for cat1, so one bid should be filtered in result
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCatDup")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")),
-                // id for cat 3 is the same as for cat1, that will cause duplication
-                Future.succeededFuture(singletonMap("cat3", "fetchedCatDup")),
-                Future.succeededFuture(singletonMap("cat4", "fetchedCat4")));
+                Future.succeededFuture(Map.of(
+                        "cat1", "fetchedCatDup",
+                        "cat2", "fetchedCat2",
+                        "cat3", "fetchedCatDup",
+                        "cat4", "fetchedCat4")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -136,8 +138,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -233,6 +234,56 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         verify(applicationSettings).getCategories(eq("freewheel"), anyString(), any());
     }
 
+    @Test
+    public void applyCategoryMappingShouldFetchCategoriesOncePerAuction() {
+        // given
+        final List<BidderResponse> bidderResponses = asList(
+                givenBidderResponse("rubicon",
+                        givenBidderBid(givenBid("1", null, "10", singletonList("cat1")), BidType.video, 10),
+                        givenBidderBid(givenBid("2", null, "5", singletonList("cat2")), BidType.video, 10)),
+                givenBidderResponse("otherBid",
+                        givenBidderBid(givenBid("3", null, "15", singletonList("cat3")), BidType.video, 10)));
+
+        final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
+                asList(10, 15, 5), true, true);
+
+        given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2", "cat3", "fetchedCat3")));
+
+        // when
+        final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(
+                bidderResponses, givenBidRequestWithTargeting(extRequestTargeting), timeout);
+
+        // then
+        assertThat(resultFuture.result().getBiddersToBidsCategories()).hasSize(3);
+        verify(applicationSettings).getCategories(eq("freewheel"), eq("publisher"), any());
+    }
+
+    @Test
+    public void applyCategoryMappingShouldUsePreloadedCategories() {
+        // given
+        final PreloadedCategories preloadedCategories = mock(PreloadedCategories.class);
+        given(preloadedCategories.get("freewheel", "publisher")).willReturn(singletonMap("cat1", "preloadedCat1"));
+        categoryMappingService = new BasicCategoryMappingService(
+                applicationSettings, preloadedCategories, jacksonMapper);
+
+        final List<BidderResponse> bidderResponses = singletonList(
+                givenBidderResponse("rubicon", givenBidderBid(givenBid("1", null, "10", singletonList("cat1")),
+                        BidType.video, 10)));
+
+        final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
+                asList(10, 15, 5), true, true);
+
+        // when
+        final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(
+                bidderResponses, givenBidRequestWithTargeting(extRequestTargeting), timeout);
+
+        // then
+        assertThat(resultFuture.result().getBiddersToBidsCategories())
+                .containsOnly(Map.entry(givenBid("1", null, "10", singletonList("cat1")), "10.00_preloadedCat1_10s"));
+        verifyNoInteractions(applicationSettings);
+    }
+
     @Test
     public void applyCategoryMappingShouldReturnUseDpfAdServerWhenAdServerIs2() {
         // given
@@ -266,7 +317,6 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
                 Future.failedFuture(new TimeoutException("Timeout")));
 
         // when
@@ -275,11 +325,10 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
 
         // then
         assertThat(resultFuture.succeeded()).isTrue();
-        assertThat(resultFuture.result().getBiddersToBidsCategories())
-                .isEqualTo(Collections.singletonMap(givenBid("1", null, "10", singletonList("cat1")),
-                        "10.00_fetchedCat1_10s"));
-        assertThat(resultFuture.result().getErrors()).hasSize(1)
-                .containsOnly("Bid rejected [bidder: otherBid, bid ID: 2] with a reason: Timeout");
+        assertThat(resultFuture.result().getBiddersToBidsCategories()).isEmpty();
+        assertThat(resultFuture.result().getErrors()).containsExactly(
+                "Bid rejected [bidder: rubicon, bid ID: 1] with a reason: Timeout",
+                "Bid rejected [bidder: otherBid, bid ID: 2] with a reason: Timeout");
     }
 
     @Test
@@ -294,8 +343,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
                 givenBidRequestWithTargeting(extRequestTargeting), timeout);
@@ -322,8 +370,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
                 givenBidRequestWithTargeting(extRequestTargeting), timeout);
@@ -350,7 +397,6 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
                 Future.succeededFuture(null));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -358,12 +404,10 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
 
         // then
         assertThat(resultFuture.succeeded()).isTrue();
-        assertThat(resultFuture.result().getBiddersToBidsCategories())
-                .isEqualTo(Collections.singletonMap(givenBid("1", null, "10", singletonList("cat1")),
-                        "10.00_fetchedCat1_10s"));
-        assertThat(resultFuture.result().getErrors()).hasSize(1)
-                .containsOnly("Bid rejected [bidder: otherBid, bid ID: 2] with a reason: Category mapping data for"
-                        + " primary ad server: 'freewheel', publisher: 'publisher' not found");
+        assertThat(resultFuture.result().getBiddersToBidsCategories()).isEmpty();
+        assertThat(resultFuture.result().getErrors()).hasSize(2)
+                .allMatch(error -> error.endsWith("Category mapping data for"
+                        + " primary ad server: 'freewheel', publisher: 'publisher' not found"));
     }
 
     @Test
@@ -406,8 +450,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
                 givenBidRequestWithTargeting(extRequestTargeting), timeout);
@@ -583,8 +626,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), true, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat1")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat1")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -638,8 +680,7 @@ public class BasicCategoryMappingServiceTest extends VertxTest {
         final ExtRequestTargeting extRequestTargeting = givenTargeting(1, "publisher",
                 asList(10, 15, 5), false, true);
         given(applicationSettings.getCategories(anyString(), anyString(), any())).willReturn(
-                Future.succeededFuture(singletonMap("cat1", "fetchedCat1")),
-                Future.succeededFuture(singletonMap("cat2", "fetchedCat2")));
+                Future.succeededFuture(Map.of("cat1", "fetchedCat1", "cat2", "fetchedCat2")));
 
         // when
         final Future<CategoryMappingResult> resultFuture = categoryMappingService.createCategoryMapping(bidderResponses,
@@ -0,0 +1,100 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidderTimeoutAllocatorTest {
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    private BidderTimeoutAllocator target;
+
+    private Timeout timeout;
+
+    @BeforeEach
+    public void setUp() {
+        target = new BidderTimeoutAllocator(0.99, 1.2, 10L, 100L, 60000L, 100, clock);
+        timeout = new TimeoutFactory(clock).create(1000L);
+    }
+
+    @Test
+    public void allocateShouldReturnAuctionTimeoutWhenNotEnoughSamples() {
+        // given
+        givenResponseTimes("bidder", null, 99, 100L);
+
+        // when and then
+        assertThat(target.allocate(timeout, "bidder", null)).isSameAs(timeout);
+    }
+
+    @Test
+    public void allocateShouldLimitTimeoutByPercentileWithHeadroom() {
+        // given
+        givenResponseTimes("bidder", null, 100, 100L);
+
+        // when
+        final Timeout result = target.allocate(timeout, "bidder", null);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(138L);
+        assertThat(target.allocate(timeout, "otherBidder", null)).isSameAs(timeout);
+    }
+
+    @Test
+    public void allocateShouldPreferRegionalResponseTimesAndFallbackToBidderOnes() {
+        // given
+        givenResponseTimes("bidder", "USA", 100, 100L);
+        givenResponseTimes("bidder", "DEU", 100, 10L);
+
+        // when and then
+        assertThat(target.allocate(timeout, "bidder", "DEU").remaining()).isEqualTo(14L);
+        assertThat(target.allocate(timeout, "bidder", "FRA").remaining()).isEqualTo(138L);
+    }
+
+    @Test
+    public void allocateShouldNotExceedAuctionTimeout() {
+        // given
+        givenResponseTimes("bidder", null, 100, 900L);
+
+        // when and then
+        assertThat(target.allocate(timeout, "bidder", null)).isSameAs(timeout);
+    }
+
+    @Test
+    public void allocateShouldNotTreatTimeoutsAsResponseTimes() {
+        // given
+        givenResponseTimes("bidder", null, 99, 100L);
+        target.recordTimeout("bidder", null);
+
+        // when
+        final Timeout result = target.allocate(timeout, "bidder", null);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(138L);
+    }
+
+    @Test
+    public void allocateShouldReturnAuctionTimeoutWhenBidderTimesOutTooOften() {
+        // given
+        givenResponseTimes("bidder", null, 95, 100L);
+        for (int i = 0; i < 5; i++) {
+            target.recordTimeout("bidder", null);
+        }
+
+        // when and then
+        assertThat(target.allocate(timeout, "bidder", null)).isSameAs(timeout);
+    }
+
+    private void givenResponseTimes(String bidder, String region, int count, long responseTime) {
+        for (int i = 0; i < count; i++) {
+            target.record(bidder, region, responseTime);
+        }
+    }
+}
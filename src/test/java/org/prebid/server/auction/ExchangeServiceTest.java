@@ -47,11 +47,14 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.MemoryReservation;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.TimeoutContext;
@@ -170,6 +173,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -178,6 +182,7 @@ import static java.math.BigDecimal.TEN;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
@@ -204,6 +209,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_GENERAL;
 import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_UNACCEPTABLE_CURRENCY;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.banner;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.video;
@@ -401,7 +407,7 @@ public class ExchangeServiceTest extends VertxTest {
         given(timeoutFactory.create(anyLong(), anyLong()))
                 .willReturn(timeout);
 
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any()))
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any()))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         given(activityInfrastructure.isAllowed(any(), any()))
@@ -601,6 +607,88 @@ public class ExchangeServiceTest extends VertxTest {
                 .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
     }
 
+    @Test
+    public void shouldAllowParallelProcessingOnlyWhenAuctionFanOutReachesThreshold() {
+        // given
+        givenTarget(false, false, 2, Set.of("bidder1", "bidder2"));
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(Map.of("bidder1", 1, "bidder2", 2), identity())));
+        final BidRequest singleBidderRequest = givenBidRequest(singletonList(
+                givenImp(singletonMap("bidder1", 1), identity())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+        target.holdAuction(givenRequestContext(singleBidderRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(3))
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidderRequestCaptor.getAllValues())
+                .extracting(BidderRequest::isParallelProcessing)
+                .containsExactly(true, true, false);
+    }
+
+    @Test
+    public void shouldAllowParallelProcessingOnlyForAllowedBidders() {
+        // given
+        givenTarget(false, false, 2, Set.of("bidder1"));
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(Map.of("bidder1", 1, "bidder2", 2), identity())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidderRequestCaptor.getAllValues())
+                .extracting(BidderRequest::getBidder, BidderRequest::isParallelProcessing)
+                .containsExactlyInAnyOrder(tuple("bidder1", true), tuple("bidder2", false));
+    }
+
+    @Test
+    public void shouldCallOnlyBiddersAllowedByMemoryReservation() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(Map.of("bidder1", 1, "bidder2", 2), builder -> builder.id("impId"))));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest)
+                .with(new MemoryReservation("accountId", 100L, 1));
+
+        // when
+        final AuctionContext result = target.holdAuction(auctionContext).result();
+
+        // then
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+        assertThat(result.getBidRejectionTrackers().values())
+                .extracting(BidRejectionTracker::getRejectedImps)
+                .containsOnlyOnce(Map.of("impId", Pair.of(
+                        result.getAuctionParticipations().getFirst().getBidder().equals("bidder1")
+                                ? "bidder2"
+                                : "bidder1",
+                        REQUEST_BLOCKED_GENERAL)));
+        assertThat(result.getDebugWarnings())
+                .anySatisfy(warning -> assertThat(warning).endsWith("not called because of auction memory budget"));
+    }
+
     @Test
     public void shouldSkipBidderWhenRejectedByBidderRequestHooks() {
         // given
@@ -1361,7 +1449,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1391,7 +1479,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1989,6 +2077,40 @@ public class ExchangeServiceTest extends VertxTest {
                 .containsOnly(new TextNode("allValue"));
     }
 
+    @Test
+    public void shouldCopyImpExtSubtreesPassedToBidderWhenStructuralSharingEnabled() {
+        // given
+        givenTarget(false, true);
+
+        final ObjectNode impExtData = mapper.createObjectNode().put("pbadslot", "slot");
+        final ObjectNode impExt = mapper.createObjectNode()
+                .<ObjectNode>set("prebid", mapper.createObjectNode()
+                        .put("adunitcode", "adUnitCode")
+                        .<ObjectNode>set("bidder", mapper.createObjectNode()
+                                .<ObjectNode>set("someBidder", mapper.createObjectNode().put("param", 1))))
+                .set("data", impExtData);
+
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(Imp.builder().id("impId").ext(impExt).build()),
+                identity());
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ObjectNode capturedImpExt = captureBidRequest().getImp().getFirst().getExt();
+        assertThat(capturedImpExt).isEqualTo(mapper.createObjectNode()
+                .<ObjectNode>set("prebid", mapper.createObjectNode().put("adunitcode", "adUnitCode"))
+                .<ObjectNode>set("data", impExtData)
+                .set("bidder", mapper.createObjectNode().put("param", 1)));
+        assertThat(capturedImpExt.get("data")).isNotSameAs(impExtData);
+        assertThat(capturedImpExt.get("prebid")).isNotSameAs(impExt.get("prebid"));
+        assertThat(impExt.at("/prebid/bidder/someBidder")).isNotSameAs(capturedImpExt.get("bidder"));
+        assertThat(impExt.at("/prebid/bidder").has("someBidder")).isTrue();
+    }
+
     @Test
     public void shouldPassImpExtSkadnToEachImpression() {
         // given
@@ -3683,6 +3805,62 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(bidResponse.getExt()).isNull();
     }
 
+    @Test
+    public void shouldReportAuctionStageTimingsIncludingHooksStages() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .hookExecutionContext(HookExecutionContext.of(
+                        Endpoint.openrtb2_auction,
+                        stageOutcomes(givenAppliedToImpl(identity()))))
+                .build();
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        final AuctionStageTimings stageTimings = auctionContext.getStageTimings();
+        verify(metrics).updateAuctionStageMetrics(any(), same(stageTimings));
+        assertThat(stageTimings.nanos(AuctionStage.hooks_entrypoint))
+                .isEqualTo(TimeUnit.MILLISECONDS.toNanos(12L));
+        assertThat(stageTimings.nanos(AuctionStage.hooks_auction_response))
+                .isEqualTo(TimeUnit.MILLISECONDS.toNanos(4L));
+    }
+
+    @Test
+    public void shouldAddStageTimingsToResponseDebugWhenDebugEnabled() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+        given(bidResponseCreator.create(any(), any(), any()))
+                .willReturn(Future.succeededFuture(
+                        BidResponse.builder()
+                                .ext(ExtBidResponse.builder()
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
+                                        .build())
+                                .build()));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .hookExecutionContext(HookExecutionContext.of(
+                        Endpoint.openrtb2_auction,
+                        stageOutcomes(givenAppliedToImpl(identity()))))
+                .debugContext(DebugContext.of(true, true, null))
+                .build();
+
+        // when
+        final AuctionContext result = target.holdAuction(auctionContext).result();
+
+        // then
+        assertThat(result.getBidResponse().getExt().getDebug().getStagetimes())
+                .containsEntry("hooks_entrypoint", 12.0)
+                .containsEntry("hooks_auction_response", 4.0)
+                .containsKey("response_creation");
+    }
+
     @Test
     public void shouldReturnBidResponseWithAnalyticsTagsWhenRequested() {
         // given
@@ -3988,7 +4166,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldConvertBidRequestOpenRTBVersionToConfiguredByBidder() {
         // given
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any())).willAnswer(
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any())).willAnswer(
                 invocation -> ((BidRequest) invocation.getArgument(0))
                         .toBuilder()
                         .source(null)
@@ -4123,6 +4301,18 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
+        givenTarget(enabledStrictAppSiteDoohValidation, false);
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation, boolean structuralSharingEnabled) {
+        givenTarget(enabledStrictAppSiteDoohValidation, structuralSharingEnabled, 0, emptySet());
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation,
+                             boolean structuralSharingEnabled,
+                             int parallelProcessingMinBidders,
+                             Set<String> parallelProcessingBidders) {
+
         target = new ExchangeService(
                 0,
                 bidderCatalog,
@@ -4135,6 +4325,7 @@ public class ExchangeServiceTest extends VertxTest {
                 uidUpdater,
                 timeoutResolver,
                 timeoutFactory,
+                null,
                 ortbVersionConversionManager,
                 httpBidderRequester,
                 bidResponseCreator,
@@ -4148,7 +4339,11 @@ public class ExchangeServiceTest extends VertxTest {
                 clock,
                 jacksonMapper,
                 criteriaLogManager,
-                enabledStrictAppSiteDoohValidation);
+                enabledStrictAppSiteDoohValidation,
+                false,
+                structuralSharingEnabled,
+                parallelProcessingMinBidders,
+                parallelProcessingBidders);
     }
 
     private AuctionContext givenRequestContext(BidRequest bidRequest) {
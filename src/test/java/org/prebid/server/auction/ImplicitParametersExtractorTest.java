@@ -1,7 +1,5 @@
 package org.prebid.server.auction;
 
-import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
-import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +7,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.publicsuffix.PublicSuffixListService;
+import org.prebid.server.publicsuffix.PublicSuffixTrie;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -17,13 +20,13 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 @ExtendWith(MockitoExtension.class)
 public class ImplicitParametersExtractorTest {
 
-    private final PublicSuffixList psl = new PublicSuffixListFactory().build();
-
     private ImplicitParametersExtractor extractor;
 
     @BeforeEach
-    public void setUp() {
-        extractor = new ImplicitParametersExtractor(psl);
+    public void setUp() throws IOException {
+        final PublicSuffixTrie trie = PublicSuffixTrie.of(
+                ResourceUtil.readFromClasspath("effective_tld_names.dat").lines().toList());
+        extractor = new ImplicitParametersExtractor(new PublicSuffixListService(trie, 100));
     }
 
     @Test
@@ -120,6 +123,11 @@ public class ImplicitParametersExtractorTest {
         assertThat(extractor.domainFrom("subdomain.example.com")).isEqualTo("example.com");
     }
 
+    @Test
+    public void domainFromShouldDeriveDomainFromHostWithMultiLabelPublicSuffix() {
+        assertThat(extractor.domainFrom("www.example.co.uk")).isEqualTo("example.co.uk");
+    }
+
     @Test
     public void ipFromShouldReturnIpFromHeadersAndRemoteAddress() {
         // given
@@ -104,6 +104,52 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldReuseParsedStoredResponseWhenCacheEnabled()
+            throws JsonProcessingException {
+
+        // given
+        target = new StoredResponseProcessor(applicationSettings, jacksonMapper, 100);
+
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                                mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                                        .bid(singletonList(Bid.builder().id("id").build())).build()))),
+                        emptyList())));
+
+        // when
+        final StoredResponseResult first = target.getStoredResponseResult("1", timeout).result();
+        final StoredResponseResult second = target.getStoredResponseResult("1", timeout).result();
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(second.getAuctionStoredResponse().getFirst().getBid().getFirst())
+                .isSameAs(first.getAuctionStoredResponse().getFirst().getBid().getFirst());
+    }
+
+    @Test
+    public void getStoredResponseResultShouldNotShareBidExtensionsOfCachedStoredResponse()
+            throws JsonProcessingException {
+
+        // given
+        target = new StoredResponseProcessor(applicationSettings, jacksonMapper, 100);
+
+        final ObjectNode bidExt = mapper.createObjectNode().put("field", "value");
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                                mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                                        .bid(singletonList(Bid.builder().id("id").ext(bidExt).build())).build()))),
+                        emptyList())));
+
+        // when
+        final StoredResponseResult first = target.getStoredResponseResult("1", timeout).result();
+        first.getAuctionStoredResponse().getFirst().getBid().getFirst().getExt().put("field", "changed");
+        final StoredResponseResult second = target.getStoredResponseResult("1", timeout).result();
+
+        // then
+        assertThat(second.getAuctionStoredResponse().getFirst().getBid().getFirst().getExt()).isEqualTo(bidExt);
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
@@ -4,6 +4,7 @@ import com.iab.openrtb.response.Bid;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.cache.model.CacheEndpoint;
 import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
@@ -55,6 +56,37 @@ public class TargetingKeywordsCreatorTest {
                 entry("hb_deal_bidder1", "dealId1"));
     }
 
+    @Test
+    public void shouldReturnCacheHostAndPathOfLocalEndpointWhenPresent() {
+        // given
+        final Bid bid = Bid.builder().price(BigDecimal.ONE).build();
+        final CacheEndpoint localEndpoint = CacheEndpoint.of(
+                "pbs-node:8080", "/cache", "http://pbs-node:8080/cache?uuid=");
+
+        // when
+        final Map<String, String> keywords = TargetingKeywordsCreator.create(
+                        ExtPriceGranularity.of(
+                                2,
+                                singletonList(ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.5)))),
+                        true,
+                        false,
+                        false,
+                        false,
+                        null,
+                        0,
+                        "cache-host",
+                        "/cache-path",
+                        null,
+                        defaultKeyPrefix)
+                .makeFor(bid, "bidder1", true, "cacheId1", null, null, null, localEndpoint);
+
+        // then
+        assertThat(keywords).contains(
+                entry("hb_cache_id", "cacheId1"),
+                entry("hb_cache_host", "pbs-node:8080"),
+                entry("hb_cache_path", "/cache"));
+    }
+
     @Test
     public void shouldReturnTargetingKeywordsWithEntireKeysOpenrtb() {
         // given
@@ -0,0 +1,96 @@
+package org.prebid.server.auction.categorymapping;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.settings.ApplicationSettings;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class PreloadedCategoriesTest {
+
+    @Mock
+    private ApplicationSettings applicationSettings;
+    @Mock
+    private Vertx vertx;
+
+    private final TimeoutFactory timeoutFactory =
+            new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+
+    @Test
+    public void initializeShouldDoNothingWhenNoTablesConfigured() {
+        // given
+        final PreloadedCategories target = givenTarget(emptyList());
+        final Promise<Void> promise = Promise.promise();
+
+        // when
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        verifyNoInteractions(applicationSettings, vertx);
+    }
+
+    @Test
+    public void initializeShouldLoadConfiguredTables() {
+        // given
+        given(applicationSettings.getCategories(eq("freewheel"), isNull(), any()))
+                .willReturn(Future.succeededFuture(singletonMap("cat1", "freewheelCat1")));
+        given(applicationSettings.getCategories(eq("dfp"), eq("publisher"), any()))
+                .willReturn(Future.succeededFuture(singletonMap("cat1", "dfpCat1")));
+        final PreloadedCategories target = givenTarget(List.of("freewheel", "dfp:publisher"));
+        final Promise<Void> promise = Promise.promise();
+
+        // when
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        assertThat(target.get("freewheel", null)).containsEntry("cat1", "freewheelCat1");
+        assertThat(target.get("dfp", "publisher")).containsEntry("cat1", "dfpCat1");
+        assertThat(target.get("dfp", null)).isNull();
+    }
+
+    @Test
+    public void refreshShouldKeepPreviouslyLoadedTableOnFailure() {
+        // given
+        given(vertx.setPeriodic(anyLong(), any())).willAnswer(invocation -> {
+            ((Handler<Long>) invocation.getArgument(1)).handle(1L);
+            return 0L;
+        });
+        given(applicationSettings.getCategories(eq("freewheel"), isNull(), any())).willReturn(
+                Future.succeededFuture(singletonMap("cat1", "freewheelCat1")),
+                Future.failedFuture("Timeout"));
+        final PreloadedCategories target = givenTarget(List.of("freewheel"));
+
+        // when
+        target.initialize(Promise.promise());
+
+        // then
+        assertThat(target.get("freewheel", null)).containsEntry("cat1", "freewheelCat1");
+    }
+
+    private PreloadedCategories givenTarget(List<String> tables) {
+        return new PreloadedCategories(applicationSettings, tables, 1000L, 500L, timeoutFactory, vertx);
+    }
+}
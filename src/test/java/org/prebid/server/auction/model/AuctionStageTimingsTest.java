@@ -0,0 +1,64 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuctionStageTimingsTest {
+
+    private final AuctionStageTimings target = new AuctionStageTimings();
+
+    @Test
+    public void recordShouldAccumulateDurationsOfStage() {
+        // when
+        target.record(AuctionStage.floors, 100L);
+        target.record(AuctionStage.floors, 50L);
+
+        // then
+        assertThat(target.nanos(AuctionStage.floors)).isEqualTo(150L);
+        assertThat(target.nanos(AuctionStage.cache_write)).isZero();
+    }
+
+    @Test
+    public void stopShouldRecordTimePassedSinceStart() {
+        // given
+        final long start = target.start() - 1_000L;
+
+        // when
+        target.stop(AuctionStage.privacy_enforcement, start);
+
+        // then
+        assertThat(target.nanos(AuctionStage.privacy_enforcement)).isGreaterThanOrEqualTo(1_000L);
+    }
+
+    @Test
+    public void measureShouldReturnActionResultAndRecordStage() {
+        // when
+        final String result = target.measure(AuctionStage.bidder_requests, () -> {
+            target.record(AuctionStage.floors, 1L);
+            return "result";
+        });
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(target.nanos(AuctionStage.bidder_requests)).isPositive();
+        assertThat(target.nanos(AuctionStage.floors)).isOne();
+    }
+
+    @Test
+    public void measureAsyncShouldRecordStageWhenReturnedFutureCompletes() {
+        // given
+        final Promise<String> promise = Promise.promise();
+
+        // when
+        final Future<String> result = target.measureAsync(AuctionStage.cache_write, promise::future);
+
+        // then
+        assertThat(target.nanos(AuctionStage.cache_write)).isZero();
+        promise.complete("result");
+        assertThat(result.result()).isEqualTo("result");
+        assertThat(target.nanos(AuctionStage.cache_write)).isPositive();
+    }
+}
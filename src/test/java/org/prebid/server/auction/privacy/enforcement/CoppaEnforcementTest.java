@@ -104,4 +104,37 @@ public class CoppaEnforcementTest {
         });
         verify(metrics).updatePrivacyCoppaMetric(activityInfrastructure, Set.of("bidder"));
     }
+
+    @Test
+    public void enforceShouldMaskSameUserAndDeviceOnceForAllBidders() {
+        // given
+        final User maskedUser = User.builder().id("maskedUser").build();
+        final Device maskedDevice = Device.builder().ip("maskedDevice").build();
+
+        given(userFpdCoppaMask.maskUser(any())).willReturn(maskedUser);
+        given(userFpdCoppaMask.maskDevice(any())).willReturn(maskedDevice);
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .activityInfrastructure(activityInfrastructure)
+                .privacyContext(PrivacyContext.of(Privacy.builder().coppa(1).build(), null, null))
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        final User user = User.builder().id("originalUser").build();
+        final Device device = Device.builder().ip("originalDevice").build();
+        final List<BidderPrivacyResult> initialResults = List.of(
+                BidderPrivacyResult.builder().requestBidder("bidder1").user(user).device(device).build(),
+                BidderPrivacyResult.builder().requestBidder("bidder2").user(user).device(device).build());
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(auctionContext, bidderAliases, initialResults).result();
+
+        // then
+        assertThat(result).hasSize(2).allSatisfy(privacyResult -> {
+            assertThat(privacyResult.getUser()).isSameAs(maskedUser);
+            assertThat(privacyResult.getDevice()).isSameAs(maskedDevice);
+        });
+        verify(userFpdCoppaMask).maskUser(user);
+        verify(userFpdCoppaMask).maskDevice(device);
+    }
 }
@@ -67,4 +67,30 @@ public class PrivacyEnforcementServiceTest {
                 .asList()
                 .containsExactlyInAnyOrder(expectedResult);
     }
+
+    @Test
+    public void maskShouldShareEqualUsersBetweenBidders() {
+        // given
+        given(firstEnforcement.enforce(any(), any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(2)));
+
+        final PrivacyEnforcementService target = new PrivacyEnforcementService(singletonList(firstEnforcement));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        final Map<String, User> bidderToUser = Map.of(
+                "bidder1", User.builder().id("user").build(),
+                "bidder2", User.builder().id("user").build());
+
+        // when
+        final Future<List<BidderPrivacyResult>> result = target.mask(auctionContext, bidderToUser, bidderAliases);
+
+        // then
+        assertThat(result)
+                .isSucceeded()
+                .unwrap()
+                .matches(results -> results.get(0).getUser() == results.get(1).getUser(), "users are shared");
+    }
 }
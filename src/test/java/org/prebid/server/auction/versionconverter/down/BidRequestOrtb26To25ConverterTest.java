@@ -10,6 +10,7 @@ import com.iab.openrtb.request.SupplyChain;
 import com.iab.openrtb.request.User;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.versionconverter.OrtbConversionCache;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegsDsa;
 import org.prebid.server.proto.openrtb.ext.request.ExtSource;
@@ -157,6 +158,28 @@ public class BidRequestOrtb26To25ConverterTest extends VertxTest {
                 });
     }
 
+    @Test
+    public void convertShouldReuseConversionOfSharedSectionsWithinConversionCache() {
+        // given
+        final User user = User.builder().consent("consent").build();
+        final Regs regs = Regs.builder().gdpr(1).build();
+        final BidRequest firstRequest = givenBidRequest(request -> request.user(user).regs(regs)
+                .imp(singletonList(givenImp(imp -> imp.id("first").rwdd(1)))));
+        final BidRequest secondRequest = givenBidRequest(request -> request.user(user).regs(regs)
+                .imp(singletonList(givenImp(imp -> imp.id("second").rwdd(1)))));
+
+        final OrtbConversionCache conversionCache = new OrtbConversionCache();
+
+        // when
+        final BidRequest firstResult = target.convert(firstRequest, conversionCache);
+        final BidRequest secondResult = target.convert(secondRequest, conversionCache);
+
+        // then
+        assertThat(secondResult.getUser()).isSameAs(firstResult.getUser()).isNotSameAs(user);
+        assertThat(secondResult.getRegs()).isSameAs(firstResult.getRegs()).isNotSameAs(regs);
+        assertThat(secondResult.getImp()).extracting(Imp::getId).containsExactly("second");
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
         return bidRequestCustomizer.apply(BidRequest.builder().imp(emptyList())).build();
     }
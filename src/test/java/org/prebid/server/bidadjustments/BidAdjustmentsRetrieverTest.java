@@ -376,6 +376,76 @@ public class BidAdjustmentsRetrieverTest extends VertxTest {
         assertThat(debugMessages).isEmpty();
     }
 
+    @Test
+    public void retrieveShouldReuseAccountAdjustmentsConvertedForSameAccountRevision()
+            throws JsonProcessingException {
+
+        // given
+        final String accountAdjustments = """
+                {
+                  "mediatype": {
+                    "banner": {
+                      "*": {
+                        "*": [
+                          {
+                            "adjtype": "cpm",
+                            "value": 0.1,
+                            "currency": "USD"
+                          }
+                        ]
+                      }
+                    }
+                  }
+                }
+                """;
+
+        final ObjectNode givenAccountAdjustments = (ObjectNode) mapper.readTree(accountAdjustments);
+
+        // when
+        final BidAdjustments first = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, new ArrayList<>(), true));
+        final BidAdjustments second = target.retrieve(givenAuctionContext(
+                mapper.createObjectNode(), givenAccountAdjustments, new ArrayList<>(), true));
+
+        // then
+        assertThat(first.getRules()).containsOnlyKeys("banner|*|*");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void retrieveShouldDropAccountAdjustmentsWhenRequestMediaTypesAreNull() throws JsonProcessingException {
+        // given
+        final List<String> debugMessages = new ArrayList<>();
+        final String accountAdjustments = """
+                {
+                  "mediatype": {
+                    "banner": {
+                      "*": {
+                        "*": [
+                          {
+                            "adjtype": "cpm",
+                            "value": 0.1,
+                            "currency": "USD"
+                          }
+                        ]
+                      }
+                    }
+                  }
+                }
+                """;
+
+        final ObjectNode givenRequestAdjustments = (ObjectNode) mapper.readTree("{\"mediatype\": null}");
+        final ObjectNode givenAccountAdjustments = (ObjectNode) mapper.readTree(accountAdjustments);
+
+        // when
+        final BidAdjustments actual = target.retrieve(givenAuctionContext(
+                givenRequestAdjustments, givenAccountAdjustments, debugMessages, true));
+
+        // then
+        assertThat(actual).isEqualTo(BidAdjustments.of(Collections.emptyMap()));
+        assertThat(debugMessages).isEmpty();
+    }
+
     private static AuctionContext givenAuctionContext(ObjectNode requestBidAdjustments,
                                                       ObjectNode accountBidAdjustments,
                                                       List<String> debugWarnings,
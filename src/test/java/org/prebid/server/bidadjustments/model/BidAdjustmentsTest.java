@@ -55,6 +55,41 @@ public class BidAdjustmentsTest {
 
     }
 
+    @Test
+    public void findRulesShouldReturnMostAccurateRules() {
+        // given
+        final BidAdjustments target = BidAdjustments.of(Map.of(
+                "banner|*|dealId", List.of(givenRule("1")),
+                "*|bidderName|dealId", List.of(givenRule("2")),
+                "banner|bidderName|*", List.of(givenRule("3")),
+                "*|*|*", List.of(givenRule("4"))));
+
+        // when and then
+        assertThat(target.findRules("banner", "bidderName", "dealId")).containsExactly(givenRule("3"));
+        assertThat(target.findRules("banner", "otherBidder", "dealId")).containsExactly(givenRule("1"));
+        assertThat(target.findRules("audio", "bidderName", "dealId")).containsExactly(givenRule("2"));
+        assertThat(target.findRules("audio", "bidderName", null)).containsExactly(givenRule("4"));
+        assertThat(BidAdjustments.of(Map.of()).findRules("audio", "bidderName", null)).isEmpty();
+    }
+
+    @Test
+    public void overriddenByShouldReplaceRulesWithSameKey() {
+        // given
+        final BidAdjustments target = BidAdjustments.of(Map.of(
+                "banner|*|*", List.of(givenRule("1")),
+                "banner|*|dealId", List.of(givenRule("2"))));
+
+        // when
+        final BidAdjustments actual = target.overriddenBy(BidAdjustments.of(Map.of(
+                "banner|*|*", List.of(givenRule("3")))));
+
+        // then
+        assertThat(actual).isEqualTo(BidAdjustments.of(Map.of(
+                "banner|*|*", List.of(givenRule("3")),
+                "banner|*|dealId", List.of(givenRule("2")))));
+        assertThat(actual.findRules("banner", "bidderName", null)).containsExactly(givenRule("3"));
+    }
+
     private static ExtRequestBidAdjustmentsRule givenRule(String value) {
         return ExtRequestBidAdjustmentsRule.builder()
                 .adjType(CPM)
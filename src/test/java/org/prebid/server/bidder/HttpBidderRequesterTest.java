@@ -1,15 +1,18 @@
 package org.prebid.server.bidder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Deal;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -33,6 +36,7 @@ import org.prebid.server.bidder.model.CompositeBidderResponse;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
@@ -44,15 +48,19 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -99,6 +107,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
+    @Mock
+    private BlockingExecutor processingExecutor;
 
     private HttpBidderRequester target;
 
@@ -227,11 +237,217 @@ public class HttpBidderRequesterTest extends VertxTest {
                 .extracting(HttpResponse::getBody)
                 .isEqualTo("storedResponse");
         assertThat(bidderSeatBid.getBids()).hasSameElementsAs(bids);
+        assertThat(bidderSeatBid.isHttpResponded()).isFalse();
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldReuseBidsMadeFromStoredResponseWhenStoredResponsesCacheEnabled() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0, 100);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        final List<BidderBid> bids = singletonList(BidderBid.of(Bid.builder().impid("impId").build(), null, null));
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.builder().bids(bids).build());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .storedResponse("storedResponse")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder, bidderRequest, bidRejectionTracker, timeout, CaseInsensitiveMultiMap.empty(), bidderAliases,
+                false);
+        final BidderSeatBid bidderSeatBid = target
+                .requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verify(bidder).makeHttpRequests(any());
+        verify(bidder).makeBidderResponse(any(), any());
+        verify(bidRejectionTracker, times(2)).restoreFromRejection(bids);
+        assertThat(bidderSeatBid.getBids()).containsExactlyElementsOf(bids);
+    }
+
+    @Test
+    public void shouldNotShareBidExtensionsBetweenAuctionsReusingBidsMadeFromStoredResponse() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0, 100);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        final Bid bid = Bid.builder().impid("impId").ext(mapper.createObjectNode().put("field", "value")).build();
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.builder()
+                .bids(singletonList(BidderBid.of(bid, null, null)))
+                .build());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .storedResponse("storedResponse")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid first = target
+                .requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+        first.getBids().getFirst().getBid().getExt().put("field", "changed");
+
+        final BidderSeatBid second = target
+                .requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+        second.getBids().getFirst().getBid().getExt().put("other", "value");
+
+        final BidderSeatBid third = target
+                .requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verify(bidder).makeBidderResponse(any(), any());
+        assertThat(third.getBids()).extracting(BidderBid::getBid).extracting(Bid::getExt)
+                .containsExactly(mapper.createObjectNode().put("field", "value"));
+    }
+
+    @Test
+    public void shouldNotReuseBidsMadeFromStoredResponseForDifferentBidderRequest() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0, 100);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(identity())),
+                emptyList()));
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.builder()
+                .bids(singletonList(BidderBid.of(Bid.builder().build(), null, null)))
+                .build());
+
+        final Imp imp = Imp.builder().id("impId").banner(Banner.builder().build()).build();
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .storedResponse("storedResponse")
+                .bidRequest(BidRequest.builder().id("id1").imp(singletonList(imp)).cur(singletonList("USD"))
+                        .tmax(1000L).build())
+                .build();
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+
+        // when
+        target.requestBids(
+                bidder, bidderRequest, bidRejectionTracker, timeout, CaseInsensitiveMultiMap.empty(), bidderAliases,
+                false);
+        target.requestBids(
+                bidder,
+                bidderRequest.with(bidRequest.toBuilder()
+                        .id("id2")
+                        .imp(singletonList(imp.toBuilder().tagid("tagId").build()))
+                        .tmax(900L)
+                        .build()),
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+        target.requestBids(
+                bidder,
+                bidderRequest.with(bidRequest.toBuilder().cur(singletonList("EUR")).build()),
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+        target.requestBids(
+                bidder,
+                bidderRequest.with(bidRequest.toBuilder()
+                        .imp(singletonList(imp.toBuilder().banner(null).video(Video.builder().build()).build()))
+                        .build()),
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(bidder, times(3)).makeHttpRequests(any());
+        verify(bidder, times(3)).makeBidderResponse(any(), any());
+    }
+
+    @Test
+    public void shouldNotReuseBidsMadeFromStoredResponseForDebugRequests() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0, 100);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(identity())),
+                emptyList()));
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.builder()
+                .bids(singletonList(BidderBid.of(Bid.builder().build(), null, null)))
+                .build());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .storedResponse("storedResponse")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder, bidderRequest, bidRejectionTracker, timeout, CaseInsensitiveMultiMap.empty(), bidderAliases,
+                true);
+        final BidderSeatBid bidderSeatBid = target
+                .requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        true)
+                .result();
+
+        // then
+        verify(bidder, times(2)).makeHttpRequests(any());
+        assertThat(bidderSeatBid.getHttpCalls()).hasSize(1);
+    }
+
     @Test
     public void shouldMakeRequestToBidderWhenStoredResponseDefinedButBidderCreatesMoreThanOneRequest() {
         // given
@@ -265,7 +481,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 false);
 
         // then
-        verify(httpClient, times(2)).request(any(), anyString(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(2)).request(any(), anyString(), any(), any(Buffer.class), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -300,7 +516,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                         false);
 
         // then
-        verify(httpClient).request(any(), anyString(), any(), (byte[]) isNull(), anyLong());
+        verify(httpClient).request(any(), anyString(), any(), (Buffer) isNull(), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -336,7 +552,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 false);
 
         // then
-        verify(httpClient, times(2)).request(any(), anyString(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(2)).request(any(), anyString(), any(), any(Buffer.class), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -370,11 +586,77 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         assertThat(bidderSeatBid.getBids()).hasSameElementsAs(bids);
+        assertThat(bidderSeatBid.isHttpResponded()).isTrue();
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldBuildRequestsAndMakeBidsOnProcessingExecutorWhenParallelProcessingAllowed() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0, 0, processingExecutor);
+        given(processingExecutor.execute(any()))
+                .willAnswer(invocation -> Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call()));
+
+        givenSuccessfulBidderMakeHttpRequests();
+
+        final List<BidderBid> bids = singletonList(BidderBid.of(null, null, null));
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.builder().bids(bids).build());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .parallelProcessing(true)
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid = target.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verify(processingExecutor, times(2)).execute(any());
+        assertThat(bidderSeatBid.getBids()).containsExactlyElementsOf(bids);
+    }
+
+    @Test
+    public void shouldNotUseProcessingExecutorWhenParallelProcessingNotAllowed() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0, 0, processingExecutor);
+
+        givenSuccessfulBidderMakeHttpRequests();
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid = target.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verifyNoInteractions(processingExecutor);
+        assertThat(bidderSeatBid.getBids()).isEmpty();
+    }
+
     @Test
     public void shouldReturnBidsCreatedByMakeBids() {
         // given
@@ -498,7 +780,7 @@ public class HttpBidderRequesterTest extends VertxTest {
     }
 
     @Test
-    public void shouldCompressRequestBodyIfContentEncodingHeaderIsGzip() {
+    public void shouldCompressRequestBodyIfContentEncodingHeaderIsGzip() throws IOException {
         // given
         final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
@@ -525,9 +807,9 @@ public class HttpBidderRequesterTest extends VertxTest {
                 .result();
 
         // then
-        final ArgumentCaptor<byte[]> actualRequestBody = ArgumentCaptor.forClass(byte[].class);
+        final ArgumentCaptor<Buffer> actualRequestBody = ArgumentCaptor.forClass(Buffer.class);
         verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong());
-        assertThat(actualRequestBody.getValue()).isNotSameAs(EMPTY_BYTE_BODY);
+        assertThat(gunzip(actualRequestBody.getValue().getBytes())).isEqualTo(EMPTY_BYTE_BODY);
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -594,13 +876,13 @@ public class HttpBidderRequesterTest extends VertxTest {
         final HttpClientResponse respWithDeal2 = HttpClientResponse.of(200, null,
                 "{\"seatbid\":[{\"bid\":[{\"dealid\":\"deal2\"}]}]}");
 
-        given(httpClient.request(any(), anyString(), any(), eq(firstRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(Buffer.buffer(firstRequestBody)), anyLong()))
                 .willReturn(Future.succeededFuture(respWithDeal1));
-        given(httpClient.request(any(), anyString(), any(), eq(secondRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(Buffer.buffer(secondRequestBody)), anyLong()))
                 .willReturn(Promise.<HttpClientResponse>promise().future());
-        given(httpClient.request(any(), anyString(), any(), eq(thirdRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(Buffer.buffer(thirdRequestBody)), anyLong()))
                 .willReturn(Future.succeededFuture(respWithDeal2));
-        given(httpClient.request(any(), anyString(), any(), eq(forthRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(Buffer.buffer(forthRequestBody)), anyLong()))
                 .willReturn(Promise.<HttpClientResponse>promise().future());
 
         final BidderBid bidderBidDeal1 = BidderBid.of(Bid.builder().impid("deal1").dealid("deal1").build(), null, null);
@@ -622,7 +904,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verify(bidder).makeHttpRequests(any());
-        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(4)).request(any(), any(), any(), any(Buffer.class), anyLong());
         verify(bidder, times(2)).makeBidderResponse(any(), any());
 
         assertThat(bidderSeatBid.getBids()).containsOnly(bidderBidDeal1, bidderBidDeal2);
@@ -671,7 +953,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verify(bidder).makeHttpRequests(any());
-        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(4)).request(any(), any(), any(), any(Buffer.class), anyLong());
         verify(bidder, times(4)).makeBidderResponse(any(), any());
 
         assertThat(bidderSeatBid.getBids()).contains(bidderBid, bidderBid, bidderBid, bidderBid);
@@ -1102,7 +1384,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(httpRequest), emptyList()));
 
-        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), any(Buffer.class), anyLong()))
                 // bidder request
                 .willReturn(Future.failedFuture(new TimeoutException("Timeout exception")));
 
@@ -1147,7 +1429,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 singletonList(BidderError.badInput("makeHttpRequestsError"))));
         when(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any()))
                 .thenAnswer(invocation -> MultiMap.caseInsensitiveMultiMap());
-        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), any(Buffer.class), anyLong()))
                 // simulate response error for the first request
                 .willReturn(Future.failedFuture(new RuntimeException("Response exception")))
                 // simulate timeout for the second request
@@ -1285,6 +1567,12 @@ public class HttpBidderRequesterTest extends VertxTest {
                 .build();
     }
 
+    private static byte[] gunzip(byte[] value) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return gzip.readAllBytes();
+        }
+    }
+
     private void givenSuccessfulBidderMakeHttpRequests() {
         given(bidder.makeHttpRequests(any())).willReturn(
                 Result.of(singletonList(givenSimpleHttpRequest(identity())), emptyList()));
@@ -1293,18 +1581,18 @@ public class HttpBidderRequesterTest extends VertxTest {
     }
 
     private void givenHttpClientResponse(int statusCode, String response) {
-        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), (Buffer) any(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
     }
 
     private void givenHttpClientProducesException(Throwable throwable) {
-        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), any(Buffer.class), anyLong()))
                 .willReturn(Future.failedFuture(throwable));
     }
 
     private void givenHttpClientReturnsResponses(HttpClientResponse... httpClientResponses) {
         BDDMockito.BDDMyOngoingStubbing<Future<HttpClientResponse>> stubbing =
-                given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()));
+                given(httpClient.request(any(), anyString(), any(), any(Buffer.class), anyLong()));
 
         // setup multiple answers
         for (HttpClientResponse httpClientResponse : httpClientResponses) {
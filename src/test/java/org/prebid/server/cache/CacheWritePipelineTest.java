@@ -0,0 +1,311 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.CacheEndpoint;
+import org.prebid.server.cache.model.CacheWriteResult;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheWritePipelineTest extends VertxTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private UUIDIdGenerator idGenerator;
+
+    private URL endpointUrl;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    @BeforeEach
+    public void setUp() throws MalformedURLException {
+        endpointUrl = new URL("http://cache-service/cache");
+    }
+
+    @Test
+    public void writeShouldCoalesceWritesWithinEventLoopTaskIntoSingleRequest() throws JsonProcessingException {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, null);
+        givenHttpClientReturnsUuids("uuid1", "uuid2", "uuid3");
+
+        // when
+        final Future<BidCacheResponse> first = target.write(asList(givenPut("1"), givenPut("2")), "account1", 500L);
+        final Future<BidCacheResponse> second = target.write(singletonList(givenPut("3")), "account2", 300L);
+        verifyNoInteractions(httpClient);
+        runScheduledFlush();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient).post(eq("http://cache-service/cache"), any(), bodyCaptor.capture(), eq(500L));
+        assertThat(mapper.readValue(bodyCaptor.getValue(), BidCacheRequest.class).getPuts())
+                .containsExactly(givenPut("1"), givenPut("2"), givenPut("3"));
+
+        assertThat(first.result().getResponses()).containsExactly(CacheObject.of("uuid1"), CacheObject.of("uuid2"));
+        assertThat(second.result().getResponses()).containsExactly(CacheObject.of("uuid3"));
+        verify(metrics).updateCacheBatchSize(3);
+    }
+
+    @Test
+    public void writeShouldTimeOutEachWriteAtItsOwnDeadline() throws JsonProcessingException {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, null);
+        givenHttpClientReturnsUuids("uuid1");
+
+        // when
+        final Future<BidCacheResponse> first = target.write(singletonList(givenPut("1")), "account", 500L);
+        final Future<BidCacheResponse> second = target.write(singletonList(givenPut("2")), "account", 100L);
+        fireTimer(100L);
+        runScheduledFlush();
+
+        // then
+        assertThat(second.cause()).hasMessage("Timeout has been exceeded");
+        assertThat(first.result().getResponses()).containsExactly(CacheObject.of("uuid1"));
+        verify(httpClient).post(anyString(), any(), anyString(), eq(500L));
+    }
+
+    @Test
+    public void writeShouldForgetAccountOnceNothingIsInFlight() throws JsonProcessingException {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 2, null);
+        givenHttpClientReturnsUuids("uuid1", "uuid2");
+
+        // when
+        target.write(singletonList(givenPut("1")), "account1", 500L);
+        target.write(singletonList(givenPut("2")), "account2", 500L);
+        final int accountsBeforeFlush = target.accountsInFlight();
+        runScheduledFlush();
+
+        // then
+        assertThat(accountsBeforeFlush).isEqualTo(2);
+        assertThat(target.accountsInFlight()).isZero();
+    }
+
+    @Test
+    public void writeShouldScheduleFlushByTimerWhenBatchWindowConfigured() {
+        // given
+        final CacheWritePipeline target = givenTarget(5L, 100, 0, null);
+
+        // when
+        target.write(singletonList(givenPut("1")), "account", 500L);
+        target.write(singletonList(givenPut("2")), "account", 500L);
+
+        // then
+        verify(vertx).setTimer(eq(5L), any());
+        verify(vertx, never()).runOnContext(any());
+    }
+
+    @Test
+    public void writeShouldSendBatchImmediatelyWhenMaxBatchSizeReached() throws JsonProcessingException {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 2, 0, null);
+        givenHttpClientReturnsUuids("uuid1", "uuid2");
+
+        // when
+        final Future<BidCacheResponse> result = target.write(
+                asList(givenPut("1"), givenPut("2")), "account", 500L);
+
+        // then
+        verify(vertx, never()).runOnContext(any());
+        assertThat(result.result().getResponses()).containsExactly(CacheObject.of("uuid1"), CacheObject.of("uuid2"));
+    }
+
+    @Test
+    public void writeShouldFailAllWritesOfBatchWhenResponseDoesNotMatchPuts() throws JsonProcessingException {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, null);
+        givenHttpClientReturnsUuids("uuid1");
+
+        // when
+        final Future<BidCacheResponse> first = target.write(singletonList(givenPut("1")), "account", 500L);
+        final Future<BidCacheResponse> second = target.write(singletonList(givenPut("2")), "account", 500L);
+        runScheduledFlush();
+
+        // then
+        assertThat(first.cause()).hasMessage("The number of response cache objects doesn't match with bids");
+        assertThat(second.cause()).hasMessage("The number of response cache objects doesn't match with bids");
+    }
+
+    @Test
+    public void writeShouldRejectWritesExceedingAccountInFlightLimit() {
+        // given
+        final LocalCacheStore localCacheStore = givenLocalCacheStore();
+        final CacheWritePipeline target = givenTarget(0L, 100, 1, localCacheStore);
+
+        // when
+        final Future<BidCacheResponse> first = target.write(singletonList(givenPut("1")), "account", 500L);
+        final Future<CacheWriteResult> second = target.writeWithLocalFallback(
+                singletonList(givenPut("2")), "account", 500L);
+        final Future<BidCacheResponse> otherAccount = target.write(singletonList(givenPut("3")), "other", 500L);
+
+        // then
+        assertThat(first.isComplete()).isFalse();
+        assertThat(otherAccount.isComplete()).isFalse();
+        assertThat(second.cause()).hasMessage("Cache writes in flight limit exceeded for account: account");
+        verify(metrics).updateCacheInFlightLimitedMetric("account");
+        verify(metrics, never()).updateCacheLocalFallbackMetric(anyString(), anyInt());
+        verifyNoInteractions(idGenerator);
+    }
+
+    @Test
+    public void writeWithLocalFallbackShouldSaveToLocalStoreWhenRemoteCacheFailed() {
+        // given
+        final LocalCacheStore localCacheStore = givenLocalCacheStore();
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, localCacheStore);
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.failedFuture("Connection refused"));
+        given(idGenerator.generateId()).willReturn("localUuid");
+
+        // when
+        final Future<CacheWriteResult> result = target.writeWithLocalFallback(
+                singletonList(givenPut("1")), "account", 500L);
+        runScheduledFlush();
+
+        // then
+        assertThat(result.result().getResponse().getResponses()).containsExactly(CacheObject.of("localUuid"));
+        assertThat(result.result().getLocalEndpoint()).isEqualTo(localCacheStore.getEndpoint());
+        assertThat(localCacheStore.get("localUuid")).isEqualTo(givenPut("1"));
+        verify(metrics).updateCacheLocalFallbackMetric("account", 1);
+    }
+
+    @Test
+    public void writeWithLocalFallbackShouldNotReturnLocalEndpointWhenRemoteCacheSucceeded()
+            throws JsonProcessingException {
+
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, givenLocalCacheStore());
+        givenHttpClientReturnsUuids("uuid1");
+
+        // when
+        final Future<CacheWriteResult> result = target.writeWithLocalFallback(
+                singletonList(givenPut("1")), "account", 500L);
+        runScheduledFlush();
+
+        // then
+        assertThat(result.result().getResponse().getResponses()).containsExactly(CacheObject.of("uuid1"));
+        assertThat(result.result().getLocalEndpoint()).isNull();
+    }
+
+    @Test
+    public void writeShouldNotSaveToLocalStoreWhenRemoteCacheFailed() {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, givenLocalCacheStore());
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.failedFuture("Connection refused"));
+
+        // when
+        final Future<BidCacheResponse> result = target.write(singletonList(givenPut("1")), "account", 500L);
+        runScheduledFlush();
+
+        // then
+        assertThat(result.cause()).hasMessage("Connection refused");
+        verifyNoInteractions(idGenerator);
+    }
+
+    @Test
+    public void writeShouldFailExpiredWritesWithoutSendingThem() {
+        // given
+        final CacheWritePipeline target = givenTarget(0L, 100, 0, null);
+
+        // when
+        final Future<BidCacheResponse> result = target.write(singletonList(givenPut("1")), "account", 0L);
+
+        // then
+        verifyNoInteractions(httpClient);
+        assertThat(result.cause()).hasMessage("Timeout has been exceeded");
+    }
+
+    private LocalCacheStore givenLocalCacheStore() {
+        return new LocalCacheStore(
+                CacheEndpoint.of("pbs-node:8080", "/cache", "http://pbs-node:8080/cache?uuid="),
+                60,
+                100L,
+                idGenerator);
+    }
+
+    private CacheWritePipeline givenTarget(long batchWindowMs,
+                                           int maxBatchSize,
+                                           int accountMaxInFlight,
+                                           LocalCacheStore localCacheStore) {
+
+        return new CacheWritePipeline(
+                vertx,
+                httpClient,
+                endpointUrl,
+                null,
+                false,
+                batchWindowMs,
+                maxBatchSize,
+                accountMaxInFlight,
+                localCacheStore,
+                metrics,
+                clock,
+                jacksonMapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runScheduledFlush() {
+        final ArgumentCaptor<Handler<Void>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).runOnContext(handlerCaptor.capture());
+        handlerCaptor.getValue().handle(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer(long delay) {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(delay), handlerCaptor.capture());
+        handlerCaptor.getValue().handle(0L);
+    }
+
+    private void givenHttpClientReturnsUuids(String... uuids) throws JsonProcessingException {
+        final List<CacheObject> cacheObjects = Stream.of(uuids).map(CacheObject::of).toList();
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, null, mapper.writeValueAsString(BidCacheResponse.of(cacheObjects)))));
+    }
+
+    private static BidPutObject givenPut(String value) {
+        return BidPutObject.builder().type("xml").value(new TextNode(value)).build();
+    }
+}
@@ -21,9 +21,11 @@ import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.cache.model.CacheContext;
+import org.prebid.server.cache.model.CacheEndpoint;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
+import org.prebid.server.cache.model.CacheWriteResult;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
 import org.prebid.server.cache.proto.request.bid.BidPutObject;
@@ -90,6 +92,8 @@ public class CoreCacheServiceTest extends VertxTest {
     private Metrics metrics;
     @Mock
     private UUIDIdGenerator idGenerator;
+    @Mock
+    private CacheWritePipeline cacheWritePipeline;
 
     private Clock clock;
 
@@ -1239,6 +1243,121 @@ public class CoreCacheServiceTest extends VertxTest {
         verify(metrics, never()).updateCacheCreativeTtl(any(), any(), any());
     }
 
+    @Test
+    public void cachePutObjectsShouldWriteThroughPipelineWhenConfigured() throws MalformedURLException {
+        // given
+        givenTargetWithPipeline();
+
+        final BidPutObject bidPutObject = BidPutObject.builder().type("xml").value(new TextNode("vast")).build();
+        given(vastModifier.modifyVastXml(any(), any(), any(), any(), any())).willReturn(new TextNode("vast"));
+        given(cacheWritePipeline.write(any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(BidCacheResponse.of(singletonList(CacheObject.of("uuid")))));
+
+        // when
+        final Future<BidCacheResponse> result = target.cachePutObjects(
+                singletonList(bidPutObject), true, emptySet(), "account", "pbjs", timeout);
+
+        // then
+        verify(cacheWritePipeline).write(singletonList(bidPutObject), "account", 500L);
+        verifyNoInteractions(httpClient);
+        verify(metrics).updateCacheRequestSuccessTime(eq("account"), anyLong());
+        assertThat(result.result().getResponses()).containsExactly(CacheObject.of("uuid"));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldWriteThroughPipelineWhenConfigured() throws IOException {
+        // given
+        givenTargetWithPipeline();
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+        given(cacheWritePipeline.writeWithLocalFallback(any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(CacheWriteResult.of(
+                        BidCacheResponse.of(singletonList(CacheObject.of("uuid"))), null)));
+
+        // when
+        final Future<CacheServiceResult> result = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder().shouldCacheBids(true).build(),
+                eventsContext);
+
+        // then
+        verifyNoInteractions(httpClient);
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+        assertThat(result.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("uuid", null, null, null)));
+        assertThat(result.result().getHttpCall().getResponseBody())
+                .isEqualTo(mapper.writeValueAsString(BidCacheResponse.of(singletonList(CacheObject.of("uuid")))));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldPassLocalEndpointWhenPipelineSavedBidsLocally() throws MalformedURLException {
+        // given
+        givenTargetWithPipeline();
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+        final CacheEndpoint localEndpoint = CacheEndpoint.of(
+                "pbs-node:8080", "/cache", "http://pbs-node:8080/cache?uuid=");
+        given(cacheWritePipeline.writeWithLocalFallback(any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(CacheWriteResult.of(
+                        BidCacheResponse.of(singletonList(CacheObject.of("localUuid"))), localEndpoint)));
+
+        // when
+        final Future<CacheServiceResult> result = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder().shouldCacheBids(true).build(),
+                eventsContext);
+
+        // then
+        verify(metrics).updateCacheRequestFailedTime(eq("accountId"), anyLong());
+        verify(metrics, never()).updateCacheRequestSuccessTime(anyString(), anyLong());
+        assertThat(result.result().getHttpCall().getResponseStatus()).isNull();
+        assertThat(result.result().getHttpCall().getResponseBody()).isNull();
+        assertThat(result.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("localUuid", null, null, null, localEndpoint)));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldReturnErrorWhenPipelineWriteFailed() throws MalformedURLException {
+        // given
+        givenTargetWithPipeline();
+
+        given(cacheWritePipeline.writeWithLocalFallback(any(), any(), anyLong()))
+                .willReturn(Future.failedFuture(new PreBidException("HTTP status code 503")));
+
+        // when
+        final Future<CacheServiceResult> result = target.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(builder -> builder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder().shouldCacheBids(true).build(),
+                eventsContext);
+
+        // then
+        verify(metrics).updateCacheRequestFailedTime(eq("accountId"), anyLong());
+        assertThat(result.result().getError()).hasMessage("HTTP status code 503");
+        assertThat(result.result().getCacheBids()).isEmpty();
+    }
+
+    private void givenTargetWithPipeline() throws MalformedURLException {
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                cacheWritePipeline);
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
@@ -0,0 +1,102 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VirtualThreadBlockingExecutorTest {
+
+    private Vertx vertx;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+        vertx.close();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxConcurrency() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new VirtualThreadBlockingExecutor(vertx, executorService, 0))
+                .withMessage("Max concurrency should be positive");
+    }
+
+    @Test
+    public void executeShouldReturnTaskResult() throws Exception {
+        // given
+        final VirtualThreadBlockingExecutor target = new VirtualThreadBlockingExecutor(vertx, executorService, 1);
+
+        // when
+        final Future<String> result = target.execute(() -> "result");
+
+        // then
+        assertThat(await(result)).isEqualTo("result");
+        assertThat(target.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    public void executeShouldFailWhenTaskThrowsException() {
+        // given
+        final VirtualThreadBlockingExecutor target = new VirtualThreadBlockingExecutor(vertx, executorService, 1);
+
+        // when
+        final Future<String> result = target.execute(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // then
+        assertThatThrownBy(() -> await(result)).hasRootCauseMessage("failed");
+    }
+
+    @Test
+    public void executeShouldNotRunMoreTasksThanMaxConcurrencyAtTheSameTime() throws Exception {
+        // given
+        final VirtualThreadBlockingExecutor target = new VirtualThreadBlockingExecutor(vertx, executorService, 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger started = new AtomicInteger();
+
+        // when
+        final Future<Integer> first = target.execute(() -> awaitRelease(release, started));
+        final Future<Integer> second = target.execute(() -> awaitRelease(release, started));
+        final Future<Integer> third = target.execute(() -> awaitRelease(release, started));
+        TimeUnit.MILLISECONDS.sleep(100L);
+
+        // then
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(target.availablePermits()).isZero();
+
+        release.countDown();
+        assertThat(await(first) + await(second) + await(third)).isEqualTo(6);
+    }
+
+    private static int awaitRelease(CountDownLatch release, AtomicInteger started) throws InterruptedException {
+        final int order = started.incrementAndGet();
+        release.await();
+        return order;
+    }
+
+    private static <T> T await(Future<T> future) throws ExecutionException, InterruptedException, TimeoutException {
+        return future.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS);
+    }
+}
@@ -12,6 +12,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
 import org.prebid.server.execution.retry.NonRetryable;
@@ -21,6 +23,7 @@ import org.testcontainers.shaded.org.apache.commons.lang3.NotImplementedExceptio
 import java.util.concurrent.Callable;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.spy;
@@ -42,7 +45,7 @@ public class FileSyncerTest {
 
     @BeforeEach
     public void setUp() {
-        given(vertx.executeBlocking(Mockito.<Callable<?>>any())).willAnswer(invocation -> {
+        given(vertx.executeBlocking(Mockito.<Callable<?>>any(), anyBoolean())).willAnswer(invocation -> {
             try {
                 return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
             } catch (Throwable e) {
@@ -129,7 +132,7 @@ public class FileSyncerTest {
     }
 
     private FileSyncer fileSyncer(RetryPolicy retryPolicy) {
-        return spy(new TestFileSyncer(fileProcessor, 1000L, retryPolicy, vertx));
+        return spy(new TestFileSyncer(fileProcessor, 1000L, retryPolicy, vertx, new WorkerPoolBlockingExecutor(vertx)));
     }
 
     private static class TestFileSyncer extends FileSyncer {
@@ -137,9 +140,10 @@ public class FileSyncerTest {
         protected TestFileSyncer(FileProcessor fileProcessor,
                                  long updatePeriod,
                                  RetryPolicy retryPolicy,
-                                 Vertx vertx) {
+                                 Vertx vertx,
+                                 BlockingExecutor blockingExecutor) {
 
-            super(fileProcessor, updatePeriod, retryPolicy, vertx);
+            super(fileProcessor, updatePeriod, retryPolicy, vertx, blockingExecutor);
         }
 
         @Override
@@ -22,6 +22,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
 import org.prebid.server.execution.retry.RetryPolicy;
@@ -33,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -84,12 +87,15 @@ public class RemoteFileSyncerTest extends VertxTest {
     @Mock
     private HttpClientResponse httpClientResponse;
 
+    private BlockingExecutor blockingExecutor;
+
     private RemoteFileSyncer remoteFileSyncer;
 
     @BeforeEach
     public void setUp() {
         when(vertx.fileSystem()).thenReturn(fileSystem);
-        given(vertx.executeBlocking(Mockito.<Callable<?>>any())).willAnswer(invocation -> {
+        blockingExecutor = new WorkerPoolBlockingExecutor(vertx);
+        given(vertx.executeBlocking(Mockito.<Callable<?>>any(), anyBoolean())).willAnswer(invocation -> {
             try {
                 return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
             } catch (Throwable e) {
@@ -98,30 +104,30 @@ public class RemoteFileSyncerTest extends VertxTest {
         });
 
         remoteFileSyncer = new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, 0, httpClient, vertx);
+                TIMEOUT, 0, httpClient, vertx, blockingExecutor);
     }
 
     @Test
     public void shouldThrowNullPointerExceptionWhenIllegalArgumentsWhenNullArguments() {
         assertThatNullPointerException().isThrownBy(
                 () -> new RemoteFileSyncer(fileProcessor, SOURCE_URL, null, TMP_FILE_PATH, RETRY_POLICY, TIMEOUT,
-                        UPDATE_INTERVAL, httpClient, vertx));
+                        UPDATE_INTERVAL, httpClient, vertx, blockingExecutor));
         assertThatNullPointerException().isThrownBy(
                 () -> new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, null, vertx));
+                        TIMEOUT, UPDATE_INTERVAL, null, vertx, blockingExecutor));
         assertThatNullPointerException().isThrownBy(
                 () -> new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, null));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, null, blockingExecutor));
     }
 
     @Test
     public void shouldThrowIllegalArgumentExceptionWhenIllegalArguments() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> new RemoteFileSyncer(fileProcessor, null, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor));
         assertThatIllegalArgumentException().isThrownBy(
                 () -> new RemoteFileSyncer(fileProcessor, "bad url", FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor));
     }
 
     @Test
@@ -132,7 +138,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when
         new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY, TIMEOUT,
-                UPDATE_INTERVAL, httpClient, vertx);
+                UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         // then
         verify(fileSystem).mkdirsBlocking(eq(DIR_PATH));
@@ -149,7 +155,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when
         new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY, TIMEOUT,
-                UPDATE_INTERVAL, httpClient, vertx);
+                UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         // then
         verify(fileSystem).mkdirsBlocking(eq(DIR_PATH));
@@ -164,7 +170,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when and then
         assertThatThrownBy(() -> new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH,
-                RETRY_POLICY, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx))
+                RETRY_POLICY, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor))
                 .isInstanceOf(PreBidException.class);
     }
 
@@ -187,7 +193,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateWhenHeadRequestReturnInvalidHead() {
         // given
         remoteFileSyncer = new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -216,7 +222,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateWhenPropsIsFailed() {
         // given
         remoteFileSyncer = new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -250,7 +256,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateServiceWhenSizeEqualsContentLength() {
         // given
         remoteFileSyncer = new RemoteFileSyncer(fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -287,7 +293,7 @@ public class RemoteFileSyncerTest extends VertxTest {
         // given
         remoteFileSyncer = new RemoteFileSyncer(
                 fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -505,7 +511,7 @@ public class RemoteFileSyncerTest extends VertxTest {
         // given
         remoteFileSyncer = new RemoteFileSyncer(
                 fileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -0,0 +1,97 @@
+package org.prebid.server.execution.timeout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class LatencySketchTest {
+
+    @Mock
+    private Clock clock;
+
+    private LatencySketch target;
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+        target = new LatencySketch(1000L, clock);
+    }
+
+    @Test
+    public void quantileShouldReturnUpperBoundOfQuantileBucket() {
+        // given
+        for (int latency = 1; latency <= 100; latency++) {
+            target.record(latency);
+        }
+
+        // when and then
+        assertThat(target.quantile(0.99, 100)).isEqualTo(115L);
+        assertThat(target.quantile(0.5, 100)).isBetween(50L, 60L);
+    }
+
+    @Test
+    public void quantileShouldReturnMinusOneWhenNotEnoughSamples() {
+        // given
+        target.record(10L);
+
+        // when and then
+        assertThat(target.quantile(0.99, 2)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void quantileShouldNotUseTimeoutsAsLatencies() {
+        // given
+        for (int i = 0; i < 99; i++) {
+            target.record(10L);
+        }
+        target.recordTimeout();
+
+        // when and then
+        assertThat(target.quantile(0.99, 100)).isEqualTo(11L);
+    }
+
+    @Test
+    public void quantileShouldReturnMinusOneWhenQuantileFallsAmongTimeouts() {
+        // given
+        for (int i = 0; i < 98; i++) {
+            target.record(10L);
+        }
+        target.recordTimeout();
+        target.recordTimeout();
+
+        // when and then
+        assertThat(target.quantile(0.99, 100)).isEqualTo(-1L);
+        assertThat(target.quantile(0.9, 100)).isEqualTo(11L);
+    }
+
+    @Test
+    public void quantileShouldTakePreviousWindowIntoAccount() {
+        // given
+        target.record(10L);
+        given(clock.millis()).willReturn(2500L);
+
+        // when and then
+        assertThat(target.quantile(0.99, 1)).isEqualTo(11L);
+    }
+
+    @Test
+    public void quantileShouldDropObservationsOlderThanPreviousWindow() {
+        // given
+        target.record(10L);
+        given(clock.millis()).willReturn(2500L);
+        target.record(100L);
+        given(clock.millis()).willReturn(3600L);
+
+        // when and then
+        assertThat(target.quantile(0.5, 1)).isEqualTo(115L);
+        assertThat(target.quantile(0.5, 2)).isEqualTo(-1L);
+    }
+}
@@ -13,6 +13,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.Metrics;
 
@@ -32,6 +34,7 @@ import static org.mockito.Mockito.verify;
 public class CircuitBreakerSecuredGeoLocationServiceTest {
 
     private Vertx vertx;
+    private BlockingExecutor blockingExecutor;
 
     private Clock clock;
     @Mock
@@ -44,9 +47,10 @@ public class CircuitBreakerSecuredGeoLocationServiceTest {
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
+        blockingExecutor = new WorkerPoolBlockingExecutor(vertx);
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        geoLocationService = new CircuitBreakerSecuredGeoLocationService(vertx, wrappedGeoLocationService, metrics, 1,
-                100L, 200L, clock);
+        geoLocationService = new CircuitBreakerSecuredGeoLocationService(vertx, blockingExecutor,
+                wrappedGeoLocationService, metrics, 1, 100L, 200L, clock);
     }
 
     @AfterEach
@@ -142,8 +146,8 @@ public class CircuitBreakerSecuredGeoLocationServiceTest {
     @Test
     public void lookupShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds() {
         // given
-        geoLocationService = new CircuitBreakerSecuredGeoLocationService(vertx, wrappedGeoLocationService, metrics, 2,
-                100L, 200L, clock);
+        geoLocationService = new CircuitBreakerSecuredGeoLocationService(vertx, blockingExecutor,
+                wrappedGeoLocationService, metrics, 2, 100L, 200L, clock);
 
         givenWrappedGeoLocationReturning(
                 Future.failedFuture(new RuntimeException("exception1")),
@@ -0,0 +1,101 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.LocalCacheStore;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.util.HttpUtil;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalCacheHandlerTest extends VertxTest {
+
+    @Mock
+    private LocalCacheStore localCacheStore;
+    @Mock(strictness = LENIENT)
+    private RoutingContext routingContext;
+    @Mock(strictness = LENIENT)
+    private HttpServerRequest httpRequest;
+    @Mock(strictness = LENIENT)
+    private HttpServerResponse httpResponse;
+
+    private LocalCacheHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        target = new LocalCacheHandler(localCacheStore, jacksonMapper);
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestWhenUuidIsMissing() {
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("'uuid' is required query parameter and can't be empty");
+    }
+
+    @Test
+    public void shouldRespondWithNotFoundWhenNothingStoredForUuid() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(404);
+        verify(httpResponse).end("No content stored for uuid: uuid");
+    }
+
+    @Test
+    public void shouldRespondWithXmlValueForXmlPut() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(localCacheStore.get("uuid"))
+                .willReturn(BidPutObject.builder().type("xml").value(new TextNode("<VAST></VAST>")).build());
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/xml");
+        verify(httpResponse).setStatusCode(200);
+        verify(httpResponse).end("<VAST></VAST>");
+    }
+
+    @Test
+    public void shouldRespondWithJsonValueForJsonPut() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(localCacheStore.get("uuid"))
+                .willReturn(BidPutObject.builder().type("json").value(mapper.createObjectNode().put("id", "bidId"))
+                        .build());
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(200);
+        verify(httpResponse).end("{\"id\":\"bidId\"}");
+    }
+}
@@ -12,6 +12,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -26,6 +27,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
+import org.prebid.server.auction.AuctionMemoryGuard;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.HooksMetricsService;
 import org.prebid.server.auction.model.AuctionContext;
@@ -39,6 +41,7 @@ import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.MemoryBudgetExceededException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
@@ -56,6 +59,7 @@ import org.prebid.server.hooks.execution.v1.analytics.ActivityImpl;
 import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
+import org.prebid.server.hooks.execution.v1.exitpoint.BufferExitpointPayload;
 import org.prebid.server.hooks.execution.v1.exitpoint.ExitpointPayloadImpl;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
@@ -109,9 +113,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -128,6 +132,8 @@ public class AmpHandlerTest extends VertxTest {
     private AmpRequestFactory ampRequestFactory;
     @Mock
     private ExchangeService exchangeService;
+    @Mock(strictness = LENIENT)
+    private AuctionMemoryGuard auctionMemoryGuard;
     @Mock
     private BidderCatalog bidderCatalog;
     @Mock
@@ -181,15 +187,19 @@ public class AmpHandlerTest extends VertxTest {
         given(hookStageExecutor.executeExitpointStage(any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
-                        ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1)))));
+                        BufferExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1)))));
 
         given(hooksMetricsService.updateHooksMetrics(any())).willAnswer(invocation -> invocation.getArgument(0));
 
+        given(auctionMemoryGuard.admit(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+
         timeout = new TimeoutFactory(clock).create(2000L);
 
         target = new AmpHandler(
                 ampRequestFactory,
                 exchangeService,
+                auctionMemoryGuard,
                 analyticsReporterDelegator,
                 metrics,
                 hooksMetricsService,
@@ -323,7 +333,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -345,7 +355,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted account")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -367,7 +377,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted app")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -389,7 +399,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -412,10 +422,28 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid account configuration: Account is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid account configuration: Account is invalid")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableIfAuctionMemoryBudgetExceeded() {
+        // given
+        given(ampRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionMemoryGuard.admit(any()))
+                .willReturn(Future.failedFuture(new MemoryBudgetExceededException("Budget exceeded")));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verifyNoInteractions(exchangeService);
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(httpResponse).end(eq(Buffer.buffer("Budget exceeded")));
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.amp), eq(MetricName.shed));
+    }
+
     @Test
     public void shouldRespondWithInternalServerErrorIfAuctionFails() {
         // given
@@ -436,7 +464,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -462,8 +490,8 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(
-                startsWith("Critical error while running the auction: Critical error while unpacking AMP targets:"));
+        verify(httpResponse).end(argThat((Buffer body) -> body.toString()
+                .startsWith("Critical error while running the auction: Critical error while unpacking AMP targets:")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -479,7 +507,7 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -508,12 +536,13 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer(
+                "{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -554,12 +583,12 @@ public class AmpHandlerTest extends VertxTest {
         assertThat(httpResponse.headers()).hasSize(1)
                 .extracting(Map.Entry::getKey, Map.Entry::getValue)
                 .containsOnly(tuple("New-Header", "New-Header-Value"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"new-key\":\"new-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"new-key\":\"new-value\"}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -606,12 +635,12 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
-                + "\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
+                + "\"hb_cache_id_bidder1\":\"value2\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
-                        + "\"hb_cache_id_bidder1\":\"value2\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
+                        + "\"hb_cache_id_bidder1\":\"value2\"}}")),
                 any());
 
         verify(hooksMetricsService).updateHooksMetrics(any());
@@ -652,10 +681,10 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
@@ -680,10 +709,10 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
@@ -699,7 +728,7 @@ public class AmpHandlerTest extends VertxTest {
 
         givenHoldAuction(givenBidResponseWithExt(
                 ExtBidResponse.builder()
-                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null))
+                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null, null, null))
                         .prebid(ExtBidResponsePrebid.builder().auctiontimestamp(1000L).targeting(emptyMap()).build())
                         .build()));
 
@@ -707,13 +736,13 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
-                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}"));
+                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{},"
-                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}"),
+                eq(Buffer.buffer("{\"targeting\":{},"
+                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
 
@@ -742,19 +771,19 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
                         + "\"ext\":{\"prebid\":{\"modules\":{"
                         + "\"errors\":{\"module1\":{\"hook1\":[\"error1\"]}},"
                         + "\"warnings\":{\"module1\":{\"hook1\":[\"warning1\"]}},"
-                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}"));
+                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{},"
+                eq(Buffer.buffer("{\"targeting\":{},"
                         + "\"ext\":{\"prebid\":{\"modules\":{"
                         + "\"errors\":{\"module1\":{\"hook1\":[\"error1\"]}},"
                         + "\"warnings\":{\"module1\":{\"hook1\":[\"warning1\"]}},"
-                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}"),
+                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
@@ -1057,7 +1086,7 @@ public class AmpHandlerTest extends VertxTest {
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -1108,7 +1137,7 @@ public class AmpHandlerTest extends VertxTest {
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}"),
+                eq(Buffer.buffer("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -1158,7 +1187,7 @@ public class AmpHandlerTest extends VertxTest {
                                                                             givenAppliedToImpl()))))))
                                                     .build()))))));
                     return Future.succeededFuture(HookStageExecutionResult.success(
-                            ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1))));
+                            BufferExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1))));
                 });
 
         givenHoldAuction(givenBidResponse(mapper.valueToTree(
@@ -1274,7 +1303,7 @@ public class AmpHandlerTest extends VertxTest {
                                                                             givenAppliedToImpl()))))))
                                                     .build()))))));
                     return Future.succeededFuture(HookStageExecutionResult.success(
-                            ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1))));
+                            BufferExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1))));
                 });
 
         givenHoldAuction(givenBidResponse(mapper.valueToTree(
@@ -5,9 +5,11 @@ import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -21,10 +23,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
+import org.prebid.server.auction.AuctionMemoryGuard;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.HooksMetricsService;
 import org.prebid.server.auction.SkippedAuctionService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.MemoryReservation;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
@@ -33,6 +37,7 @@ import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.MemoryBudgetExceededException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
@@ -50,6 +55,7 @@ import org.prebid.server.hooks.execution.v1.analytics.ActivityImpl;
 import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
+import org.prebid.server.hooks.execution.v1.exitpoint.BufferExitpointPayload;
 import org.prebid.server.hooks.execution.v1.exitpoint.ExitpointPayloadImpl;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
@@ -102,7 +108,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
@@ -119,6 +124,8 @@ public class AuctionHandlerTest extends VertxTest {
     @Mock
     private ExchangeService exchangeService;
     @Mock(strictness = LENIENT)
+    private AuctionMemoryGuard auctionMemoryGuard;
+    @Mock(strictness = LENIENT)
     private SkippedAuctionService skippedAuctionService;
     @Mock
     private AnalyticsReporterDelegator analyticsReporterDelegator;
@@ -169,16 +176,20 @@ public class AuctionHandlerTest extends VertxTest {
         given(hookStageExecutor.executeExitpointStage(any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
-                        ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1)))));
+                        BufferExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1)))));
 
         given(hooksMetricsService.updateHooksMetrics(any())).willAnswer(invocation -> invocation.getArgument(0));
 
+        given(auctionMemoryGuard.admit(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+
         timeout = new TimeoutFactory(clock).create(2000L);
 
         target = new AuctionHandler(
                 0.01,
                 auctionRequestFactory,
                 exchangeService,
+                auctionMemoryGuard,
                 skippedAuctionService,
                 analyticsReporterDelegator,
                 metrics,
@@ -315,7 +326,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(403));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted account")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blocklisted_account));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -334,12 +345,60 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid config"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid config")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.bad_requests));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableIfAuctionMemoryBudgetExceeded() {
+        // given
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        given(auctionMemoryGuard.admit(any()))
+                .willReturn(Future.failedFuture(new MemoryBudgetExceededException("Budget exceeded")));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(httpResponse).end(eq(Buffer.buffer("Budget exceeded")));
+
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.shed));
+        verify(exchangeService, never()).holdAuction(any());
+    }
+
+    @Test
+    public void shouldReleaseAuctionMemoryReservationWhenResponseEnds() {
+        // given
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        given(auctionMemoryGuard.admit(any())).willAnswer(invocation -> Future.succeededFuture(
+                ((AuctionContext) invocation.getArgument(0)).with(new MemoryReservation("accountId", 100L, null))));
+
+        givenHoldAuction(BidResponse.builder().build());
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        final ArgumentCaptor<Handler<AsyncResult<Void>>> endHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(routingContext).addEndHandler(endHandlerCaptor.capture());
+        verify(auctionMemoryGuard, never()).release(any());
+
+        endHandlerCaptor.getValue().handle(Future.succeededFuture());
+
+        final ArgumentCaptor<AuctionContext> contextCaptor = ArgumentCaptor.forClass(AuctionContext.class);
+        verify(auctionMemoryGuard).release(contextCaptor.capture());
+        assertThat(contextCaptor.getValue().getMemoryReservation()).isNotNull();
+    }
+
     @Test
     public void shouldRespondWithServiceUnavailableIfBidRequestHasAppBlocklisted() {
         // given
@@ -353,7 +412,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(403));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted app")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blocklisted_app));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -372,7 +431,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.badinput));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -392,7 +451,7 @@ public class AuctionHandlerTest extends VertxTest {
         // then
         verifyNoInteractions(exchangeService);
         verify(httpResponse).setStatusCode(eq(401));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
@@ -412,7 +471,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(500));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.err));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -432,7 +491,7 @@ public class AuctionHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
@@ -458,12 +517,12 @@ public class AuctionHandlerTest extends VertxTest {
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
 
-        verify(httpResponse).end(eq("{}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{}"),
+                eq(Buffer.buffer("{}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(2)
@@ -500,12 +559,12 @@ public class AuctionHandlerTest extends VertxTest {
                 .extracting(Map.Entry::getKey, Map.Entry::getValue)
                 .containsExactlyInAnyOrder(tuple("New-Header", "New-Header-Value"));
 
-        verify(httpResponse).end(eq("{\"response\":{}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"response\":{}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{}"),
+                eq(Buffer.buffer("{}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(2)
@@ -539,7 +598,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         final BidResponse bidResponse = BidResponse.builder()
                 .ext(ExtBidResponse.builder()
-                        .debug(ExtResponseDebug.of(null, resolvedRequest, null))
+                        .debug(ExtResponseDebug.of(null, resolvedRequest, null, null, null))
                         .build())
                 .build();
         given(exchangeService.holdAuction(any()))
@@ -550,15 +609,15 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(exchangeService).holdAuction(any());
-        verify(httpResponse).end(eq("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
+        verify(httpResponse).end(eq(Buffer.buffer("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
                 + "{\"targeting\":{\"mediatypepricegranularity\":{\"banner\":{\"precision\":1,\"ranges\":"
-                + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}"));
+                + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}")));
 
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
+                eq(Buffer.buffer("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
                         + "{\"targeting\":{\"mediatypepricegranularity\":{\"banner\":{\"precision\":1,\"ranges\":"
-                        + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}"),
+                        + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}")),
                 any());
 
         verify(hooksMetricsService).updateHooksMetrics(any());
@@ -876,7 +935,7 @@ public class AuctionHandlerTest extends VertxTest {
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{}"),
+                eq(Buffer.buffer("{}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(2)
@@ -918,7 +977,7 @@ public class AuctionHandlerTest extends VertxTest {
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{}"),
+                eq(Buffer.buffer("{}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(2)
@@ -998,7 +1057,7 @@ public class AuctionHandlerTest extends VertxTest {
         verifyNoInteractions(exchangeService, analyticsReporterDelegator, hookStageExecutor);
         verify(hooksMetricsService).updateHooksMetrics(any());
         verify(httpResponse).setStatusCode(eq(200));
-        verify(httpResponse).end("{}");
+        verify(httpResponse).end(Buffer.buffer("{}"));
     }
 
     @Test
@@ -1041,7 +1100,7 @@ public class AuctionHandlerTest extends VertxTest {
                                                                             givenAppliedToImpl()))))))
                                                     .build()))))));
                     return Future.succeededFuture(HookStageExecutionResult.success(
-                            ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1))));
+                            BufferExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1))));
                 });
 
         givenHoldAuction(BidResponse.builder().build());
@@ -1157,7 +1216,7 @@ public class AuctionHandlerTest extends VertxTest {
                                                                             givenAppliedToImpl()))))))
                                                     .build()))))));
                     return Future.succeededFuture(HookStageExecutionResult.success(
-                            ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1))));
+                            BufferExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1))));
                 });
 
         givenHoldAuction(BidResponse.builder().build());
@@ -10,6 +10,7 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -3044,7 +3045,7 @@ public class HookStageExecutorTest extends VertxTest {
         // when
         final Future<HookStageExecutionResult<ExitpointPayload>> future = executor.executeExitpointStage(
                 MultiMap.caseInsensitiveMultiMap().add("Header-Name", "Header-Value"),
-                "{}",
+                Buffer.buffer("{}"),
                 AuctionContext.builder()
                         .bidRequest(BidRequest.builder().build())
                         .account(Account.empty("accountId"))
@@ -3092,7 +3093,7 @@ public class HookStageExecutorTest extends VertxTest {
         // when
         final Future<HookStageExecutionResult<ExitpointPayload>> future = executor.executeExitpointStage(
                 MultiMap.caseInsensitiveMultiMap().add("Header-Name", "Header-Value"),
-                "{}",
+                Buffer.buffer("{}"),
                 AuctionContext.builder()
                         .bidRequest(BidRequest.builder().build())
                         .account(Account.builder()
@@ -3138,7 +3139,7 @@ public class HookStageExecutorTest extends VertxTest {
         // when
         final Future<HookStageExecutionResult<ExitpointPayload>> future = executor.executeExitpointStage(
                 MultiMap.caseInsensitiveMultiMap().add("Header-Name", "Header-Value"),
-                "{}",
+                Buffer.buffer("{}"),
                 AuctionContext.builder()
                         .account(Account.empty("accountId"))
                         .hookExecutionContext(hookExecutionContext)
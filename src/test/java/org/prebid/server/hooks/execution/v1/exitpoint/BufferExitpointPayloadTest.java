@@ -0,0 +1,43 @@
+package org.prebid.server.hooks.execution.v1.exitpoint;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BufferExitpointPayloadTest {
+
+    @Test
+    public void responseBodyShouldDecodeBuffer() {
+        // given
+        final BufferExitpointPayload target = BufferExitpointPayload.of(
+                MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("{\"key\":\"значение\"}"));
+
+        // when and then
+        assertThat(target.responseBody()).isEqualTo("{\"key\":\"значение\"}");
+    }
+
+    @Test
+    public void responseBodyBufferShouldReturnSameBufferWhenPayloadWasNotReplaced() {
+        // given
+        final Buffer body = Buffer.buffer("{}");
+
+        // when
+        final Buffer result = BufferExitpointPayload.responseBodyBuffer(
+                BufferExitpointPayload.of(MultiMap.caseInsensitiveMultiMap(), body));
+
+        // then
+        assertThat(result).isSameAs(body);
+    }
+
+    @Test
+    public void responseBodyBufferShouldEncodeBodyOfReplacedPayload() {
+        // when
+        final Buffer result = BufferExitpointPayload.responseBodyBuffer(
+                ExitpointPayloadImpl.of(MultiMap.caseInsensitiveMultiMap(), "{\"new\":1}"));
+
+        // then
+        assertThat(result).isEqualTo(Buffer.buffer("{\"new\":1}"));
+    }
+}
@@ -0,0 +1,39 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonMapperTest extends VertxTest {
+
+    @Test
+    public void encodeToBufferShouldProduceSameBytesAsEncodeToBytes() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("requestId")
+                .site(Site.builder().page("http://example.com/страница").build())
+                .build();
+
+        // when
+        final Buffer result = jacksonMapper.encodeToBuffer(bidRequest);
+
+        // then
+        assertThat(result.getBytes()).isEqualTo(jacksonMapper.encodeToBytes(bidRequest));
+    }
+
+    @Test
+    public void encodeToBufferShouldUseSerializationCacheWhenPresent() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().id("requestId").build();
+
+        // when
+        final Buffer result = new SerializationCache().within(() -> jacksonMapper.encodeToBuffer(bidRequest));
+
+        // then
+        assertThat(result.toString()).isEqualTo("{\"id\":\"requestId\"}");
+    }
+}
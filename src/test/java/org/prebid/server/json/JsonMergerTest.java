@@ -85,4 +85,44 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldNotModifyCachedStoredDataBetweenMerges() {
+        // given
+        target = new JsonMerger(jacksonMapper, 10);
+        final String storedData = "{\"domain\":\"storedDomain\",\"publisher\":{\"id\":\"storedId\"}}";
+
+        // when
+        final Site firstResult = target.merge(
+                Site.builder().page("page1").publisher(Publisher.builder().id("id1").build()).build(),
+                storedData,
+                "storedId",
+                Site.class);
+        final Site secondResult = target.merge(
+                Site.builder().page("page2").build(), storedData, "storedId", Site.class);
+
+        // then
+        assertThat(firstResult).isEqualTo(Site.builder()
+                .page("page1")
+                .domain("storedDomain")
+                .publisher(Publisher.builder().id("id1").build())
+                .build());
+        assertThat(secondResult).isEqualTo(Site.builder()
+                .page("page2")
+                .domain("storedDomain")
+                .publisher(Publisher.builder().id("storedId").build())
+                .build());
+    }
+
+    @Test
+    public void mergeWithTreeShouldNotModifyMergingNode() {
+        // given
+        final ObjectNode defaultSite = mapper.valueToTree(Site.builder().domain("defaultDomain").build());
+
+        // when
+        final Site result = target.mergeWithTree(Site.builder().page("page").build(), defaultSite, Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("page").domain("defaultDomain").build());
+        assertThat(defaultSite).isEqualTo(mapper.valueToTree(Site.builder().domain("defaultDomain").build()));
+    }
 }
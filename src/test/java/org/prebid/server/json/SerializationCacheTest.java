@@ -0,0 +1,143 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Eid;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Uid;
+import com.iab.openrtb.request.User;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializationCacheTest extends VertxTest {
+
+    @Test
+    public void encodeToBytesShouldProduceSameOutputAsWithoutCache() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("buyeruid");
+        final SerializationCache cache = new SerializationCache();
+
+        // when
+        final byte[] result = cache.within(() -> jacksonMapper.encodeToBytes(bidRequest));
+
+        // then
+        assertThat(result).isEqualTo(jacksonMapper.encodeToBytes(bidRequest));
+    }
+
+    @Test
+    public void encodeToBytesShouldReuseSharedSectionsBetweenRequests() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("buyeruid1");
+        final BidRequest otherBidRequest = bidRequest.toBuilder()
+                .id("otherId")
+                .user(bidRequest.getUser().toBuilder().buyeruid("buyeruid2").build())
+                .build();
+        final SerializationCache cache = new SerializationCache();
+
+        // when
+        final String result = cache.within(() -> jacksonMapper.encodeToString(bidRequest));
+        final int sizeAfterFirstRequest = cache.size();
+        final String otherResult = cache.within(() -> jacksonMapper.encodeToString(otherBidRequest));
+
+        // then
+        assertThat(result).isEqualTo(jacksonMapper.encodeToString(bidRequest));
+        assertThat(otherResult).isEqualTo(jacksonMapper.encodeToString(otherBidRequest));
+        // only the rebuilt user is encoded for the second request, its eids are taken from the cache
+        assertThat(cache.size()).isEqualTo(sizeAfterFirstRequest + 1);
+    }
+
+    @Test
+    public void encodeToStringShouldEncodeAgainSectionChangedInPlace() {
+        // given
+        final ObjectNode eidExt = mapper.createObjectNode().put("rtiPartner", "partner1");
+        final BidRequest bidRequest = givenBidRequest("buyeruid");
+        final Eid eid = bidRequest.getUser().getEids().getFirst().toBuilder().ext(eidExt).build();
+        final BidRequest bidRequestWithEidExt = bidRequest.toBuilder()
+                .user(bidRequest.getUser().toBuilder().eids(singletonList(eid)).build())
+                .build();
+        final SerializationCache cache = new SerializationCache();
+        cache.within(() -> jacksonMapper.encodeToString(bidRequestWithEidExt));
+
+        // when
+        eidExt.put("rtiPartner", "partner2");
+        final String result = cache.within(() -> jacksonMapper.encodeToString(bidRequestWithEidExt));
+
+        // then
+        assertThat(result)
+                .isEqualTo(jacksonMapper.encodeToString(bidRequestWithEidExt))
+                .contains("partner2");
+    }
+
+    @Test
+    public void encodeToStringShouldNotReuseSectionsHoldingExtNodes() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("buyeruid");
+        final Eid eid = bidRequest.getUser().getEids().getFirst().toBuilder()
+                .ext(mapper.createObjectNode().put("rtiPartner", "partner"))
+                .build();
+        final User user = bidRequest.getUser().toBuilder().eids(singletonList(eid)).build();
+        final SerializationCache cache = new SerializationCache();
+
+        // when
+        cache.within(() -> jacksonMapper.encodeToString(bidRequest.toBuilder().user(user).build()));
+
+        // then
+        assertThat(cache.get(eid)).isSameAs(SerializationCache.MUTABLE);
+        assertThat(cache.get(user)).isSameAs(SerializationCache.MUTABLE);
+        assertThat(cache.get(bidRequest.getDevice())).isNotNull().isNotSameAs(SerializationCache.MUTABLE);
+    }
+
+    @Test
+    public void valueToTreeShouldNotBeAffectedByCache() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("buyeruid");
+        final SerializationCache cache = new SerializationCache();
+
+        // when
+        final JsonNode result = cache.within(() -> mapper.valueToTree(bidRequest));
+
+        // then
+        assertThat(result.path("device").path("ua").asText()).isEqualTo("ua");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void bindCurrentShouldMakeCacheAvailableOnOtherThread() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("buyeruid");
+        final SerializationCache cache = new SerializationCache();
+
+        // when
+        final Supplier<String> boundAction = cache.within(
+                () -> SerializationCache.bindCurrent(() -> jacksonMapper.encodeToString(bidRequest)));
+        final String result = CompletableFuture.supplyAsync(boundAction).join();
+
+        // then
+        assertThat(result).isEqualTo(jacksonMapper.encodeToString(bidRequest));
+        assertThat(cache.size()).isPositive();
+    }
+
+    private static BidRequest givenBidRequest(String buyeruid) {
+        return BidRequest.builder()
+                .id("id")
+                .device(Device.builder().ua("ua").ip("127.0.0.1").w(320).build())
+                .user(User.builder()
+                        .buyeruid(buyeruid)
+                        .eids(singletonList(Eid.builder()
+                                .source("source")
+                                .uids(singletonList(Uid.builder().id("uid").build()))
+                                .build()))
+                        .build())
+                .regs(Regs.builder().coppa(1).build())
+                .tmax(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package org.prebid.server.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of process-wide GC and allocation counters, used to report what the measured run cost the JVM.
+ */
+public record JvmStats(Map<String, long[]> collectorToCountAndTime, long allocatedBytes, long heapUsedBytes) {
+
+    public static JvmStats capture() {
+        final Map<String, long[]> collectorToCountAndTime = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectorToCountAndTime.put(
+                    collector.getName(),
+                    new long[]{collector.getCollectionCount(), collector.getCollectionTime()});
+        }
+
+        return new JvmStats(
+                collectorToCountAndTime,
+                threadAllocatedBytes(),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * Sums bytes allocated by live threads, or returns -1 if JVM doesn't support thread allocation accounting.
+     */
+    private static long threadAllocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean)
+                || !sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+
+            return -1;
+        }
+
+        long allocatedBytes = 0;
+        for (long allocated : sunThreadMXBean.getThreadAllocatedBytes(sunThreadMXBean.getAllThreadIds())) {
+            allocatedBytes += Math.max(allocated, 0);
+        }
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,53 @@
+package org.prebid.server.loadtest;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Random;
+
+/**
+ * Distribution of mock bidder response latency, in milliseconds.
+ * <p>
+ * Parsed from specification of form {@code type:parameters}:
+ * <ul>
+ * <li>{@code fixed:50} - always 50ms;</li>
+ * <li>{@code uniform:20-80} - uniformly distributed between 20ms and 80ms;</li>
+ * <li>{@code lognormal:50,0.5} - log-normally distributed with 50ms median and 0.5 shape,
+ * which resembles real bidders having long tail of slow responses.</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long nextMillis(Random random);
+
+    static LatencyDistribution parse(String specification) {
+        final String type = StringUtils.substringBefore(specification, ":");
+        final String parameters = StringUtils.substringAfter(specification, ":");
+
+        return switch (type) {
+            case "fixed" -> fixed(Long.parseLong(parameters));
+            case "uniform" -> uniform(
+                    Long.parseLong(StringUtils.substringBefore(parameters, "-")),
+                    Long.parseLong(StringUtils.substringAfter(parameters, "-")));
+            case "lognormal" -> logNormal(
+                    Double.parseDouble(StringUtils.substringBefore(parameters, ",")),
+                    Double.parseDouble(StringUtils.substringAfter(parameters, ",")));
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + specification);
+        };
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("Max latency can't be less than min latency");
+        }
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+    }
+
+    static LatencyDistribution logNormal(double medianMillis, double shape) {
+        return random -> Math.round(medianMillis * Math.exp(shape * random.nextGaussian()));
+    }
+}
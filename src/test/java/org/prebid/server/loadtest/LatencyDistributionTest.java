@@ -0,0 +1,57 @@
+package org.prebid.server.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LatencyDistributionTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void parseShouldReturnFixedDistribution() {
+        // when
+        final LatencyDistribution result = LatencyDistribution.parse("fixed:50");
+
+        // then
+        assertThat(result.nextMillis(random)).isEqualTo(50L);
+    }
+
+    @Test
+    public void parseShouldReturnUniformDistributionWithinBounds() {
+        // when
+        final LatencyDistribution result = LatencyDistribution.parse("uniform:20-80");
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(result.nextMillis(random)).isBetween(20L, 80L);
+        }
+    }
+
+    @Test
+    public void parseShouldReturnLogNormalDistributionWithGivenMedian() {
+        // given
+        final LatencyDistribution distribution = LatencyDistribution.parse("lognormal:50,0.5");
+
+        // when
+        int belowMedian = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (distribution.nextMillis(random) < 50) {
+                belowMedian++;
+            }
+        }
+
+        // then
+        assertThat(belowMedian).isBetween(4500, 5500);
+    }
+
+    @Test
+    public void parseShouldFailOnUnknownDistribution() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LatencyDistribution.parse("exponential:50"))
+                .withMessage("Unknown latency distribution: exponential:50");
+    }
+}
@@ -0,0 +1,162 @@
+package org.prebid.server.loadtest;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded OpenRTB requests against Prebid Server at target QPS.
+ * <p>
+ * Requests are sent on schedule regardless of how fast responses come back (open model), and latency is measured
+ * from the scheduled send time, so a stalled server shows up in the latency instead of silently lowering the load.
+ * When max in-flight limit is reached, scheduled requests are skipped and counted.
+ */
+public class LoadDriver {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long DRAIN_CHECK_PERIOD_MS = 10L;
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final Options options;
+    private final List<String> requests;
+
+    private final MultiMap headers;
+    private final LoadReport report;
+
+    private long startNanos;
+    private long sent;
+    private int inFlight;
+    private boolean measuring;
+
+    public LoadDriver(Vertx vertx, HttpClient httpClient, Options options, List<String> requests) {
+        if (options.qps() < 1) {
+            throw new IllegalArgumentException("Target QPS should be positive");
+        }
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one request to replay is required");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.options = Objects.requireNonNull(options);
+        this.requests = Objects.requireNonNull(requests);
+
+        headers = HttpUtil.headers();
+        report = new LoadReport();
+    }
+
+    /**
+     * Reads all {@code *.json} files from given directory, in name order.
+     */
+    public static List<String> loadRequests(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .map(LoadDriver::readFile)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readFile(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Future<LoadReport> run() {
+        final Promise<LoadReport> promise = Promise.promise();
+        vertx.runOnContext(ignored -> {
+            startNanos = System.nanoTime();
+            vertx.setPeriodic(1L, timerId -> tick(timerId, promise));
+        });
+        return promise.future();
+    }
+
+    private void tick(long timerId, Promise<LoadReport> promise) {
+        final long elapsed = System.nanoTime() - startNanos;
+        final long warmupNanos = TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+
+        if (!measuring && elapsed >= warmupNanos) {
+            measuring = true;
+            report.start();
+        }
+
+        if (elapsed >= warmupNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds())) {
+            vertx.cancelTimer(timerId);
+            report.sendEnded();
+            vertx.setPeriodic(DRAIN_CHECK_PERIOD_MS, drainTimerId -> completeWhenDrained(drainTimerId, promise));
+            return;
+        }
+
+        final long due = elapsed * options.qps() / NANOS_PER_SECOND;
+        while (sent < due) {
+            send(startNanos + sent * NANOS_PER_SECOND / options.qps(), requests.get((int) (sent % requests.size())));
+            sent++;
+        }
+    }
+
+    private void send(long scheduledAtNanos, String body) {
+        final boolean record = measuring;
+        if (inFlight >= options.maxInFlight()) {
+            if (record) {
+                report.recordSkipped();
+            }
+            return;
+        }
+
+        inFlight++;
+        httpClient.post(options.url(), headers, body, options.timeoutMs())
+                .onComplete(result -> {
+                    inFlight--;
+                    if (!record) {
+                        return;
+                    }
+
+                    final long latency = System.nanoTime() - scheduledAtNanos;
+                    if (result.succeeded()) {
+                        report.recordResponse(result.result().getStatusCode(), latency);
+                    } else {
+                        report.recordFailure(result.cause(), latency);
+                    }
+                });
+    }
+
+    private void completeWhenDrained(long timerId, Promise<LoadReport> promise) {
+        if (inFlight > 0) {
+            return;
+        }
+
+        vertx.cancelTimer(timerId);
+        report.end();
+        promise.complete(report);
+    }
+
+    /**
+     * Warmup requests are sent at target QPS, but not recorded.
+     */
+    public record Options(String url,
+                          long qps,
+                          long durationSeconds,
+                          long warmupSeconds,
+                          int maxInFlight,
+                          long timeoutMs) {
+    }
+}
@@ -0,0 +1,165 @@
+package org.prebid.server.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates results of load run and formats them as a plain text report: throughput, status codes,
+ * latency percentiles and histogram, GC and allocation stats.
+ * <p>
+ * Throughput counts only successful (2xx) responses completed within the send phase, failures and responses
+ * drained afterwards are reported separately, so an overloaded server can't look faster by failing quickly.
+ * <p>
+ * Not thread-safe: all results are recorded from the driver's event loop.
+ */
+public class LoadReport {
+
+    private static final long[] HISTOGRAM_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+    private static final String[] PERCENTILES = {"50", "90", "99", "99.9"};
+
+    private final Map<Integer, Long> statusToCount = new TreeMap<>();
+    private final Map<String, Long> failureToCount = new TreeMap<>();
+
+    private long[] latenciesNanos = new long[1024];
+    private int recorded;
+    private long succeededWithinSend;
+    private long failed;
+    private long skipped;
+    private boolean sending;
+
+    private long startNanos;
+    private long sendEndNanos;
+    private long endNanos;
+    private JvmStats jvmStatsAtStart;
+    private JvmStats jvmStatsAtEnd;
+
+    void start() {
+        startNanos = System.nanoTime();
+        sending = true;
+        jvmStatsAtStart = JvmStats.capture();
+    }
+
+    /**
+     * Marks the end of send phase: throughput is measured until this point, time spent afterwards waiting for
+     * in-flight requests is reported separately as drain time.
+     */
+    void sendEnded() {
+        sendEndNanos = System.nanoTime();
+        sending = false;
+    }
+
+    void end() {
+        endNanos = System.nanoTime();
+        jvmStatsAtEnd = JvmStats.capture();
+    }
+
+    void recordResponse(int statusCode, long latencyNanos) {
+        statusToCount.merge(statusCode, 1L, Long::sum);
+        if (statusCode / 100 != 2) {
+            failed++;
+        } else if (sending) {
+            succeededWithinSend++;
+        }
+        recordLatency(latencyNanos);
+    }
+
+    void recordFailure(Throwable exception, long latencyNanos) {
+        failureToCount.merge(exception.getClass().getSimpleName(), 1L, Long::sum);
+        failed++;
+        recordLatency(latencyNanos);
+    }
+
+    void recordSkipped() {
+        skipped++;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        if (recorded == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, recorded * 2);
+        }
+        latenciesNanos[recorded++] = latencyNanos;
+    }
+
+    int recorded() {
+        return recorded;
+    }
+
+    static long percentileMillis(double percentile, long[] sortedLatencies) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        final int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedLatencies[Math.max(index, 0)]);
+    }
+
+    static long[] histogram(long[] sortedLatencies) {
+        final long[] counts = new long[HISTOGRAM_BOUNDS_MS.length + 1];
+        int bucket = 0;
+        for (long latency : sortedLatencies) {
+            final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latency);
+            while (bucket < HISTOGRAM_BOUNDS_MS.length && latencyMillis >= HISTOGRAM_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            counts[bucket]++;
+        }
+        return counts;
+    }
+
+    public String format() {
+        final long[] sortedLatencies = Arrays.copyOf(latenciesNanos, recorded);
+        Arrays.sort(sortedLatencies);
+
+        final double durationSeconds = (sendEndNanos - startNanos) / 1_000_000_000.0;
+        final double drainSeconds = (endNanos - sendEndNanos) / 1_000_000_000.0;
+        final StringBuilder report = new StringBuilder();
+
+        report.append("=== Throughput ===\n")
+                .append("duration: %.1fs\n".formatted(durationSeconds))
+                .append("drain of in-flight requests: %.1fs\n".formatted(drainSeconds))
+                .append("completed: %d\n".formatted(recorded))
+                .append("succeeded within send phase: %d (%.1f/s)\n".formatted(
+                        succeededWithinSend, succeededWithinSend / durationSeconds))
+                .append("failed (non-2xx or no response): %d\n".formatted(failed))
+                .append("skipped by max in-flight limit: %d\n".formatted(skipped))
+                .append("status codes: ").append(statusToCount).append('\n')
+                .append("failures: ").append(failureToCount).append('\n');
+
+        report.append("=== Latency (ms, from scheduled send time) ===\n");
+        for (String percentile : PERCENTILES) {
+            report.append("p%s: %d\n".formatted(
+                    percentile, percentileMillis(Double.parseDouble(percentile), sortedLatencies)));
+        }
+        report.append("max: %d\n".formatted(percentileMillis(100, sortedLatencies)));
+
+        report.append("=== Latency histogram ===\n");
+        final long[] histogram = histogram(sortedLatencies);
+        for (int i = 0; i < histogram.length; i++) {
+            final String bucket = i < HISTOGRAM_BOUNDS_MS.length
+                    ? "< %dms".formatted(HISTOGRAM_BOUNDS_MS[i])
+                    : ">= %dms".formatted(HISTOGRAM_BOUNDS_MS[i - 1]);
+            report.append("%-9s %8d %s\n".formatted(bucket, histogram[i], bar(histogram[i], recorded)));
+        }
+
+        report.append("=== JVM (whole process) ===\n");
+        jvmStatsAtEnd.collectorToCountAndTime().forEach((collector, countAndTime) -> {
+            final long[] atStart = jvmStatsAtStart.collectorToCountAndTime().getOrDefault(collector, new long[2]);
+            report.append("gc %s: %d collections, %dms\n".formatted(
+                    collector, countAndTime[0] - atStart[0], countAndTime[1] - atStart[1]));
+        });
+        if (jvmStatsAtEnd.allocatedBytes() >= 0) {
+            final long allocated = jvmStatsAtEnd.allocatedBytes() - jvmStatsAtStart.allocatedBytes();
+            report.append("allocated by live threads: %d MB (%d KB per completed request)\n".formatted(
+                    allocated >> 20, recorded > 0 ? (allocated >> 10) / recorded : 0));
+        }
+        report.append("heap used at end: %d MB\n".formatted(jvmStatsAtEnd.heapUsedBytes() >> 20));
+
+        return report.toString();
+    }
+
+    private static String bar(long count, long total) {
+        return total > 0 ? "#".repeat((int) (count * 50 / total)) : "";
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadReportTest {
+
+    @Test
+    public void percentileMillisShouldReturnNearestRankValue() {
+        // given
+        final long[] sortedLatencies = LongStream.rangeClosed(1, 100).map(TimeUnit.MILLISECONDS::toNanos).toArray();
+
+        // when and then
+        assertThat(LoadReport.percentileMillis(50, sortedLatencies)).isEqualTo(50L);
+        assertThat(LoadReport.percentileMillis(99, sortedLatencies)).isEqualTo(99L);
+        assertThat(LoadReport.percentileMillis(100, sortedLatencies)).isEqualTo(100L);
+        assertThat(LoadReport.percentileMillis(50, new long[0])).isZero();
+    }
+
+    @Test
+    public void histogramShouldCountLatenciesPerBucket() {
+        // given
+        final long[] sortedLatencies = LongStream.of(0, 1, 3, 150, 7000).map(TimeUnit.MILLISECONDS::toNanos).toArray();
+
+        // when
+        final long[] result = LoadReport.histogram(sortedLatencies);
+
+        // then
+        assertThat(result).containsExactly(1, 1, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    public void formatShouldIncludeRecordedResults() {
+        // given
+        final LoadReport report = new LoadReport();
+        report.start();
+        report.recordResponse(200, TimeUnit.MILLISECONDS.toNanos(10));
+        report.recordResponse(204, TimeUnit.MILLISECONDS.toNanos(20));
+        report.recordFailure(new IllegalStateException(), TimeUnit.MILLISECONDS.toNanos(30));
+        report.recordResponse(500, TimeUnit.MILLISECONDS.toNanos(5));
+        report.recordSkipped();
+        report.sendEnded();
+        report.recordResponse(200, TimeUnit.MILLISECONDS.toNanos(40));
+        report.end();
+
+        // when
+        final String result = report.format();
+
+        // then
+        assertThat(report.recorded()).isEqualTo(5);
+        assertThat(result)
+                .contains("completed: 5")
+                .contains("succeeded within send phase: 2 (")
+                .contains("failed (non-2xx or no response): 2")
+                .contains("drain of in-flight requests: ")
+                .contains("skipped by max in-flight limit: 1")
+                .contains("status codes: {200=2, 204=1, 500=1}")
+                .contains("failures: {IllegalStateException=1}")
+                .contains("max: 40");
+    }
+}
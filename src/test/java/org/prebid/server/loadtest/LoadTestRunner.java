@@ -0,0 +1,102 @@
+package org.prebid.server.loadtest;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.Application;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.httpclient.BasicHttpClient;
+import org.springframework.boot.SpringApplication;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capacity test entry point: starts {@link MockBidder}, optionally Prebid Server itself in the same JVM,
+ * replays recorded requests with {@link LoadDriver} and prints {@link LoadReport}.
+ * <p>
+ * Arguments are given as {@code --name=value}, see docs/developers/load-testing.md for the full list.
+ */
+@SuppressWarnings("checkstyle:hideutilityclassconstructor")
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> arguments = parseArguments(args);
+
+        final Vertx vertx = Vertx.vertx();
+        if (!Boolean.parseBoolean(arguments.getOrDefault("no-mock", "false"))) {
+            await(new MockBidder(vertx, mockBidderOptions(arguments)).start());
+        }
+
+        if (Boolean.parseBoolean(arguments.getOrDefault("mock-only", "false"))) {
+            return;
+        }
+
+        final String pbsConfig = arguments.get("pbs-config");
+        if (pbsConfig != null) {
+            SpringApplication.run(Application.class, "--spring.config.additional-location=" + pbsConfig);
+        }
+
+        final LoadDriver.Options driverOptions = driverOptions(arguments);
+        final List<String> requests = LoadDriver.loadRequests(
+                Path.of(arguments.getOrDefault("requests-dir", "sample/load-test/requests")));
+        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient(
+                new HttpClientOptions().setMaxPoolSize(driverOptions.maxInFlight()).setKeepAlive(true)));
+
+        logger.info("Replaying {} requests against {} at {} QPS", requests.size(), driverOptions.url(),
+                driverOptions.qps());
+        final LoadReport report = await(new LoadDriver(vertx, httpClient, driverOptions, requests).run());
+        logger.info("Load test report:\n{}", report.format());
+
+        System.exit(0);
+    }
+
+    private static Map<String, String> parseArguments(String[] args) {
+        final Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argument should be given as --name=value: " + arg);
+            }
+
+            final String nameAndValue = arg.substring(2);
+            arguments.put(
+                    StringUtils.substringBefore(nameAndValue, "="),
+                    nameAndValue.contains("=") ? StringUtils.substringAfter(nameAndValue, "=") : "true");
+        }
+        return arguments;
+    }
+
+    private static MockBidder.Options mockBidderOptions(Map<String, String> arguments) {
+        return new MockBidder.Options(
+                Integer.parseInt(arguments.getOrDefault("mock-port", "8090")),
+                LatencyDistribution.parse(arguments.getOrDefault("mock-latency", "lognormal:40,0.4")),
+                Double.parseDouble(arguments.getOrDefault("mock-bid-rate", "0.8")),
+                Double.parseDouble(arguments.getOrDefault("mock-error-rate", "0.01")),
+                Integer.parseInt(arguments.getOrDefault("mock-adm-size", "2048")),
+                new BigDecimal(arguments.getOrDefault("mock-bid-price", "1.0")));
+    }
+
+    private static LoadDriver.Options driverOptions(Map<String, String> arguments) {
+        return new LoadDriver.Options(
+                arguments.getOrDefault("target", "http://localhost:8080/openrtb2/auction"),
+                Long.parseLong(arguments.getOrDefault("qps", "100")),
+                Long.parseLong(arguments.getOrDefault("duration-sec", "60")),
+                Long.parseLong(arguments.getOrDefault("warmup-sec", "10")),
+                Integer.parseInt(arguments.getOrDefault("max-in-flight", "1000")),
+                Long.parseLong(arguments.getOrDefault("timeout-ms", "2000")));
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        final CompletableFuture<T> completableFuture = future.toCompletionStage().toCompletableFuture();
+        return completableFuture.get(1, TimeUnit.DAYS);
+    }
+}
@@ -0,0 +1,198 @@
+package org.prebid.server.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenRTB bidder answering any POST request with configurable latency, bid rate, error rate and creative size.
+ * <p>
+ * Responses are plain OpenRTB with {@code bid.mtype} and {@code bid.ext.prebid.type} set, so adapters which talk
+ * OpenRTB to their exchange can be pointed at it by overriding {@code adapters.<BIDDER>.endpoint}. Last path segment
+ * of request URI is used as a seat, e.g. {@code http://localhost:8090/generic}.
+ */
+public class MockBidder {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockBidder.class);
+
+    private final Vertx vertx;
+    private final Options options;
+    private final ObjectMapper mapper;
+    private final String adm;
+
+    public MockBidder(Vertx vertx, Options options) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.options = Objects.requireNonNull(options);
+
+        mapper = ObjectMapperProvider.mapper();
+        adm = "<div>" + StringUtils.repeat('x', Math.max(options.admSize() - 11, 0)) + "</div>";
+    }
+
+    public Future<HttpServer> start() {
+        return vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(options.port())
+                .onSuccess(server -> logger.info("Mock bidder listens on port {}", server.actualPort()));
+    }
+
+    private void handle(HttpServerRequest request) {
+        request.body()
+                .onSuccess(body -> respondLater(request, body))
+                .onFailure(exception -> request.response()
+                        .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                        .end(exception.getMessage()));
+    }
+
+    private void respondLater(HttpServerRequest request, Buffer body) {
+        final Random random = ThreadLocalRandom.current();
+        final long latency = options.latency().nextMillis(random);
+
+        if (latency > 0) {
+            vertx.setTimer(latency, ignored -> respond(request, body, random));
+        } else {
+            respond(request, body, random);
+        }
+    }
+
+    private void respond(HttpServerRequest request, Buffer body, Random random) {
+        if (random.nextDouble() < options.errorRate()) {
+            request.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+            return;
+        }
+
+        if (random.nextDouble() >= options.bidRate()) {
+            request.response().setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+            return;
+        }
+
+        final String responseBody;
+        try {
+            final BidRequest bidRequest = mapper.readValue(body.getBytes(), BidRequest.class);
+            responseBody = mapper.writeValueAsString(makeBidResponse(bidRequest, seat(request)));
+        } catch (IOException e) {
+            request.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code()).end(e.getMessage());
+            return;
+        }
+
+        request.response()
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                .end(responseBody);
+    }
+
+    private static String seat(HttpServerRequest request) {
+        return StringUtils.defaultIfEmpty(StringUtils.substringAfterLast(request.path(), "/"), "mock");
+    }
+
+    private BidResponse makeBidResponse(BidRequest bidRequest, String seat) {
+        final List<Imp> imps = ListUtils.emptyIfNull(bidRequest.getImp());
+        final List<Bid> bids = new ArrayList<>(imps.size());
+        for (Imp imp : imps) {
+            bids.add(makeBid(imp));
+        }
+
+        return BidResponse.builder()
+                .id(bidRequest.getId())
+                .cur("USD")
+                .seatbid(Collections.singletonList(SeatBid.builder().seat(seat).bid(bids).build()))
+                .build();
+    }
+
+    private Bid makeBid(Imp imp) {
+        final BidType bidType = bidType(imp);
+        final Format size = size(imp);
+
+        final ObjectNode ext = mapper.createObjectNode();
+        ext.putObject("prebid").put("type", bidType.getName());
+
+        return Bid.builder()
+                .id(UUID.randomUUID().toString())
+                .impid(imp.getId())
+                .price(options.price())
+                .adm(adm)
+                .adomain(Collections.singletonList("mock-advertiser.com"))
+                .crid("mock-creative")
+                .w(size != null ? size.getW() : null)
+                .h(size != null ? size.getH() : null)
+                .mtype(mtype(bidType))
+                .ext(ext)
+                .build();
+    }
+
+    private static BidType bidType(Imp imp) {
+        if (imp.getBanner() != null) {
+            return BidType.banner;
+        } else if (imp.getVideo() != null) {
+            return BidType.video;
+        } else if (imp.getXNative() != null) {
+            return BidType.xNative;
+        } else if (imp.getAudio() != null) {
+            return BidType.audio;
+        }
+        return BidType.banner;
+    }
+
+    private static Format size(Imp imp) {
+        final Banner banner = imp.getBanner();
+        if (banner != null) {
+            return CollectionUtils.isNotEmpty(banner.getFormat())
+                    ? banner.getFormat().getFirst()
+                    : Format.builder().w(banner.getW()).h(banner.getH()).build();
+        }
+
+        final Video video = imp.getVideo();
+        return video != null ? Format.builder().w(video.getW()).h(video.getH()).build() : null;
+    }
+
+    private static Integer mtype(BidType bidType) {
+        return switch (bidType) {
+            case banner -> 1;
+            case video -> 2;
+            case audio -> 3;
+            case xNative -> 4;
+        };
+    }
+
+    /**
+     * Bid rate is a share of non-failed requests answered with bids (the rest get 204), error rate is a share of
+     * requests answered with 500, adm size is an approximate size of each bid creative markup in bytes.
+     */
+    public record Options(int port,
+                          LatencyDistribution latency,
+                          double bidRate,
+                          double errorRate,
+                          int admSize,
+                          BigDecimal price) {
+    }
+}
@@ -39,7 +39,7 @@ public class AccountMetricsVerbosityResolverTest {
         // given
         final Account account = Account.builder()
                 .id("2")
-                .metrics(AccountMetricsConfig.of(AccountMetricsVerbosityLevel.basic))
+                .metrics(AccountMetricsConfig.of(AccountMetricsVerbosityLevel.basic, null))
                 .build();
 
         // when and then
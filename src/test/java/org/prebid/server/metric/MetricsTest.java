@@ -20,11 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountMetricsConfig;
 
 import java.util.Collections;
 import java.util.EnumMap;
@@ -1227,6 +1230,47 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.prebid_cache.requests.ok").getCount()).isOne();
     }
 
+    @Test
+    public void shouldUpdatePrebidCacheWritePipelineMetrics() {
+        // when
+        metrics.updateCacheBatchSize(3);
+        metrics.updateCacheQueueTime(1L);
+        metrics.updateCacheInFlightLimitedMetric("accountId");
+        metrics.updateCacheLocalFallbackMetric("accountId", 2);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch_size").getCount()).isOne();
+        assertThat(metricRegistry.timer("prebid_cache.queue_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("prebid_cache.in_flight_limited").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.accountId.prebid_cache.in_flight_limited").getCount()).isOne();
+        assertThat(metricRegistry.counter("prebid_cache.local_fallback").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("account.accountId.prebid_cache.local_fallback").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateAuctionStageMetricsShouldUpdateTimersOfExecutedStagesPerTier() {
+        // given
+        final AuctionStageTimings stageTimings = new AuctionStageTimings();
+        stageTimings.record(AuctionStage.stored_request, 1_000L);
+        stageTimings.record(AuctionStage.bidders_wait, 2_000L);
+
+        final Account account = Account.builder()
+                .id("accountId")
+                .metrics(AccountMetricsConfig.of(null, "premium"))
+                .build();
+
+        // when
+        metrics.updateAuctionStageMetrics(account, stageTimings);
+        metrics.updateAuctionStageMetrics(Account.empty("otherAccountId"), stageTimings);
+
+        // then
+        assertThat(metricRegistry.timer("auction_stage.stored_request").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("auction_stage.bidders_wait").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("auction_stage.tier.premium.stored_request").getCount()).isOne();
+        assertThat(metricRegistry.timer("auction_stage.tier.default.bidders_wait").getCount()).isOne();
+        assertThat(metricRegistry.getTimers()).doesNotContainKey("auction_stage.cache_write");
+    }
+
     @Test
     public void shouldIncrementPrebidCacheRequestFailedTimer() {
         // when
@@ -1265,6 +1309,15 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateStartupPhaseMetricShouldCreateGauge() {
+        // when
+        metrics.updateStartupPhaseMetric(MetricName.context, 1234L);
+
+        // then
+        assertThat(metricRegistry.gauge("startup.context", () -> null).getValue()).isEqualTo(1234L);
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
@@ -1296,6 +1349,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void createSettingsCacheSnapshotGaugesShouldCreateGauges() {
+        // when
+        metrics.createSettingsCacheSnapshotGauges(MetricName.stored_request, () -> 3L, () -> 10L);
+
+        // then
+        assertThat(metricRegistry.gauge("settings.cache.stored-request.snapshot-version", () -> null).getValue())
+                .isEqualTo(3L);
+        assertThat(metricRegistry.gauge("settings.cache.stored-request.snapshot-items", () -> null).getValue())
+                .isEqualTo(10L);
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
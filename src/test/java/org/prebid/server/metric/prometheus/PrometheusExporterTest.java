@@ -0,0 +1,139 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrometheusExporterTest {
+
+    private MetricRegistry metricRegistry;
+
+    private PrometheusExporter target;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+
+        final PrometheusSeriesMapper seriesMapper = new PrometheusSeriesMapper(null, null, List.of(
+                new MapperConfig("account.*.requests", "account.requests", Map.of("account", "${0}")),
+                new MapperConfig("adapter.*.request_time", "adapter.request_time", Map.of("adapter", "${0}"))));
+        target = new PrometheusExporter(seriesMapper, 2);
+        metricRegistry.addListener(target);
+    }
+
+    @Test
+    public void writeShouldGroupSeriesOfSameNameIntoOneFamily() {
+        // given
+        metricRegistry.counter("account.acc1.requests").inc(3);
+        metricRegistry.counter("account.acc2.requests").inc(5);
+
+        // when
+        final String result = write(false, emptySet());
+
+        // then
+        assertThat(result.lines()).containsExactlyInAnyOrder(
+                "# HELP account_requests Generated from Dropwizard metric import "
+                        + "(metric=account.acc1.requests, type=com.codahale.metrics.Counter)",
+                "# TYPE account_requests gauge",
+                "account_requests{account=\"acc1\"} 3",
+                "account_requests{account=\"acc2\"} 5");
+    }
+
+    @Test
+    public void writeShouldExposeMetersAsCountersAndTimersAsSummariesInSeconds() {
+        // given
+        metricRegistry.meter("requests.ok").mark(2);
+        metricRegistry.timer("adapter.rubicon.request_time").update(250, TimeUnit.MILLISECONDS);
+
+        // when
+        final String result = write(false, emptySet());
+
+        // then
+        assertThat(result.lines())
+                .contains(
+                        "# TYPE requests_ok_total counter",
+                        "requests_ok_total 2",
+                        "# TYPE adapter_request_time summary",
+                        "adapter_request_time{adapter=\"rubicon\",quantile=\"0.5\"} 0.25",
+                        "adapter_request_time{adapter=\"rubicon\",quantile=\"0.999\"} 0.25",
+                        "adapter_request_time_count{adapter=\"rubicon\"} 1");
+    }
+
+    @Test
+    public void writeShouldUseOpenMetricsCounterNameAndEndMarker() {
+        // given
+        metricRegistry.meter("requests.ok").mark(2);
+
+        // when
+        final String result = write(true, emptySet());
+
+        // then
+        assertThat(result.lines())
+                .contains("# TYPE requests_ok counter", "requests_ok_total 2")
+                .last().isEqualTo("# EOF");
+    }
+
+    @Test
+    public void writeShouldFilterFamiliesByName() {
+        // given
+        metricRegistry.counter("first").inc();
+        metricRegistry.counter("second").inc();
+
+        // when
+        final String result = write(false, Set.of("second"));
+
+        // then
+        assertThat(result).doesNotContain("first").contains("second 1");
+    }
+
+    @Test
+    public void writeShouldNotExposeRemovedMetrics() {
+        // given
+        metricRegistry.counter("removed").inc();
+        metricRegistry.remove("removed");
+
+        // when
+        final String result = write(false, emptySet());
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectSeriesWithAccountLabelOverPerAccountLimit() {
+        // given
+        final PrometheusSeriesMapper seriesMapper = new PrometheusSeriesMapper(null, null, List.of(
+                new MapperConfig("account.*.*", "account.metric", Map.of("account", "${0}", "name", "${1}"))));
+        final MetricRegistry registry = new MetricRegistry();
+        final PrometheusExporter exporter = new PrometheusExporter(seriesMapper, 2);
+        registry.addListener(exporter);
+
+        registry.counter("account.acc1.first").inc();
+        registry.counter("account.acc1.second").inc();
+        registry.counter("account.acc1.third").inc();
+        registry.counter("account.acc2.first").inc();
+
+        // when
+        final StringBuilder out = new StringBuilder();
+        exporter.write(out, false, emptySet());
+
+        // then
+        assertThat(out.toString()).doesNotContain("third").contains("account=\"acc2\"");
+        assertThat(exporter.rejectedSeries()).isEqualTo(1);
+    }
+
+    private String write(boolean openMetrics, Set<String> names) {
+        final StringBuilder out = new StringBuilder();
+        target.write(out, openMetrics, names);
+        return out.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package org.prebid.server.metric.prometheus;
+
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PrometheusSeriesMapperTest {
+
+    @Test
+    public void creationShouldFailOnInvalidPrefix() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PrometheusSeriesMapper("invalid-namespace", null, emptyList()))
+                .withMessageStartingWith("Invalid prefix: invalid-namespace_");
+    }
+
+    @Test
+    public void mapShouldSanitizeNameAndAddPrefixWhenNoMapperMatched() {
+        // given
+        final PrometheusSeriesMapper target = new PrometheusSeriesMapper("namespace", "subsystem", emptyList());
+
+        // when
+        final PrometheusSeriesMapper.Series result = target.map("requests.ok.openrtb2-web");
+
+        // then
+        assertThat(result.name()).isEqualTo("namespace_subsystem_requests_ok_openrtb2_web");
+        assertThat(result.labelNames()).isEmpty();
+        assertThat(result.labelValues()).isEmpty();
+    }
+
+    @Test
+    public void mapShouldResolveNameAndLabelsByFirstMatchedMapper() {
+        // given
+        final Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("account", "${0}");
+        labels.put("adapter", "${1}");
+        final PrometheusSeriesMapper target = new PrometheusSeriesMapper("namespace", null, List.of(
+                new MapperConfig("account.*.adapter.*.request_time", "account.request_time", labels),
+                new MapperConfig("account.*.adapter.*.*", "account.other", Map.of("account", "${0}"))));
+
+        // when
+        final PrometheusSeriesMapper.Series result = target.map("account.acc-1.adapter.rubicon.request_time");
+
+        // then
+        assertThat(result.name()).isEqualTo("namespace_account_request_time");
+        assertThat(result.labelNames()).containsExactly("account", "adapter");
+        assertThat(result.labelValues()).containsExactly("acc-1", "rubicon");
+        assertThat(result.labelValue("account")).isEqualTo("acc-1");
+        assertThat(result.labelValue("absent")).isNull();
+    }
+
+    @Test
+    public void mapShouldNotMatchWildcardAcrossSegments() {
+        // given
+        final PrometheusSeriesMapper target = new PrometheusSeriesMapper(null, null, List.of(
+                new MapperConfig("adapter.*.request_time", "adapter.request_time", Map.of("adapter", "${0}"))));
+
+        // when
+        final PrometheusSeriesMapper.Series result = target.map("adapter.rubicon.extra.request_time");
+
+        // then
+        assertThat(result.name()).isEqualTo("adapter_rubicon_extra_request_time");
+        assertThat(result.labelNames()).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package org.prebid.server.publicsuffix;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PublicSuffixListServiceTest {
+
+    private final PublicSuffixListService target = new PublicSuffixListService(
+            PublicSuffixTrie.of(List.of("com", "uk")), 100);
+
+    @Test
+    public void registrableDomainShouldReturnNullWhenDomainCannotBeDerived() {
+        // when and then
+        assertThat(target.registrableDomain("com")).isNull();
+        assertThat(target.registrableDomain("com")).isNull();
+    }
+
+    @Test
+    public void setDataPathShouldReplaceRulesAndDropCachedDomains() throws IOException {
+        // given
+        assertThat(target.registrableDomain("www.example.co.uk")).isEqualTo("co.uk");
+
+        final Path file = givenFile(List.of("// rules", "uk", "co.uk"));
+
+        // when
+        final Future<?> result = target.setDataPath(file.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(target.registrableDomain("www.example.co.uk")).isEqualTo("example.co.uk");
+    }
+
+    @Test
+    public void setDataPathShouldKeepRulesWhenFileHasNoRules() throws IOException {
+        // given
+        final Path file = givenFile(List.of("// rules"));
+
+        // when
+        final Future<?> result = target.setDataPath(file.toString());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(target.registrableDomain("www.example.com")).isEqualTo("example.com");
+    }
+
+    private static Path givenFile(List<String> lines) throws IOException {
+        final Path file = Files.createTempFile("psl", ".dat");
+        file.toFile().deleteOnExit();
+        return Files.write(file, lines);
+    }
+}
@@ -0,0 +1,68 @@
+package org.prebid.server.publicsuffix;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PublicSuffixTrieTest {
+
+    private final PublicSuffixTrie target = PublicSuffixTrie.of(List.of(
+            "// comment",
+            "",
+            "com",
+            "uk",
+            "co.uk",
+            "*.ck",
+            "!www.ck",
+            "公司.cn",
+            "cn"));
+
+    @Test
+    public void ofShouldSkipCommentsAndBlankLines() {
+        // when and then
+        assertThat(target.size()).isEqualTo(7);
+    }
+
+    @Test
+    public void registrableDomainShouldReturnPublicSuffixPlusOneLabel() {
+        // when and then
+        assertThat(target.registrableDomain("example.com")).isEqualTo("example.com");
+        assertThat(target.registrableDomain("www.sub.example.com")).isEqualTo("example.com");
+        assertThat(target.registrableDomain("www.example.co.uk")).isEqualTo("example.co.uk");
+        assertThat(target.registrableDomain("WWW.Example.COM")).isEqualTo("example.com");
+    }
+
+    @Test
+    public void registrableDomainShouldTreatUnlistedTopLevelDomainAsPublicSuffix() {
+        // when and then
+        assertThat(target.registrableDomain("www.example.test")).isEqualTo("example.test");
+    }
+
+    @Test
+    public void registrableDomainShouldApplyWildcardAndExceptionRules() {
+        // when and then
+        assertThat(target.registrableDomain("www.example.any.ck")).isEqualTo("example.any.ck");
+        assertThat(target.registrableDomain("www.ck")).isEqualTo("www.ck");
+        assertThat(target.registrableDomain("sub.www.ck")).isEqualTo("www.ck");
+    }
+
+    @Test
+    public void registrableDomainShouldMatchInternationalizedRulesInBothForms() {
+        // when and then
+        assertThat(target.registrableDomain("www.example.公司.cn")).isEqualTo("example.公司.cn");
+        assertThat(target.registrableDomain("www.example.xn--55qx5d.cn")).isEqualTo("example.xn--55qx5d.cn");
+    }
+
+    @Test
+    public void registrableDomainShouldReturnNullForPublicSuffixOrInvalidHost() {
+        // when and then
+        assertThat(target.registrableDomain("co.uk")).isNull();
+        assertThat(target.registrableDomain("any.ck")).isNull();
+        assertThat(target.registrableDomain("domain")).isNull();
+        assertThat(target.registrableDomain("example.com.")).isNull();
+        assertThat(target.registrableDomain("example..com")).isNull();
+        assertThat(target.registrableDomain("")).isNull();
+    }
+}
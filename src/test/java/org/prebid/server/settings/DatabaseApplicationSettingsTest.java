@@ -20,12 +20,14 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -69,7 +71,8 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
                 SELECT_ACCOUNT_QUERY,
                 SELECT_QUERY,
                 SELECT_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                null);
     }
 
     @Test
@@ -131,6 +134,25 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
         assertThat(future.result()).isEqualTo(givenStoredDataResult);
     }
 
+    @Test
+    public void getStoredDataShouldPadIdsToPowerOfTwo() {
+        // given
+        given(parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(SELECT_QUERY, 4, 1))
+                .willReturn("query");
+
+        final StoredDataResult givenStoredDataResult = StoredDataResult.of(Map.of(), Map.of(), emptyList());
+        given(databaseClient.executeQuery(
+                eq("query"), eq(List.of("1", "2", "3", "1", "4")), any(), eq(timeout)))
+                .willReturn(Future.succeededFuture(givenStoredDataResult));
+
+        // when
+        final Future<StoredDataResult> future = target.getStoredData(
+                "1001", new LinkedHashSet<>(asList("1", "2", "3")), singleton("4"), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(givenStoredDataResult);
+    }
+
     @Test
     public void getAmpStoredDataShouldReturnExpectedResult() {
         // given
@@ -0,0 +1,144 @@
+package org.prebid.server.settings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class StoredDataReplicaTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnNegativeCompactionThreshold() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new StoredDataReplica(MetricName.stored_request, -1, metrics));
+    }
+
+    @Test
+    public void creationShouldRegisterSnapshotGauges() {
+        // when
+        new StoredDataReplica(MetricName.stored_request, 10, metrics);
+
+        // then
+        verify(metrics).createSettingsCacheSnapshotGauges(eq(MetricName.stored_request), any(), any());
+    }
+
+    @Test
+    public void isInitializedShouldReturnFalseUntilFirstRefresh() {
+        // given
+        final StoredDataReplica target = new StoredDataReplica(MetricName.stored_request, 10, metrics);
+
+        // when and then
+        assertThat(target.isInitialized()).isFalse();
+        target.save(emptyMap(), emptyMap());
+        assertThat(target.isInitialized()).isTrue();
+    }
+
+    @Test
+    public void resolveShouldReturnSavedItemsAndErrorsForMissingIds() {
+        // given
+        final StoredDataReplica target = new StoredDataReplica(MetricName.stored_request, 10, metrics);
+        target.save(singletonMap("reqId", "reqValue"), singletonMap("impId", "impValue"));
+
+        // when
+        final StoredDataResult result = target.resolve(Set.of("reqId", "otherReqId"), Set.of("impId", "otherImpId"));
+
+        // then
+        assertThat(result.getStoredIdToRequest()).containsExactly(Map.entry("reqId", "reqValue"));
+        assertThat(result.getStoredIdToImp()).containsExactly(Map.entry("impId", "impValue"));
+        assertThat(result.getErrors()).containsExactlyInAnyOrder(
+                "No stored request found for id: otherReqId",
+                "No stored impression found for id: otherImpId");
+    }
+
+    @Test
+    public void saveShouldNotChangePreviouslyResolvedSnapshot() {
+        // given
+        final StoredDataReplica target = new StoredDataReplica(MetricName.stored_request, 10, metrics);
+        target.save(singletonMap("reqId", "reqValue1"), emptyMap());
+        final StoredDataResult before = target.resolve(Set.of("reqId"), emptySet());
+
+        // when
+        target.save(singletonMap("reqId", "reqValue2"), emptyMap());
+
+        // then
+        assertThat(before.getStoredIdToRequest()).containsEntry("reqId", "reqValue1");
+        assertThat(target.resolve(Set.of("reqId"), emptySet()).getStoredIdToRequest())
+                .containsEntry("reqId", "reqValue2");
+        assertThat(target.version()).isEqualTo(2);
+    }
+
+    @Test
+    public void saveShouldSkipUnchangedItems() {
+        // given
+        final StoredDataReplica target = new StoredDataReplica(MetricName.stored_request, 10, metrics);
+        target.save(singletonMap("reqId", "reqValue"), singletonMap("impId", "impValue"));
+
+        // when
+        target.save(singletonMap("reqId", "reqValue"), singletonMap("impId", "impValue"));
+        target.invalidate(singletonList("otherReqId"), emptyList());
+
+        // then
+        assertThat(target.version()).isEqualTo(1);
+        assertThat(target.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidateShouldRemoveItems() {
+        // given
+        final StoredDataReplica target = new StoredDataReplica(MetricName.stored_request, 10, metrics);
+        target.save(Map.of("reqId1", "reqValue1", "reqId2", "reqValue2"), singletonMap("impId", "impValue"));
+
+        // when
+        target.invalidate(singletonList("reqId1"), singletonList("impId"));
+
+        // then
+        final StoredDataResult result = target.resolve(Set.of("reqId1", "reqId2"), Set.of("impId"));
+        assertThat(result.getStoredIdToRequest()).containsExactly(Map.entry("reqId2", "reqValue2"));
+        assertThat(result.getStoredIdToImp()).isEmpty();
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void saveShouldCompactDeltaExceedingThreshold() {
+        // given
+        final StoredDataReplica target = new StoredDataReplica(MetricName.stored_request, 2, metrics);
+        target.save(Map.of("reqId1", "reqValue1", "reqId2", "reqValue2"), emptyMap());
+        verify(metrics, never()).updateSettingsCacheEventMetric(MetricName.stored_request, MetricName.compaction);
+
+        // when
+        target.save(singletonMap("reqId3", "reqValue3"), emptyMap());
+        target.invalidate(singletonList("reqId1"), emptyList());
+        target.save(singletonMap("reqId2", "updatedReqValue2"), emptyMap());
+
+        // then
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request, MetricName.compaction);
+        final StoredDataResult result = target.resolve(Set.of("reqId1", "reqId2", "reqId3"), emptySet());
+        assertThat(result.getStoredIdToRequest())
+                .containsOnly(Map.entry("reqId2", "updatedReqValue2"), Map.entry("reqId3", "reqValue3"));
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.version()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,224 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.vertx.database.DatabaseClient;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.quality.Strictness.LENIENT;
+
+@ExtendWith(MockitoExtension.class)
+public class StoredDataQueryBatcherTest {
+
+    private static final String QUERY = "SELECT accountId, reqid, requestData, 'request' as dataType "
+            + "FROM stored_requests WHERE reqid IN (%REQUEST_ID_LIST%) "
+            + "UNION ALL "
+            + "SELECT accountId, impid, impData, 'imp' as dataType FROM stored_imps WHERE impid IN (%IMP_ID_LIST%)";
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private DatabaseClient databaseClient;
+    @Mock
+    private RowSet<Row> rowSet;
+
+    private final ParametrizedQueryHelper parametrizedQueryHelper = new ParametrizedQueryMySqlHelper();
+
+    private Timeout timeout;
+
+    @BeforeEach
+    public void setUp() {
+        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+    }
+
+    @Test
+    public void fetchShouldMergeIdsWithinEventLoopTaskIntoSingleQuery() {
+        // given
+        final StoredDataQueryBatcher target = givenTarget(0L, 100);
+        final Row request1 = givenRow("account", "req1", "data", "request");
+        final Row request2 = givenRow("account", "req2", "data", "request");
+        final Row imp1 = givenRow("account", "imp1", "data", "imp");
+        givenDatabaseClientReturns(request1, request2, imp1);
+
+        // when
+        final Future<List<Row>> first = target.fetch(QUERY, Set.of("req1"), Set.of("imp1"), timeout);
+        final Future<List<Row>> second = target.fetch(
+                QUERY, new LinkedHashSet<>(List.of("req2", "req3")), Set.of(), timeout);
+        verifyNoInteractions(databaseClient);
+        runScheduledFlush();
+
+        // then
+        verify(databaseClient).executeQuery(
+                eq(QUERY.replace("%REQUEST_ID_LIST%", "?,?,?,?").replace("%IMP_ID_LIST%", "?")),
+                eq(List.of("req1", "req2", "req3", "req1", "imp1")),
+                any(),
+                eq(timeout));
+
+        assertThat(first.result()).containsExactly(request1, imp1);
+        assertThat(second.result()).containsExactly(request2);
+    }
+
+    @Test
+    public void fetchShouldFailEachFetchAtItsOwnDeadline() {
+        // given
+        final StoredDataQueryBatcher target = givenTarget(0L, 100);
+        final Row request1 = givenRow("account", "req1", "data", "request");
+        givenDatabaseClientReturns(request1);
+        final Timeout shortTimeout = timeout.minus(400L);
+
+        // when
+        final Future<List<Row>> first = target.fetch(QUERY, Set.of("req1"), Set.of(), timeout);
+        final Future<List<Row>> second = target.fetch(QUERY, Set.of("req2"), Set.of(), shortTimeout);
+        fireTimer(100L);
+        runScheduledFlush();
+
+        // then
+        assertThat(second.cause()).hasMessage("Timed out while executing SQL query");
+        assertThat(first.result()).containsExactly(request1);
+        verify(databaseClient).executeQuery(anyString(), anyList(), any(), eq(timeout));
+    }
+
+    @Test
+    public void fetchShouldScheduleFlushByTimerWhenBatchWindowConfigured() {
+        // given
+        final StoredDataQueryBatcher target = givenTarget(5L, 100);
+
+        // when
+        target.fetch(QUERY, Set.of("req1"), Set.of(), timeout);
+        target.fetch(QUERY, Set.of("req2"), Set.of(), timeout);
+
+        // then
+        verify(vertx).setTimer(eq(5L), any());
+        verify(vertx, never()).runOnContext(any());
+    }
+
+    @Test
+    public void fetchShouldQueryImmediatelyWhenMaxBatchSizeReached() {
+        // given
+        final StoredDataQueryBatcher target = givenTarget(0L, 2);
+        givenDatabaseClientReturns();
+
+        // when
+        final Future<List<Row>> result = target.fetch(QUERY, Set.of("req1"), Set.of("imp1"), timeout);
+
+        // then
+        verify(vertx, never()).runOnContext(any());
+        assertThat(result.result()).isEmpty();
+    }
+
+    @Test
+    public void fetchShouldFailAllFetchesOfBatchWhenQueryFailed() {
+        // given
+        final StoredDataQueryBatcher target = givenTarget(0L, 100);
+        given(databaseClient.executeQuery(anyString(), anyList(), any(), any()))
+                .willReturn(Future.failedFuture("Connection refused"));
+
+        // when
+        final Future<List<Row>> first = target.fetch(QUERY, Set.of("req1"), Set.of(), timeout);
+        final Future<List<Row>> second = target.fetch(QUERY, Set.of("req2"), Set.of(), timeout);
+        runScheduledFlush();
+
+        // then
+        assertThat(first.cause()).hasMessage("Connection refused");
+        assertThat(second.cause()).hasMessage("Connection refused");
+    }
+
+    @Test
+    public void fetchShouldFailWithoutQueryingWhenTimeoutExpired() {
+        // given
+        final StoredDataQueryBatcher target = givenTarget(0L, 100);
+        final Timeout expiredTimeout = timeout.minus(500L);
+
+        // when
+        final Future<List<Row>> result = target.fetch(QUERY, Set.of("req1"), Set.of(), expiredTimeout);
+
+        // then
+        verifyNoInteractions(vertx, databaseClient);
+        assertThat(result.cause()).hasMessage("Timed out while executing SQL query");
+    }
+
+    private StoredDataQueryBatcher givenTarget(long batchWindowMs, int maxBatchSize) {
+        return new StoredDataQueryBatcher(vertx, databaseClient, parametrizedQueryHelper, batchWindowMs, maxBatchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runScheduledFlush() {
+        final ArgumentCaptor<Handler<Void>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).runOnContext(handlerCaptor.capture());
+        handlerCaptor.getValue().handle(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer(long delay) {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(delay), handlerCaptor.capture());
+        handlerCaptor.getValue().handle(0L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDatabaseClientReturns(Row... rows) {
+        given(rowSet.iterator()).willAnswer(invocation -> new RowIteratorOf(List.of(rows)));
+        given(databaseClient.executeQuery(anyString(), anyList(), any(), any())).willAnswer(invocation -> {
+            final Function<RowSet<Row>, List<Row>> mapper = invocation.getArgument(2);
+            return Future.succeededFuture(mapper.apply(rowSet));
+        });
+    }
+
+    private static Row givenRow(Object... values) {
+        final Row row = mock(Row.class, withSettings().strictness(LENIENT));
+        given(row.size()).willReturn(values.length);
+        given(row.getValue(anyInt())).willAnswer(invocation -> values[(Integer) invocation.getArgument(0)]);
+        return row;
+    }
+
+    private static class RowIteratorOf implements RowIterator<Row> {
+
+        private final Iterator<Row> delegate;
+
+        RowIteratorOf(List<Row> rows) {
+            delegate = rows.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Row next() {
+            return delegate.next();
+        }
+    }
+}
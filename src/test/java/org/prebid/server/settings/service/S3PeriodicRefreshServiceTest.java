@@ -27,6 +27,8 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +39,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -112,6 +115,27 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void refreshShouldInvalidateIdsDeletedSincePreviousRefresh(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(
+                        listObjectResponse(STORED_REQ_DIR + "/id1.json"),
+                        CompletableFuture.completedFuture(ListObjectsResponse.builder().build()));
+
+        // when
+        createAndInitService(100);
+
+        // then
+        verify(cacheNotificationListener, timeout(1000).atLeastOnce()).save(emptyMap(), singletonMap("id2", "value2"));
+        verify(cacheNotificationListener).invalidate(singletonList("id1"), emptyList());
+
+        context.completeNow();
+    }
+
     @Test
     public void initializeShouldNotCreatePeriodicTaskIfRefreshPeriodIsNegative(VertxTestContext context) {
         // when and then
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -96,6 +97,18 @@ public class BidderParamValidatorTest extends VertxTest {
                         bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
     }
 
+    @Test
+    public void createShouldFailOnSchemaNotConformingToDraft4WhenLazyCompilationEnabled() {
+        // given
+        given(bidderCatalog.names()).willReturn(Collections.singleton(RUBICON));
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidderParamValidator.create(
+                        bidderCatalog, "org/prebid/server/validation/schema/nonconforming", 0, true, jacksonMapper))
+                .withMessageStartingWith("Invalid rubicon bidder schema");
+    }
+
     @Test
     public void validateShouldNotReturnValidationMessagesWhenRubiconImpExtIsOkIgnoringCase() {
         // given
@@ -385,6 +398,21 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messagesIntegerUid).isEmpty();
     }
 
+    @Test
+    public void validateShouldReturnSameValidationMessagesWhenSchemasAreCompiledLazily() {
+        // given
+        final BidderParamValidator target = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 0, true, jacksonMapper);
+        final JsonNode node = mapper.createObjectNode().put("uid", "1a2b3c");
+
+        // when
+        final Set<String> messages = target.validate(VISX, node);
+
+        // then
+        assertThat(messages).isEqualTo(bidderParamValidator.validate(VISX, node));
+        assertThat(target.schemas()).isEqualTo(bidderParamValidator.schemas());
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenAdrinoImpExtNotValid() {
         // given
@@ -399,6 +427,26 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(1);
     }
 
+    @Test
+    public void validateShouldReturnSameValidationMessagesForIdenticalParamsWhenResultsAreMemoized() {
+        // given
+        final BidderParamValidator target = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+        final ObjectNode node = mapper.valueToTree(ExtImpAppnexus.builder().member("memberId").build());
+
+        // when
+        final Set<String> messages = target.validate(APPNEXUS, node);
+        node.put("placementId", 1);
+        final Set<String> modifiedNodeMessages = target.validate(APPNEXUS, node);
+        final Set<String> sameParamsMessages = target.validate(
+                APPNEXUS, mapper.valueToTree(ExtImpAppnexus.builder().member("memberId").build()));
+
+        // then
+        assertThat(messages).hasSize(5);
+        assertThat(modifiedNodeMessages).isEmpty();
+        assertThat(sameParamsMessages).isSameAs(messages);
+    }
+
     private static BidderInfo givenBidderInfo(String aliasOf) {
         return BidderInfo.create(
                 true,
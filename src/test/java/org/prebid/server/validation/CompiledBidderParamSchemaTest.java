@@ -0,0 +1,124 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.validation.CompiledBidderParamSchema.Verdict;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledBidderParamSchemaTest extends VertxTest {
+
+    @Test
+    public void compileShouldReturnNullWhenSchemaContainsUnsupportedKeyword() throws IOException {
+        // given
+        final JsonNode schema = mapper.readTree("{\"type\": \"object\", \"patternProperties\": {}}");
+
+        // when and then
+        assertThat(CompiledBidderParamSchema.compile(schema)).isNull();
+    }
+
+    @Test
+    public void checkShouldValidateRequiredPropertiesAndTypes() throws IOException {
+        // given
+        final CompiledBidderParamSchema target = CompiledBidderParamSchema.compile(mapper.readTree("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "id": {"type": ["integer", "string"], "minLength": 1},
+                    "size": {"type": "array", "items": {"type": "integer", "minimum": 1}}
+                  },
+                  "required": ["id"]
+                }
+                """));
+
+        // when and then
+        assertThat(target.check(mapper.readTree("{\"id\": 1, \"size\": [1, 2]}"))).isEqualTo(Verdict.VALID);
+        assertThat(target.check(mapper.readTree("{\"id\": \"\"}"))).isEqualTo(Verdict.INVALID);
+        assertThat(target.check(mapper.readTree("{\"size\": [1]}"))).isEqualTo(Verdict.INVALID);
+        assertThat(target.check(mapper.readTree("{\"id\": 1, \"size\": [0]}"))).isEqualTo(Verdict.INVALID);
+        assertThat(target.check(mapper.readTree("{\"id\": true}"))).isEqualTo(Verdict.INVALID);
+    }
+
+    @Test
+    public void checkShouldReturnUnknownWhenIntegerIsPassedAsFloatingPointNumber() throws IOException {
+        // given
+        final CompiledBidderParamSchema target = CompiledBidderParamSchema.compile(
+                mapper.readTree("{\"type\": \"integer\"}"));
+
+        // when and then
+        assertThat(target.check(mapper.readTree("1.0"))).isEqualTo(Verdict.UNKNOWN);
+        assertThat(target.check(mapper.readTree("1.5"))).isEqualTo(Verdict.INVALID);
+    }
+
+    @Test
+    public void checkShouldRequireExactlyOneMatchingSchemaForOneOf() throws IOException {
+        // given
+        final CompiledBidderParamSchema target = CompiledBidderParamSchema.compile(mapper.readTree("""
+                {
+                  "type": "object",
+                  "oneOf": [{"required": ["placementId"]}, {"required": ["invCode"]}]
+                }
+                """));
+
+        // when and then
+        assertThat(target.check(mapper.readTree("{\"placementId\": 1}"))).isEqualTo(Verdict.VALID);
+        assertThat(target.check(mapper.readTree("{\"placementId\": 1, \"invCode\": \"code\"}")))
+                .isEqualTo(Verdict.INVALID);
+        assertThat(target.check(mapper.readTree("{}"))).isEqualTo(Verdict.INVALID);
+    }
+
+    @Test
+    public void checkShouldRejectAdditionalPropertiesWhenNotAllowed() throws IOException {
+        // given
+        final CompiledBidderParamSchema target = CompiledBidderParamSchema.compile(mapper.readTree("""
+                {"type": "object", "properties": {"id": {"type": "string"}}, "additionalProperties": false}
+                """));
+
+        // when and then
+        assertThat(target.check(mapper.readTree("{\"id\": \"id\"}"))).isEqualTo(Verdict.VALID);
+        assertThat(target.check(mapper.readTree("{\"id\": \"id\", \"other\": 1}"))).isEqualTo(Verdict.INVALID);
+    }
+
+    @Test
+    public void checkShouldAgreeWithSchemaValidatorForAllBidderSchemas() throws IOException, URISyntaxException {
+        // given
+        final JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+        final List<JsonNode> values = List.of(
+                mapper.createObjectNode(),
+                mapper.createObjectNode().put("placementId", 1).put("siteId", "1").put("publisherId", "1"),
+                mapper.createArrayNode(),
+                mapper.getNodeFactory().textNode("value"));
+
+        final Path schemasDirectory = Path.of(getClass().getClassLoader().getResource("static/bidder-params").toURI());
+        try (Stream<Path> schemaFiles = Files.list(schemasDirectory)) {
+            for (Path schemaFile : schemaFiles.toList()) {
+                final JsonNode schema = mapper.readTree(Files.readString(schemaFile));
+                final CompiledBidderParamSchema target = CompiledBidderParamSchema.compile(schema);
+                if (target == null) {
+                    continue;
+                }
+
+                for (JsonNode value : values) {
+                    // when
+                    final Verdict verdict = target.check(value);
+
+                    // then
+                    final boolean valid = schemaFactory.getSchema(schema).validate(value).isEmpty();
+                    assertThat(verdict)
+                            .describedAs("%s for %s", schemaFile.getFileName(), value)
+                            .isNotEqualTo(valid ? Verdict.INVALID : Verdict.VALID);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.prebid.server.vast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastTagScannerTest {
+
+    @Test
+    public void impressionInsertionIndexShouldReturnIndexAfterLastImpressionOfInLine() {
+        // given
+        final String vastXml = "<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>"
+                + "<Creatives></Creatives></InLine></Ad></VAST>";
+
+        // when
+        final int result = VastTagScanner.impressionInsertionIndex(vastXml);
+
+        // then
+        assertThat(result).isEqualTo(vastXml.indexOf("<Creatives>"));
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldPreferInLineOverWrapper() {
+        // given
+        final String vastXml = "<Wrapper><Impression>a</Impression></Wrapper><InLine></InLine>";
+
+        // when
+        final int result = VastTagScanner.impressionInsertionIndex(vastXml);
+
+        // then
+        assertThat(result).isEqualTo(vastXml.indexOf("</InLine>"));
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldIgnoreTagsInsideCdataAndComments() {
+        // given
+        final String vastXml = "<!-- <InLine></InLine> --><Wrapper><VASTAdTagURI><![CDATA[<Impression></Impression>]]>"
+                + "</VASTAdTagURI></Wrapper>";
+
+        // when
+        final int result = VastTagScanner.impressionInsertionIndex(vastXml);
+
+        // then
+        assertThat(result).isEqualTo(vastXml.indexOf("</Wrapper>"));
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldMatchTagsCaseInsensitivelyWithWhitespaces() {
+        // given
+        final String vastXml = "< wRaPpEr attr=\"1\">< / IMPRESSION ></  Wrapper >";
+
+        // when
+        final int result = VastTagScanner.impressionInsertionIndex(vastXml);
+
+        // then
+        assertThat(result).isEqualTo(vastXml.indexOf("</  Wrapper >"));
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldReturnNoAdElementWhenNeitherInLineNorWrapperPresent() {
+        // when
+        final int result = VastTagScanner.impressionInsertionIndex("<VAST><InLineAd></InLineAd></VAST>");
+
+        // then
+        assertThat(result).isEqualTo(VastTagScanner.NO_AD_ELEMENT);
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldReturnNoInsertionPointWhenCloseTagIsMissing() {
+        // when
+        final int result = VastTagScanner.impressionInsertionIndex("<InLine><Creatives>");
+
+        // then
+        assertThat(result).isEqualTo(VastTagScanner.NO_INSERTION_POINT);
+    }
+
+    @Test
+    public void insertImpressionsShouldInsertTagForEachTrackingUrl() {
+        // when
+        final String result = VastTagScanner.insertImpressions("<InLine></InLine>", 8, List.of("url1", "url2"));
+
+        // then
+        assertThat(result).isEqualTo("<InLine><Impression><![CDATA[url1]]></Impression>"
+                + "<Impression><![CDATA[url2]]></Impression></InLine>");
+    }
+}
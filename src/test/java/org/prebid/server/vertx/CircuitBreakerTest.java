@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -32,7 +33,7 @@ public class CircuitBreakerTest {
     public void setUp() {
         vertx = Vertx.vertx();
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, clock);
+        circuitBreaker = new CircuitBreaker("name", vertx, new WorkerPoolBlockingExecutor(vertx), 1, 100L, 200L, clock);
     }
 
     @AfterEach
@@ -115,7 +116,7 @@ public class CircuitBreakerTest {
     @Test
     public void executeShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds() {
         // given
-        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, clock);
+        circuitBreaker = new CircuitBreaker("name", vertx, new WorkerPoolBlockingExecutor(vertx), 2, 100L, 200L, clock);
 
         // when
         final Future<?> future1 = executeWithFail("exception1");
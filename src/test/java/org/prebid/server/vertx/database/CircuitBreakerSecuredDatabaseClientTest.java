@@ -14,6 +14,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.metric.Metrics;
@@ -39,6 +41,7 @@ import static org.mockito.Mockito.verify;
 public class CircuitBreakerSecuredDatabaseClientTest {
 
     private Vertx vertx;
+    private BlockingExecutor blockingExecutor;
 
     private Clock clock;
     @Mock
@@ -53,10 +56,12 @@ public class CircuitBreakerSecuredDatabaseClientTest {
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
+        blockingExecutor = new WorkerPoolBlockingExecutor(vertx);
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         timeout = new TimeoutFactory(clock).create(500L);
 
-        target = new CircuitBreakerSecuredDatabaseClient(vertx, wrappedDatabaseClient, metrics, 1, 100L, 200L, clock);
+        target = new CircuitBreakerSecuredDatabaseClient(vertx, blockingExecutor, wrappedDatabaseClient, metrics,
+                1, 100L, 200L, clock);
     }
 
     @AfterEach
@@ -184,7 +189,8 @@ public class CircuitBreakerSecuredDatabaseClientTest {
     @Test
     public void executeQueryShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds(VertxTestContext context) {
         // given
-        target = new CircuitBreakerSecuredDatabaseClient(vertx, wrappedDatabaseClient, metrics, 2, 100L, 200L, clock);
+        target = new CircuitBreakerSecuredDatabaseClient(vertx, blockingExecutor, wrappedDatabaseClient, metrics,
+                2, 100L, 200L, clock);
 
         givenExecuteQueryReturning(asList(
                 Future.failedFuture(new RuntimeException("exception1")),
@@ -24,6 +24,7 @@ import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -32,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.verify;
@@ -81,6 +83,28 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).send(eq(Buffer.buffer("body".getBytes())));
     }
 
+    @Test
+    public void requestShouldEncodeStringBodyAsUtf8() {
+        // given and when
+        httpClient.request(HttpMethod.POST, "http://www.example.com", MultiMap.caseInsensitiveMultiMap(),
+                "bödy €", 500L);
+
+        // then
+        verify(httpClientRequest).send(eq(Buffer.buffer("bödy €".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void requestShouldSendGivenBodyBufferAsIs() {
+        // given
+        final Buffer body = Buffer.buffer("body");
+
+        // when
+        httpClient.request(HttpMethod.POST, "http://www.example.com", MultiMap.caseInsensitiveMultiMap(), body, 500L);
+
+        // then
+        verify(httpClientRequest).send(same(body));
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
@@ -15,6 +15,8 @@ import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.blocking.WorkerPoolBlockingExecutor;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -39,6 +41,7 @@ import static org.mockito.Mockito.verify;
 public class CircuitBreakerSecuredHttpClientTest {
 
     private Vertx vertx;
+    private BlockingExecutor blockingExecutor;
 
     private Clock clock;
     @Mock
@@ -51,8 +54,10 @@ public class CircuitBreakerSecuredHttpClientTest {
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
+        blockingExecutor = new WorkerPoolBlockingExecutor(vertx);
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L, 24, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, blockingExecutor, wrappedHttpClient, metrics,
+                1, 100L, 200L, 24, clock);
     }
 
     @AfterEach
@@ -169,7 +174,8 @@ public class CircuitBreakerSecuredHttpClientTest {
     @Test
     public void requestShouldFailWithOriginalExceptionIfOpeningIntervalExceeds() {
         // given
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 2, 100L, 200L, 24, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, blockingExecutor, wrappedHttpClient, metrics,
+                2, 100L, 200L, 24, clock);
 
         givenHttpClientReturning(new RuntimeException("exception1"), new RuntimeException("exception2"));
 